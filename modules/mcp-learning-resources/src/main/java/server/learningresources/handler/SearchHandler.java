@@ -1,5 +1,9 @@
 package server.learningresources.handler;
 
+import search.api.core.SearchContext;
+import search.api.facet.FacetCounts;
+import search.engine.config.SearchEngineConfig;
+import search.engine.core.ConfigurableSearchEngine;
 import server.learningresources.model.ConceptArea;
 import server.learningresources.model.LearningResource;
 import server.learningresources.model.ResourceCategory;
@@ -30,6 +34,8 @@ public class SearchHandler {
 
     private static final Logger LOGGER = Logger.getLogger(SearchHandler.class.getName());
 
+    private static final String CATEGORY_FACET = "category";
+
     private final ResourceVault vault;
 
     /**
@@ -117,21 +123,42 @@ public class SearchHandler {
     /**
      * Lists all available categories with resource counts.
      *
+     * <p>The counts come from one faceted pass over the vault rather than one search per
+     * category.
+     *
      * @return formatted category summary
      */
     public String listCategories() {
-        final var builder = new StringBuilder("📚 Available Categories\n\n");
+        final var resources = vault.listAll();
+        final var counts    = categoryCounts(resources);
+        final var builder   = new StringBuilder("📚 Available Categories\n\n");
 
-        for (final var category : vault.availableCategories()) {
-            final var count = vault.search(ResourceQuery.byCategory(category)).size();
+        for (final var category : ResourceCategory.values()) {
+            final var count = counts.count(category);
+            if (count == 0) continue;
             builder.append("  • ").append(category.getDisplayName())
                     .append(" (").append(count).append(" resources)\n");
         }
 
-        builder.append("\nTotal: ").append(vault.size()).append(" resources in vault");
+        builder.append("\nTotal: ").append(resources.size()).append(" resources in vault");
         return builder.toString();
     }
 
+    /**
+     * Counts {@code resources} per category: a blank search over an engine that keeps every
+     * resource and scores none, with a single category facet.
+     *
+     * @param resources the resources to count
+     * @return the category counts
+     */
+    private static FacetCounts categoryCounts(final List<LearningResource> resources) {
+        final var config = SearchEngineConfig.<LearningResource>builder()
+                .facet(CATEGORY_FACET, LearningResource::categories)
+                .build();
+        resources.forEach(resource -> config.index().add(resource.id(), resource));
+        return new ConfigurableSearchEngine<>(config).search(SearchContext.of("")).facet(CATEGORY_FACET);
+    }
+
     /**
      * Formats a list of resources into a readable output.
      *
@@ -26,6 +26,9 @@ import server.learningresources.vault.ResourceVault;
  *   <li><strong>Title-heavy scoring</strong> -- uses {@link TextMatchScorer.Scores#titleHeavy()}
  *       to strongly prefer exact/partial title matches.</li>
  *   <li><strong>Smaller default result cap</strong> -- at most 8 results.</li>
+ *   <li><strong>Facets</strong> (opt-in) -- {@code category}, {@code type} and
+ *       {@code difficulty} counts of the matching official docs, on every result. Counting
+ *       costs a lookup per filtered candidate, so only callers that show the counts enable it.</li>
  * </ul>
  *
  * <h2>Usage</h2>
@@ -44,12 +47,22 @@ public final class OfficialDocsSearchEngine extends ConfigurableSearchEngine<Lea
     private static final int MAX_OFFICIAL_RESULTS = 8;
 
     /**
-     * Creates an official-docs-only engine backed by the given vault.
+     * Creates an official-docs-only engine backed by the given vault, without facets.
      *
      * @param vault the resource vault to search (must not be null)
      */
     public OfficialDocsSearchEngine(final ResourceVault vault) {
-        super(buildConfig(vault));
+        this(vault, false);
+    }
+
+    /**
+     * Creates an official-docs-only engine backed by the given vault.
+     *
+     * @param vault  the resource vault to search (must not be null)
+     * @param facets whether results carry {@code category}, {@code type} and {@code difficulty} counts
+     */
+    public OfficialDocsSearchEngine(final ResourceVault vault, final boolean facets) {
+        super(buildConfig(vault, facets));
     }
 
     // --- Pipeline hooks -------------------------------------------------
@@ -65,16 +78,18 @@ public final class OfficialDocsSearchEngine extends ConfigurableSearchEngine<Lea
                         "No official documentation matched \"" + context.normalizedInput() + "\".",
                         "Tip: try searching without the 'official' qualifier for broader results.")
                     : result.suggestions();
-            return SearchResult.emptyWithSuggestions(
-                    result.classifiedMode(), result.summary(), suggestions);
+            final SearchResult<LearningResource> empty = SearchResult.<LearningResource>emptyWithSuggestions(
+                    result.classifiedMode(), result.summary(), suggestions).withFacets(result.facets());
+            return result.truncated() ? empty.asTruncated() : empty;
         }
         return result;
     }
 
     // --- Static config builder ------------------------------------------
 
-    private static SearchEngineConfig<LearningResource> buildConfig(final ResourceVault vault) {
-        final var config = SearchEngineConfig.<LearningResource>builder()
+    private static SearchEngineConfig<LearningResource> buildConfig(final ResourceVault vault,
+                                                                    final boolean facets) {
+        final var builder = SearchEngineConfig.<LearningResource>builder()
                 .filter((resource, ctx) -> resource.isOfficial())
                 .defaultScorer(TextMatchScorer.<LearningResource>builder()
                         .titleExtractor(LearningResource::title)
@@ -85,8 +100,13 @@ public final class OfficialDocsSearchEngine extends ConfigurableSearchEngine<Lea
                 .maxResults(MAX_OFFICIAL_RESULTS)
                 .summaryBuilder((ctx, count) ->
                         count + " official doc(s) for '" + ctx.normalizedInput() + "'")
-                .suggestionProvider(ctx -> java.util.List.of())
-                .build();
+                .suggestionProvider(ctx -> java.util.List.of());
+        if (facets) {
+            builder.facet("category",   LearningResource::categories)
+                    .facet("type",       LearningResource::type)
+                    .facet("difficulty", LearningResource::difficulty);
+        }
+        final var config = builder.build();
 
         vault.listAll().forEach(resource -> config.index().add(resource.id(), resource));
 
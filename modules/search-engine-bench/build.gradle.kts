@@ -0,0 +1,30 @@
+// search-engine-bench: JMH micro/macro benchmarks for the search-engine hot paths
+// Not a runtime dependency of anything — run with ./gradlew :modules:search-engine-bench:jmh
+
+plugins {
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(project(":modules:search-engine"))
+}
+
+jmh {
+    jmhVersion = libs.versions.jmh.get()
+
+    // Reproducibility: fixed fork/warmup/measurement counts, JSON output for diffing runs
+    fork = 2
+    warmupIterations = 3
+    warmup = "2s"
+    iterations = 5
+    timeOnIteration = "2s"
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+
+    // Allocation rate (gc.alloc.rate.norm = bytes/op) is reported next to every score
+    profilers = listOf("gc")
+
+    // Narrow a run: ./gradlew :modules:search-engine-bench:jmh -Pjmh.includes=Bm25.*
+    providers.gradleProperty("jmh.includes").orNull?.let { includes = listOf(it) }
+    jvmArgs = listOf("-Xms2g", "-Xmx2g")
+}
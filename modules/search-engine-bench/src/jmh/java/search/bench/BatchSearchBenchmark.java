@@ -0,0 +1,60 @@
+package search.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import search.api.core.SearchContext;
+import search.api.core.SearchResult;
+import search.bench.SyntheticCorpus.Document;
+import search.engine.config.ParallelScoring;
+import search.engine.core.ConfigurableSearchEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replaying a query set: one {@link ConfigurableSearchEngine#search} call per query
+ * ({@code LOOP}) vs. one {@link ConfigurableSearchEngine#searchAll} call ({@code BATCH}).
+ * Each operation answers {@code batchSize} queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchSearchBenchmark {
+
+    @Param({"10000", "100000"})
+    public int corpusSize;
+
+    @Param({"256"})
+    public int batchSize;
+
+    @Param({"LOOP", "BATCH"})
+    public String execution;
+
+    private ConfigurableSearchEngine<Document> engine;
+    private List<SearchContext> batch;
+
+    @Setup
+    public void setUp() {
+        final var corpus = SyntheticCorpus.generate(corpusSize);
+        engine = Fixtures.engine(corpus, Fixtures.index(IndexKind.IN_MEMORY, corpus),
+                ParallelScoring.disabled());
+        final var queries = corpus.queries();
+        batch = new ArrayList<>(batchSize);
+        for (var i = 0; i < batchSize; i++) batch.add(SearchContext.of(queries.get(i % queries.size())));
+    }
+
+    @Benchmark
+    public List<SearchResult<Document>> replay() {
+        if (execution.equals("BATCH")) return engine.searchAll(batch);
+        final var results = new ArrayList<SearchResult<Document>>(batch.size());
+        for (final var context : batch) results.add(engine.search(context));
+        return results;
+    }
+}
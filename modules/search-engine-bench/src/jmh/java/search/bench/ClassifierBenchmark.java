@@ -0,0 +1,40 @@
+package search.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import search.api.classify.SearchMode;
+import search.engine.classify.KeywordQueryClassifier;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link KeywordQueryClassifier#classify(String)} with a 5,000-word known vocabulary.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClassifierBenchmark {
+
+    private KeywordQueryClassifier classifier;
+    private String[] queries;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        final var corpus = SyntheticCorpus.generate(1_000);
+        classifier = Fixtures.classifier(corpus);
+        queries    = corpus.queries().toArray(String[]::new);
+    }
+
+    @Benchmark
+    public SearchMode classify() {
+        final var query = queries[cursor];
+        cursor = (cursor + 1) % queries.length;
+        return classifier.classify(query);
+    }
+}
@@ -0,0 +1,68 @@
+package search.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import search.api.classify.SearchMode;
+import search.api.core.SearchContext;
+import search.api.core.SearchResult;
+import search.bench.SyntheticCorpus.Document;
+import search.engine.algorithm.CompositeScorer;
+import search.engine.config.SearchEngineConfig;
+import search.engine.core.ConfigurableSearchEngine;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-15 search scored by the shared text + tag + BM25 {@link CompositeScorer}: every child
+ * scoring every candidate ({@code PLAIN}) vs. compiled evaluation with shared query analysis,
+ * shared field extraction and threshold early exit ({@code COMPILED}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CompositeScorerBenchmark {
+
+    @Param({"10000", "100000"})
+    public int corpusSize;
+
+    @Param({"PLAIN", "COMPILED"})
+    public String evaluation;
+
+    private ConfigurableSearchEngine<Document> engine;
+    private SearchContext[] queries;
+
+    @Setup
+    public void setUp() {
+        final var corpus = SyntheticCorpus.generate(corpusSize);
+        engine = new ConfigurableSearchEngine<>(SearchEngineConfig.<Document>builder()
+                .index(Fixtures.index(IndexKind.INVERTED, corpus))
+                .defaultScorer(Fixtures.composite(corpus, evaluation.equals("COMPILED")))
+                .build());
+        queries = corpus.queries().stream()
+                .map(query -> new SearchContext(query, SearchMode.VAGUE, null, SearchContext.DEFAULT_MAX_RESULTS))
+                .toArray(SearchContext[]::new);
+    }
+
+    @Benchmark
+    public SearchResult<Document> search(final QueryCursor cursor) {
+        return engine.search(cursor.next(queries));
+    }
+
+    /** Per-thread position in the query list. */
+    @State(Scope.Thread)
+    public static class QueryCursor {
+        private int position;
+
+        SearchContext next(final SearchContext[] queries) {
+            final var query = queries[position];
+            position = (position + 1) % queries.length;
+            return query;
+        }
+    }
+}
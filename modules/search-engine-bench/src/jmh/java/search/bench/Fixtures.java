@@ -0,0 +1,172 @@
+package search.bench;
+
+import search.api.algorithm.ScoringStrategy;
+import search.api.classify.SearchMode;
+import search.api.index.SearchIndex;
+import search.bench.SyntheticCorpus.Document;
+import search.engine.algorithm.Bm25Scorer;
+import search.engine.algorithm.Bm25Statistics;
+import search.engine.algorithm.CompositeScorer;
+import search.engine.algorithm.FuzzyTermScorer;
+import search.engine.algorithm.TagScorer;
+import search.engine.algorithm.TextMatchScorer;
+import search.engine.algorithm.WandRetriever;
+import search.engine.classify.KeywordQueryClassifier;
+import search.engine.config.ParallelScoring;
+import search.engine.config.SearchEngineConfig;
+import search.engine.core.ConfigurableSearchEngine;
+import search.engine.core.ShardedSearchEngine;
+import search.engine.index.InMemoryIndex;
+import search.engine.index.InvertedIndex;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Shared wiring for the benchmarks — one place that turns a {@link SyntheticCorpus} into
+ * scorers, classifiers, and engines, so every benchmark measures the same configuration.
+ */
+final class Fixtures {
+
+    /** One tags extractor for every scorer, so a compiled composite extracts tags once per document. */
+    private static final Function<Document, Collection<String>> TAGS = Document::tags;
+
+    private Fixtures() {}
+
+    static Bm25Scorer<Document> bm25(final SyntheticCorpus corpus, final boolean precomputed) {
+        final var scorer = Bm25Scorer.<Document>builder()
+                .textExtractor(Document::fullText)
+                .precomputeDocumentStats(precomputed)
+                .build();
+        scorer.computeStats(corpus.documents());
+        return scorer;
+    }
+
+    static FuzzyTermScorer<Document> fuzzyTerm(final SyntheticCorpus corpus) {
+        final var scorer = FuzzyTermScorer.<Document>builder()
+                .textExtractor(Document::fullText)
+                .build();
+        scorer.index(corpus.documents());
+        return scorer;
+    }
+
+    static TextMatchScorer<Document> textMatch() {
+        return TextMatchScorer.<Document>builder()
+                .titleExtractor(Document::title)
+                .bodyExtractor(Document::body)
+                .tagsExtractor(TAGS)
+                .build();
+    }
+
+    static ScoringStrategy<Document> composite(final SyntheticCorpus corpus) {
+        return composite(corpus, true);
+    }
+
+    static ScoringStrategy<Document> composite(final SyntheticCorpus corpus, final boolean compiled) {
+        return CompositeScorer.<Document>builder()
+                .add(textMatch(), 1.0)
+                .add(TagScorer.<Document>builder().tagsExtractor(TAGS).build(), 0.5)
+                .add(bm25(corpus, true), 2.0)
+                .compiled(compiled)
+                .build();
+    }
+
+    static KeywordQueryClassifier classifier(final SyntheticCorpus corpus) {
+        final Set<String> vocabulary = new HashSet<>(corpus.vocabulary());
+        return KeywordQueryClassifier.builder()
+                .specificKeywords(List.of("docs for", "official", "api reference", "javadoc"))
+                .exploratoryKeywords(List.of("learn", "start", "beginner", "what should"))
+                .difficultyKeywords(Set.of("beginner", "intermediate", "advanced", "expert"))
+                .knownVocabulary(vocabulary)
+                .build();
+    }
+
+    static SearchIndex<Document> index(final IndexKind kind, final SyntheticCorpus corpus) {
+        final SearchIndex<Document> index = switch (kind) {
+            case IN_MEMORY -> new InMemoryIndex<>();
+            case INVERTED  -> InvertedIndex.<Document>builder().textExtractor(Document::fullText).build();
+        };
+        corpus.documents().forEach(doc -> index.add(doc.id(), doc));
+        return index;
+    }
+
+    static InvertedIndex<Document> invertedIndex() {
+        return InvertedIndex.<Document>builder().textExtractor(Document::fullText).build();
+    }
+
+    static Bm25Statistics<Document> bm25Statistics() {
+        return Bm25Statistics.<Document>builder().textExtractor(Document::fullText).build();
+    }
+
+    /**
+     * BM25-only engine over an {@link InvertedIndex}, with live statistics and term-based
+     * candidate pruning (exact for BM25); VAGUE queries optionally run through a
+     * {@link WandRetriever}.
+     */
+    static ConfigurableSearchEngine<Document> bm25Engine(final SyntheticCorpus corpus, final boolean wand) {
+        final var index = invertedIndex();
+        corpus.documents().forEach(doc -> index.add(doc.id(), doc));
+        final var statistics = bm25Statistics();
+        statistics.attach(index);
+        return bm25Engine(index, statistics, wand);
+    }
+
+    /** {@link #bm25Engine(SyntheticCorpus, boolean)} over an already populated index and statistics. */
+    static ConfigurableSearchEngine<Document> bm25Engine(final InvertedIndex<Document> index,
+                                                        final Bm25Statistics<Document> statistics,
+                                                        final boolean wand) {
+        final var config = SearchEngineConfig.<Document>builder()
+                .index(index)
+                .defaultScorer(Bm25Scorer.<Document>builder()
+                        .textExtractor(Document::fullText)
+                        .statistics(statistics)
+                        .build())
+                .candidatePruning(SearchMode.SPECIFIC, SearchMode.VAGUE);
+        if (wand) {
+            config.retriever(SearchMode.VAGUE, WandRetriever.<Document>builder()
+                    .postings(index::openReader)
+                    .statistics(statistics)
+                    .build());
+        }
+        return new ConfigurableSearchEngine<>(config.build());
+    }
+
+    /**
+     * BM25-only engine over {@code shards} {@link InvertedIndex} shards sharing one set of live
+     * statistics, so scores match {@link #bm25Engine(SyntheticCorpus, boolean)}.
+     */
+    static ShardedSearchEngine<Document> shardedBm25Engine(final SyntheticCorpus corpus, final int shards) {
+        final var statistics = Bm25Statistics.<Document>builder().textExtractor(Document::fullText).build();
+        final var engine = ShardedSearchEngine.<Document>builder()
+                .shards(shards, shard -> SearchEngineConfig.<Document>builder()
+                        .index(InvertedIndex.<Document>builder().textExtractor(Document::fullText).build())
+                        .defaultScorer(Bm25Scorer.<Document>builder()
+                                .textExtractor(Document::fullText)
+                                .statistics(statistics)
+                                .build())
+                        .candidatePruning(SearchMode.SPECIFIC, SearchMode.VAGUE)
+                        .build())
+                .statistics(statistics)
+                .build();
+        corpus.documents().forEach(doc -> engine.add(doc.id(), doc));
+        return engine;
+    }
+
+    static ConfigurableSearchEngine<Document> engine(final SyntheticCorpus corpus,
+                                                    final SearchIndex<Document> index,
+                                                    final ParallelScoring parallelScoring) {
+        final var config = SearchEngineConfig.<Document>builder()
+                .index(index)
+                .classifier(classifier(corpus))
+                .defaultScorer(composite(corpus))
+                .scorer(SearchMode.EXPLORATORY, ScoringStrategy.constant(50))
+                .parallelScoring(parallelScoring)
+                // Opt-in, only effective over an InvertedIndex: trades substring recall for speed
+                .candidatePruning(SearchMode.SPECIFIC, SearchMode.VAGUE)
+                .build();
+        return new ConfigurableSearchEngine<>(config);
+    }
+}
@@ -0,0 +1,48 @@
+package search.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import search.engine.algorithm.FuzzyMatcher;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FuzzyMatcher#scoreWord} against full document text — the per-word, per-document
+ * cost paid by VAGUE-mode text matching.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FuzzyMatcherBenchmark {
+
+    private String[] texts;
+    private String[] words;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        final var corpus = SyntheticCorpus.generate(1_000);
+        texts = corpus.documents().stream()
+                .map(doc -> doc.fullText().toLowerCase())
+                .toArray(String[]::new);
+        // Mix of exact words, truncated words (prefix hits) and misspellings (usually misses)
+        words = corpus.vocabulary().stream().limit(300)
+                .map(w -> switch (w.length() % 3) {
+                    case 0  -> w;
+                    case 1  -> w.substring(0, Math.max(4, w.length() - 2));
+                    default -> w + "x";
+                })
+                .toArray(String[]::new);
+    }
+
+    @Benchmark
+    public int scoreWord() {
+        final var i = cursor++;
+        return FuzzyMatcher.scoreWord(words[i % words.length], texts[i % texts.length], 10, 6, 3);
+    }
+}
@@ -0,0 +1,11 @@
+package search.bench;
+
+import search.api.index.SearchIndex;
+
+/**
+ * Which {@link SearchIndex} implementation backs a benchmark engine.
+ *
+ * <p>Public and top-level because benchmarks take it as a {@code @Param}: the JMH-generated
+ * classes in {@code search.bench.jmh_generated} must be able to name it.
+ */
+public enum IndexKind { IN_MEMORY, INVERTED }
@@ -0,0 +1,64 @@
+package search.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import search.api.core.SearchResult;
+import search.bench.SyntheticCorpus.Document;
+import search.engine.config.ParallelScoring;
+import search.engine.core.ConfigurableSearchEngine;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential vs. parallel scoring across corpus sizes — locates the break-even point for
+ * {@link ParallelScoring#threshold()}.
+ *
+ * <p>The index is a full-scan {@code InMemoryIndex} so every document reaches Phase 3, and
+ * the parallel threshold is 1 so the parallel path is always taken. Compare the three
+ * {@code scoring} rows per {@code corpusSize}: the smallest size at which a parallel row
+ * wins is the break-even corpus size for this machine and scorer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParallelScoringBenchmark {
+
+    /** The scoring path under test. */
+    public enum Scoring { SEQUENTIAL, FORK_JOIN, VIRTUAL_THREADS }
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int corpusSize;
+
+    @Param({"SEQUENTIAL", "FORK_JOIN", "VIRTUAL_THREADS"})
+    public Scoring scoring;
+
+    private ConfigurableSearchEngine<Document> engine;
+    private String[] queries;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        final var corpus      = SyntheticCorpus.generate(corpusSize);
+        final var parallelism = Runtime.getRuntime().availableProcessors();
+        final var settings = switch (scoring) {
+            case SEQUENTIAL      -> ParallelScoring.disabled();
+            case FORK_JOIN       -> ParallelScoring.forkJoin(1, parallelism);
+            case VIRTUAL_THREADS -> ParallelScoring.virtualThreads(1, parallelism);
+        };
+        engine  = Fixtures.engine(corpus, Fixtures.index(IndexKind.IN_MEMORY, corpus), settings);
+        queries = corpus.queries().toArray(String[]::new);
+    }
+
+    @Benchmark
+    public SearchResult<Document> search() {
+        final var query = queries[cursor];
+        cursor = (cursor + 1) % queries.length;
+        return engine.search(query);
+    }
+}
@@ -0,0 +1,87 @@
+package search.bench;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import search.api.index.PostingsCursor;
+import search.engine.index.CompressedPostings;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One term's postings in each {@link CompressedPostings.Encoding}: a full decode
+ * ({@code decode}) and a skip-driven walk that advances a fixed stride past the current
+ * ordinal ({@code advance}), as WAND does. Lists hold one million postings with a mean ordinal
+ * gap of {@code gap}; {@code bytesPerPosting} reports the memory of each encoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostingsCodecBenchmark {
+
+    private static final int POSTINGS = 1_000_000;
+
+    @Param({"2", "16", "256"})
+    public int gap;
+
+    @Param({"RAW", "VBYTE", "FOR"})
+    public String encoding;
+
+    private CompressedPostings postings;
+    private int stride;
+
+    @Setup
+    public void setUp() {
+        final var random      = new Random(SyntheticCorpus.DEFAULT_SEED);
+        final var ordinals    = new int[POSTINGS];
+        final var frequencies = new int[POSTINGS];
+        var ordinal = -1;
+        for (var i = 0; i < POSTINGS; i++) {
+            ordinal += 1 + random.nextInt(2 * gap - 1);
+            ordinals[i]    = ordinal;
+            frequencies[i] = random.nextInt(4) == 0 ? 2 + random.nextInt(6) : 1; // mostly 1, like real text
+        }
+        postings = CompressedPostings.encode(ordinals, frequencies, POSTINGS, 1,
+                CompressedPostings.Encoding.valueOf(encoding));
+        stride = gap * 200; // ~200 postings per jump: usually lands in a later block
+    }
+
+    @Benchmark
+    public long decode(final Memory memory) {
+        memory.record(postings);
+        final var cursor = postings.cursor();
+        var sum = 0L;
+        for (var doc = cursor.docId(); doc != PostingsCursor.NO_MORE_DOCS; doc = cursor.next()) {
+            sum += doc + cursor.frequency();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long advance() {
+        final var cursor = postings.cursor();
+        var sum = 0L;
+        for (var doc = cursor.docId(); doc != PostingsCursor.NO_MORE_DOCS; doc = cursor.advance(doc + stride)) {
+            sum += doc + cursor.frequency();
+        }
+        return sum;
+    }
+
+    /** Reports the encoded size per posting next to the decode time. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Memory {
+        public double bytesPerPosting;
+
+        void record(final CompressedPostings postings) {
+            bytesPerPosting = (double) postings.sizeInBytes() / postings.size();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package search.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import search.api.core.SearchContext;
+import search.bench.SyntheticCorpus.Document;
+import search.engine.algorithm.Bm25Scorer;
+import search.engine.algorithm.FuzzyTermScorer;
+import search.engine.algorithm.TextMatchScorer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-document scoring cost of {@link Bm25Scorer} (text path and precomputed path),
+ * {@link TextMatchScorer}, and {@link FuzzyTermScorer}. Each invocation scores one document
+ * against one query, cycling through the corpus and the query set.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScorerBenchmark {
+
+    @Param({"1000", "10000"})
+    public int corpusSize;
+
+    private List<Document> documents;
+    private SearchContext[] contexts;
+    private Bm25Scorer<Document> bm25;
+    private Bm25Scorer<Document> bm25Precomputed;
+    private TextMatchScorer<Document> textMatch;
+    private FuzzyTermScorer<Document> fuzzyTerm;
+    private int docCursor;
+    private int queryCursor;
+
+    @Setup
+    public void setUp() {
+        final var corpus = SyntheticCorpus.generate(corpusSize);
+        documents       = corpus.documents();
+        contexts        = corpus.queries().stream().map(SearchContext::of).toArray(SearchContext[]::new);
+        bm25            = Fixtures.bm25(corpus, false);
+        bm25Precomputed = Fixtures.bm25(corpus, true);
+        textMatch       = Fixtures.textMatch();
+        fuzzyTerm       = Fixtures.fuzzyTerm(corpus);
+    }
+
+    @Benchmark
+    public int bm25Score() {
+        return bm25.score(nextDocument(), currentQuery());
+    }
+
+    @Benchmark
+    public int bm25PrecomputedScore() {
+        return bm25Precomputed.score(nextDocument(), currentQuery());
+    }
+
+    @Benchmark
+    public int textMatchScore() {
+        return textMatch.score(nextDocument(), currentQuery());
+    }
+
+    @Benchmark
+    public int fuzzyTermScore() {
+        return fuzzyTerm.score(nextDocument(), currentQuery());
+    }
+
+    /** Advances through documents; moves to the next query after a full corpus pass. */
+    private Document nextDocument() {
+        final var doc = documents.get(docCursor++);
+        if (docCursor == documents.size()) {
+            docCursor   = 0;
+            queryCursor = (queryCursor + 1) % contexts.length;
+        }
+        return doc;
+    }
+
+    private SearchContext currentQuery() { return contexts[queryCursor]; }
+}
@@ -0,0 +1,59 @@
+package search.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import search.api.core.SearchResult;
+import search.bench.SyntheticCorpus.Document;
+import search.engine.config.ParallelScoring;
+import search.engine.core.ConfigurableSearchEngine;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@link ConfigurableSearchEngine#search} latency over synthetic corpora of
+ * 1k – 1M documents, with either index implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchEngineBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int corpusSize;
+
+    @Param({"IN_MEMORY", "INVERTED"})
+    public IndexKind index;
+
+    private ConfigurableSearchEngine<Document> engine;
+    private String[] queries;
+
+    @Setup
+    public void setUp() {
+        final var corpus = SyntheticCorpus.generate(corpusSize);
+        engine  = Fixtures.engine(corpus, Fixtures.index(index, corpus), ParallelScoring.disabled());
+        queries = corpus.queries().toArray(String[]::new);
+    }
+
+    @Benchmark
+    public SearchResult<Document> search(final QueryCursor cursor) {
+        return engine.search(cursor.next(queries));
+    }
+
+    /** Per-thread position in the query list. */
+    @State(Scope.Thread)
+    public static class QueryCursor {
+        private int position;
+
+        String next(final String[] queries) {
+            final var query = queries[position];
+            position = (position + 1) % queries.length;
+            return query;
+        }
+    }
+}
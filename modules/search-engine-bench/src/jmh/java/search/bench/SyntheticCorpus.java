@@ -0,0 +1,157 @@
+package search.bench;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic corpus generator for benchmarks.
+ *
+ * <p>Words are built from a fixed syllable table and drawn with a Zipf-like (1/rank)
+ * distribution, so a few terms are very common and most are rare — the shape that makes
+ * document frequencies, postings lengths, and stop-word filtering behave like real text.
+ * The same {@code seed} and {@code size} always produce the same corpus, which keeps
+ * before/after numbers comparable across runs and machines.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * var corpus = SyntheticCorpus.generate(100_000, 42L);
+ * corpus.documents().forEach(doc -> index.add(doc.id(), doc));
+ * String query = corpus.queries().get(0);
+ * }</pre>
+ */
+public final class SyntheticCorpus {
+
+    /** Standard corpus sizes used by the size-parameterised benchmarks. */
+    public static final String[] SIZES = {"1000", "10000", "100000", "1000000"};
+
+    /** Seed used by every benchmark unless stated otherwise. */
+    public static final long DEFAULT_SEED = 42L;
+
+    private static final String[] SYLLABLES = {
+            "ja", "va", "con", "cur", "ren", "cy", "str", "eam", "lam", "bda", "gen", "er",
+            "ic", "ty", "pe", "col", "lec", "tion", "ser", "vi", "ce", "da", "ta", "ba",
+            "se", "in", "dex", "que", "ry", "sco", "re", "ran", "king", "thr", "ead", "po",
+            "ol", "vir", "tu", "al", "mo", "du", "le", "spr", "ing", "boot", "te", "st"
+    };
+
+    private static final String[] FILLER = {"the", "and", "for", "with", "using", "how", "to", "of"};
+
+    private static final String[] CATEGORIES = {"java", "python", "web", "devops", "data", "testing"};
+
+    private static final int VOCABULARY_SIZE = 5_000;
+    private static final int QUERY_COUNT     = 64;
+    private static final int BODY_WORDS      = 24;
+    private static final int TITLE_WORDS     = 4;
+    private static final int TAG_COUNT       = 3;
+
+    private final List<Document> documents;
+    private final List<String> queries;
+    private final List<String> vocabulary;
+
+    private SyntheticCorpus(final List<Document> documents, final List<String> queries,
+                            final List<String> vocabulary) {
+        this.documents  = documents;
+        this.queries    = queries;
+        this.vocabulary = vocabulary;
+    }
+
+    /**
+     * A synthetic document.
+     *
+     * @param id       unique identifier ({@code doc-<n>})
+     * @param title    short title
+     * @param body     longer free text, including stop words
+     * @param tags     a few curated keywords
+     * @param category one of a handful of categories
+     */
+    public record Document(String id, String title, String body, List<String> tags, String category) {
+
+        /** Title and body joined — the usual BM25 / inverted-index text. */
+        public String fullText() { return title + " " + body; }
+    }
+
+    /**
+     * Generates a corpus.
+     *
+     * @param size number of documents
+     * @param seed random seed
+     * @return the corpus
+     */
+    public static SyntheticCorpus generate(final int size, final long seed) {
+        final var random     = new Random(seed);
+        final var vocabulary = buildVocabulary(random);
+        final var zipf       = zipfCumulative(vocabulary.size());
+
+        final var documents = new ArrayList<Document>(size);
+        for (var i = 0; i < size; i++) {
+            final var title = words(random, vocabulary, zipf, TITLE_WORDS, false);
+            final var body  = words(random, vocabulary, zipf, BODY_WORDS, true);
+            final var tags  = new ArrayList<String>(TAG_COUNT);
+            for (var t = 0; t < TAG_COUNT; t++) tags.add(draw(random, vocabulary, zipf));
+            documents.add(new Document("doc-" + i, title, body, List.copyOf(tags),
+                    CATEGORIES[random.nextInt(CATEGORIES.length)]));
+        }
+
+        final var queries = new ArrayList<String>(QUERY_COUNT);
+        for (var q = 0; q < QUERY_COUNT; q++) {
+            queries.add(words(random, vocabulary, zipf, 1 + random.nextInt(3), false));
+        }
+        return new SyntheticCorpus(List.copyOf(documents), List.copyOf(queries), vocabulary);
+    }
+
+    /** Generates a corpus with {@link #DEFAULT_SEED}. */
+    public static SyntheticCorpus generate(final int size) {
+        return generate(size, DEFAULT_SEED);
+    }
+
+    public List<Document> documents()  { return documents; }
+    public List<String>   queries()    { return queries; }
+    public List<String>   vocabulary() { return vocabulary; }
+    public int            size()       { return documents.size(); }
+
+    // ─── Internal helpers ──────────────────────────────────────────
+
+    private static List<String> buildVocabulary(final Random random) {
+        final var seen  = new LinkedHashSet<String>();
+        while (seen.size() < VOCABULARY_SIZE) {
+            final var parts = 2 + random.nextInt(3);
+            final var word  = new StringBuilder();
+            for (var p = 0; p < parts; p++) word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            seen.add(word.toString());
+        }
+        return List.copyOf(seen);
+    }
+
+    private static double[] zipfCumulative(final int n) {
+        final var cumulative = new double[n];
+        var sum = 0.0;
+        for (var rank = 0; rank < n; rank++) {
+            sum += 1.0 / (rank + 1);
+            cumulative[rank] = sum;
+        }
+        for (var rank = 0; rank < n; rank++) cumulative[rank] /= sum;
+        return cumulative;
+    }
+
+    private static String draw(final Random random, final List<String> vocabulary, final double[] zipf) {
+        var pos = Arrays.binarySearch(zipf, random.nextDouble());
+        if (pos < 0) pos = -pos - 1;
+        return vocabulary.get(Math.min(pos, vocabulary.size() - 1));
+    }
+
+    private static String words(final Random random, final List<String> vocabulary, final double[] zipf,
+                                final int count, final boolean withFiller) {
+        final var sb = new StringBuilder();
+        for (var w = 0; w < count; w++) {
+            if (w > 0) sb.append(' ');
+            if (withFiller && random.nextInt(4) == 0) {
+                sb.append(FILLER[random.nextInt(FILLER.length)]).append(' ');
+            }
+            sb.append(draw(random, vocabulary, zipf));
+        }
+        return sb.toString();
+    }
+}
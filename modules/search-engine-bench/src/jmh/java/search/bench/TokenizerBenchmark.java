@@ -0,0 +1,45 @@
+package search.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import search.engine.algorithm.DefaultTokenizer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DefaultTokenizer#tokenize(String)} over synthetic document bodies.
+ * Run with the GC profiler to see bytes allocated per tokenized document.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenizerBenchmark {
+
+    private final DefaultTokenizer tokenizer = new DefaultTokenizer();
+    private String[] texts;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        texts = SyntheticCorpus.generate(1_000).documents().stream()
+                .map(SyntheticCorpus.Document::fullText)
+                .toArray(String[]::new);
+    }
+
+    @Benchmark
+    public List<String> tokenizeDocument() {
+        return tokenizer.tokenize(next());
+    }
+
+    private String next() {
+        final var text = texts[cursor];
+        cursor = (cursor + 1) % texts.length;
+        return text;
+    }
+}
@@ -0,0 +1,62 @@
+package search.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import search.api.classify.SearchMode;
+import search.api.core.SearchContext;
+import search.api.core.SearchResult;
+import search.bench.SyntheticCorpus.Document;
+import search.engine.core.ConfigurableSearchEngine;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-15 VAGUE BM25 search: every term-matched candidate scored ({@code EXHAUSTIVE}) vs.
+ * WAND dynamic pruning over the postings ({@code WAND}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TopKRetrievalBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int corpusSize;
+
+    @Param({"EXHAUSTIVE", "WAND"})
+    public String evaluation;
+
+    private ConfigurableSearchEngine<Document> engine;
+    private SearchContext[] queries;
+
+    @Setup
+    public void setUp() {
+        final var corpus = SyntheticCorpus.generate(corpusSize);
+        engine  = Fixtures.bm25Engine(corpus, evaluation.equals("WAND"));
+        queries = corpus.queries().stream()
+                .map(query -> new SearchContext(query, SearchMode.VAGUE, null, SearchContext.DEFAULT_MAX_RESULTS))
+                .toArray(SearchContext[]::new);
+    }
+
+    @Benchmark
+    public SearchResult<Document> search(final QueryCursor cursor) {
+        return engine.search(cursor.next(queries));
+    }
+
+    /** Per-thread position in the query list. */
+    @State(Scope.Thread)
+    public static class QueryCursor {
+        private int position;
+
+        SearchContext next(final SearchContext[] queries) {
+            final var query = queries[position];
+            position = (position + 1) % queries.length;
+            return query;
+        }
+    }
+}
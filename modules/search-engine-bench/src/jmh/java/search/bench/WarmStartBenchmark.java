@@ -0,0 +1,95 @@
+package search.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import search.api.classify.SearchMode;
+import search.api.core.SearchContext;
+import search.api.core.SearchResult;
+import search.bench.SyntheticCorpus.Document;
+import search.engine.algorithm.SnapshotCodec;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to first query of the BM25 engine: index the corpus and count its statistics
+ * ({@code REBUILD}) vs. restore both from snapshots ({@code SNAPSHOT}), then answer one query.
+ * Measured single-shot, as a server start would see it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WarmStartBenchmark {
+
+    @Param({"10000", "100000"})
+    public int corpusSize;
+
+    @Param({"REBUILD", "SNAPSHOT"})
+    public String start;
+
+    private SyntheticCorpus corpus;
+    private Map<String, Document> documentsById;
+    private long checksum;
+    private Path directory;
+    private Path indexSnapshot;
+    private Path statisticsSnapshot;
+    private SearchContext query;
+
+    @Setup
+    public void setUp() throws IOException {
+        corpus        = SyntheticCorpus.generate(corpusSize);
+        documentsById = new HashMap<>(corpus.size() * 2);
+        final var parts = new ArrayList<String>(corpus.size() * 2);
+        for (final var doc : corpus.documents()) {
+            documentsById.put(doc.id(), doc);
+            parts.add(doc.id());
+            parts.add(doc.fullText());
+        }
+        checksum = SnapshotCodec.checksum(parts);
+        query    = new SearchContext(corpus.queries().get(0), SearchMode.VAGUE, null, SearchContext.DEFAULT_MAX_RESULTS);
+
+        directory          = Files.createTempDirectory("warm-start");
+        indexSnapshot      = directory.resolve("index.snapshot");
+        statisticsSnapshot = directory.resolve("bm25.snapshot");
+        final var index = Fixtures.invertedIndex();
+        corpus.documents().forEach(doc -> index.add(doc.id(), doc));
+        final var statistics = Fixtures.bm25Statistics();
+        statistics.attach(index);
+        index.writeSnapshot(indexSnapshot, checksum);
+        statistics.writeSnapshot(statisticsSnapshot, checksum);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(indexSnapshot);
+        Files.deleteIfExists(statisticsSnapshot);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public SearchResult<Document> firstQuery() throws IOException {
+        final var index      = Fixtures.invertedIndex();
+        final var statistics = Fixtures.bm25Statistics();
+        if (start.equals("SNAPSHOT")
+                && index.restoreSnapshot(indexSnapshot, checksum, documentsById::get)
+                && statistics.restoreSnapshot(statisticsSnapshot, checksum)) {
+            index.addListener(statistics);
+        } else {
+            corpus.documents().forEach(doc -> index.add(doc.id(), doc));
+            statistics.attach(index);
+        }
+        return Fixtures.bm25Engine(index, statistics, false).search(query);
+    }
+}
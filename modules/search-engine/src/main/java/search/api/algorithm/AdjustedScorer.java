@@ -0,0 +1,153 @@
+package search.api.algorithm;
+
+import search.api.core.QueryPlan;
+import search.api.core.ScoreBreakdown;
+import search.api.core.SearchContext;
+
+import java.util.Objects;
+
+/**
+ * A {@link ScoringStrategy} that adjusts another's score — the strategies returned by
+ * {@link ScoringStrategy#withConstantBoost(int)} and {@link ScoringStrategy#scaledBy(double)}.
+ *
+ * <p>Every overload delegates to the same overload of the wrapped strategy, so a wrapped
+ * scorer keeps its per-search {@link QueryPlan} work, threshold early exit, bounds and
+ * breakdowns. The adjustment is applied to each: a threshold is mapped back to the wrapped
+ * strategy's scale, a bound and a breakdown forward to this one's.
+ *
+ * @param <T> the document type
+ */
+abstract class AdjustedScorer<T> implements ScoringStrategy<T> {
+
+    private final ScoringStrategy<T> delegate;
+
+    private AdjustedScorer(final ScoringStrategy<T> delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate must not be null");
+    }
+
+    /** Adds {@code constant} to {@code delegate}'s score, floored at 0. */
+    static <T> ScoringStrategy<T> boosted(final ScoringStrategy<T> delegate, final int constant) {
+        return new Boosted<>(delegate, constant);
+    }
+
+    /** Multiplies {@code delegate}'s score by {@code factor}, truncated and floored at 0. */
+    static <T> ScoringStrategy<T> scaled(final ScoringStrategy<T> delegate, final double factor) {
+        return new Scaled<>(delegate, factor);
+    }
+
+    /** The adjusted score for the wrapped strategy's {@code score}. */
+    abstract int adjust(int score);
+
+    /** The wrapped strategy's threshold for a non-negative {@code threshold}. */
+    abstract int delegateThreshold(int threshold);
+
+    /** Adds {@code breakdown}'s components, adjusted, to {@code builder}. */
+    abstract void addComponents(ScoreBreakdown breakdown, ScoreBreakdown.Builder builder);
+
+    @Override
+    public final int score(final T item, final SearchContext context) {
+        return adjust(delegate.score(item, context));
+    }
+
+    @Override
+    public final int score(final T item, final QueryPlan plan) {
+        return adjust(delegate.score(item, plan));
+    }
+
+    /**
+     * Every adjusted score is ≥ 0, so a negative threshold is no threshold; otherwise the
+     * wrapped strategy may stop below the threshold that maps onto {@code threshold}.
+     */
+    @Override
+    public final int score(final T item, final QueryPlan plan, final int threshold) {
+        if (threshold < 0) return score(item, plan);
+        return adjust(delegate.score(item, plan, delegateThreshold(threshold)));
+    }
+
+    @Override
+    public final int maxScore(final QueryPlan plan) {
+        final var bound = delegate.maxScore(plan);
+        return bound == NO_BOUND ? NO_BOUND : Math.min(adjust(bound), NO_BOUND - 1);
+    }
+
+    @Override
+    public final ScoreBreakdown explain(final T item, final SearchContext context) {
+        return explain(delegate.explain(item, context), score(item, context));
+    }
+
+    @Override
+    public final ScoreBreakdown explain(final T item, final QueryPlan plan) {
+        return explain(delegate.explain(item, plan), score(item, plan));
+    }
+
+    /** The wrapped breakdown adjusted, with a {@code rounding} component so it totals {@code score}. */
+    private ScoreBreakdown explain(final ScoreBreakdown breakdown, final int score) {
+        final var builder = ScoreBreakdown.builder();
+        addComponents(breakdown, builder);
+        return builder.add("rounding", score - builder.currentTotal()).build();
+    }
+
+    /** {@link ScoringStrategy#withConstantBoost(int)}. */
+    private static final class Boosted<T> extends AdjustedScorer<T> {
+
+        private final int constant;
+
+        Boosted(final ScoringStrategy<T> delegate, final int constant) {
+            super(delegate);
+            this.constant = constant;
+        }
+
+        @Override
+        int adjust(final int score) {
+            return (int) Math.max(0, Math.min((long) score + constant, Integer.MAX_VALUE));
+        }
+
+        /** {@code score + constant > threshold} exactly when {@code score > threshold - constant}. */
+        @Override
+        int delegateThreshold(final int threshold) {
+            return (int) Math.max((long) threshold - constant, Integer.MIN_VALUE);
+        }
+
+        @Override
+        void addComponents(final ScoreBreakdown breakdown, final ScoreBreakdown.Builder builder) {
+            for (var i = 0; i < breakdown.componentCount(); i++) {
+                builder.add(breakdown.nameAt(i), breakdown.pointsAt(i));
+            }
+            builder.add("boost", constant);
+        }
+    }
+
+    /** {@link ScoringStrategy#scaledBy(double)}. */
+    private static final class Scaled<T> extends AdjustedScorer<T> {
+
+        private final double factor;
+
+        Scaled(final ScoringStrategy<T> delegate, final double factor) {
+            super(delegate);
+            if (!(factor > 0)) throw new IllegalArgumentException("factor must be > 0");
+            this.factor = factor;
+        }
+
+        @Override
+        int adjust(final int score) {
+            return (int) Math.max(0, score * factor);
+        }
+
+        /**
+         * {@code (int) (score × factor) > threshold} needs {@code score ≥ (threshold + 1) / factor};
+         * one point of slack absorbs the rounding of that division.
+         */
+        @Override
+        int delegateThreshold(final int threshold) {
+            final var needed = Math.floor((threshold + 1.0) / factor) - 1;
+            return (int) Math.max(Math.min(needed, Integer.MAX_VALUE - 1.0), Integer.MIN_VALUE);
+        }
+
+        @Override
+        void addComponents(final ScoreBreakdown breakdown, final ScoreBreakdown.Builder builder) {
+            for (var i = 0; i < breakdown.componentCount(); i++) {
+                builder.add(breakdown.nameAt(i), (int) (breakdown.pointsAt(i) * factor));
+            }
+        }
+    }
+}
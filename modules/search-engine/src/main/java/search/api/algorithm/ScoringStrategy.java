@@ -1,5 +1,7 @@
 package search.api.algorithm;
 
+import search.api.core.QueryPlan;
+import search.api.core.ScoreBreakdown;
 import search.api.core.SearchContext;
 
 /**
@@ -33,6 +35,9 @@ import search.api.core.SearchContext;
 @FunctionalInterface
 public interface ScoringStrategy<T> {
 
+    /** {@link #maxScore(QueryPlan)} of a strategy whose scores have no known upper bound. */
+    int NO_BOUND = Integer.MAX_VALUE;
+
     /**
      * Scores a document against the search context.
      *
@@ -42,31 +47,119 @@ public interface ScoringStrategy<T> {
      */
     int score(T item, SearchContext context);
 
+    /**
+     * Scores a document against a planned query — the overload engines call, once per
+     * candidate, with one {@link QueryPlan} per search.
+     *
+     * <p>Must return the same value as {@link #score(Object, SearchContext)} for
+     * {@code plan.context()} while the plan's {@linkplain QueryPlan#generation() pinned
+     * generation}, if any, is still its index's current one. A scorer that reads index
+     * contents reads them from the pinned generation here and from the current generation in
+     * the context overload, so once the index moves on, a search keeps scoring against the
+     * generation it pinned. Scorers with query-side work override it to read that work from
+     * the plan instead of redoing it per document. The default delegates to the context
+     * overload.
+     *
+     * @param item the document to score (never null)
+     * @param plan the planned query (never null)
+     * @return the relevance score (≥ 0)
+     */
+    default int score(final T item, final QueryPlan plan) {
+        return score(item, plan.context());
+    }
+
+    /**
+     * Scores a document that only matters if it scores above {@code threshold} — e.g., the
+     * lowest score in a full top-K heap.
+     *
+     * <p>Returns exactly {@link #score(Object, QueryPlan)} when that exceeds
+     * {@code threshold}; otherwise any value ≤ {@code threshold}, so an implementation may stop
+     * as soon as it knows the document cannot beat it. {@link Integer#MIN_VALUE} means "no
+     * threshold". The default ignores the threshold.
+     *
+     * @param item      the document to score (never null)
+     * @param plan      the planned query (never null)
+     * @param threshold the score the document must exceed to matter
+     * @return the score, or a value ≤ {@code threshold}
+     */
+    default int score(final T item, final QueryPlan plan, final int threshold) {
+        return score(item, plan);
+    }
+
+    /**
+     * Returns an upper bound on {@link #score(Object, QueryPlan)} over all documents for
+     * {@code plan}, or {@link #NO_BOUND}. Composite scorers use bounds to skip parts that
+     * cannot lift a document over the threshold. The default is {@link #NO_BOUND}.
+     *
+     * @param plan the planned query (never null)
+     * @return a score no document exceeds, or {@link #NO_BOUND}
+     */
+    default int maxScore(final QueryPlan plan) {
+        return NO_BOUND;
+    }
+
+    /**
+     * Explains {@link #score(Object, SearchContext)}: a breakdown whose total equals the score.
+     *
+     * <p>Called only in {@linkplain SearchContext#explain() explain mode}, for the items a
+     * search returns, so it may allocate freely. The default reports the whole score as one
+     * {@code "score"} component; scorers built from named parts override it to report each.
+     *
+     * @param item    the document to explain (never null)
+     * @param context the search context (never null)
+     * @return the score's components (never null)
+     */
+    default ScoreBreakdown explain(final T item, final SearchContext context) {
+        return ScoreBreakdown.builder().add("score", score(item, context)).build();
+    }
+
+    /**
+     * Explains {@link #score(Object, QueryPlan)}: a breakdown whose total equals the score the
+     * planned search gave {@code item}. Engines call this overload, so scorers whose score
+     * depends on the plan — e.g. on statistics of its pinned index generation — override it.
+     * The default explains against the plan's context.
+     *
+     * @param item the document to explain (never null)
+     * @param plan the planned query (never null)
+     * @return the score's components (never null)
+     */
+    default ScoreBreakdown explain(final T item, final QueryPlan plan) {
+        return explain(item, plan.context());
+    }
+
     // ─── Factory helpers ───────────────────────────────────────────
 
     /** A strategy that always returns 0 (useful as a no-op default). */
-    static <T> ScoringStrategy<T> zero() { return (item, ctx) -> 0; }
+    static <T> ScoringStrategy<T> zero() { return constant(0); }
 
     /** A strategy that always returns a constant score (useful for baseline boost). */
-    static <T> ScoringStrategy<T> constant(final int points) { return (item, ctx) -> points; }
+    static <T> ScoringStrategy<T> constant(final int points) {
+        return new ScoringStrategy<>() {
+            @Override public int score(final T item, final SearchContext ctx) { return points; }
+            @Override public int maxScore(final QueryPlan plan) { return Math.max(points, 0); }
+        };
+    }
 
     /**
-     * Returns a new strategy that adds a constant to this strategy's score.
+     * Returns a new strategy that adds a constant to this strategy's score, floored at 0.
+     * Plan, threshold, bound and explain calls reach this strategy's own overloads.
      *
      * @param constant the bonus points (may be negative for a penalty)
      * @return the boosted strategy
      */
     default ScoringStrategy<T> withConstantBoost(final int constant) {
-        return (item, ctx) -> Math.max(0, this.score(item, ctx) + constant);
+        return AdjustedScorer.boosted(this, constant);
     }
 
     /**
-     * Returns a new strategy that multiplies this strategy's score by a factor.
+     * Returns a new strategy that multiplies this strategy's score by a factor, truncated.
+     * Plan, threshold, bound and explain calls reach this strategy's own overloads.
      *
      * @param factor the multiplier (&gt; 0)
      * @return the scaled strategy
+     * @throws IllegalArgumentException if {@code factor} is not positive
      */
     default ScoringStrategy<T> scaledBy(final double factor) {
-        return (item, ctx) -> (int) Math.max(0, this.score(item, ctx) * factor);
+        return AdjustedScorer.scaled(this, factor);
     }
 }
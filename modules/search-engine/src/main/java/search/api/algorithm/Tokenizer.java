@@ -22,6 +22,17 @@ import java.util.List;
  *   <li>Implementations must be stateless and thread-safe.</li>
  * </ul>
  *
+ * <h2>Streaming API</h2>
+ * {@link #tokenize(CharSequence, TokenSink)} pushes each token to a callback as a span over a
+ * reused {@code char[]} buffer instead of building a {@code List<String>}. Hot paths (scoring,
+ * indexing) use it to avoid allocating a {@code String} per token:
+ * <pre>{@code
+ * var counts = new int[1];
+ * tokenizer.tokenize(document.body(), (buf, off, len) -> counts[0]++);
+ * }</pre>
+ * The default implementation adapts {@link #tokenize(String)}, so every tokenizer supports
+ * it; {@link search.engine.algorithm.DefaultTokenizer} implements it natively.
+ *
  * @see search.engine.algorithm.DefaultTokenizer
  */
 @FunctionalInterface
@@ -35,6 +46,41 @@ public interface Tokenizer {
      */
     List<String> tokenize(String text);
 
+    /**
+     * Streams the tokens of {@code text} to {@code sink}, in order, applying the same
+     * normalisation and filtering as {@link #tokenize(String)}.
+     *
+     * <p>Each token is passed as {@code (buffer, offset, length)}. The buffer may be reused for
+     * the next token, so sinks must copy any characters they want to keep.
+     *
+     * @param text raw text (may be null)
+     * @param sink receives each token (never null)
+     */
+    default void tokenize(final CharSequence text, final TokenSink sink) {
+        if (text == null) return;
+        for (final var token : tokenize(text.toString())) {
+            final var chars = token.toCharArray();
+            sink.token(chars, 0, chars.length);
+        }
+    }
+
+    /**
+     * Receives tokens from {@link #tokenize(CharSequence, TokenSink)}.
+     * The characters in {@code buffer[offset, offset + length)} are valid only during the call.
+     */
+    @FunctionalInterface
+    interface TokenSink {
+
+        /**
+         * Accepts one normalised token.
+         *
+         * @param buffer the characters (do not retain or modify)
+         * @param offset start of the token in {@code buffer}
+         * @param length token length (≥ 1)
+         */
+        void token(char[] buffer, int offset, int length);
+    }
+
     // ─── Built-in factory tokenizers ──────────────────────────────
 
     /**
@@ -0,0 +1,62 @@
+package search.api.algorithm;
+
+import search.api.core.QueryPlan;
+import search.api.core.ScoredItem;
+import search.api.filter.SearchFilter;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Finds the {@code k} best-scored documents for a query without scoring every candidate.
+ *
+ * <p>The engine normally filters and scores every candidate with a {@link ScoringStrategy},
+ * then keeps the best. A retriever evaluates the query over index postings instead and may
+ * skip documents that provably cannot reach the top {@code k} — dynamic pruning such as
+ * WAND. It replaces the filter and score phases for the modes it is registered for, and must
+ * return exactly what that mode's scorer would have produced: the {@code k} highest positive
+ * scores among documents passing the filter, ties broken by index order.
+ *
+ * <h2>Engine integration</h2>
+ * Register with
+ * {@link search.engine.config.SearchEngineConfig.Builder#retriever(search.api.classify.SearchMode, TopKRetriever)}.
+ * The engine uses it only when the ranker declares a finite
+ * {@link search.api.rank.RankingStrategy#candidateLimit(int)}, no facets are configured —
+ * facet counts cover every filtered candidate, which a retriever never visits — and the
+ * retriever {@linkplain #supports(QueryPlan) supports} the plan.
+ *
+ * @param <T> the document type
+ *
+ * @see search.engine.algorithm.WandRetriever
+ */
+@FunctionalInterface
+public interface TopKRetriever<T> {
+
+    /**
+     * Retrieves the best-scored documents.
+     *
+     * <p>{@code stop} turns {@code true} once the search's deadline has passed or it was
+     * cancelled; the retriever should check it now and then and, once it does, return the best
+     * documents found so far.
+     *
+     * @param plan   the planned query (never null)
+     * @param filter documents failing this filter are skipped (never null)
+     * @param k      the maximum number of results (≥ 1)
+     * @param stop   reports when to stop early (never null)
+     * @return at most {@code k} positive-scored items, best first (never null)
+     */
+    List<ScoredItem<T>> retrieve(QueryPlan plan, SearchFilter<T> filter, int k, BooleanSupplier stop);
+
+    /**
+     * Returns {@code true} if this retriever can answer {@code plan} exactly. A plan that
+     * {@linkplain QueryPlan#generation() pinned an index generation} must be answered from that
+     * generation's documents; the default supports only plans that pinned none, for
+     * retrievers that read a live index.
+     *
+     * @param plan the planned query (never null)
+     * @return whether {@link #retrieve} may be called for {@code plan}
+     */
+    default boolean supports(final QueryPlan plan) {
+        return plan.generation() == null;
+    }
+}
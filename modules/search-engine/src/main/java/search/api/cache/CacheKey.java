@@ -0,0 +1,52 @@
+package search.api.cache;
+
+import search.api.classify.SearchMode;
+import search.api.core.SearchContext;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Identity of a query for result caching: every {@link SearchContext} component that can
+ * change the result.
+ *
+ * <p>The input is normalised (trimmed, lowercased) so that {@code "Java Streams "} and
+ * {@code "java streams"} share one entry. Filter values must implement {@code equals} and
+ * {@code hashCode} by value for cache hits to occur. The {@linkplain SearchContext#deadline()
+ * deadline} is left out: it only decides whether a search completes, and truncated results
+ * are not cached. Explain mode is part of the key, since it attaches breakdowns to the items.
+ *
+ * @param normalizedInput the normalised query text
+ * @param forcedMode      the forced mode, or {@code null} for auto-classification
+ * @param filters         the filter parameters (immutable)
+ * @param maxResults      the requested result count
+ * @param explain         whether score breakdowns were requested
+ *
+ * @see ResultCache
+ */
+public record CacheKey(
+        String normalizedInput,
+        SearchMode forcedMode,
+        Map<String, Object> filters,
+        int maxResults,
+        boolean explain
+) {
+
+    /** Validates and defensively copies the filters. */
+    public CacheKey {
+        Objects.requireNonNull(normalizedInput, "normalizedInput must not be null");
+        filters = (filters != null) ? Map.copyOf(filters) : Map.of();
+    }
+
+    /** Creates a key without explain mode. */
+    public CacheKey(final String normalizedInput, final SearchMode forcedMode,
+                    final Map<String, Object> filters, final int maxResults) {
+        this(normalizedInput, forcedMode, filters, maxResults, false);
+    }
+
+    /** Derives the cache key of a search context. */
+    public static CacheKey of(final SearchContext context) {
+        return new CacheKey(context.normalizedInput(), context.forcedMode(),
+                context.filters(), context.maxResults(), context.explain());
+    }
+}
@@ -0,0 +1,25 @@
+package search.api.cache;
+
+/**
+ * Point-in-time counters of a {@link ResultCache}.
+ *
+ * @param hits          lookups answered from the cache
+ * @param misses        lookups that found no usable entry (absent or stale)
+ * @param evictions     entries dropped to respect the capacity bound
+ * @param invalidations stale entries dropped because the index changed since they were cached
+ * @param size          entries currently held
+ */
+public record CacheStats(long hits, long misses, long evictions, long invalidations, int size) {
+
+    /** Counters of a cache that never stores anything. */
+    public static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0);
+
+    /** Returns the total number of lookups. */
+    public long requests() { return hits + misses; }
+
+    /** Returns {@code hits / requests}, or 0 when nothing has been looked up. */
+    public double hitRate() {
+        final var requests = requests();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,70 @@
+package search.api.cache;
+
+import search.api.core.SearchResult;
+
+/**
+ * Stores complete {@link SearchResult}s so that repeated queries skip the search pipeline.
+ *
+ * <p>Every entry is tagged with the {@linkplain search.api.index.SearchIndex#version() index
+ * version} it was computed against. A lookup with a different version treats the entry as
+ * stale and misses, so index mutations invalidate cached results without any explicit call.
+ *
+ * <h2>Engine integration</h2>
+ * {@link search.engine.core.ConfigurableSearchEngine} consults the cache configured through
+ * {@link search.engine.config.SearchEngineConfig.Builder#resultCache(ResultCache)} after
+ * {@code preSearch} and before the pipeline. Results are cached before {@code postSearch}
+ * runs, so post-processing is re-applied on every hit. Indexes that do not track versions are
+ * never cached.
+ *
+ * <h2>State outside the index</h2>
+ * Changes that affect results without touching the index — e.g. recomputing
+ * {@link search.engine.algorithm.Bm25Scorer#computeStats} statistics — must be followed by
+ * {@link #invalidateAll()}.
+ *
+ * <p>Implementations must be thread-safe.
+ *
+ * @param <T> the document type
+ *
+ * @see search.engine.cache.LruResultCache
+ */
+public interface ResultCache<T> {
+
+    /**
+     * Returns the cached result for {@code key}, or {@code null} if there is none or it was
+     * computed against a different index version.
+     *
+     * @param key          the query identity
+     * @param indexVersion the current index version
+     * @return the cached result, or null
+     */
+    SearchResult<T> get(CacheKey key, long indexVersion);
+
+    /**
+     * Stores a result computed against {@code indexVersion}.
+     *
+     * @param key          the query identity
+     * @param indexVersion the index version read <em>before</em> the result was computed
+     * @param result       the pipeline output
+     */
+    void put(CacheKey key, long indexVersion, SearchResult<T> result);
+
+    /** Drops every entry. */
+    void invalidateAll();
+
+    /** Returns a snapshot of the hit, miss, and eviction counters. */
+    CacheStats stats();
+
+    /** Returns {@code false} for a cache that never stores anything; the engine then skips it. */
+    default boolean isEnabled() { return true; }
+
+    /** A cache that stores nothing (the default). */
+    static <T> ResultCache<T> disabled() {
+        return new ResultCache<>() {
+            @Override public SearchResult<T> get(final CacheKey key, final long indexVersion) { return null; }
+            @Override public void put(final CacheKey key, final long indexVersion, final SearchResult<T> result) {}
+            @Override public void invalidateAll() {}
+            @Override public CacheStats stats() { return CacheStats.EMPTY; }
+            @Override public boolean isEnabled() { return false; }
+        };
+    }
+}
@@ -0,0 +1,168 @@
+package search.api.core;
+
+import search.api.classify.SearchMode;
+import search.api.index.IndexGeneration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * The query side of one search, analysed once and shared by every scorer that scores a
+ * document for it.
+ *
+ * <p>{@link SearchContext#normalizedInput()} strips and lower-cases on every call, and
+ * per-document scorers used to re-split its result for every document. An engine builds one
+ * {@code QueryPlan} per search, after classification, and hands it to
+ * {@link search.api.algorithm.ScoringStrategy#score(Object, QueryPlan)} — query-side work per
+ * document becomes a field read.
+ *
+ * <h2>Contents</h2>
+ * <ul>
+ *   <li>the context and the mode the query was classified as ({@code null} outside a search);</li>
+ *   <li>the index generation the search pinned, when the index is a
+ *       {@link search.api.index.GenerationalIndex} — scorers derive corpus statistics from it
+ *       so they match the documents being scored;</li>
+ *   <li>the normalised input and its whitespace-separated tokens, as typed (quotes included);</li>
+ *   <li>the phrases of the raw input — double-quoted runs, normalised.</li>
+ * </ul>
+ *
+ * <h2>Resolved state</h2>
+ * Query state that depends on a scorer's own data — term IDs in its dictionary, IDFs, score
+ * bounds — is attached with {@link #resolve(Object, Function)}: computed on first use and
+ * returned to every later caller for the same owner, so it too is computed once per search.
+ * See {@link ResolvedState} for how concurrent first uses are resolved.
+ *
+ * <p>Immutable apart from resolved state; thread-safe.
+ *
+ * @see SearchContext
+ * @see search.api.algorithm.ScoringStrategy
+ */
+public final class QueryPlan {
+
+    private static final String[] NO_TOKENS = {};
+
+    private final SearchContext context;
+    private final SearchMode mode;
+    private final IndexGeneration<?> generation;
+    private final String input;
+    private final String[] tokens;
+    private final List<String> phrases;
+    private final ResolvedState<QueryPlan> resolved = new ResolvedState<>(this);
+
+    private QueryPlan(final SearchContext context, final SearchMode mode, final IndexGeneration<?> generation) {
+        this.context    = context;
+        this.mode       = mode;
+        this.generation = generation;
+        this.input   = context.normalizedInput();
+        this.tokens  = input.isBlank() ? NO_TOKENS : input.split("\\s+");
+        this.phrases = phrasesOf(context.rawInput());
+    }
+
+    /**
+     * Plans {@code context}'s query, classified as {@code mode}.
+     *
+     * @param context the search context (never null)
+     * @param mode    the classified mode, or {@code null} if unknown
+     * @return a new plan
+     */
+    public static QueryPlan of(final SearchContext context, final SearchMode mode) {
+        Objects.requireNonNull(context, "context must not be null");
+        return new QueryPlan(context, mode, null);
+    }
+
+    /**
+     * Plans {@code context}'s query, classified as {@code mode}, against a pinned index generation.
+     *
+     * @param context    the search context (never null)
+     * @param mode       the classified mode, or {@code null} if unknown
+     * @param generation the generation the search reads, or {@code null} if the index has none
+     * @return a new plan
+     */
+    public static QueryPlan of(final SearchContext context, final SearchMode mode,
+                               final IndexGeneration<?> generation) {
+        Objects.requireNonNull(context, "context must not be null");
+        return new QueryPlan(context, mode, generation);
+    }
+
+    /** Plans {@code context}'s query outside a search; the mode is its forced mode, if any. */
+    public static QueryPlan of(final SearchContext context) {
+        Objects.requireNonNull(context, "context must not be null");
+        return new QueryPlan(context, context.forcedMode(), null);
+    }
+
+    /** Returns the search context. */
+    public SearchContext context() { return context; }
+
+    /** Returns the mode the query was classified as, or {@code null} if unknown. */
+    public SearchMode mode() { return mode; }
+
+    /**
+     * Returns the index generation this search reads — every document it filters and scores
+     * belongs to it — or {@code null} if the index is not generational or the plan was made
+     * outside a search.
+     */
+    public IndexGeneration<?> generation() { return generation; }
+
+    /** Returns the normalised (stripped, lower-cased) input. */
+    public String input() { return input; }
+
+    /** Returns {@code true} if the input has no tokens. */
+    public boolean isBlank() { return tokens.length == 0; }
+
+    /** Returns the number of tokens. */
+    public int tokenCount() { return tokens.length; }
+
+    /** Returns the number of tokens with at least {@code minLength} characters. */
+    public int tokenCount(final int minLength) {
+        var count = 0;
+        for (final var token : tokens) {
+            if (token.length() >= minLength) count++;
+        }
+        return count;
+    }
+
+    /** Returns token {@code index} (0-based, query order; duplicates kept). */
+    public String token(final int index) { return tokens[index]; }
+
+    /** Returns the tokens as an unmodifiable list. */
+    public List<String> tokens() { return List.of(tokens); }
+
+    /** Returns the normalised double-quoted phrases of the raw input, in order. */
+    public List<String> phrases() { return phrases; }
+
+    /**
+     * Returns {@code owner}'s state for this query, computing it with {@code resolver} on first
+     * use. Owners are compared by identity — typically the scorer itself. Resolvers may resolve
+     * other owners' state; they run without a lock held, and may run more than once for an
+     * owner if several threads resolve it at once, though every caller gets the same value.
+     *
+     * @param owner    the key of the state (never null)
+     * @param resolver computes the state from this plan
+     * @param <V>      the state type
+     * @return the state
+     */
+    public <V> V resolve(final Object owner, final Function<? super QueryPlan, ? extends V> resolver) {
+        return resolved.resolve(owner, resolver);
+    }
+
+    @Override
+    public String toString() {
+        return "QueryPlan{mode=" + mode + ", input='" + input + "', phrases=" + phrases
+                + (generation != null ? ", generation=" + generation.number() : "") + '}';
+    }
+
+    private static List<String> phrasesOf(final String rawInput) {
+        final var phrases = new ArrayList<String>();
+        var open = rawInput.indexOf('"');
+        while (open >= 0) {
+            final var close = rawInput.indexOf('"', open + 1);
+            if (close < 0) break;
+            final var phrase = rawInput.substring(open + 1, close).strip().toLowerCase();
+            if (!phrase.isEmpty()) phrases.add(phrase);
+            open = rawInput.indexOf('"', close + 1);
+        }
+        return List.copyOf(phrases);
+    }
+}
@@ -0,0 +1,73 @@
+package search.api.core;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * State derived from one immutable source and attached to it per owner — what
+ * {@link QueryPlan#resolve(Object, Function)} and
+ * {@link search.api.index.IndexGeneration#resolve(Object, Function)} keep.
+ *
+ * <p>Values are computed on first use and returned to every later caller for the same owner.
+ * Resolvers run outside any lock, so a slow one never blocks callers resolving other owners,
+ * and a resolver may resolve other owners' state itself. Two threads resolving the same owner
+ * at once may both run its resolver; the first value published wins and both get it.
+ *
+ * <p>Owners are compared by identity and are few — typically a handful of scorers — so the
+ * entries are one copy-on-write array, scanned on lookup.
+ *
+ * @param <S> the source type
+ */
+public final class ResolvedState<S> {
+
+    private static final Object[] NO_ENTRIES = {};
+    private static final Object   ABSENT     = new Object();
+
+    private final S source;
+    private final AtomicReference<Object[]> entries = new AtomicReference<>(NO_ENTRIES); // owner, value, …
+
+    /**
+     * Creates empty state for {@code source}.
+     *
+     * @param source what resolvers derive state from (never null)
+     */
+    public ResolvedState(final S source) {
+        this.source = Objects.requireNonNull(source, "source must not be null");
+    }
+
+    /**
+     * Returns {@code owner}'s state, computing it with {@code resolver} on first use.
+     *
+     * @param owner    the key of the state (never null)
+     * @param resolver computes the state from the source
+     * @param <V>      the state type
+     * @return the state
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V resolve(final Object owner, final Function<? super S, ? extends V> resolver) {
+        Objects.requireNonNull(owner, "owner must not be null");
+        final var known = lookup(entries.get(), owner);
+        if (known != ABSENT) return (V) known;
+
+        final V value = resolver.apply(source);
+        while (true) {
+            final var current = entries.get(); // re-read: the resolver, or another thread, may have added
+            final var raced   = lookup(current, owner);
+            if (raced != ABSENT) return (V) raced;
+            final var next = Arrays.copyOf(current, current.length + 2);
+            next[next.length - 2] = owner;
+            next[next.length - 1] = value;
+            if (entries.compareAndSet(current, next)) return value;
+        }
+    }
+
+    /** Returns the value stored for {@code owner}, or {@link #ABSENT}. */
+    private static Object lookup(final Object[] entries, final Object owner) {
+        for (var i = 0; i < entries.length; i += 2) {
+            if (entries[i] == owner) return entries[i + 1];
+        }
+        return ABSENT;
+    }
+}
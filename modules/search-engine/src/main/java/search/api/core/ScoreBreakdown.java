@@ -1,7 +1,9 @@
 package search.api.core;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -20,18 +22,27 @@ import java.util.Objects;
  * // bd.get("tagMatch") == 30
  * }</pre>
  *
- * <p>Attach to a {@link ScoredItem} only in debug builds to avoid memory overhead.
+ * <h2>Representation</h2>
+ * Components are held in parallel name and {@code int} arrays, without boxing; use
+ * {@link #componentCount()}, {@link #nameAt(int)} and {@link #pointsAt(int)} to walk them
+ * without allocating. Engines build breakdowns only in
+ * {@linkplain SearchContext#explain() explain mode}, for the returned items.
  *
  * @see ScoredItem
+ * @see search.api.algorithm.ScoringStrategy#explain(Object, SearchContext)
  */
 public final class ScoreBreakdown {
 
-    private final Map<String, Integer> components;
+    private final String[] names;
+    private final int[] points;
     private final int total;
 
-    private ScoreBreakdown(final Map<String, Integer> components) {
-        this.components = Collections.unmodifiableMap(new LinkedHashMap<>(components));
-        this.total = components.values().stream().mapToInt(Integer::intValue).sum();
+    private ScoreBreakdown(final String[] names, final int[] points) {
+        this.names  = names;
+        this.points = points;
+        var sum = 0;
+        for (final var p : points) sum += p;
+        this.total = sum;
     }
 
     /**
@@ -45,45 +56,85 @@ public final class ScoreBreakdown {
         if (namePointPairs.length % 2 != 0) {
             throw new IllegalArgumentException("Parameters must be (String name, int points) pairs");
         }
-        final var map = new LinkedHashMap<String, Integer>();
+        final var builder = new Builder(namePointPairs.length / 2);
         for (var i = 0; i < namePointPairs.length; i += 2) {
-            final var name   = Objects.toString(namePointPairs[i]);
-            final var points = (Integer) namePointPairs[i + 1];
-            map.merge(name, points, Integer::sum);
+            builder.merge(Objects.toString(namePointPairs[i]), (Integer) namePointPairs[i + 1]);
         }
-        return new ScoreBreakdown(map);
+        return builder.build();
     }
 
     /** Returns a mutable builder for this breakdown. */
-    public static Builder builder() { return new Builder(); }
+    public static Builder builder() { return new Builder(4); }
+
+    /**
+     * Returns a copy of this breakdown with {@code points} added to the named component
+     * (appended if absent). Adding 0 returns this breakdown.
+     */
+    public ScoreBreakdown plus(final String name, final int points) {
+        Objects.requireNonNull(name, "Component name must not be null");
+        if (points == 0) return this;
+        final var builder = new Builder(names.length + 1);
+        for (var i = 0; i < names.length; i++) builder.merge(names[i], this.points[i]);
+        return builder.merge(name, points).build();
+    }
 
     /** Returns the points contributed by the named component, or 0 if absent. */
     public int get(final String componentName) {
-        return components.getOrDefault(componentName, 0);
+        for (var i = 0; i < names.length; i++) {
+            if (names[i].equals(componentName)) return points[i];
+        }
+        return 0;
     }
 
     /** Returns all component names in insertion order. */
-    public Iterable<String> componentNames() { return components.keySet(); }
+    public Iterable<String> componentNames() { return List.of(names); }
+
+    /** Returns the number of components. */
+    public int componentCount() { return names.length; }
+
+    /** Returns the name of component {@code index} (0-based, insertion order). */
+    public String nameAt(final int index) { return names[index]; }
+
+    /** Returns the points of component {@code index} (0-based, insertion order). */
+    public int pointsAt(final int index) { return points[index]; }
 
     /** Returns the total relevance score (sum of all components). */
     public int total() { return total; }
 
-    /** Returns all components as an unmodifiable map. */
-    public Map<String, Integer> all() { return components; }
+    /** Returns all components as a new unmodifiable map, in insertion order. */
+    public Map<String, Integer> all() {
+        final var map = new LinkedHashMap<String, Integer>();
+        for (var i = 0; i < names.length; i++) map.put(names[i], points[i]);
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof ScoreBreakdown other
+                && Arrays.equals(names, other.names) && Arrays.equals(points, other.points);
+    }
+
+    @Override
+    public int hashCode() { return 31 * Arrays.hashCode(names) + Arrays.hashCode(points); }
 
     @Override
     public String toString() {
         final var sb = new StringBuilder("ScoreBreakdown{total=").append(total).append(": ");
-        components.forEach((name, pts) -> sb.append(name).append('=').append(pts).append(' '));
+        for (var i = 0; i < names.length; i++) sb.append(names[i]).append('=').append(points[i]).append(' ');
         return sb.append('}').toString();
     }
 
     /** Fluent builder for {@link ScoreBreakdown}. Thread-safe only if not shared across threads. */
     public static final class Builder {
 
-        private final LinkedHashMap<String, Integer> components = new LinkedHashMap<>();
+        private String[] names;
+        private int[] points;
+        private int size;
 
-        private Builder() {}
+        private Builder(final int capacity) {
+            this.names  = new String[Math.max(capacity, 1)];
+            this.points = new int[names.length];
+        }
 
         /**
          * Adds points to a named component (accumulated if the name is used twice).
@@ -94,20 +145,37 @@ public final class ScoreBreakdown {
          */
         public Builder add(final String name, final int points) {
             Objects.requireNonNull(name, "Component name must not be null");
-            if (points != 0) {
-                components.merge(name, points, Integer::sum);
-            }
-            return this;
+            return points != 0 ? merge(name, points) : this;
         }
 
         /** @return a new immutable {@link ScoreBreakdown} */
         public ScoreBreakdown build() {
-            return new ScoreBreakdown(components);
+            return new ScoreBreakdown(Arrays.copyOf(names, size), Arrays.copyOf(points, size));
         }
 
         /** Returns the current accumulated total. */
         public int currentTotal() {
-            return components.values().stream().mapToInt(Integer::intValue).sum();
+            var sum = 0;
+            for (var i = 0; i < size; i++) sum += points[i];
+            return sum;
+        }
+
+        /** Adds to an existing component — breakdowns have a handful, so a scan beats hashing. */
+        private Builder merge(final String name, final int delta) {
+            for (var i = 0; i < size; i++) {
+                if (names[i].equals(name)) {
+                    points[i] += delta;
+                    return this;
+                }
+            }
+            if (size == names.length) {
+                names  = Arrays.copyOf(names, size * 2);
+                points = Arrays.copyOf(points, size * 2);
+            }
+            names[size]  = name;
+            points[size] = delta;
+            size++;
+            return this;
         }
     }
 }
@@ -2,12 +2,15 @@ package search.api.core;
 
 import search.api.classify.SearchMode;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
 
 /**
  * Encapsulates everything a {@link SearchEngine} needs to execute a search:
- * the raw user input, an optional forced mode, typed filter parameters, and a result limit.
+ * the raw user input, an optional forced mode, typed filter parameters, a result limit, an
+ * optional deadline, and whether scores should be explained.
  *
  * <h2>Building a context</h2>
  * <pre>{@code
@@ -20,6 +23,12 @@ import java.util.Objects;
  * // Full control with filters
  * new SearchContext("design patterns", SearchMode.VAGUE,
  *                   Map.of("difficulty", "INTERMEDIATE", "officialOnly", true), 20)
+ *
+ * // Give up after 200 ms, returning whatever was ranked by then
+ * SearchContext.of("java streams").withTimeout(Duration.ofMillis(200))
+ *
+ * // Attach a ScoreBreakdown to every returned item
+ * SearchContext.of("java streams").withExplain(true)
  * }</pre>
  *
  * <h2>Filters map</h2>
@@ -27,16 +36,31 @@ import java.util.Objects;
  * read them via {@link #getFilter(String, Class)}. The key/type contract between
  * the engine and its filters is established per-domain.
  *
+ * <h2>Deadline</h2>
+ * When a deadline is set, engines that support it stop optional work once it has passed and
+ * return the best results found so far, flagged {@linkplain SearchResult#truncated() truncated}.
+ * The deadline is not part of the query's identity: it is ignored by
+ * {@link search.api.cache.CacheKey}, and truncated results are never cached.
+ *
+ * <h2>Explain mode</h2>
+ * With {@code explain} set, engines attach a {@link ScoreBreakdown} to each returned
+ * {@link ScoredItem}. Breakdowns are computed for the returned items only, after ranking, so
+ * explaining costs time proportional to the result count, not the corpus.
+ *
  * @param rawInput    the original user query (never null)
  * @param forcedMode  when non-null, skips auto-classification
  * @param filters     optional filter parameters; immutable copy is made
  * @param maxResults  the result-count ceiling (clamped to &gt; 0)
+ * @param deadline    when non-null, the instant after which the search should stop early
+ * @param explain     {@code true} to attach a {@link ScoreBreakdown} to every returned item
  */
 public record SearchContext(
         String rawInput,
         SearchMode forcedMode,
         Map<String, Object> filters,
-        int maxResults
+        int maxResults,
+        Instant deadline,
+        boolean explain
 ) {
 
     /** Default maximum results when none are specified. */
@@ -51,6 +75,18 @@ public record SearchContext(
         }
     }
 
+    /** Creates a context without a deadline. */
+    public SearchContext(final String rawInput, final SearchMode forcedMode,
+                         final Map<String, Object> filters, final int maxResults) {
+        this(rawInput, forcedMode, filters, maxResults, null, false);
+    }
+
+    /** Creates a context without explain mode. */
+    public SearchContext(final String rawInput, final SearchMode forcedMode,
+                         final Map<String, Object> filters, final int maxResults, final Instant deadline) {
+        this(rawInput, forcedMode, filters, maxResults, deadline, false);
+    }
+
     // ─── Factory shortcuts ──────────────────────────────────────────
 
     /** Creates a context with auto-classification and default limits. */
@@ -74,6 +110,23 @@ public record SearchContext(
         return new SearchContext(rawInput, null, Map.of(), maxResults);
     }
 
+    /** Returns a copy of this context with the given deadline ({@code null} = none). */
+    public SearchContext withDeadline(final Instant deadline) {
+        return new SearchContext(rawInput, forcedMode, filters, maxResults, deadline, explain);
+    }
+
+    /** Returns a copy of this context whose deadline is {@code timeout} from now. */
+    public SearchContext withTimeout(final Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout must not be null");
+        if (timeout.isNegative()) throw new IllegalArgumentException("timeout must not be negative, got: " + timeout);
+        return withDeadline(Instant.now().plus(timeout));
+    }
+
+    /** Returns a copy of this context with explain mode switched on or off. */
+    public SearchContext withExplain(final boolean explain) {
+        return new SearchContext(rawInput, forcedMode, filters, maxResults, deadline, explain);
+    }
+
     // ─── Convenience accessors ──────────────────────────────────────
 
     /**
@@ -91,6 +144,11 @@ public record SearchContext(
         return forcedMode != null;
     }
 
+    /** Returns {@code true} if a deadline is set. */
+    public boolean hasDeadline() {
+        return deadline != null;
+    }
+
     /**
      * Retrieves a typed filter value by key, or {@code null} if absent or wrong type.
      *
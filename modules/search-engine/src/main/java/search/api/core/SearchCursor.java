@@ -0,0 +1,57 @@
+package search.api.core;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Continuation token for cursor-based paging: where the previous page of a query ended.
+ *
+ * <p>Obtain cursors from {@link SearchPage#next()} and pass them back to
+ * {@link SearchEngine#searchAfter(SearchCursor)} of the engine that issued them; treat the
+ * components as opaque. A cursor is an immutable value holding no engine resources — it may be
+ * kept, shared across threads, or dropped freely.
+ *
+ * <h2>Consistency</h2>
+ * The cursor records the last score returned, the results returned so far at that score, and
+ * the {@linkplain search.api.index.SearchIndex#version() index version} its page was ranked
+ * against. While the index is unchanged, pages continue exactly where the previous one ended.
+ * After a mutation the engine re-ranks and resumes strictly after the cursor: no result ranked
+ * above the last score or already returned at it is repeated, and no unreturned result tied at
+ * it is skipped, however the ties are ordered now.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * SearchPage<Article> page = engine.searchPage(SearchContext.of("java streams", 20));
+ * while (page.hasNext()) {
+ *     page = engine.searchAfter(page.next());
+ * }
+ * }</pre>
+ *
+ * @param context        the effective context of the query being paged; its result limit is the page size
+ * @param offset         the position in the ranking where the next page starts (≥ 1)
+ * @param lastScore      the score of the last result returned
+ * @param lastScoreItems the documents returned so far that scored {@code lastScore}
+ * @param indexVersion   the index version the previous page was ranked against
+ *
+ * @see SearchPage
+ */
+public record SearchCursor(SearchContext context, int offset, int lastScore, Set<?> lastScoreItems,
+                           long indexVersion) {
+
+    /** Validates the components. */
+    public SearchCursor {
+        Objects.requireNonNull(context, "context must not be null");
+        if (offset < 1) throw new IllegalArgumentException("offset must be ≥ 1, got: " + offset);
+        lastScoreItems = Set.copyOf(Objects.requireNonNull(lastScoreItems, "lastScoreItems must not be null"));
+    }
+
+    /**
+     * Returns a copy of this cursor whose next page runs under {@code deadline} ({@code null} =
+     * none) — the deadline of the first page usually has passed by the time later pages are
+     * requested.
+     */
+    public SearchCursor withDeadline(final Instant deadline) {
+        return new SearchCursor(context.withDeadline(deadline), offset, lastScore, lastScoreItems, indexVersion);
+    }
+}
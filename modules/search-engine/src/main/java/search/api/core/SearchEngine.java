@@ -1,5 +1,13 @@
 package search.api.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
 /**
  * Top-level contract for the pluggable search engine.
  *
@@ -47,4 +55,82 @@ public interface SearchEngine<T> {
     default SearchResult<T> search(final String rawInput) {
         return search(SearchContext.of(rawInput));
     }
+
+    /**
+     * Executes a search on {@code executor}, without blocking the caller.
+     *
+     * <p>The default implementation runs {@link #search(SearchContext)} as a task; cancelling
+     * the future does not stop it. Implementations may honour cancellation and the context's
+     * {@linkplain SearchContext#deadline() deadline} by stopping early with a
+     * {@linkplain SearchResult#truncated() truncated} best-effort result.
+     *
+     * @param context  the search context (never null)
+     * @param executor runs the search (never null)
+     * @return a future completed with the result, or exceptionally if the search fails
+     */
+    default CompletableFuture<SearchResult<T>> searchAsync(final SearchContext context, final Executor executor) {
+        Objects.requireNonNull(context,  "context must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+        return CompletableFuture.supplyAsync(() -> search(context), executor);
+    }
+
+    /**
+     * Executes a batch of searches, e.g., when replaying an evaluation query set.
+     *
+     * <p>The default implementation calls {@link #search(SearchContext)} once per context.
+     * Implementations may share query analysis, corpus passes and threads across the batch,
+     * but each result must equal what {@code search} returns for its context.
+     *
+     * @param contexts the search contexts (never null, no null elements)
+     * @return an unmodifiable list with one result per context, in input order
+     */
+    default List<SearchResult<T>> searchAll(final List<SearchContext> contexts) {
+        Objects.requireNonNull(contexts, "contexts must not be null");
+        final var results = new ArrayList<SearchResult<T>>(contexts.size());
+        for (final var context : contexts) results.add(search(context));
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Returns the first page of a paged search; its size is the context's result limit.
+     *
+     * <p>The default implementation returns {@link #search(SearchContext)} as a single page
+     * without a next cursor. Implementations supporting deeper pages return a
+     * {@linkplain SearchPage#next() cursor} for {@link #searchAfter(SearchCursor)}.
+     *
+     * @param context the search context (never null)
+     * @return the first page (never null)
+     */
+    default SearchPage<T> searchPage(final SearchContext context) {
+        return new SearchPage<>(search(context), null);
+    }
+
+    /**
+     * Returns the page following {@code cursor}.
+     *
+     * <p>The default implementation issues no cursors, so it has none to continue.
+     *
+     * @param cursor a cursor obtained from a page of this engine (never null)
+     * @return the next page (never null); empty if the results ran out
+     * @throws UnsupportedOperationException if this engine does not support cursor paging
+     */
+    default SearchPage<T> searchAfter(final SearchCursor cursor) {
+        Objects.requireNonNull(cursor, "cursor must not be null");
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support cursor paging");
+    }
+
+    /**
+     * Streams every result of a query, highest-first. The first page is fetched on call, later
+     * pages lazily as the stream is consumed — {@code stream(ctx).limit(100)} stops paging
+     * after the page holding the 100th result. Use {@link Stream#iterator()} to pull results one by one.
+     *
+     * @param context the search context (never null); its result limit is the page size
+     * @return a sequential, lazily paged stream of results
+     */
+    default Stream<ScoredItem<T>> stream(final SearchContext context) {
+        Objects.requireNonNull(context, "context must not be null");
+        return Stream.iterate(searchPage(context), Objects::nonNull,
+                        page -> page.hasNext() ? searchAfter(page.next()) : null)
+                .flatMap(page -> page.items().stream());
+    }
 }
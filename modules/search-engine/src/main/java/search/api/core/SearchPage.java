@@ -0,0 +1,31 @@
+package search.api.core;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One page of a paged search: the results of the page and the cursor to the next one.
+ *
+ * <p>The {@link #result()} holds only this page's items, highest-first; its summary describes
+ * the page. {@link #next()} is {@code null} on the last page.
+ *
+ * @param result the page's results (never null)
+ * @param next   the cursor to the following page, or {@code null} if there is none
+ * @param <T>    the document type
+ *
+ * @see SearchEngine#searchPage(SearchContext)
+ * @see SearchCursor
+ */
+public record SearchPage<T>(SearchResult<T> result, SearchCursor next) {
+
+    /** Validates the result. */
+    public SearchPage {
+        Objects.requireNonNull(result, "result must not be null");
+    }
+
+    /** Returns {@code true} if another page follows. */
+    public boolean hasNext() { return next != null; }
+
+    /** Returns this page's scored items, highest-first. */
+    public List<ScoredItem<T>> items() { return result.items(); }
+}
@@ -1,6 +1,7 @@
 package search.api.core;
 
 import search.api.classify.SearchMode;
+import search.api.facet.FacetCounts;
 
 import java.util.List;
 import java.util.Objects;
@@ -14,6 +15,11 @@ import java.util.Objects;
  *   <li>A score-ordered list of {@link ScoredItem}s.</li>
  *   <li>Follow-up suggestions ("did you mean?", related topics, next steps).</li>
  *   <li>A human-readable {@code summary} sentence for display.</li>
+ *   <li>A {@code truncated} flag, set when the search stopped early at its
+ *       {@linkplain SearchContext#deadline() deadline} or was cancelled — the items are then
+ *       the best found so far, not necessarily the best overall.</li>
+ *   <li>{@link FacetCounts} for each facet configured on the engine — candidate counts per
+ *       category, type, etc. — empty when none are configured.</li>
  * </ul>
  *
  * <h2>Consuming results</h2>
@@ -32,13 +38,17 @@ import java.util.Objects;
  * @param items          scored documents, highest-first; immutable
  * @param suggestions    follow-up hints; immutable
  * @param summary        human-readable one-liner
+ * @param truncated      {@code true} if the search stopped before examining every candidate
+ * @param facets         candidate counts per facet, in configuration order; immutable
  * @param <T>            the document type
  */
 public record SearchResult<T>(
         SearchMode classifiedMode,
         List<ScoredItem<T>> items,
         List<String> suggestions,
-        String summary
+        String summary,
+        boolean truncated,
+        List<FacetCounts> facets
 ) {
 
     /** Validates and defensively copies all mutable collections. */
@@ -47,8 +57,22 @@ public record SearchResult<T>(
         Objects.requireNonNull(items,          "items must not be null");
         Objects.requireNonNull(suggestions,    "suggestions must not be null");
         Objects.requireNonNull(summary,        "summary must not be null");
+        Objects.requireNonNull(facets,         "facets must not be null");
         items       = List.copyOf(items);
         suggestions = List.copyOf(suggestions);
+        facets      = List.copyOf(facets);
+    }
+
+    /** Creates a complete (not truncated) result without facets. */
+    public SearchResult(final SearchMode classifiedMode, final List<ScoredItem<T>> items,
+                        final List<String> suggestions, final String summary) {
+        this(classifiedMode, items, suggestions, summary, false);
+    }
+
+    /** Creates a result without facets. */
+    public SearchResult(final SearchMode classifiedMode, final List<ScoredItem<T>> items,
+                        final List<String> suggestions, final String summary, final boolean truncated) {
+        this(classifiedMode, items, suggestions, summary, truncated, List.of());
     }
 
     // ─── Factory shortcuts ──────────────────────────────────────────
@@ -80,6 +104,16 @@ public record SearchResult<T>(
         return new SearchResult<>(mode, List.of(), suggestions, summary);
     }
 
+    /** Returns a copy of this result flagged as truncated. */
+    public SearchResult<T> asTruncated() {
+        return truncated ? this : new SearchResult<>(classifiedMode, items, suggestions, summary, true, facets);
+    }
+
+    /** Returns a copy of this result carrying {@code facets}. */
+    public SearchResult<T> withFacets(final List<FacetCounts> facets) {
+        return new SearchResult<>(classifiedMode, items, suggestions, summary, truncated, facets);
+    }
+
     // ─── Query methods ──────────────────────────────────────────────
 
     /** Returns {@code true} if no documents were found. */
@@ -88,6 +122,14 @@ public record SearchResult<T>(
     /** Returns the number of matched documents. */
     public int count() { return items.size(); }
 
+    /** Returns the counts of the named facet, or {@code null} if it is not configured. */
+    public FacetCounts facet(final String name) {
+        for (final var f : facets) {
+            if (f.name().equals(name)) return f;
+        }
+        return null;
+    }
+
     /** Returns the highest relevance score, or 0 if empty. */
     public int topScore() {
         return items.stream().mapToInt(ScoredItem::score).max().orElse(0);
@@ -0,0 +1,37 @@
+package search.api.facet;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A named dimension to count search candidates by — category, type, difficulty.
+ *
+ * <p>The extractor returns a document's value for the facet. A {@link java.util.Collection}
+ * value counts the document once under each distinct element (e.g., a list of tags); a
+ * {@code null} value leaves the document uncounted. Values are compared with
+ * {@code equals}, so enums, strings and boxed primitives work as-is. The extractor must be a
+ * pure, thread-safe function of the document.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * var config = SearchEngineConfig.<Article>builder()
+ *         .facet("category",   Article::category)
+ *         .facet("difficulty", Article::difficulty)
+ *         .build();
+ * }</pre>
+ *
+ * @param name      the facet name, unique per engine (never blank)
+ * @param extractor the document → value function (never null)
+ * @param <T>       the document type
+ *
+ * @see FacetCounts
+ */
+public record Facet<T>(String name, Function<? super T, ?> extractor) {
+
+    /** Validates the components. */
+    public Facet {
+        Objects.requireNonNull(name,      "name must not be null");
+        Objects.requireNonNull(extractor, "extractor must not be null");
+        if (name.isBlank()) throw new IllegalArgumentException("name must not be blank");
+    }
+}
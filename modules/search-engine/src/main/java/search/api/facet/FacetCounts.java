@@ -0,0 +1,84 @@
+package search.api.facet;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Document counts per value of one {@link Facet}, for the candidates of a search.
+ *
+ * <p>Values are ordered by descending count; equal counts are ordered by the values' string
+ * form, so the order does not depend on the order documents were counted in.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * SearchResult<Article> result = engine.search("java concurrency");
+ * for (FacetCounts.Value v : result.facet("category").values()) {
+ *     System.out.printf("%s (%d)%n", v.value(), v.count());
+ * }
+ * }</pre>
+ *
+ * @param name   the facet name
+ * @param values the counted values, highest count first (immutable)
+ *
+ * @see search.api.core.SearchResult#facets()
+ */
+public record FacetCounts(String name, List<Value> values) {
+
+    /** Orders values by descending count, then by string form. */
+    private static final Comparator<Value> ORDER = Comparator.comparingInt(Value::count).reversed()
+            .thenComparing(v -> String.valueOf(v.value()));
+
+    /**
+     * One facet value and the number of candidates having it.
+     *
+     * @param value the facet value (never null)
+     * @param count the number of candidates (&gt; 0)
+     */
+    public record Value(Object value, int count) {
+
+        /** Validates the components. */
+        public Value {
+            Objects.requireNonNull(value, "value must not be null");
+            if (count < 1) throw new IllegalArgumentException("count must be ≥ 1, got: " + count);
+        }
+    }
+
+    /** Validates, copies and orders the values. */
+    public FacetCounts {
+        Objects.requireNonNull(name, "name must not be null");
+        final var sorted = new ArrayList<>(Objects.requireNonNull(values, "values must not be null"));
+        sorted.sort(ORDER);
+        values = List.copyOf(sorted);
+    }
+
+    /** Returns the count of {@code value}, or 0 if no candidate has it. */
+    public int count(final Object value) {
+        for (final var v : values) {
+            if (v.value().equals(value)) return v.count();
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the counts of both facets added up — e.g., to combine the counts of several
+     * shards.
+     *
+     * @param other counts of the same facet
+     * @return the combined counts
+     * @throws IllegalArgumentException if {@code other} counts a different facet
+     */
+    public FacetCounts plus(final FacetCounts other) {
+        if (!name.equals(other.name)) {
+            throw new IllegalArgumentException("Cannot add facet '" + other.name + "' to '" + name + "'");
+        }
+        final var sums = new LinkedHashMap<Object, Integer>();
+        for (final var v : values)       sums.merge(v.value(), v.count(), Integer::sum);
+        for (final var v : other.values) sums.merge(v.value(), v.count(), Integer::sum);
+        final var merged = new ArrayList<Value>(sums.size());
+        sums.forEach((value, count) -> merged.add(new Value(value, count)));
+        return new FacetCounts(name, merged);
+    }
+}
@@ -0,0 +1,162 @@
+package search.api.filter;
+
+import search.api.core.SearchContext;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A {@link SearchFilter} whose decision depends only on a per-document <em>key</em> — a
+ * category, a type, an "is official" flag — and a set of accepted key values.
+ *
+ * <p>Because the key of a document does not change between queries, the engine can bucket
+ * the corpus by key once and answer the filter with a precomputed bitmap instead of calling
+ * the predicate per document (see {@link search.engine.filter.FilterIndex}). Indexable
+ * members of a {@link search.engine.filter.FilterChain} are combined with word-level
+ * AND / OR / NOT operations.
+ *
+ * <h2>Contract</h2>
+ * <ul>
+ *   <li>{@link #keyOf(Object)} must be a pure function of the document; a {@code null} key
+ *       never passes.</li>
+ *   <li>Filters sharing an {@link #indexKey()} must share the same {@code keyOf} function —
+ *       the buckets are computed once per index key.</li>
+ *   <li>{@link #acceptedKeys(SearchContext)} may depend on the context (e.g., a value read
+ *       from {@link SearchContext#filters()}); {@code null} means "no restriction".</li>
+ * </ul>
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * SearchFilter<Article> filter = FilterChain.of(
+ *         IndexableFilter.when("official", Article::isOfficial),
+ *         IndexableFilter.anyOf("category", Article::category, Set.of(JAVA, KOTLIN)),
+ *         IndexableFilter.fromContext("type", Article::type, "type", ResourceType.class),
+ *         notArchived                               // ordinary lambda: evaluated per document
+ * );
+ * }</pre>
+ *
+ * @param <T> the document type
+ *
+ * @see search.engine.filter.FilterIndex
+ */
+public interface IndexableFilter<T> extends SearchFilter<T> {
+
+    /**
+     * Returns the name of the document key this filter reads — identifies the bucketing shared
+     * by every filter that uses the same {@link #keyOf(Object)} function.
+     */
+    String indexKey();
+
+    /**
+     * Extracts the key of a document.
+     *
+     * @param item the document (never null)
+     * @return the key, or {@code null} if the document has none
+     */
+    Object keyOf(T item);
+
+    /**
+     * Returns the key values that pass for this query.
+     *
+     * @param context the search context (never null)
+     * @return the accepted keys, or {@code null} when every document passes
+     */
+    Set<?> acceptedKeys(SearchContext context);
+
+    @Override
+    default boolean test(final T item, final SearchContext context) {
+        final var accepted = acceptedKeys(context);
+        if (accepted == null) return true;
+        final var key = keyOf(item);
+        return key != null && accepted.contains(key);
+    }
+
+    // ─── Factory filters ───────────────────────────────────────────
+
+    /**
+     * Passes documents whose key equals {@code value}.
+     *
+     * @param indexKey  the key name (never null/blank)
+     * @param extractor the key function (never null)
+     * @param value     the accepted key value (never null)
+     */
+    static <T, K> IndexableFilter<T> equalTo(final String indexKey,
+                                             final Function<? super T, ? extends K> extractor,
+                                             final K value) {
+        return anyOf(indexKey, extractor, Set.of(Objects.requireNonNull(value, "value must not be null")));
+    }
+
+    /**
+     * Passes documents whose key is one of {@code values}.
+     *
+     * @param indexKey  the key name (never null/blank)
+     * @param extractor the key function (never null)
+     * @param values    the accepted key values (never null)
+     */
+    static <T, K> IndexableFilter<T> anyOf(final String indexKey,
+                                           final Function<? super T, ? extends K> extractor,
+                                           final Collection<? extends K> values) {
+        Objects.requireNonNull(values, "values must not be null");
+        final Set<?> accepted = new HashSet<>(values);
+        return of(indexKey, extractor, ctx -> accepted);
+    }
+
+    /**
+     * Passes documents for which {@code predicate} holds; the predicate result is the key.
+     *
+     * @param indexKey  the key name (never null/blank)
+     * @param predicate a static document property (never null)
+     */
+    static <T> IndexableFilter<T> when(final String indexKey, final Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate, "predicate must not be null");
+        return equalTo(indexKey, predicate::test, Boolean.TRUE);
+    }
+
+    /**
+     * Passes documents whose key equals the context filter {@code filterName}; passes every
+     * document when the context has no such filter.
+     *
+     * @param indexKey   the key name (never null/blank)
+     * @param extractor  the key function (never null)
+     * @param filterName the {@link SearchContext#filters()} entry to read
+     * @param type       the expected type of the filter value
+     */
+    static <T, K> IndexableFilter<T> fromContext(final String indexKey,
+                                                 final Function<? super T, ? extends K> extractor,
+                                                 final String filterName,
+                                                 final Class<K> type) {
+        Objects.requireNonNull(filterName, "filterName must not be null");
+        Objects.requireNonNull(type,       "type must not be null");
+        return of(indexKey, extractor, ctx -> {
+            final var wanted = ctx.getFilter(filterName, type);
+            return wanted == null ? null : Set.of(wanted);
+        });
+    }
+
+    /**
+     * General factory.
+     *
+     * @param indexKey  the key name (never null/blank)
+     * @param extractor the key function (never null)
+     * @param accepted  computes the accepted keys per query ({@code null} result = no restriction)
+     */
+    static <T> IndexableFilter<T> of(final String indexKey,
+                                     final Function<? super T, ?> extractor,
+                                     final Function<SearchContext, Set<?>> accepted) {
+        Objects.requireNonNull(indexKey,  "indexKey must not be null");
+        Objects.requireNonNull(extractor, "extractor must not be null");
+        Objects.requireNonNull(accepted,  "accepted must not be null");
+        if (indexKey.isBlank()) throw new IllegalArgumentException("indexKey must not be blank");
+
+        return new IndexableFilter<>() {
+            @Override public String indexKey()                              { return indexKey; }
+            @Override public Object keyOf(final T item)                     { return extractor.apply(item); }
+            @Override public Set<?> acceptedKeys(final SearchContext context) { return accepted.apply(context); }
+            @Override public String toString()                              { return "IndexableFilter[" + indexKey + "]"; }
+        };
+    }
+}
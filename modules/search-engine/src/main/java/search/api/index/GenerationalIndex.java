@@ -0,0 +1,29 @@
+package search.api.index;
+
+/**
+ * A {@link SearchIndex} that publishes its contents as immutable {@link IndexGeneration}s.
+ *
+ * <p>Writers commit mutations in batches; each commit replaces the current generation in one
+ * atomic step. Readers take {@link #generation()} once and read only from it, so they never
+ * see a half-applied batch and need no lock. The inherited {@link #all()}, {@link #findById},
+ * {@link #size()} and {@link #version()} read the current generation, each call on its own —
+ * callers that make several calls should pin a generation instead.
+ *
+ * <p>{@link search.engine.core.ConfigurableSearchEngine} pins one generation per search and
+ * exposes it to scorers through {@link search.api.core.QueryPlan#generation()}.
+ *
+ * @param <T> the document type
+ *
+ * @see IndexGeneration
+ * @see search.engine.index.CopyOnWriteIndex
+ */
+public interface GenerationalIndex<T> extends SearchIndex<T> {
+
+    /**
+     * Returns the current generation. Its {@link IndexGeneration#number()} equals
+     * {@link #version()} at the time of the call.
+     *
+     * @return the latest committed generation (never null)
+     */
+    IndexGeneration<T> generation();
+}
@@ -0,0 +1,193 @@
+package search.api.index;
+
+import search.api.core.ResolvedState;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * One immutable generation of a {@link GenerationalIndex}: the documents exactly as one
+ * committed batch of mutations left them.
+ *
+ * <p>A generation never changes once published, so a search that pins it at the start sees
+ * the same documents in every phase — filtering, scoring, facet counting, caching — however
+ * many writers commit meanwhile, without taking a lock. The next commit publishes a new
+ * generation with a higher {@link #number()}.
+ *
+ * <h2>Derived state</h2>
+ * State computed from the documents — corpus statistics, secondary indexes — is attached with
+ * {@link #resolve(Object, Function)}: computed on first use and shared by every later caller for
+ * the same owner, so it is computed once per generation and always matches its documents.
+ * See {@link ResolvedState} for how concurrent first uses are resolved.
+ *
+ * <h2>Changes</h2>
+ * A generation published with {@link #next(Map, List, List)} remembers which documents its
+ * commit removed and added, and so do its recent predecessors, so derived state can be carried
+ * forward from an earlier generation with {@link #changesSince(long)} instead of recomputed from
+ * every document. Only about as many changed documents as the generation holds are kept.
+ *
+ * <p>Immutable apart from resolved state; thread-safe.
+ *
+ * @param <T> the document type
+ *
+ * @see GenerationalIndex
+ * @see search.api.core.QueryPlan#generation()
+ */
+public final class IndexGeneration<T> {
+
+    /** Changed documents remembered at least, however small the generation. */
+    private static final int MIN_RETAINED_CHANGES = 64;
+
+    private final long number;
+    private final Map<String, T> byId;
+    private final List<T> documents;
+    private final Commit<T> commit; // null when the generation's history is unknown
+    private final ResolvedState<IndexGeneration<T>> resolved = new ResolvedState<>(this);
+
+    private IndexGeneration(final long number, final Map<String, T> byId, final Commit<T> commit) {
+        this.number    = number;
+        this.byId      = Collections.unmodifiableMap(byId);
+        this.documents = List.copyOf(byId.values());
+        this.commit    = commit;
+    }
+
+    /**
+     * Creates a generation over {@code byId}, which the generation takes over: the caller must
+     * not modify the map afterwards. Documents are listed in the map's iteration order.
+     *
+     * @param number the generation number (≥ 0), increasing with every commit
+     * @param byId   the documents by ID (never null)
+     * @param <T>    the document type
+     * @return a new generation
+     */
+    public static <T> IndexGeneration<T> of(final long number, final Map<String, T> byId) {
+        if (number < 0) throw new IllegalArgumentException("number must be ≥ 0, got: " + number);
+        return new IndexGeneration<>(number, Objects.requireNonNull(byId, "byId must not be null"), null);
+    }
+
+    /**
+     * Creates the generation after this one, over {@code byId} (taken over as by
+     * {@link #of(long, Map)}), recording the commit that produced it: the documents it removed
+     * and added, in commit order. A replaced document is both removed and added.
+     *
+     * @param byId    the documents by ID (never null)
+     * @param removed the documents the commit removed (never null)
+     * @param added   the documents the commit added (never null)
+     * @return a new generation numbered {@code number() + 1}
+     */
+    public IndexGeneration<T> next(final Map<String, T> byId, final List<T> removed, final List<T> added) {
+        Objects.requireNonNull(byId, "byId must not be null");
+        final var head = new Commit<>(number + 1, List.copyOf(removed), List.copyOf(added), commit);
+        // Forget the oldest commits once they describe more documents than the generation holds
+        final var retained = Math.max(byId.size(), MIN_RETAINED_CHANGES);
+        var changed = head.size();
+        for (var node = head; node.previous != null; node = node.previous) {
+            changed += node.previous.size();
+            if (changed > retained) {
+                node.previous = null;
+                break;
+            }
+        }
+        return new IndexGeneration<>(number + 1, byId, head);
+    }
+
+    /** Returns the generation number — the index {@link SearchIndex#version() version} it was published as. */
+    public long number() { return number; }
+
+    /** Returns the documents of this generation as an unmodifiable, random-access list. */
+    public List<T> all() { return documents; }
+
+    /** Looks up a document of this generation by ID. */
+    public Optional<T> findById(final String id) {
+        return Optional.ofNullable(id != null ? byId.get(id) : null);
+    }
+
+    /** Returns the documents of this generation by ID, as an unmodifiable map in {@link #all()} order. */
+    public Map<String, T> asMap() { return byId; }
+
+    /** Returns the number of documents. */
+    public int size() { return documents.size(); }
+
+    /**
+     * Returns the documents removed and added between generation {@code number} and this one,
+     * or empty if that history is no longer known — {@code number} is newer than this
+     * generation, or older than the commits it still remembers.
+     *
+     * @param number an earlier generation number
+     * @return the changes since that generation, in commit order
+     */
+    public Optional<Changes<T>> changesSince(final long number) {
+        if (number == this.number) return Optional.of(new Changes<>(List.of(), List.of()));
+        if (number > this.number) return Optional.empty();
+        final var commits = new ArrayList<Commit<T>>();
+        for (var node = commit; node != null && node.number > number; node = node.previous) {
+            commits.add(node);
+        }
+        if (commits.isEmpty() || commits.getLast().number != number + 1) return Optional.empty();
+
+        final var removed = new ArrayList<T>();
+        final var added   = new ArrayList<T>();
+        for (final var node : commits.reversed()) {
+            removed.addAll(node.removed);
+            added.addAll(node.added);
+        }
+        return Optional.of(new Changes<>(Collections.unmodifiableList(removed), Collections.unmodifiableList(added)));
+    }
+
+    /**
+     * Returns {@code owner}'s state for this generation, computing it with {@code resolver} on
+     * first use. Owners are compared by identity — typically the scorer itself. Resolvers run
+     * without a lock held, and may run more than once for an owner if several threads resolve
+     * it at once, though every caller gets the same value.
+     *
+     * @param owner    the key of the state (never null)
+     * @param resolver computes the state from this generation
+     * @param <V>      the state type
+     * @return the state
+     */
+    public <V> V resolve(final Object owner, final Function<? super IndexGeneration<T>, ? extends V> resolver) {
+        return resolved.resolve(owner, resolver);
+    }
+
+    @Override
+    public String toString() {
+        return "IndexGeneration{number=" + number + ", documents=" + documents.size() + '}';
+    }
+
+    /**
+     * The documents removed and added across one or more commits. A document added and then
+     * removed within the range appears in both lists.
+     *
+     * @param removed the removed documents, in commit order
+     * @param added   the added documents, in commit order
+     * @param <T>     the document type
+     */
+    public record Changes<T>(List<T> removed, List<T> added) {
+
+        /** Returns the number of changed documents: removals plus additions. */
+        public int size() { return removed.size() + added.size(); }
+    }
+
+    /** One commit's removals and additions, linked to the commit before it while that is retained. */
+    private static final class Commit<T> {
+
+        final long number;
+        final List<T> removed;
+        final List<T> added;
+        volatile Commit<T> previous;
+
+        Commit(final long number, final List<T> removed, final List<T> added, final Commit<T> previous) {
+            this.number   = number;
+            this.removed  = removed;
+            this.added    = added;
+            this.previous = previous;
+        }
+
+        int size() { return removed.size() + added.size(); }
+    }
+}
@@ -0,0 +1,44 @@
+package search.api.index;
+
+/**
+ * Callback notified of every effective mutation of an {@link ObservableIndex}.
+ *
+ * <p>Listeners let derived data — corpus statistics, caches, secondary indexes — follow the
+ * index incrementally instead of being recomputed over the whole corpus. Replacing a document
+ * is reported as {@link #onRemove} of the old item followed by {@link #onAdd} of the new one,
+ * and clearing an index as one {@code onRemove} per document.
+ *
+ * <p>Listeners are called synchronously on the mutating thread, after the index has applied
+ * the change and outside any index lock. They must be fast, thread-safe, and must not throw.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * index.addListener(new IndexListener<>() {
+ *     public void onAdd(String id, Article item)    { stats.add(item); }
+ *     public void onRemove(String id, Article item) { stats.remove(item); }
+ * });
+ * }</pre>
+ *
+ * @param <T> the document type
+ *
+ * @see ObservableIndex#addListener(IndexListener)
+ * @see search.engine.algorithm.Bm25Statistics
+ */
+public interface IndexListener<T> {
+
+    /**
+     * Called after a document was added.
+     *
+     * @param id   the document identifier
+     * @param item the added document
+     */
+    void onAdd(String id, T item);
+
+    /**
+     * Called after a document was removed or replaced.
+     *
+     * @param id   the document identifier
+     * @param item the document that left the index
+     */
+    void onRemove(String id, T item);
+}
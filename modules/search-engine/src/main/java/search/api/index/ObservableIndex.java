@@ -0,0 +1,34 @@
+package search.api.index;
+
+/**
+ * A {@link SearchIndex} that reports its own mutations to registered {@link IndexListener}s.
+ *
+ * <p>Derived data that follows an index incrementally — corpus statistics, caches, secondary
+ * indexes — needs every effective add, replace, remove and clear. An index backed by an
+ * external store cannot observe those, so it implements only {@code SearchIndex}, and code
+ * that must follow an index takes an {@code ObservableIndex} instead of failing at run time.
+ *
+ * @param <T> the document type
+ *
+ * @see IndexListener
+ * @see search.engine.algorithm.Bm25Statistics#attach(ObservableIndex)
+ * @see search.engine.index.InMemoryIndex
+ * @see search.engine.index.InvertedIndex
+ * @see search.engine.index.CopyOnWriteIndex
+ */
+public interface ObservableIndex<T> extends SearchIndex<T> {
+
+    /**
+     * Registers a listener notified of every subsequent effective mutation.
+     *
+     * @param listener the listener (never null)
+     */
+    void addListener(IndexListener<? super T> listener);
+
+    /**
+     * Unregisters a listener added with {@link #addListener(IndexListener)}; no-op if absent.
+     *
+     * @param listener the listener to remove
+     */
+    void removeListener(IndexListener<? super T> listener);
+}
@@ -0,0 +1,64 @@
+package search.api.index;
+
+/**
+ * Forward-only iterator over one term's postings: the ordinals of the documents containing the
+ * term, in ascending order, with the term's frequency in each.
+ *
+ * <p>A cursor is positioned on its first posting when created ({@link #docId()} is
+ * {@link #NO_MORE_DOCS} for an empty list). {@link #advance(int)} lets query evaluators such
+ * as {@link search.engine.algorithm.WandRetriever} jump over documents that cannot make the
+ * top-K; {@link #maxFrequency()} and {@link #minDocumentLength()} bound the score any posting
+ * of the term can contribute.
+ *
+ * <p>Not thread-safe; valid only while the {@link PostingsReader} that produced it is open.
+ *
+ * @see PostingsReader
+ */
+public interface PostingsCursor {
+
+    /** {@link #docId()} of an exhausted cursor. */
+    int NO_MORE_DOCS = Integer.MAX_VALUE;
+
+    /** Returns the current document ordinal, or {@link #NO_MORE_DOCS}. */
+    int docId();
+
+    /** Returns the term frequency in the current document. */
+    int frequency();
+
+    /**
+     * Moves to the next posting.
+     *
+     * @return the new {@link #docId()}
+     */
+    int next();
+
+    /**
+     * Moves to the first posting whose ordinal is ≥ {@code target}; does not move backwards.
+     *
+     * @param target the ordinal to reach
+     * @return the new {@link #docId()}
+     */
+    int advance(int target);
+
+    /** Returns the total number of postings — the cost of a full iteration. */
+    int cost();
+
+    /** Returns an upper bound on {@link #frequency()} over all postings. */
+    int maxFrequency();
+
+    /** Returns a lower bound on the length of every document in the postings. */
+    int minDocumentLength();
+
+    /** Returns a cursor with no postings. */
+    static PostingsCursor empty() {
+        return new PostingsCursor() {
+            @Override public int docId()                  { return NO_MORE_DOCS; }
+            @Override public int frequency()              { return 0; }
+            @Override public int next()                   { return NO_MORE_DOCS; }
+            @Override public int advance(final int target) { return NO_MORE_DOCS; }
+            @Override public int cost()                   { return 0; }
+            @Override public int maxFrequency()           { return 0; }
+            @Override public int minDocumentLength()      { return Integer.MAX_VALUE; }
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package search.api.index;
+
+/**
+ * A consistent, read-only view of an index's postings and BM25 corpus statistics.
+ *
+ * <p>Documents are addressed by dense ordinals. A reader pins the index state it was opened on
+ * — e.g., {@link search.engine.index.InvertedIndex#openReader()} holds the index read lock
+ * until {@link #close()} — so open it for the duration of one query only:
+ * <pre>{@code
+ * try (var reader = index.openReader()) {
+ *     var cursor = reader.postings("java");
+ *     for (var doc = cursor.docId(); doc != PostingsCursor.NO_MORE_DOCS; doc = cursor.next()) {
+ *         ...
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <T> the document type
+ *
+ * @see PostingsCursor
+ */
+public interface PostingsReader<T> extends AutoCloseable {
+
+    /**
+     * Returns a cursor over the postings of {@code term}.
+     *
+     * @param term an already-normalised term
+     * @return a cursor positioned on the first posting (never null; empty if the term is absent)
+     */
+    PostingsCursor postings(String term);
+
+    /**
+     * Returns the document with the given ordinal, or {@code null} if it was removed.
+     * Postings may still reference removed documents.
+     */
+    T document(int ordinal);
+
+    /** Returns the length, in tokens, of the document with the given ordinal. */
+    int documentLength(int ordinal);
+
+    /** Returns the number of live documents. */
+    int documentCount();
+
+    /** Returns the summed length of all live documents, in tokens. */
+    long totalLength();
+
+    /** Returns the number of live documents containing {@code term}. */
+    int documentFrequency(String term);
+
+    /** Releases the view; the reader and its cursors must not be used afterwards. */
+    @Override
+    void close();
+}
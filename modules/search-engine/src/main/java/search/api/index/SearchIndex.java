@@ -29,10 +29,14 @@ import java.util.Optional;
  *
  * @param <T> the document type
  *
+ * @see ObservableIndex
  * @see search.engine.index.InMemoryIndex
  */
 public interface SearchIndex<T> {
 
+    /** {@link #version()} of an index that does not track mutations. */
+    long UNVERSIONED = -1L;
+
     /**
      * Adds or replaces a document in the index.
      *
@@ -69,4 +73,16 @@ public interface SearchIndex<T> {
 
     /** Returns {@code true} if the index contains no documents. */
     default boolean isEmpty() { return size() == 0; }
+
+    /**
+     * Returns a mutation counter that changes whenever the indexed content may have changed
+     * (every {@link #add}, effective {@link #remove}, or clear).
+     *
+     * <p>Callers such as {@link search.api.cache.ResultCache} compare versions to detect stale
+     * derived data. The default, {@link #UNVERSIONED}, means "unknown" — e.g., a live index
+     * backed by an external store — and disables such caching.
+     *
+     * @return a non-negative version, or {@link #UNVERSIONED}
+     */
+    default long version() { return UNVERSIONED; }
 }
@@ -0,0 +1,43 @@
+package search.api.index;
+
+import java.util.Collection;
+
+/**
+ * A {@link SearchIndex} that can narrow the corpus to documents sharing at least one term
+ * with a query.
+ *
+ * <p>A plain {@code SearchIndex} only offers {@link #all()}, so the engine has to filter and
+ * score every document on every query. A {@code TermIndex} keeps a term → documents mapping
+ * (an inverted index), letting the engine fetch only the candidates that can possibly match.
+ *
+ * <h2>Engine integration</h2>
+ * {@link search.engine.core.ConfigurableSearchEngine} detects a {@code TermIndex} and calls
+ * {@link #candidates(String)} instead of {@link #all()} for the modes configured through
+ * {@link search.engine.config.SearchEngineConfig.Builder#candidatePruning}.
+ *
+ * @param <T> the document type
+ *
+ * @see search.engine.index.InvertedIndex
+ */
+public interface TermIndex<T> extends SearchIndex<T> {
+
+    /**
+     * Returns the documents that contain at least one indexable term of {@code text}.
+     *
+     * <p>The text is tokenized with the same rules used at indexing time. If it yields no
+     * indexable terms (e.g., a stop-word-only query), implementations return {@link #all()}
+     * so that callers never silently lose every result.
+     *
+     * @param text the query text (may be null or blank)
+     * @return the candidate documents (never null; unmodifiable)
+     */
+    Collection<T> candidates(String text);
+
+    /**
+     * Returns the number of live documents containing {@code term}.
+     *
+     * @param term an already-normalised term
+     * @return the document frequency (≥ 0)
+     */
+    int documentFrequency(String term);
+}
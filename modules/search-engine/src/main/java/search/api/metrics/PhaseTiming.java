@@ -0,0 +1,19 @@
+package search.api.metrics;
+
+import java.util.Objects;
+
+/**
+ * Wall-clock duration and candidate counts of one pipeline phase.
+ *
+ * @param phase         the phase
+ * @param nanos         elapsed time in nanoseconds
+ * @param candidatesIn  documents entering the phase (the corpus size for {@link SearchPhase#FILTER})
+ * @param candidatesOut documents leaving the phase
+ */
+public record PhaseTiming(SearchPhase phase, long nanos, int candidatesIn, int candidatesOut) {
+
+    /** Validates the phase. */
+    public PhaseTiming {
+        Objects.requireNonNull(phase, "phase must not be null");
+    }
+}
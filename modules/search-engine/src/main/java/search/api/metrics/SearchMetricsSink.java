@@ -0,0 +1,26 @@
+package search.api.metrics;
+
+/**
+ * Receives one {@link SearchTrace} per search.
+ *
+ * <p>Sinks are registered through
+ * {@link search.engine.config.SearchEngineConfig.Builder#metricsSink(SearchMetricsSink)}. When
+ * none is registered the engine takes no timestamps and allocates no traces, so
+ * instrumentation costs one branch per phase.
+ *
+ * <p>Implementations are called on the searching thread and must be thread-safe and cheap —
+ * aggregate in memory or hand off, never block.
+ *
+ * @see search.engine.metrics.HistogramMetricsSink
+ * @see search.engine.metrics.JfrMetricsSink
+ */
+@FunctionalInterface
+public interface SearchMetricsSink {
+
+    /**
+     * Records the measurements of one search.
+     *
+     * @param trace the completed trace (never null)
+     */
+    void record(SearchTrace trace);
+}
@@ -0,0 +1,21 @@
+package search.api.metrics;
+
+/**
+ * The five phases of the search pipeline, in execution order.
+ *
+ * @see SearchTrace
+ * @see search.engine.core.ConfigurableSearchEngine
+ */
+public enum SearchPhase {
+
+    /** Resolve the {@link search.api.classify.SearchMode} (forced or classified). */
+    CLASSIFY,
+    /** Collect the candidate pool and apply the document filter. */
+    FILTER,
+    /** Score candidates and keep the positive-scored (or best-K) ones. */
+    SCORE,
+    /** Apply the ranking strategy. */
+    RANK,
+    /** Trim to the result limit and build the {@link search.api.core.SearchResult}. */
+    TRIM
+}
@@ -0,0 +1,48 @@
+package search.api.metrics;
+
+import search.api.classify.SearchMode;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Measurements of a single {@code search} call, delivered to every {@link SearchMetricsSink}.
+ *
+ * <p>Phases appear in execution order. A pipeline that ends early (e.g., no candidates survive
+ * filtering) omits the phases it skipped; a cache hit has no phases at all.
+ *
+ * @param mode              the mode of the returned result
+ * @param cacheHit          {@code true} if the result came from the result cache
+ * @param totalNanos        elapsed time of the whole call, excluding {@code pre/postSearch} hooks
+ * @param phases            per-phase timings, in execution order (immutable)
+ * @param scorerInvocations number of {@code ScoringStrategy.score} calls
+ * @param resultSize        number of items in the returned result
+ */
+public record SearchTrace(
+        SearchMode mode,
+        boolean cacheHit,
+        long totalNanos,
+        List<PhaseTiming> phases,
+        long scorerInvocations,
+        int resultSize
+) {
+
+    /** Validates and defensively copies the phase list. */
+    public SearchTrace {
+        Objects.requireNonNull(mode, "mode must not be null");
+        phases = List.copyOf(Objects.requireNonNull(phases, "phases must not be null"));
+    }
+
+    /**
+     * Returns the timing of {@code phase}, or {@code null} if the phase did not run.
+     *
+     * @param phase the phase to look up
+     * @return the timing or null
+     */
+    public PhaseTiming phase(final SearchPhase phase) {
+        for (final var timing : phases) {
+            if (timing.phase() == phase) return timing;
+        }
+        return null;
+    }
+}
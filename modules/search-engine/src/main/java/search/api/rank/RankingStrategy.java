@@ -22,6 +22,12 @@ import java.util.List;
  *                    .thenRank(new RecencyBoostRanker<>(Article::lastModified));
  * }</pre>
  *
+ * <h2>Bounded candidate sets</h2>
+ * Most rankers only reorder the head of the score-sorted list. A ranker that declares a finite
+ * {@link #candidateLimit(int)} lets the engine select just that many best-scored items with a
+ * bounded heap instead of materialising and sorting every scored document. The default is
+ * {@link #ALL_CANDIDATES}, which keeps the full list.
+ *
  * @param <T> the document type
  *
  * @see search.engine.rank.ScoreRanker
@@ -30,6 +36,9 @@ import java.util.List;
 @FunctionalInterface
 public interface RankingStrategy<T> {
 
+    /** {@link #candidateLimit(int)} value meaning "this ranker must see every scored item". */
+    int ALL_CANDIDATES = Integer.MAX_VALUE;
+
     /**
      * Re-orders {@code items} in whatever way is appropriate for the engine.
      *
@@ -47,6 +56,30 @@ public interface RankingStrategy<T> {
      * @return the composed strategy
      */
     default RankingStrategy<T> thenRank(final RankingStrategy<T> next) {
-        return (items, ctx) -> next.rank(this.rank(items, ctx), ctx);
+        final var first = this;
+        return new RankingStrategy<>() {
+            @Override
+            public List<ScoredItem<T>> rank(final List<ScoredItem<T>> items, final SearchContext ctx) {
+                return next.rank(first.rank(items, ctx), ctx);
+            }
+
+            @Override
+            public int candidateLimit(final int k) {
+                return first.candidateLimit(next.candidateLimit(k));
+            }
+        };
     }
+
+    /**
+     * Declares how many of the highest-scored items this ranker needs in order to produce a
+     * correct top {@code k}.
+     *
+     * <p>An order-preserving ranker (one that never moves an item above a higher-scored one)
+     * returns {@code k}. A ranker that applies bounded boosts can return {@code k·α} for some
+     * safety factor {@code α}. Return {@link #ALL_CANDIDATES} when every item may matter.
+     *
+     * @param k the number of results the caller will keep (≥ 1)
+     * @return the number of best-scored candidates required (≥ k), or {@link #ALL_CANDIDATES}
+     */
+    default int candidateLimit(final int k) { return ALL_CANDIDATES; }
 }
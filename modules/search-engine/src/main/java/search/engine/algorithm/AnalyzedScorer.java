@@ -0,0 +1,31 @@
+package search.engine.algorithm;
+
+import search.api.algorithm.ScoringStrategy;
+import search.api.core.QueryPlan;
+
+/**
+ * A {@link ScoringStrategy} that can score from shared, pre-computed state: the query planned
+ * once per search and the document's fields extracted once per candidate.
+ *
+ * <p>A {@linkplain CompositeScorer.Builder#compiled(boolean) compiled} {@link CompositeScorer}
+ * calls {@link #score(DocumentView, QueryPlan)} on children implementing this interface,
+ * so several children reading the same fields share one extraction and lower-casing per
+ * document. The result must equal {@link #score(Object, QueryPlan)} for the same document and
+ * plan.
+ *
+ * @param <T> the document type
+ *
+ * @see TextMatchScorer
+ * @see TagScorer
+ */
+public interface AnalyzedScorer<T> extends ScoringStrategy<T> {
+
+    /**
+     * Scores the view's current document against a planned query.
+     *
+     * @param document the candidate, with memoised fields (never null)
+     * @param plan     the planned query (never null)
+     * @return the relevance score (≥ 0)
+     */
+    int score(DocumentView<T> document, QueryPlan plan);
+}
@@ -2,12 +2,22 @@ package search.engine.algorithm;
 
 import search.api.algorithm.ScoringStrategy;
 import search.api.algorithm.Tokenizer;
+import search.api.core.QueryPlan;
+import search.api.core.ScoreBreakdown;
 import search.api.core.SearchContext;
+import search.api.index.GenerationalIndex;
+import search.api.index.IndexGeneration;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -41,6 +51,39 @@ import java.util.function.Function;
  * int score = bm25.score(article, context);
  * }</pre>
  *
+ * <h2>Precomputed document statistics</h2>
+ * With {@link Builder#precomputeDocumentStats(boolean)} enabled, {@link #computeStats(Collection)}
+ * also stores each document's length and term-frequency vector (keyed by document identity),
+ * plus a per-term IDF table. Query-time scoring of those documents is then a handful of array
+ * lookups with no text extraction, lower-casing, or tokenization. Documents not seen by the
+ * last {@code computeStats} call fall back to the text-based path.
+ *
+ * <h2>Term frequencies</h2>
+ * Both paths count whole tokens produced by the configured {@link Tokenizer} (via its
+ * allocation-free {@link Tokenizer#tokenize(CharSequence, Tokenizer.TokenSink) streaming API}),
+ * so document length and term frequency are measured in the same units and the two paths
+ * return identical scores.
+ *
+ * <h2>Live statistics</h2>
+ * With {@link Builder#statistics(Bm25Statistics)}, the corpus-level inputs — document count,
+ * document frequencies and average document length — are read from a {@link Bm25Statistics}
+ * that follows index mutations, so no {@code computeStats} call is needed and scores stay
+ * exact as documents are added and removed. {@code computeStats} then only matters for
+ * capturing precomputed document vectors.
+ *
+ * <h2>Generation statistics</h2>
+ * With {@link Builder#generationStatistics(GenerationalIndex)}, a search over that index scores
+ * against statistics computed from the {@linkplain QueryPlan#generation() generation it pinned}
+ * — once per generation, on the first search that reads it — so document count, frequencies
+ * and lengths always describe exactly the documents being scored. Calls without a pinned
+ * generation, including {@link #score(Object, SearchContext)}, score against the index's
+ * current generation, so both overloads agree for a plan over the current generation. A
+ * generation's statistics are carried forward from the newest generation's by tokenizing
+ * only the documents committed in between ({@link IndexGeneration#changesSince(long)}); the
+ * whole generation is tokenized again only when that history is gone or once more than a
+ * quarter of its documents changed since the last full count, as documents added since then
+ * are scored through the text path.
+ *
  * @param <T> the document type
  *
  * @see DefaultTokenizer
@@ -57,22 +100,33 @@ public final class Bm25Scorer<T> implements ScoringStrategy<T> {
     /** Scale factor to convert BM25 float score to int points. */
     private static final int SCALE_FACTOR = 10;
 
+    /** Generation statistics are recounted once more than 1/this of the documents changed. */
+    private static final int RECOUNT_DIVISOR = 4;
+
     private final Function<T, String> textExtractor;
     private final Tokenizer tokenizer;
     private final double k1;
     private final double b;
-
-    // ─── Corpus statistics (computed lazily or explicitly) ─────────
-    private volatile Map<String, Integer> documentFrequencies = Map.of();
-    private volatile int totalDocuments;
-    private volatile double avgDocLength;
-    private volatile boolean statsComputed;
+    private final boolean precomputeDocumentStats;
+    private final Bm25Statistics<T> statistics;
+    private final GenerationalIndex<T> generationIndex;
+    private final Function<QueryPlan, QueryTerms> planResolver = plan -> queryTerms(plan.input(), corpusFor(plan));
+    private final Function<IndexGeneration<T>, CorpusStats<T>> generationResolver =
+            generation -> publish(statsFor(generation), generation.number());
+
+    // ─── Corpus statistics (computed explicitly; published as one snapshot) ─
+    private volatile CorpusStats<T> stats = CorpusStats.empty();
+    private long statsGeneration = -1; // guarded by this: generation of stats, if published from one
+    private volatile QueryTerms lastQuery;
 
     private Bm25Scorer(final Builder<T> builder) {
-        this.textExtractor = builder.textExtractor;
-        this.tokenizer     = builder.tokenizer;
-        this.k1            = builder.k1;
-        this.b             = builder.b;
+        this.textExtractor           = builder.textExtractor;
+        this.tokenizer               = builder.tokenizer;
+        this.k1                      = builder.k1;
+        this.b                       = builder.b;
+        this.precomputeDocumentStats = builder.precomputeDocumentStats;
+        this.statistics              = builder.statistics;
+        this.generationIndex         = builder.generationIndex;
     }
 
     /**
@@ -80,31 +134,122 @@ public final class Bm25Scorer<T> implements ScoringStrategy<T> {
      *
      * <p><strong>Call this method once after populating the index</strong>, before
      * performing any searches. BM25 requires per-term document frequencies and average
-     * document length across the entire corpus.
+     * document length across the entire corpus. In precomputed mode this also captures
+     * every document's term-frequency vector.
      *
      * @param corpus all documents in the index
      */
     public void computeStats(final Collection<T> corpus) {
         Objects.requireNonNull(corpus, "corpus must not be null");
-        final var dfMap      = new HashMap<String, Integer>();
-        var docLengthTotal   = 0L;
-        var totalDocs        = 0;
+        this.stats     = collectStats(corpus, -1);
+        this.lastQuery = null;
+    }
+
+    /** Tokenizes {@code corpus} — generation {@code generation}, or -1 — into a new statistics snapshot. */
+    private CorpusStats<T> collectStats(final Collection<T> corpus, final long generation) {
+        final var collector = new StatsCollector();
+        final var perDoc    = new IdentityHashMap<T, DocumentStats>(precomputeDocumentStats ? corpus.size() : 0);
+        var docLengthTotal  = 0L;
+        var totalDocs       = 0;
 
         for (final var item : corpus) {
-            final var text   = textExtractor.apply(item);
-            final var tokens = tokenizer.tokenize(text);
-            docLengthTotal  += tokens.size();
+            collector.startDocument(totalDocs);
+            tokenizer.tokenize(textExtractor.apply(item), collector);
+            docLengthTotal += collector.length;
             totalDocs++;
-            // Each unique term in the document contributes 1 to df
-            for (final var token : tokens) {
-                dfMap.merge(token, 1, Integer::sum);
+            if (precomputeDocumentStats) perDoc.put(item, collector.documentStats());
+        }
+
+        return new CorpusStats<>(
+                collector.dictionary,
+                Arrays.copyOf(collector.documentFrequencies, collector.dictionary.size()),
+                Map.of(),
+                totalDocs,
+                docLengthTotal,
+                perDoc.isEmpty() ? Map.of() : Collections.unmodifiableMap(perDoc),
+                true,
+                generation,
+                0);
+    }
+
+    /**
+     * Returns the statistics of {@code generation}: the newest published generation's, carried
+     * forward over the commits in between when those are known and few enough, else a full count.
+     */
+    private CorpusStats<T> statsFor(final IndexGeneration<T> generation) {
+        final var base = stats;
+        if (base.generation() >= 0) {
+            final var changes = generation.changesSince(base.generation()).orElse(null);
+            if (changes != null
+                    && base.changedDocuments() + changes.size() <= generation.size() / RECOUNT_DIVISOR) {
+                return carryForward(base, changes, generation);
             }
         }
+        return collectStats(generation.all(), generation.number());
+    }
 
-        this.documentFrequencies = Map.copyOf(dfMap);
-        this.totalDocuments      = totalDocs;
-        this.avgDocLength        = totalDocs > 0 ? (double) docLengthTotal / totalDocs : 1.0;
-        this.statsComputed       = true;
+    /** Applies {@code changes} to {@code base} as document-frequency and length deltas. */
+    private CorpusStats<T> carryForward(final CorpusStats<T> base, final IndexGeneration.Changes<T> changes,
+                                        final IndexGeneration<T> generation) {
+        final var delta   = new HashMap<>(base.documentFrequencyDelta());
+        var totalLength   = base.totalLength();
+        for (final var item : changes.removed()) totalLength -= countTerms(base, item, delta, -1);
+        for (final var item : changes.added()) totalLength += countTerms(base, item, delta, 1);
+        delta.values().removeIf(df -> df == 0);
+
+        return new CorpusStats<>(
+                base.dictionary(),
+                base.documentFrequencies(),
+                delta.isEmpty() ? Map.of() : Collections.unmodifiableMap(delta),
+                generation.size(),
+                totalLength,
+                base.byDocument(),
+                true,
+                generation.number(),
+                base.changedDocuments() + changes.size());
+    }
+
+    /**
+     * Adds {@code sign} to the frequency delta of every distinct term of {@code item} and returns
+     * its length, reading the precomputed vector when {@code base} has one.
+     */
+    private int countTerms(final CorpusStats<T> base, final T item, final Map<String, Integer> delta,
+                           final int sign) {
+        final var vector = base.forDocument(item);
+        if (vector != null) {
+            for (final var id : vector.termIds()) delta.merge(base.dictionary().term(id), sign, Integer::sum);
+            return vector.length();
+        }
+        final var collector = new TermSetCollector();
+        tokenizer.tokenize(textExtractor.apply(item), collector);
+        for (final var term : collector.terms) delta.merge(term, sign, Integer::sum);
+        return collector.length;
+    }
+
+    /**
+     * Returns the statistics {@code plan} scores against: with generation statistics, those of
+     * its pinned generation, or of the index's current one if it pinned none; otherwise the
+     * {@link #computeStats(Collection)} snapshot.
+     */
+    @SuppressWarnings("unchecked")
+    private CorpusStats<T> corpusFor(final QueryPlan plan) {
+        if (generationIndex == null) return stats;
+        final var pinned = (IndexGeneration<T>) plan.generation();
+        return (pinned != null ? pinned : generationIndex.generation()).resolve(this, generationResolver);
+    }
+
+    /** Returns the statistics a plan-less call scores against: the current generation's, or the snapshot. */
+    private CorpusStats<T> currentCorpus() {
+        return generationIndex != null ? generationIndex.generation().resolve(this, generationResolver) : stats;
+    }
+
+    /** Makes {@code corpus} the plan-less snapshot if its generation is the newest seen. */
+    private synchronized CorpusStats<T> publish(final CorpusStats<T> corpus, final long generation) {
+        if (generation > statsGeneration) {
+            statsGeneration = generation;
+            stats           = corpus;
+        }
+        return corpus;
     }
 
     @Override
@@ -112,57 +257,333 @@ public final class Bm25Scorer<T> implements ScoringStrategy<T> {
         Objects.requireNonNull(item,    "item must not be null");
         Objects.requireNonNull(context, "context must not be null");
 
-        final var queryTokens = tokenizer.tokenize(context.normalizedInput());
-        if (queryTokens.isEmpty()) return 0;
+        final var corpus = currentCorpus();
+        return score(item, queryTerms(context.normalizedInput(), corpus), corpus);
+    }
+
+    /** Reads the query's term IDs and IDFs from {@code plan}, resolved once per search. */
+    @Override
+    public int score(final T item, final QueryPlan plan) {
+        Objects.requireNonNull(item, "item must not be null");
+        Objects.requireNonNull(plan, "plan must not be null");
+
+        final var corpus = corpusFor(plan);
+        return score(item, queryTerms(plan, corpus), corpus);
+    }
+
+    private int score(final T item, final QueryTerms query, final CorpusStats<T> corpus) {
+        if (query.size() == 0) return 0;
+
+        final var docStats = corpus.forDocument(item);
+        if (docStats != null) return scorePrecomputed(docStats, query, query.avgDocLength());
 
-        final var docText   = textExtractor.apply(item).toLowerCase();
-        final var docTokens = tokenizer.tokenize(docText);
-        final var docLength = docTokens.size();
-        if (docLength == 0) return 0;
+        // Text path: stream the document's tokens and count hits on the (few) query terms
+        final var counter = new TermCounter(query);
+        tokenizer.tokenize(textExtractor.apply(item), counter);
+        if (counter.length == 0) return 0;
 
-        final double effectiveAvgdl = avgDocLength > 0 ? avgDocLength : 1.0;
+        final double lengthNorm = lengthNorm(counter.length, query.avgDocLength());
         var totalScore = 0.0;
+        for (var i = 0; i < query.size(); i++) {
+            totalScore += termScore(query.idfs()[i], counter.frequencies[i], lengthNorm);
+        }
+        return (int) (totalScore * SCALE_FACTOR);
+    }
+
+    /**
+     * Bounded by every query term saturating: a term's score approaches {@code idf × (k1 + 1)}
+     * as its frequency grows, whatever the document length. With live statistics the bound
+     * would move with every index mutation, so none is reported.
+     */
+    @Override
+    public int maxScore(final QueryPlan plan) {
+        if (statistics != null) return NO_BOUND;
+        final var query = queryTerms(plan, corpusFor(plan));
+        var bound = 0.0;
+        for (var i = 0; i < query.size(); i++) bound += Math.max(query.idfs()[i], 0.0) * (k1 + 1);
+        return (int) Math.min(Math.ceil(bound * SCALE_FACTOR) + 1, NO_BOUND - 1.0);
+    }
 
-        for (final var term : queryTokens) {
-            final var tf = countTermFrequency(term, docText);
-            if (tf == 0) continue;
+    /**
+     * Reports each query term's contribution as {@code bm25:<term>}, plus a {@code rounding}
+     * component for the truncation of their sum to the integer score.
+     */
+    @Override
+    public ScoreBreakdown explain(final T item, final SearchContext context) {
+        final var corpus = currentCorpus();
+        final var query  = queryTerms(context.normalizedInput(), corpus);
+        return explain(item, query, score(item, query, corpus));
+    }
 
-            final double idf = computeIdf(term);
-            final double tfNorm = (tf * (k1 + 1))
-                    / (tf + k1 * (1 - b + b * docLength / effectiveAvgdl));
+    /** As {@link #explain(Object, SearchContext)}, against the statistics {@code plan} scores with. */
+    @Override
+    public ScoreBreakdown explain(final T item, final QueryPlan plan) {
+        final var corpus = corpusFor(plan);
+        final var query  = queryTerms(plan, corpus);
+        return explain(item, query, score(item, query, corpus));
+    }
 
-            totalScore += idf * tfNorm;
+    private ScoreBreakdown explain(final T item, final QueryTerms query, final int score) {
+        final var breakdown = ScoreBreakdown.builder();
+
+        // Per-term frequencies via the text path, which scores identically to the precomputed one
+        final var counter = new TermCounter(query);
+        tokenizer.tokenize(textExtractor.apply(item), counter);
+        if (counter.length > 0) {
+            final double lengthNorm = lengthNorm(counter.length, query.avgDocLength());
+            for (var i = 0; i < query.size(); i++) {
+                final var points = termScore(query.idfs()[i], counter.frequencies[i], lengthNorm) * SCALE_FACTOR;
+                breakdown.add("bm25:" + new String(query.terms()[i]), (int) points);
+            }
         }
+        return breakdown.add("rounding", score - breakdown.currentTotal()).build();
+    }
 
+    // ─── Internal helpers ──────────────────────────────────────────
+
+    /** Array-only scoring path for documents captured by {@link #computeStats(Collection)}. */
+    private int scorePrecomputed(final DocumentStats docStats, final QueryTerms query, final double avgdl) {
+        if (docStats.length() == 0) return 0;
+
+        final double lengthNorm = lengthNorm(docStats.length(), avgdl);
+        var totalScore = 0.0;
+        for (var i = 0; i < query.size(); i++) {
+            final var termId = query.termIds()[i];
+            if (termId == TermDictionary.ABSENT) continue;
+            totalScore += termScore(query.idfs()[i], docStats.frequencyOf(termId), lengthNorm);
+        }
         return (int) (totalScore * SCALE_FACTOR);
     }
 
-    // ─── Internal helpers ──────────────────────────────────────────
+    private double lengthNorm(final int docLength, final double avgdl) {
+        final double effectiveAvgdl = avgdl > 0 ? avgdl : 1.0;
+        return k1 * (1 - b + b * docLength / effectiveAvgdl);
+    }
+
+    private double termScore(final double idf, final int tf, final double lengthNorm) {
+        return tf == 0 ? 0.0 : idf * (tf * (k1 + 1)) / (tf + lengthNorm);
+    }
+
+    /**
+     * Resolves query tokens against the corpus once per distinct query and caches the last one.
+     * With live statistics the cached entry is also tied to the statistics generation.
+     */
+    private QueryTerms queryTerms(final String input, final CorpusStats<T> corpus) {
+        final var generation = statistics != null ? statistics.generation() : 0L;
+        final var cached     = lastQuery;
+        if (cached != null && cached.corpus() == corpus && cached.generation() == generation
+                && cached.input().equals(input)) {
+            return cached;
+        }
+
+        final var n     = Math.max(statistics != null ? statistics.documentCount() : corpus.totalDocuments(), 1);
+        final var terms = new ArrayList<char[]>();
+        tokenizer.tokenize(input, (buf, off, len) -> terms.add(Arrays.copyOfRange(buf, off, off + len)));
+
+        final var chars = terms.toArray(new char[0][]);
+        final var ids   = new int[chars.length];
+        final var idfs  = new double[chars.length];
+        for (var i = 0; i < chars.length; i++) {
+            ids[i]  = corpus.dictionary().idOf(chars[i], 0, chars[i].length);
+            if (statistics != null) {
+                idfs[i] = idf(statistics.documentFrequency(new String(chars[i])), n);
+            } else {
+                // Terms absent from the corpus keep a df-0 IDF so unindexed documents still score
+                idfs[i] = idf(corpus.documentFrequency(ids[i], chars[i]), n);
+            }
+        }
+        final var avgdl    = statistics != null ? statistics.averageDocumentLength() : corpus.avgDocLength();
+        final var resolved = new QueryTerms(input, corpus, generation, avgdl, chars, ids, idfs);
+        lastQuery = resolved;
+        return resolved;
+    }
 
-    private double computeIdf(final String term) {
-        final int df = documentFrequencies.getOrDefault(term, 0);
-        final int n  = Math.max(totalDocuments, 1);
+    /**
+     * Returns the query terms resolved for {@code plan}, unless statistics were recomputed or
+     * mutated since — then resolves them afresh, so every path scores alike.
+     */
+    private QueryTerms queryTerms(final QueryPlan plan, final CorpusStats<T> corpus) {
+        final var planned    = plan.resolve(this, planResolver);
+        final var generation = statistics != null ? statistics.generation() : 0L;
+        return planned.corpus() == corpus && planned.generation() == generation
+                ? planned
+                : queryTerms(plan.input(), corpus);
+    }
+
+    private static double idf(final int df, final int n) {
         // Robertson-Spärck Jones IDF variant (avoids negatives)
         return Math.log((n - df + 0.5) / (df + 0.5) + 1.0);
     }
 
-    private int countTermFrequency(final String term, final String text) {
-        var count = 0;
-        var start = 0;
-        while ((start = text.indexOf(term, start)) != -1) {
-            count++;
-            start += term.length();
+    /** Returns {@code true} if {@link #computeStats(Collection)} has been called or live statistics are used. */
+    public boolean isStatsComputed() { return statistics != null || stats.computed(); }
+
+    /** Returns the number of documents in the statistics, or 0 if not computed. */
+    public int totalDocuments() { return statistics != null ? statistics.documentCount() : stats.totalDocuments(); }
+
+    /** Returns {@code true} if per-document term statistics are captured by {@link #computeStats(Collection)}. */
+    public boolean isPrecomputingDocumentStats() { return precomputeDocumentStats; }
+
+    public static <T> Builder<T> builder() { return new Builder<>(); }
+
+    // ─── Statistics snapshots ────────────────────────────────────────
+
+    /**
+     * Immutable corpus statistics published atomically by {@link #computeStats(Collection)} or
+     * for a generation. Statistics carried forward share the counted snapshot's dictionary,
+     * frequencies and vectors, and record the frequency changes since in a delta.
+     *
+     * @param dictionary             term → ID for every counted term
+     * @param documentFrequencies    df by term ID, as counted
+     * @param documentFrequencyDelta df change by term since the count (no zero entries)
+     * @param totalDocuments         N
+     * @param totalLength            sum of document lengths in tokens
+     * @param byDocument             per-document vectors, as counted (empty unless precomputing)
+     * @param computed               {@code false} only for the initial empty snapshot
+     * @param generation             the generation described, or -1 if not from a generation
+     * @param changedDocuments       documents removed or added since the count
+     */
+    private record CorpusStats<T>(TermDictionary dictionary, int[] documentFrequencies,
+                                  Map<String, Integer> documentFrequencyDelta, int totalDocuments,
+                                  long totalLength, Map<T, DocumentStats> byDocument,
+                                  boolean computed, long generation, int changedDocuments) {
+
+        @SuppressWarnings("rawtypes")
+        private static final CorpusStats EMPTY =
+                new CorpusStats<>(new TermDictionary(), new int[0], Map.of(), 0, 0L, Map.of(), false, -1, 0);
+
+        @SuppressWarnings("unchecked")
+        static <T> CorpusStats<T> empty() { return (CorpusStats<T>) EMPTY; }
+
+        double avgDocLength() {
+            return totalDocuments > 0 ? (double) totalLength / totalDocuments : 1.0;
+        }
+
+        /** Returns the df of {@code term}, whose dictionary ID is {@code termId} (maybe ABSENT). */
+        int documentFrequency(final int termId, final char[] term) {
+            final var counted = termId != TermDictionary.ABSENT ? documentFrequencies[termId] : 0;
+            return documentFrequencyDelta.isEmpty()
+                    ? counted
+                    : counted + documentFrequencyDelta.getOrDefault(new String(term), 0);
+        }
+
+        DocumentStats forDocument(final T item) {
+            return byDocument.isEmpty() ? null : byDocument.get(item);
         }
-        return count;
     }
 
-    /** Returns {@code true} if {@link #computeStats(Collection)} has been called. */
-    public boolean isStatsComputed() { return statsComputed; }
+    /**
+     * A document's length and its term-frequency vector, with term IDs sorted ascending
+     * so lookups are a binary search.
+     */
+    private record DocumentStats(int length, int[] termIds, int[] frequencies) {
 
-    /** Returns the number of documents used to compute stats, or 0 if not computed. */
-    public int totalDocuments() { return totalDocuments; }
+        int frequencyOf(final int termId) {
+            final var pos = Arrays.binarySearch(termIds, termId);
+            return pos >= 0 ? frequencies[pos] : 0;
+        }
+    }
 
-    public static <T> Builder<T> builder() { return new Builder<>(); }
+    /**
+     * A query resolved against a specific {@link CorpusStats} snapshot (and, with live
+     * statistics, a specific generation): the token characters (for the text path), their term
+     * IDs (for the precomputed path), their IDFs, and the average document length.
+     */
+    private record QueryTerms(String input, CorpusStats<?> corpus, long generation, double avgDocLength,
+                              char[][] terms, int[] termIds, double[] idfs) {
+        int size() { return terms.length; }
+    }
+
+    /** Token sink that builds the dictionary, document frequencies, and per-document vectors. */
+    private static final class StatsCollector implements Tokenizer.TokenSink {
+
+        final TermDictionary dictionary = new TermDictionary();
+        int[] documentFrequencies = new int[64];
+        private int[] lastSeenIn  = new int[64];
+        private int[] docTermIds  = new int[64];
+        private int document;
+        int length;
+
+        StatsCollector() { Arrays.fill(lastSeenIn, -1); }
+
+        void startDocument(final int docIndex) {
+            document = docIndex;
+            length   = 0;
+        }
+
+        @Override
+        public void token(final char[] buffer, final int offset, final int len) {
+            final var id = dictionary.add(buffer, offset, len);
+            if (id >= documentFrequencies.length) {
+                final var previous = documentFrequencies.length;
+                final var capacity = Math.max(id + 1, previous * 2);
+                documentFrequencies = Arrays.copyOf(documentFrequencies, capacity);
+                lastSeenIn          = Arrays.copyOf(lastSeenIn, capacity);
+                Arrays.fill(lastSeenIn, previous, capacity, -1);
+            }
+            // Each unique term in the document contributes 1 to df
+            if (lastSeenIn[id] != document) {
+                lastSeenIn[id] = document;
+                documentFrequencies[id]++;
+            }
+            if (length == docTermIds.length) docTermIds = Arrays.copyOf(docTermIds, length * 2);
+            docTermIds[length++] = id;
+        }
+
+        /** Collapses the current document's token IDs into a sorted (termId, tf) vector. */
+        DocumentStats documentStats() {
+            final var sorted = Arrays.copyOf(docTermIds, length);
+            Arrays.sort(sorted);
+            var distinct = 0;
+            for (var i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) distinct++;
+            }
+            final var ids = new int[distinct];
+            final var tfs = new int[distinct];
+            var slot = -1;
+            for (var i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) ids[++slot] = sorted[i];
+                tfs[slot]++;
+            }
+            return new DocumentStats(length, ids, tfs);
+        }
+    }
+
+    /** Token sink that collects a document's distinct terms and its length. */
+    private static final class TermSetCollector implements Tokenizer.TokenSink {
+
+        final Set<String> terms = new HashSet<>();
+        int length;
+
+        @Override
+        public void token(final char[] buffer, final int offset, final int len) {
+            length++;
+            terms.add(new String(buffer, offset, len));
+        }
+    }
+
+    /** Token sink that counts document length and occurrences of each query term. */
+    private static final class TermCounter implements Tokenizer.TokenSink {
+
+        private final char[][] queryTerms;
+        final int[] frequencies;
+        int length;
+
+        TermCounter(final QueryTerms query) {
+            this.queryTerms  = query.terms();
+            this.frequencies = new int[queryTerms.length];
+        }
+
+        @Override
+        public void token(final char[] buffer, final int offset, final int len) {
+            length++;
+            for (var i = 0; i < queryTerms.length; i++) {
+                if (Arrays.equals(queryTerms[i], 0, queryTerms[i].length, buffer, offset, offset + len)) {
+                    frequencies[i]++;
+                }
+            }
+        }
+    }
 
     /** Fluent builder for {@link Bm25Scorer}. */
     public static final class Builder<T> {
@@ -171,6 +592,9 @@ public final class Bm25Scorer<T> implements ScoringStrategy<T> {
         private Tokenizer tokenizer = new DefaultTokenizer();
         private double k1 = DEFAULT_K1;
         private double b  = DEFAULT_B;
+        private boolean precomputeDocumentStats;
+        private Bm25Statistics<T> statistics;
+        private GenerationalIndex<T> generationIndex;
 
         private Builder() {}
 
@@ -199,6 +623,41 @@ public final class Bm25Scorer<T> implements ScoringStrategy<T> {
             this.b = b; return this;
         }
 
-        public Bm25Scorer<T> build() { return new Bm25Scorer<>(this); }
+        /**
+         * When {@code true}, {@link Bm25Scorer#computeStats(Collection)} also stores per-document
+         * term-frequency vectors and lengths so scoring skips all string work (default false).
+         * Costs roughly two {@code int}s per distinct term per document of heap.
+         */
+        public Builder<T> precomputeDocumentStats(final boolean enabled) {
+            this.precomputeDocumentStats = enabled; return this;
+        }
+
+        /**
+         * Reads document count, document frequencies and average length from live statistics
+         * instead of the {@link Bm25Scorer#computeStats(Collection)} snapshot (default: none).
+         * The statistics should count the same text and tokens as this scorer.
+         */
+        public Builder<T> statistics(final Bm25Statistics<T> statistics) {
+            this.statistics = Objects.requireNonNull(statistics); return this;
+        }
+
+        /**
+         * Scores against statistics computed from generations of {@code index}: a search's pinned
+         * generation, or the current one for calls without a plan, so no
+         * {@link Bm25Scorer#computeStats(Collection)} call is needed (default: none). The first
+         * search that reads a generation tokenizes the documents changed since the newest
+         * generation with statistics, or the whole generation if too many changed. Exclusive with
+         * {@link #statistics(Bm25Statistics)}.
+         */
+        public Builder<T> generationStatistics(final GenerationalIndex<T> index) {
+            this.generationIndex = Objects.requireNonNull(index); return this;
+        }
+
+        public Bm25Scorer<T> build() {
+            if (generationIndex != null && statistics != null) {
+                throw new IllegalArgumentException("generationStatistics and statistics are exclusive");
+            }
+            return new Bm25Scorer<>(this);
+        }
     }
 }
@@ -0,0 +1,258 @@
+package search.engine.algorithm;
+
+import search.api.algorithm.Tokenizer;
+import search.api.index.IndexListener;
+import search.api.index.ObservableIndex;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Live BM25 corpus statistics — document frequencies, document count and summed document
+ * length — maintained incrementally from index mutation events.
+ *
+ * <p>{@link Bm25Scorer#computeStats(Collection)} snapshots the corpus once; every later
+ * {@code add}/{@code remove} leaves that snapshot stale until the next full recompute. A
+ * {@code Bm25Statistics} registered as an {@link IndexListener} instead tokenizes only the
+ * document that changed, so statistics stay exact under live ingestion at O(document) cost per
+ * mutation.
+ *
+ * <h2>Concurrency</h2>
+ * Totals are striped {@link LongAdder}s; each term's document frequency is updated atomically
+ * with {@link ConcurrentHashMap#merge}, and terms whose frequency drops to zero are removed.
+ * Readers see each counter atomically but may observe a mutation half-applied (e.g., the new
+ * document counted before its terms) — a transient error of one document in BM25's IDF and
+ * average length, never a torn value.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * var stats = Bm25Statistics.<Article>builder()
+ *         .textExtractor(a -> a.title() + " " + a.body())
+ *         .build();
+ * stats.attach(index);                      // seeds from index.all(), then follows mutations
+ *
+ * var bm25 = Bm25Scorer.<Article>builder()
+ *         .textExtractor(a -> a.title() + " " + a.body())
+ *         .statistics(stats)                // no computeStats() needed
+ *         .build();
+ * }</pre>
+ *
+ * <p>Use the same text extractor and tokenizer as the scorer, so document frequencies and term
+ * frequencies count the same tokens.
+ *
+ * <h2>Snapshots</h2>
+ * {@link #writeSnapshot(Path, long)} saves the counts; {@link #restoreSnapshot(Path, long)}
+ * loads them without tokenizing the corpus. To warm-start alongside an index snapshot, restore
+ * both and register the statistics with {@link ObservableIndex#addListener} instead of
+ * {@link #attach(ObservableIndex)}, which would count the corpus again.
+ *
+ * @param <T> the document type
+ *
+ * @see Bm25Scorer.Builder#statistics(Bm25Statistics)
+ */
+public final class Bm25Statistics<T> implements IndexListener<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(Bm25Statistics.class.getName());
+
+    private static final int SNAPSHOT_MAGIC   = 0x424d3531; // "BM51"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final Function<T, String> textExtractor;
+    private final Tokenizer tokenizer;
+
+    private final Map<String, Long> documentFrequencies = new ConcurrentHashMap<>();
+    private final LongAdder documentCount = new LongAdder();
+    private final LongAdder totalLength   = new LongAdder();
+
+    /** Incremented after every applied mutation; lets scorers cache per-query values. */
+    private final AtomicLong generation = new AtomicLong();
+
+    private Bm25Statistics(final Builder<T> builder) {
+        this.textExtractor = builder.textExtractor;
+        this.tokenizer     = builder.tokenizer;
+    }
+
+    // ─── Wiring ────────────────────────────────────────────────────
+
+    /**
+     * Registers with {@code index} and seeds the statistics from its current documents.
+     *
+     * <p>Call before concurrent ingestion starts: a document added while seeding may be
+     * counted twice.
+     *
+     * @param index the index to follow
+     */
+    public void attach(final ObservableIndex<T> index) {
+        Objects.requireNonNull(index, "index must not be null");
+        index.addListener(this);
+        index.all().forEach(this::add);
+        LOGGER.fine(() -> "Bm25Statistics: attached to " + index.getClass().getSimpleName()
+                + " (" + documentCount() + " documents, " + termCount() + " terms)");
+    }
+
+    /**
+     * Discards all counts and recounts {@code corpus} — a full resynchronisation, e.g., after
+     * the statistics were attached late.
+     *
+     * @param corpus all documents in the index
+     */
+    public void rebuild(final Collection<T> corpus) {
+        Objects.requireNonNull(corpus, "corpus must not be null");
+        documentFrequencies.clear();
+        documentCount.reset();
+        totalLength.reset();
+        corpus.forEach(this::add);
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public void onAdd(final String id, final T item) { add(item); }
+
+    @Override
+    public void onRemove(final String id, final T item) { remove(item); }
+
+    /** Counts a document that entered the corpus. */
+    public void add(final T item) { apply(item, 1); }
+
+    /** Uncounts a document that left the corpus. */
+    public void remove(final T item) { apply(item, -1); }
+
+    // ─── Statistics ────────────────────────────────────────────────
+
+    /** Returns the number of documents containing {@code term}. */
+    public int documentFrequency(final String term) {
+        if (term == null) return 0;
+        final var df = documentFrequencies.get(term);
+        return df != null ? df.intValue() : 0;
+    }
+
+    /** Returns the number of documents counted. */
+    public int documentCount() { return (int) documentCount.sum(); }
+
+    /** Returns the summed length of all counted documents, in tokens. */
+    public long totalLength() { return totalLength.sum(); }
+
+    /** Returns the average document length in tokens, or 1.0 for an empty corpus. */
+    public double averageDocumentLength() {
+        final var documents = documentCount.sum();
+        return documents > 0 ? (double) totalLength.sum() / documents : 1.0;
+    }
+
+    /** Returns the number of distinct terms with a non-zero document frequency. */
+    public int termCount() { return documentFrequencies.size(); }
+
+    /** Returns a counter that increases after every applied mutation. */
+    public long generation() { return generation.get(); }
+
+    // ─── Snapshots ─────────────────────────────────────────────────
+
+    /**
+     * Writes the current counts to a snapshot file — document count, total length and the
+     * front-coded term list with one varint document frequency per term — replacing any
+     * existing file. Take it while no mutation is in flight.
+     *
+     * @param path           the snapshot file (never null)
+     * @param corpusChecksum identity of the current corpus, e.g. {@link SnapshotCodec#checksum(Iterable)}
+     * @throws IOException if the file cannot be written
+     */
+    public void writeSnapshot(final Path path, final long corpusChecksum) throws IOException {
+        final var frequencies = Map.copyOf(documentFrequencies);
+        final var terms = frequencies.keySet().toArray(String[]::new);
+        Arrays.sort(terms);
+        final var body = new SnapshotCodec.Encoder(terms.length * 12 + 16)
+                .varInt(documentCount())
+                .varLong(totalLength())
+                .terms(terms);
+        for (final var term : terms) body.varLong(frequencies.get(term));
+        final var size = SnapshotCodec.write(path, SNAPSHOT_MAGIC, SNAPSHOT_VERSION, corpusChecksum, body);
+        LOGGER.info(() -> "Bm25Statistics: wrote snapshot of " + terms.length + " terms (" + size
+                + " bytes) to " + path);
+    }
+
+    /**
+     * Replaces all counts with those of a snapshot written by {@link #writeSnapshot(Path, long)},
+     * unless the snapshot is absent, of another format version, written with a different
+     * {@code corpusChecksum}, or corrupt.
+     *
+     * @param path           the snapshot file (never null)
+     * @param corpusChecksum identity of the current corpus
+     * @return {@code true} if the snapshot was loaded; otherwise the counts are unchanged
+     * @throws IOException if the file exists but cannot be read
+     */
+    public boolean restoreSnapshot(final Path path, final long corpusChecksum) throws IOException {
+        final var snapshot = SnapshotCodec.read(path, SNAPSHOT_MAGIC, SNAPSHOT_VERSION, corpusChecksum);
+        if (snapshot.isEmpty()) return false;
+        final var body      = snapshot.get();
+        final var documents = body.varInt();
+        final var length    = body.varLong();
+        final var terms     = body.terms();
+        final var restored  = new HashMap<String, Long>(terms.length * 4 / 3 + 1);
+        for (final var term : terms) restored.put(term, body.varLong());
+
+        documentFrequencies.clear();
+        documentFrequencies.putAll(restored);
+        documentCount.reset();
+        documentCount.add(documents);
+        totalLength.reset();
+        totalLength.add(length);
+        generation.incrementAndGet();
+        LOGGER.info(() -> "Bm25Statistics: restored " + documents + " documents, " + terms.length
+                + " terms from snapshot " + path);
+        return true;
+    }
+
+    // ─── Internal helpers ──────────────────────────────────────────
+
+    private void apply(final T item, final int delta) {
+        Objects.requireNonNull(item, "item must not be null");
+        final var tokens = tokenizer.tokenize(textExtractor.apply(item));
+        for (final var term : new HashSet<>(tokens)) {
+            if (delta > 0) {
+                documentFrequencies.merge(term, 1L, Long::sum);
+            } else {
+                // Drop terms no document contains any more
+                documentFrequencies.computeIfPresent(term, (t, df) -> df > 1 ? df - 1 : null);
+            }
+        }
+        documentCount.add(delta);
+        totalLength.add((long) delta * tokens.size());
+        generation.incrementAndGet();
+    }
+
+    public static <T> Builder<T> builder() { return new Builder<>(); }
+
+    /** Fluent builder for {@link Bm25Statistics}. */
+    public static final class Builder<T> {
+
+        private Function<T, String> textExtractor = item -> "";
+        private Tokenizer tokenizer = new DefaultTokenizer();
+
+        private Builder() {}
+
+        /**
+         * Extracts the text to count from a document.
+         * Multiple fields can be concatenated: {@code a -> a.title() + " " + a.body()}.
+         */
+        public Builder<T> textExtractor(final Function<T, String> extractor) {
+            this.textExtractor = Objects.requireNonNull(extractor); return this;
+        }
+
+        /** Sets the tokenizer for document text. Default: {@link DefaultTokenizer}. */
+        public Builder<T> tokenizer(final Tokenizer tokenizer) {
+            this.tokenizer = Objects.requireNonNull(tokenizer); return this;
+        }
+
+        public Bm25Statistics<T> build() { return new Bm25Statistics<>(this); }
+    }
+}
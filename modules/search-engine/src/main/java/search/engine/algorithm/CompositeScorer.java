@@ -1,11 +1,15 @@
 package search.engine.algorithm;
 
 import search.api.algorithm.ScoringStrategy;
+import search.api.core.QueryPlan;
+import search.api.core.ScoreBreakdown;
 import search.api.core.SearchContext;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 /**
  * Combines multiple {@link ScoringStrategy} instances into a single weighted sum.
@@ -23,6 +27,17 @@ import java.util.Objects;
  *         .build();
  * }</pre>
  *
+ * <h2>Compiled evaluation</h2>
+ * Compiled evaluation is opt-in through {@link Builder#compiled(boolean)}. A compiled composite
+ * orders its children once per {@link QueryPlan} by weighted
+ * {@linkplain ScoringStrategy#maxScore(QueryPlan) bound}, unbounded ones first. Per document,
+ * {@link AnalyzedScorer} children read fields from one shared {@link DocumentView}, so a field
+ * used by several children is extracted and lower-cased once. Given a threshold through
+ * {@link #score(Object, QueryPlan, int)}, evaluation stops as soon as the score so far plus
+ * the bounds of the children left cannot exceed it — the low-weight tail of a composite is
+ * skipped for documents that cannot enter the top-K. Returned scores are identical to the
+ * uncompiled composite's: children are summed in configuration order either way.
+ *
  * @param <T> the document type
  *
  * @see TextMatchScorer
@@ -31,16 +46,35 @@ import java.util.Objects;
  */
 public final class CompositeScorer<T> implements ScoringStrategy<T> {
 
+    /** Relative slack on bound sums, absorbing floating-point error in the weighted sums. */
+    private static final double BOUND_SLACK = 1e-9;
+
     private final List<WeightedStrategy<T>> strategies;
+    private final double[] weights;
+    private final AnalyzedScorer<T>[] analyzed;
+    private final boolean compiled;
+    private final ThreadLocal<Scratch<T>> scratch;
+    private final Function<QueryPlan, Evaluation> planner = this::evaluation;
+    private volatile QueryPlan lastPlan;
 
-    private CompositeScorer(final List<WeightedStrategy<T>> strategies) {
+    @SuppressWarnings("unchecked")
+    private CompositeScorer(final List<WeightedStrategy<T>> strategies, final boolean compiled) {
         this.strategies = List.copyOf(strategies);
+        this.compiled   = compiled;
+        this.weights    = new double[strategies.size()];
+        this.analyzed   = (AnalyzedScorer<T>[]) new AnalyzedScorer<?>[strategies.size()];
+        for (var i = 0; i < weights.length; i++) {
+            weights[i] = this.strategies.get(i).weight();
+            if (this.strategies.get(i).strategy() instanceof AnalyzedScorer<T> child) analyzed[i] = child;
+        }
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch<>(weights.length));
     }
 
     @Override
     public int score(final T item, final SearchContext context) {
         Objects.requireNonNull(item,    "item must not be null");
         Objects.requireNonNull(context, "context must not be null");
+        if (compiled) return scoreCompiled(item, planOf(context), Integer.MIN_VALUE);
 
         var total = 0.0;
         for (final var ws : strategies) {
@@ -52,6 +86,131 @@ public final class CompositeScorer<T> implements ScoringStrategy<T> {
         return (int) total;
     }
 
+    @Override
+    public int score(final T item, final QueryPlan plan) {
+        Objects.requireNonNull(item, "item must not be null");
+        Objects.requireNonNull(plan, "plan must not be null");
+        if (compiled) return scoreCompiled(item, plan, Integer.MIN_VALUE);
+
+        var total = 0.0;
+        for (final var ws : strategies) {
+            final var raw = ws.strategy().score(item, plan);
+            if (raw > 0) {
+                total += raw * ws.weight();
+            }
+        }
+        return (int) total;
+    }
+
+    /** Stops evaluating children once the document provably cannot exceed {@code threshold}. */
+    @Override
+    public int score(final T item, final QueryPlan plan, final int threshold) {
+        Objects.requireNonNull(item, "item must not be null");
+        Objects.requireNonNull(plan, "plan must not be null");
+        return compiled ? scoreCompiled(item, plan, threshold) : score(item, plan);
+    }
+
+    /** The weighted sum of the children's bounds, or {@link #NO_BOUND} if any child has none. */
+    @Override
+    public int maxScore(final QueryPlan plan) {
+        var bound = 0.0;
+        for (final var ws : strategies) {
+            final var child = ws.strategy().maxScore(plan);
+            if (child == NO_BOUND) return NO_BOUND;
+            bound += child * ws.weight();
+        }
+        return (int) Math.min(Math.ceil(bound * (1 + BOUND_SLACK)) + 1, NO_BOUND - 1.0);
+    }
+
+    /**
+     * Merges the children's breakdowns, each component multiplied by its strategy's weight;
+     * a {@code rounding} component absorbs the truncation of the weighted sum.
+     */
+    @Override
+    public ScoreBreakdown explain(final T item, final SearchContext context) {
+        return explain(item, QueryPlan.of(context));
+    }
+
+    /** As {@link #explain(Object, SearchContext)}, with every child explaining against {@code plan}. */
+    @Override
+    public ScoreBreakdown explain(final T item, final QueryPlan plan) {
+        final var breakdown = ScoreBreakdown.builder();
+        for (final var ws : strategies) {
+            final var child = ws.strategy().explain(item, plan);
+            if (child.total() <= 0) continue;
+            for (var i = 0; i < child.componentCount(); i++) {
+                breakdown.add(child.nameAt(i), (int) (child.pointsAt(i) * ws.weight()));
+            }
+        }
+        return breakdown.add("rounding", score(item, plan) - breakdown.currentTotal()).build();
+    }
+
+    // ─── Compiled evaluation ───────────────────────────────────────
+
+    private int scoreCompiled(final T item, final QueryPlan plan, final int threshold) {
+        final var evaluation = plan.resolve(this, planner);
+        final var scratch    = this.scratch.get();
+        final var document   = scratch.document.reset(item);
+        final var raw        = scratch.raw;
+        final var order      = evaluation.order();
+        final var remaining  = evaluation.remaining();
+
+        var partial = 0.0;
+        for (var j = 0; j < order.length; j++) {
+            // With no threshold the right-hand side is below any sum, so this never fires
+            if ((partial + remaining[j]) * (1 + BOUND_SLACK) < threshold + 1.0) return (int) partial;
+            final var i     = order[j];
+            final var child = analyzed[i];
+            final var score = child != null
+                    ? child.score(document, plan)
+                    : strategies.get(i).strategy().score(item, plan);
+            raw[i] = score;
+            if (score > 0) partial += score * weights[i];
+        }
+
+        // Summed in configuration order, so the result matches the uncompiled composite exactly
+        var total = 0.0;
+        for (var i = 0; i < raw.length; i++) {
+            if (raw[i] > 0) total += raw[i] * weights[i];
+        }
+        return (int) total;
+    }
+
+    /** Orders the children for {@code plan}: unbounded first, then the largest weighted bounds. */
+    private Evaluation evaluation(final QueryPlan plan) {
+        final var bounds  = new double[weights.length];
+        final var indexes = new Integer[weights.length];
+        for (var i = 0; i < bounds.length; i++) {
+            final var bound = strategies.get(i).strategy().maxScore(plan);
+            bounds[i]  = bound == NO_BOUND ? Double.POSITIVE_INFINITY : Math.max(bound, 0) * weights[i];
+            indexes[i] = i;
+        }
+        // Largest bounds first: the remaining bound then shrinks fastest
+        Arrays.sort(indexes, (a, b) -> Double.compare(bounds[b], bounds[a]));
+
+        final var order     = new int[indexes.length];
+        final var remaining = new double[indexes.length];
+        var suffix = 0.0;
+        for (var j = indexes.length - 1; j >= 0; j--) {
+            order[j]     = indexes[j];
+            suffix      += bounds[order[j]];
+            remaining[j] = suffix;
+        }
+        return new Evaluation(order, remaining);
+    }
+
+    /**
+     * Plans {@code context} for the context overload, reusing the last plan for the same
+     * context. That path never passes a threshold, so the plan's bounds only order children.
+     */
+    private QueryPlan planOf(final SearchContext context) {
+        final var cached = lastPlan;
+        if (cached != null && cached.context() == context) return cached;
+        final var plan = QueryPlan.of(context);
+        lastPlan = plan;
+        return plan;
+    }
+
     /** Returns the number of child strategies in this composite. */
     public int strategyCount() { return strategies.size(); }
 
@@ -61,6 +220,7 @@ public final class CompositeScorer<T> implements ScoringStrategy<T> {
     public static final class Builder<T> {
 
         private final List<WeightedStrategy<T>> strategies = new ArrayList<>();
+        private boolean compiled;
 
         private Builder() {}
 
@@ -83,15 +243,41 @@ public final class CompositeScorer<T> implements ScoringStrategy<T> {
             return add(strategy, 1.0);
         }
 
+        /**
+         * Enables or disables compiled evaluation (default {@code false}): shared field
+         * extraction, and bound-ordered early exit below a threshold. Disabled, every
+         * child scores every document independently.
+         */
+        public Builder<T> compiled(final boolean compiled) {
+            this.compiled = compiled; return this;
+        }
+
         /**
          * Builds the composite scorer. Returns {@link ScoringStrategy#zero()} if no strategies
          * were added (avoids NPE in the engine pipeline).
          */
         public ScoringStrategy<T> build() {
             if (strategies.isEmpty()) return ScoringStrategy.zero();
-            return new CompositeScorer<>(strategies);
+            return new CompositeScorer<>(strategies, compiled);
         }
     }
 
     private record WeightedStrategy<T>(ScoringStrategy<T> strategy, double weight) {}
+
+    /**
+     * The evaluation order of one query.
+     *
+     * @param order     child indexes in evaluation order
+     * @param remaining the weighted bounds of {@code order[j..]}, summed
+     */
+    private record Evaluation(int[] order, double[] remaining) {}
+
+    /** Per-thread scratch: the shared document view and the children's raw scores. */
+    private static final class Scratch<T> {
+
+        final DocumentView<T> document = new DocumentView<>();
+        final int[] raw;
+
+        Scratch(final int size) { this.raw = new int[size]; }
+    }
 }
@@ -3,6 +3,7 @@ package search.engine.algorithm;
 import search.api.algorithm.Tokenizer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -12,11 +13,17 @@ import java.util.Set;
  * <h2>Processing pipeline</h2>
  * <ol>
  *   <li>Lowercase the text.</li>
- *   <li>Split on non-word characters (whitespace, punctuation).</li>
+ *   <li>Split on anything that is not an ASCII letter or digit (whitespace, punctuation,
+ *       underscores, non-ASCII characters).</li>
  *   <li>Discard tokens shorter than {@code minLength} (default 2).</li>
  *   <li>Discard English stop words.</li>
  * </ol>
  *
+ * <h2>Allocation</h2>
+ * Both entry points share one hand-written scanner — no regex, no lower-cased copy of the
+ * input. {@link #tokenize(CharSequence, TokenSink)} lower-cases into a single reused buffer
+ * and checks stop words against packed {@code long} keys, so it allocates nothing per token.
+ *
  * <h2>Why stop words matter</h2>
  * Without stop-word removal, terms like "the", "is", "for" appear in almost every
  * document and add noise to frequency-based scoring (especially BM25).
@@ -47,6 +54,19 @@ public final class DefaultTokenizer implements Tokenizer {
             "used", "using", "just", "some", "like", "well", "new"
     );
 
+    /** Stop words never exceed this many characters, so longer tokens skip the lookup. */
+    private static final int MAX_PACKED_LENGTH = 8;
+
+    /** {@link #STOP_WORDS} packed 8 bits per char into a sorted {@code long[]} for allocation-free lookup. */
+    private static final long[] PACKED_STOP_WORDS = STOP_WORDS.stream()
+            .mapToLong(word -> pack(word.toCharArray(), 0, word.length()))
+            .sorted()
+            .toArray();
+
+    private static final int INITIAL_BUFFER_SIZE = 32;
+
+    private static final char DOTTED_CAPITAL_I = '\u0130';
+
     private final int minTokenLength;
 
     /** Creates a tokenizer with default minimum token length of 2. */
@@ -68,14 +88,60 @@ public final class DefaultTokenizer implements Tokenizer {
         if (text == null || text.isBlank()) return List.of();
 
         final var result = new ArrayList<String>();
-        for (final var token : text.toLowerCase().split("[\\W_]+")) {
-            if (token.length() >= minTokenLength && !STOP_WORDS.contains(token)) {
-                result.add(token);
+        tokenize(text, (buffer, offset, length) -> result.add(new String(buffer, offset, length)));
+        return List.copyOf(result);
+    }
+
+    @Override
+    public void tokenize(final CharSequence text, final TokenSink sink) {
+        if (text == null) return;
+
+        var buffer = new char[INITIAL_BUFFER_SIZE];
+        var length = 0;
+        final var end = text.length();
+        for (var i = 0; i < end; i++) {
+            final var raw = text.charAt(i);
+            final var c   = toTokenChar(raw);
+            if (c != 0) {
+                if (length == buffer.length) buffer = Arrays.copyOf(buffer, length * 2);
+                buffer[length++] = c;
+            }
+            // 'İ' lower-cases to "i" + COMBINING DOT ABOVE, and the combining mark ends the token
+            if (c == 0 || raw == DOTTED_CAPITAL_I) {
+                emit(buffer, length, sink);
+                length = 0;
             }
         }
-        return List.copyOf(result);
+        emit(buffer, length, sink);
     }
 
     /** Returns the set of stop words this tokenizer removes. */
     public Set<String> stopWords() { return STOP_WORDS; }
+
+    // ─── Internal helpers ──────────────────────────────────────────
+
+    /** Returns the lower-cased token character for {@code c}, or 0 if {@code c} separates tokens. */
+    private static char toTokenChar(final char c) {
+        if (c >= 'a' && c <= 'z' || c >= '0' && c <= '9') return c;
+        if (c >= 'A' && c <= 'Z') return (char) (c + ('a' - 'A'));
+        if (c < 128) return 0;
+        // A few non-ASCII letters lower-case to ASCII (e.g. KELVIN SIGN → 'k')
+        final var lower = Character.toLowerCase(c);
+        return lower >= 'a' && lower <= 'z' ? lower : 0;
+    }
+
+    private void emit(final char[] buffer, final int length, final TokenSink sink) {
+        if (length >= minTokenLength && !isStopWord(buffer, length)) sink.token(buffer, 0, length);
+    }
+
+    private static boolean isStopWord(final char[] buffer, final int length) {
+        return length <= MAX_PACKED_LENGTH
+                && Arrays.binarySearch(PACKED_STOP_WORDS, pack(buffer, 0, length)) >= 0;
+    }
+
+    private static long pack(final char[] chars, final int offset, final int length) {
+        var packed = 0L;
+        for (var i = offset; i < offset + length; i++) packed = (packed << 8) | chars[i];
+        return packed;
+    }
 }
@@ -0,0 +1,87 @@
+package search.engine.algorithm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reusable per-candidate scratch that extracts and lower-cases each document field at most
+ * once, however many scorers read it.
+ *
+ * <p>Fields are memoised by extractor identity: scorers share a field when they were built
+ * with the same extractor instance, e.g. one {@code Function<Article, Set<String>> tags}
+ * passed to both a {@link TextMatchScorer} and a {@link TagScorer}. The view is
+ * {@linkplain #reset(Object) reset} for every candidate and allocates nothing itself once its
+ * memo arrays have grown to the number of fields in use.
+ *
+ * <p>Not thread-safe — one view per thread.
+ *
+ * @param <T> the document type
+ *
+ * @see AnalyzedScorer
+ */
+public final class DocumentView<T> {
+
+    private T item;
+    private Object[] extractors = new Object[4];
+    private Object[] values     = new Object[4];
+    private int size;
+
+    /** Points this view at {@code item}, dropping the fields memoised for the previous one. */
+    public DocumentView<T> reset(final T item) {
+        Arrays.fill(extractors, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        this.size = 0;
+        this.item = item;
+        return this;
+    }
+
+    /** Returns the current document. */
+    public T item() { return item; }
+
+    /** Returns {@code extractor}'s field of the current document, lower-cased. */
+    public String lowerText(final Function<? super T, String> extractor) {
+        final var slot = slotOf(extractor);
+        if (slot >= 0) return (String) values[slot];
+        final var text = extractor.apply(item).toLowerCase();
+        remember(extractor, text);
+        return text;
+    }
+
+    /** Returns {@code extractor}'s values of the current document, each lower-cased. */
+    @SuppressWarnings("unchecked")
+    public List<String> lowerTags(final Function<? super T, ? extends Collection<String>> extractor) {
+        final var slot = slotOf(extractor);
+        if (slot >= 0) return (List<String>) values[slot];
+        final var lower = lowerCase(extractor.apply(item));
+        remember(extractor, lower);
+        return lower;
+    }
+
+    /** Returns {@code values} lower-cased, in iteration order; {@code null} yields an empty list. */
+    static List<String> lowerCase(final Collection<String> values) {
+        if (values == null || values.isEmpty()) return List.of();
+        final var lower = new ArrayList<String>(values.size());
+        for (final var value : values) lower.add(value.toLowerCase());
+        return lower;
+    }
+
+    private int slotOf(final Object extractor) {
+        for (var i = 0; i < size; i++) {
+            if (extractors[i] == extractor) return i;
+        }
+        return -1;
+    }
+
+    private void remember(final Object extractor, final Object value) {
+        if (size == extractors.length) {
+            extractors = Arrays.copyOf(extractors, size * 2);
+            values     = Arrays.copyOf(values, size * 2);
+        }
+        extractors[size] = extractor;
+        values[size]     = value;
+        size++;
+    }
+}
@@ -3,7 +3,12 @@ package search.engine.algorithm;
 /**
  * Pure-static fuzzy text matching utilities used by scoring strategies.
  *
- * <p>All methods are null-safe, stateless, and thread-safe.
+ * <p>All methods are null-safe, stateless, and thread-safe. Target words are runs of
+ * {@code \w} characters ({@code [a-zA-Z0-9_]}); the target is scanned in place rather than
+ * split into a word array.
+ *
+ * <p>These helpers test one query word against one document. To match against a whole corpus
+ * without visiting every document, use {@link FuzzyTermScorer}.
  *
  * <h2>Matching hierarchy (strictest → loosest)</h2>
  * <ol>
@@ -13,7 +18,7 @@ package search.engine.algorithm;
  * </ol>
  *
  * @see TextMatchScorer
- * @see Bm25Scorer
+ * @see FuzzyTermScorer
  */
 public final class FuzzyMatcher {
 
@@ -53,9 +58,14 @@ public final class FuzzyMatcher {
                                           final int minWordLen, final int prefixLen) {
         if (queryWord == null || queryWord.length() < minWordLen) return false;
         if (target == null || target.isBlank()) return false;
-        final var prefix = queryWord.substring(0, Math.min(prefixLen, queryWord.length()));
-        for (final var targetWord : target.split("\\W+")) {
-            if (targetWord.length() >= prefixLen && targetWord.startsWith(prefix)) return true;
+        final var prefixLength = Math.min(prefixLen, queryWord.length());
+        var start = 0;
+        while (start < target.length()) {
+            if (!isWordChar(target.charAt(start))) { start++; continue; }
+            var end = start + 1;
+            while (end < target.length() && isWordChar(target.charAt(end))) end++;
+            if (end - start >= prefixLen && target.regionMatches(start, queryWord, 0, prefixLength)) return true;
+            start = end;
         }
         return false;
     }
@@ -73,10 +83,16 @@ public final class FuzzyMatcher {
     public static boolean hasSubstringMatch(final String queryWord, final String target) {
         if (queryWord == null || queryWord.length() < 3) return false;
         if (target == null || target.isBlank()) return false;
-        for (final var targetWord : target.split("\\W+")) {
-            if (targetWord.contains(queryWord)) return true;
+        // An occurrence lies inside a single target word exactly when the query word is all word chars
+        for (var i = 0; i < queryWord.length(); i++) {
+            if (!isWordChar(queryWord.charAt(i))) return false;
         }
-        return false;
+        return target.contains(queryWord);
+    }
+
+    /** {@code true} for the characters matched by the regex {@code \w}. */
+    private static boolean isWordChar(final char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_';
     }
 
     // ─── Utility scoring ──────────────────────────────────────────
@@ -0,0 +1,385 @@
+package search.engine.algorithm;
+
+import search.api.algorithm.ScoringStrategy;
+import search.api.algorithm.Tokenizer;
+import search.api.core.QueryPlan;
+import search.api.core.SearchContext;
+import search.engine.index.FuzzyTermIndex;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Typo-tolerant scoring that finds matching documents through term postings rather than by
+ * scanning each document's text.
+ *
+ * <p>{@link #index(Collection)} tokenizes the corpus once, building a term → documents postings
+ * list and a {@link FuzzyTermIndex} over the vocabulary. Each query word is then expanded
+ * against the vocabulary — not against every document — and the union of the matching terms'
+ * postings gives the score of every document that matches at all. Only those documents are
+ * kept, as sorted ordinal and score arrays, so a query costs memory in proportion to its
+ * matches rather than to the corpus; the per-document {@link #score} call is a binary search.
+ *
+ * <h2>Matching tiers (per query word, best tier wins)</h2>
+ * <ol>
+ *   <li><strong>Exact</strong> — the document contains the word as a term.</li>
+ *   <li><strong>Prefix</strong> — a document term shares the word's first
+ *       {@value FuzzyMatcher#DEFAULT_PREFIX_LENGTH} characters (words of at least
+ *       {@value FuzzyMatcher#DEFAULT_MIN_WORD_LENGTH} characters).</li>
+ *   <li><strong>Fuzzy</strong> — a document term contains the word (words of at least 3
+ *       characters), or is within {@code maxEditDistance} edits of it (words of at least
+ *       {@value FuzzyMatcher#DEFAULT_MIN_WORD_LENGTH} characters).</li>
+ * </ol>
+ * A document's score is the sum over query words of its best tier's points.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * FuzzyTermScorer<Article> fuzzy = FuzzyTermScorer.<Article>builder()
+ *         .textExtractor(a -> a.title() + " " + a.body())
+ *         .maxEditDistance(1)
+ *         .build();
+ * fuzzy.index(allArticles);   // once, after populating the corpus
+ * }</pre>
+ *
+ * <p>Documents not seen by the last {@code index} call are scored by tokenizing their text and
+ * applying the same tiers directly.
+ *
+ * @param <T> the document type
+ *
+ * @see FuzzyTermIndex
+ * @see FuzzyMatcher
+ */
+public final class FuzzyTermScorer<T> implements ScoringStrategy<T> {
+
+    /** Minimum query-word length for substring matching. */
+    private static final int MIN_SUBSTRING_LENGTH = 3;
+
+    private final Function<T, String> textExtractor;
+    private final Tokenizer tokenizer;
+    private final int exactPoints;
+    private final int prefixPoints;
+    private final int fuzzyPoints;
+    private final int maxEditDistance;
+    private final Function<QueryPlan, QueryScores> planResolver = plan -> queryScores(plan.input(), this.snapshot);
+
+    // ─── Index snapshot (built explicitly) ─────────────────────────
+    private volatile Snapshot<T> snapshot = Snapshot.empty();
+    private volatile QueryScores lastQuery;
+
+    private FuzzyTermScorer(final Builder<T> builder) {
+        this.textExtractor   = builder.textExtractor;
+        this.tokenizer       = builder.tokenizer;
+        this.exactPoints     = builder.exactPoints;
+        this.prefixPoints    = builder.prefixPoints;
+        this.fuzzyPoints     = builder.fuzzyPoints;
+        this.maxEditDistance = builder.maxEditDistance;
+    }
+
+    /**
+     * Indexes the corpus: the vocabulary, its fuzzy-lookup index, and term → document postings.
+     *
+     * <p><strong>Call this once after populating the index</strong>, and again after the corpus
+     * changes.
+     *
+     * @param corpus all documents in the index
+     */
+    public void index(final Collection<T> corpus) {
+        Objects.requireNonNull(corpus, "corpus must not be null");
+        final var collector = new PostingsCollector();
+        final var ordinals  = new IdentityHashMap<T, Integer>(corpus.size());
+        for (final var item : corpus) {
+            ordinals.put(item, ordinals.size());
+            tokenizer.tokenize(textExtractor.apply(item), collector);
+            collector.endDocument();
+        }
+
+        this.snapshot  = new Snapshot<>(collector.vocabulary, new FuzzyTermIndex(collector.vocabulary),
+                collector.postings(), Collections.unmodifiableMap(ordinals), true);
+        this.lastQuery = null;
+    }
+
+    @Override
+    public int score(final T item, final SearchContext context) {
+        Objects.requireNonNull(item,    "item must not be null");
+        Objects.requireNonNull(context, "context must not be null");
+
+        final var index   = snapshot;
+        final var ordinal = index.ordinals().get(item);
+        if (ordinal == null) return scoreText(item, queryScores(context.normalizedInput(), index).words());
+        return queryScores(context.normalizedInput(), index).byDocument().get(ordinal);
+    }
+
+    /** Reads the query's scores from {@code plan}, computed once per search. */
+    @Override
+    public int score(final T item, final QueryPlan plan) {
+        Objects.requireNonNull(item, "item must not be null");
+        Objects.requireNonNull(plan, "plan must not be null");
+
+        final var index   = snapshot;
+        final var planned = plan.resolve(this, planResolver);
+        final var scores  = planned.snapshot() == index ? planned : queryScores(plan.input(), index);
+        final var ordinal = index.ordinals().get(item);
+        return ordinal != null ? scores.byDocument().get(ordinal) : scoreText(item, scores.words());
+    }
+
+    /** Returns {@code true} if {@link #index(Collection)} has been called. */
+    public boolean isIndexed() { return snapshot.indexed(); }
+
+    /** Returns the number of distinct terms in the indexed vocabulary. */
+    public int vocabularySize() { return snapshot.vocabulary().size(); }
+
+    public static <T> Builder<T> builder() { return new Builder<>(); }
+
+    // ─── Internal helpers ──────────────────────────────────────────
+
+    /**
+     * Computes the scores of the indexed documents matching the query via postings, caching the
+     * result for the last distinct query.
+     */
+    private QueryScores queryScores(final String input, final Snapshot<T> index) {
+        final var cached = lastQuery;
+        if (cached != null && cached.snapshot() == index && cached.input().equals(input)) return cached;
+
+        final var fuzzy = index.fuzzy();
+        final var words = tokenizer.tokenize(input);
+        var total = SparsePoints.EMPTY;
+        for (final var word : words) {
+            // Every vocabulary term the word matches, at each tier it matches
+            final var matched = new MatchedTerms();
+            if (word.length() >= MIN_SUBSTRING_LENGTH) matched.raise(fuzzy.containing(word), fuzzyPoints);
+            if (word.length() >= FuzzyMatcher.DEFAULT_MIN_WORD_LENGTH) {
+                if (maxEditDistance > 0) matched.raise(fuzzy.withinDistance(word, maxEditDistance), fuzzyPoints);
+                matched.raise(fuzzy.withPrefix(word.substring(0, FuzzyMatcher.DEFAULT_PREFIX_LENGTH)), prefixPoints);
+            }
+            final var exact = index.vocabulary().idOf(word);
+            if (exact != TermDictionary.ABSENT) matched.raise(new int[]{exact}, exactPoints);
+
+            total = total.plus(matched.bestPerDocument(index.postings()));
+        }
+
+        final var scores = new QueryScores(input, index, words, total);
+        lastQuery = scores;
+        return scores;
+    }
+
+    /** Fallback for documents outside the last {@code index} call: applies the tiers term by term. */
+    private int scoreText(final T item, final List<String> words) {
+        if (words.isEmpty()) return 0;
+        final var terms = tokenizer.tokenize(textExtractor.apply(item));
+        var total = 0;
+        for (final var word : words) {
+            var best = 0;
+            for (final var term : terms) best = Math.max(best, tierPoints(word, term));
+            total += best;
+        }
+        return total;
+    }
+
+    private int tierPoints(final String word, final String term) {
+        var points = term.equals(word) ? exactPoints : 0;
+        final var longEnough = word.length() >= FuzzyMatcher.DEFAULT_MIN_WORD_LENGTH;
+        if (longEnough && term.startsWith(word.substring(0, FuzzyMatcher.DEFAULT_PREFIX_LENGTH))) {
+            points = Math.max(points, prefixPoints);
+        }
+        if (word.length() >= MIN_SUBSTRING_LENGTH && term.contains(word)
+                || longEnough && maxEditDistance > 0 && FuzzyTermIndex.withinEditDistance(word, term, maxEditDistance)) {
+            points = Math.max(points, fuzzyPoints);
+        }
+        return points;
+    }
+
+    // ─── Snapshots ───────────────────────────────────────────────────
+
+    /** Immutable index state published atomically by {@link #index(Collection)}. */
+    private record Snapshot<T>(TermDictionary vocabulary, FuzzyTermIndex fuzzy, int[][] postings,
+                               Map<T, Integer> ordinals, boolean indexed) {
+
+        @SuppressWarnings("rawtypes")
+        private static final Snapshot EMPTY = new Snapshot<>(
+                new TermDictionary(), new FuzzyTermIndex(new TermDictionary()), new int[0][], Map.of(), false);
+
+        @SuppressWarnings("unchecked")
+        static <T> Snapshot<T> empty() { return (Snapshot<T>) EMPTY; }
+    }
+
+    /** Terms matched by one query word, with the points of each tier they matched at. */
+    private static final class MatchedTerms {
+
+        private long[] entries = new long[16]; // SparsePoints.pack(term, points)
+        private int count;
+
+        void raise(final int[] termIds, final int points) {
+            if (points == 0) return;
+            for (final var term : termIds) {
+                if (count == entries.length) entries = Arrays.copyOf(entries, count * 2);
+                entries[count++] = SparsePoints.pack(term, points);
+            }
+        }
+
+        /** Each document's best tier for the word, over the union of the matched terms' postings. */
+        SparsePoints bestPerDocument(final int[][] postings) {
+            final var terms = SparsePoints.best(entries, count);
+            var hits = 0;
+            for (var i = 0; i < terms.size(); i++) hits += postings[terms.keys()[i]].length;
+            final var byDocument = new long[hits];
+            var n = 0;
+            for (var i = 0; i < terms.size(); i++) {
+                for (final var doc : postings[terms.keys()[i]]) {
+                    byDocument[n++] = SparsePoints.pack(doc, terms.points()[i]);
+                }
+            }
+            return SparsePoints.best(byDocument, n);
+        }
+    }
+
+    /**
+     * Points by key — term ID or document ordinal — for the keys that have any, as parallel
+     * arrays sorted by key.
+     */
+    private record SparsePoints(int[] keys, int[] points) {
+
+        static final SparsePoints EMPTY = new SparsePoints(new int[0], new int[0]);
+
+        /** Packs a non-negative key and points so that packed values sort by key, then points. */
+        static long pack(final int key, final int points) {
+            return (long) key << Integer.SIZE | points;
+        }
+
+        /** The highest points per key among {@code packed[0, count)}, which is sorted in place. */
+        static SparsePoints best(final long[] packed, final int count) {
+            Arrays.sort(packed, 0, count);
+            final var keys   = new int[count];
+            final var points = new int[count];
+            var size = 0;
+            for (var i = 0; i < count; i++) {
+                final var key = (int) (packed[i] >>> Integer.SIZE);
+                if (size == 0 || keys[size - 1] != key) size++;
+                keys[size - 1]   = key;
+                points[size - 1] = (int) packed[i]; // ascending within a key: the last is the best
+            }
+            return new SparsePoints(Arrays.copyOf(keys, size), Arrays.copyOf(points, size));
+        }
+
+        int size() { return keys.length; }
+
+        /** Returns the points for {@code key}, or 0 if it has none. */
+        int get(final int key) {
+            final var i = Arrays.binarySearch(keys, key);
+            return i >= 0 ? points[i] : 0;
+        }
+
+        /** Returns the per-key sum of this and {@code other}. */
+        SparsePoints plus(final SparsePoints other) {
+            if (keys.length == 0) return other;
+            if (other.keys.length == 0) return this;
+            final var sumKeys   = new int[keys.length + other.keys.length];
+            final var sumPoints = new int[sumKeys.length];
+            var i = 0;
+            var j = 0;
+            var n = 0;
+            while (i < keys.length || j < other.keys.length) {
+                final var key = j == other.keys.length || i < keys.length && keys[i] <= other.keys[j]
+                        ? keys[i] : other.keys[j];
+                var sum = 0;
+                if (i < keys.length && keys[i] == key) sum += points[i++];
+                if (j < other.keys.length && other.keys[j] == key) sum += other.points[j++];
+                sumKeys[n]     = key;
+                sumPoints[n++] = sum;
+            }
+            return new SparsePoints(Arrays.copyOf(sumKeys, n), Arrays.copyOf(sumPoints, n));
+        }
+    }
+
+    /** Token sink that builds the vocabulary and one postings entry per distinct term per document. */
+    private static final class PostingsCollector implements Tokenizer.TokenSink {
+
+        final TermDictionary vocabulary = new TermDictionary();
+        private int[][] postings = new int[64][];
+        private int[] sizes      = new int[64];
+        private int[] lastDoc    = new int[64];
+        private int document;
+
+        @Override
+        public void token(final char[] buffer, final int offset, final int length) {
+            final var term = vocabulary.add(buffer, offset, length);
+            if (term == postings.length) {
+                postings = Arrays.copyOf(postings, term * 2);
+                sizes    = Arrays.copyOf(sizes,    term * 2);
+                lastDoc  = Arrays.copyOf(lastDoc,  term * 2);
+            }
+            if (postings[term] == null) {
+                postings[term] = new int[4];
+                lastDoc[term]  = -1;
+            }
+            if (lastDoc[term] == document) return;
+            lastDoc[term] = document;
+            if (sizes[term] == postings[term].length) postings[term] = Arrays.copyOf(postings[term], sizes[term] * 2);
+            postings[term][sizes[term]++] = document;
+        }
+
+        void endDocument() { document++; }
+
+        /** Term ID → ascending document ordinals. */
+        int[][] postings() {
+            final var compact = new int[vocabulary.size()][];
+            for (var term = 0; term < compact.length; term++) compact[term] = Arrays.copyOf(postings[term], sizes[term]);
+            return compact;
+        }
+    }
+
+    /** The scores of the indexed documents matching one query, by ordinal, and the query's words. */
+    private record QueryScores(String input, Snapshot<?> snapshot, List<String> words, SparsePoints byDocument) {}
+
+    // ─── Builder ────────────────────────────────────────────────────
+
+    /** Fluent builder for {@link FuzzyTermScorer}. */
+    public static final class Builder<T> {
+
+        private Function<T, String> textExtractor = item -> "";
+        private Tokenizer tokenizer = new DefaultTokenizer();
+        private int exactPoints  = 10;
+        private int prefixPoints = 6;
+        private int fuzzyPoints  = 3;
+        private int maxEditDistance = 1;
+
+        private Builder() {}
+
+        /**
+         * Extracts the matched text from a document.
+         * Multiple fields can be concatenated: {@code a -> a.title() + " " + a.body()}.
+         */
+        public Builder<T> textExtractor(final Function<T, String> extractor) {
+            this.textExtractor = Objects.requireNonNull(extractor); return this;
+        }
+
+        /** Sets the tokenizer used for both documents and queries. Default: {@link DefaultTokenizer}. */
+        public Builder<T> tokenizer(final Tokenizer tokenizer) {
+            this.tokenizer = Objects.requireNonNull(tokenizer); return this;
+        }
+
+        /** Sets the points per query word for an exact, prefix, and fuzzy hit. Default: 10 / 6 / 3. */
+        public Builder<T> points(final int exact, final int prefix, final int fuzzy) {
+            if (exact < 0 || prefix < 0 || fuzzy < 0) throw new IllegalArgumentException("points must be ≥ 0");
+            this.exactPoints  = exact;
+            this.prefixPoints = prefix;
+            this.fuzzyPoints  = fuzzy;
+            return this;
+        }
+
+        /** Sets the maximum edit distance for fuzzy hits; 0 disables edit-distance matching. Default: 1. */
+        public Builder<T> maxEditDistance(final int maxEditDistance) {
+            if (maxEditDistance < 0) {
+                throw new IllegalArgumentException("maxEditDistance must be ≥ 0, got: " + maxEditDistance);
+            }
+            this.maxEditDistance = maxEditDistance; return this;
+        }
+
+        public FuzzyTermScorer<T> build() { return new FuzzyTermScorer<>(this); }
+    }
+}
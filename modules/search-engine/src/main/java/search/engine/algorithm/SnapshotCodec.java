@@ -0,0 +1,305 @@
+package search.engine.algorithm;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Compact, versioned snapshot files for built search structures — the shared encoding behind
+ * {@link search.engine.index.InvertedIndex#writeSnapshot(Path, long)} and
+ * {@link Bm25Statistics#writeSnapshot(Path, long)}.
+ *
+ * <p>A snapshot body is a stream of unsigned LEB128 varints (7 bits per byte, low bits first),
+ * UTF-8 strings and front-coded term lists written through an {@link Encoder}; callers
+ * delta-code sorted integers (postings ordinals) before writing them, so most fit one byte.
+ * The file wraps the body in a fixed header and a trailing checksum:
+ *
+ * <pre>
+ * int  magic            identifies the snapshot kind
+ * int  formatVersion    owner's body version
+ * long corpusChecksum   caller-supplied identity of the corpus the snapshot was built from
+ * int  bodyLength
+ * byte body[bodyLength]
+ * long crc32            CRC-32 of everything above
+ * </pre>
+ *
+ * All fixed-width integers are big-endian, as in {@link search.engine.index.MappedSegment}.
+ *
+ * <h2>Loading</h2>
+ * {@link #read(Path, int, int, long)} reads the whole file with one sequential read and returns
+ * a {@link Decoder} over the body — or nothing when the file is absent, of another kind or
+ * version, built from another corpus, or fails its checksum. Every such case means "rebuild",
+ * so none of them throws; only I/O failures do.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * var checksum = SnapshotCodec.checksum(texts);
+ * if (!index.restoreSnapshot(path, checksum, documentsById::get)) {
+ *     documents.forEach(doc -> index.add(doc.id(), doc));
+ *     index.writeSnapshot(path, checksum);
+ * }
+ * }</pre>
+ *
+ * @see search.engine.index.InvertedIndex
+ * @see Bm25Statistics
+ */
+public final class SnapshotCodec {
+
+    private static final Logger LOGGER = Logger.getLogger(SnapshotCodec.class.getName());
+
+    /** Bytes before the body: magic, version, corpus checksum, body length. */
+    private static final int HEADER_BYTES = 2 * Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    /** Bytes after the body: the CRC-32, widened to a long. */
+    private static final int TRAILER_BYTES = Long.BYTES;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME  = 0x100000001b3L;
+
+    private SnapshotCodec() {}
+
+    // ─── Files ─────────────────────────────────────────────────────
+
+    /**
+     * Writes {@code body} as a snapshot file, replacing any existing file. The file is written
+     * to a temporary sibling and moved into place, so readers never see a partial snapshot.
+     *
+     * @param path           the snapshot file (never null)
+     * @param magic          identifies the snapshot kind
+     * @param version        the body format version
+     * @param corpusChecksum identity of the corpus the body was built from
+     * @param body           the encoded body (never null)
+     * @return the file size in bytes
+     * @throws IOException if the file cannot be written
+     */
+    public static long write(final Path path, final int magic, final int version, final long corpusChecksum,
+                             final Encoder body) throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+        Objects.requireNonNull(body, "body must not be null");
+        final var buffer = ByteBuffer.allocate(HEADER_BYTES + body.size + TRAILER_BYTES);
+        buffer.putInt(magic).putInt(version).putLong(corpusChecksum).putInt(body.size).put(body.bytes, 0, body.size);
+        final var crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putLong(crc.getValue());
+
+        final var temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.flip();
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return buffer.limit();
+    }
+
+    /**
+     * Reads a snapshot file written by {@link #write(Path, int, int, long, Encoder)}.
+     *
+     * @param path           the snapshot file (never null)
+     * @param magic          the expected snapshot kind
+     * @param version        the expected body format version
+     * @param corpusChecksum the checksum of the current corpus
+     * @return a decoder over the body, or empty if the snapshot is absent, stale or corrupt
+     * @throws IOException if the file exists but cannot be read
+     */
+    public static Optional<Decoder> read(final Path path, final int magic, final int version,
+                                         final long corpusChecksum) throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+        final byte[] file;
+        try {
+            file = Files.readAllBytes(path);
+        } catch (final NoSuchFileException absent) {
+            LOGGER.fine(() -> "SnapshotCodec: no snapshot at " + path);
+            return Optional.empty();
+        }
+        if (file.length < HEADER_BYTES + TRAILER_BYTES) return rejected(path, "truncated");
+
+        final var buffer = ByteBuffer.wrap(file);
+        if (buffer.getInt() != magic) return rejected(path, "not this kind of snapshot");
+        final var fileVersion = buffer.getInt();
+        if (fileVersion != version) return rejected(path, "format version " + fileVersion + ", expected " + version);
+        if (buffer.getLong() != corpusChecksum) return rejected(path, "built from a different corpus");
+        final var bodyLength = buffer.getInt();
+        if (bodyLength < 0 || bodyLength != file.length - HEADER_BYTES - TRAILER_BYTES) {
+            return rejected(path, "truncated");
+        }
+        final var crc = new CRC32();
+        crc.update(file, 0, HEADER_BYTES + bodyLength);
+        if (buffer.getLong(HEADER_BYTES + bodyLength) != crc.getValue()) return rejected(path, "checksum mismatch");
+        return Optional.of(new Decoder(file, HEADER_BYTES, HEADER_BYTES + bodyLength));
+    }
+
+    /**
+     * Returns a 64-bit FNV-1a checksum of {@code parts}, in order — a cheap corpus identity
+     * for {@link #read(Path, int, int, long)}. Include everything the snapshot depends on
+     * (document IDs and indexed text); part boundaries are significant.
+     *
+     * @param parts the strings to digest (never null; null elements hash as empty)
+     */
+    public static long checksum(final Iterable<? extends CharSequence> parts) {
+        Objects.requireNonNull(parts, "parts must not be null");
+        var hash = FNV_OFFSET;
+        for (final var part : parts) {
+            final var length = part != null ? part.length() : 0;
+            for (var i = 0; i < length; i++) {
+                final var c = part.charAt(i);
+                hash = (hash ^ (c & 0xff)) * FNV_PRIME;
+                hash = (hash ^ (c >>> 8)) * FNV_PRIME;
+            }
+            hash = (hash ^ length) * FNV_PRIME; // separator: ("ab", "c") ≠ ("a", "bc")
+        }
+        return hash;
+    }
+
+    private static Optional<Decoder> rejected(final Path path, final String reason) {
+        LOGGER.info(() -> "SnapshotCodec: ignoring snapshot " + path + " (" + reason + ")");
+        return Optional.empty();
+    }
+
+    // ─── Encoder ───────────────────────────────────────────────────
+
+    /** Growable byte buffer that writes a snapshot body. Not thread-safe. */
+    public static final class Encoder {
+
+        private byte[] bytes;
+        private int size;
+
+        /** Creates an encoder with room for {@code capacity} bytes before it grows. */
+        public Encoder(final int capacity) {
+            this.bytes = new byte[Math.max(capacity, 16)];
+        }
+
+        /** Writes a non-negative {@code int} as a varint (1–5 bytes). */
+        public Encoder varInt(final int value) {
+            if (value < 0) throw new IllegalArgumentException("varInt must be ≥ 0, got: " + value);
+            return varLong(value);
+        }
+
+        /** Writes a non-negative {@code long} as a varint (1–10 bytes). */
+        public Encoder varLong(final long value) {
+            if (value < 0) throw new IllegalArgumentException("varLong must be ≥ 0, got: " + value);
+            ensure(10);
+            var v = value;
+            while ((v & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            bytes[size++] = (byte) v;
+            return this;
+        }
+
+        /** Writes a string as its UTF-8 byte count (varint) followed by the bytes. */
+        public Encoder string(final String value) {
+            final var utf8 = value.getBytes(StandardCharsets.UTF_8);
+            varInt(utf8.length);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, bytes, size, utf8.length);
+            size += utf8.length;
+            return this;
+        }
+
+        /**
+         * Writes a sorted term list, front-coded: its size, then per term the length (in chars)
+         * of the prefix shared with the previous term and the remaining suffix as a string.
+         *
+         * @param terms the terms in {@link String#compareTo} order
+         */
+        public Encoder terms(final String[] terms) {
+            varInt(terms.length);
+            var previous = "";
+            for (final var term : terms) {
+                var shared = 0;
+                final var limit = Math.min(previous.length(), term.length());
+                while (shared < limit && previous.charAt(shared) == term.charAt(shared)) shared++;
+                // Never split a surrogate pair between prefix and suffix
+                if (shared > 0 && Character.isHighSurrogate(term.charAt(shared - 1))) shared--;
+                varInt(shared).string(term.substring(shared));
+                previous = term;
+            }
+            return this;
+        }
+
+        /** Returns the number of bytes written so far. */
+        public int size() { return size; }
+
+        private void ensure(final int extra) {
+            if (size + extra > bytes.length) bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+
+    // ─── Decoder ───────────────────────────────────────────────────
+
+    /** Sequential reader over a snapshot body, mirroring {@link Encoder}. Not thread-safe. */
+    public static final class Decoder {
+
+        private final byte[] bytes;
+        private final int end;
+        private int position;
+
+        private Decoder(final byte[] bytes, final int start, final int end) {
+            this.bytes    = bytes;
+            this.position = start;
+            this.end      = end;
+        }
+
+        /** Reads a varint written by {@link Encoder#varInt(int)}. */
+        public int varInt() {
+            final var value = varLong();
+            if (value > Integer.MAX_VALUE) throw new IllegalStateException("varInt out of range: " + value);
+            return (int) value;
+        }
+
+        /** Reads a varint written by {@link Encoder#varLong(long)}. */
+        public long varLong() {
+            var value = 0L;
+            for (var shift = 0; shift < Long.SIZE; shift += 7) {
+                final var b = next();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new IllegalStateException("Malformed varint at byte " + position);
+        }
+
+        /** Reads a string written by {@link Encoder#string(String)}. */
+        public String string() {
+            final var length = varInt();
+            if (length > end - position) throw new IllegalStateException("String overruns the snapshot body");
+            final var value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        /** Reads a term list written by {@link Encoder#terms(String[])}. */
+        public String[] terms() {
+            final var terms = new String[varInt()];
+            var previous = "";
+            for (var i = 0; i < terms.length; i++) {
+                final var shared = varInt();
+                if (shared > previous.length()) throw new IllegalStateException("Bad term prefix at term " + i);
+                terms[i] = previous.substring(0, shared) + string();
+                previous = terms[i];
+            }
+            return terms;
+        }
+
+        /** Returns {@code true} if the whole body has been read. */
+        public boolean isExhausted() { return position == end; }
+
+        private int next() {
+            if (position >= end) throw new IllegalStateException("Unexpected end of snapshot body");
+            return bytes[position++];
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package search.engine.algorithm;
 
-import search.api.algorithm.ScoringStrategy;
+import search.api.core.QueryPlan;
+import search.api.core.ScoreBreakdown;
 import search.api.core.SearchContext;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -24,7 +26,7 @@ import java.util.function.Function;
  *
  * @param <T> the document type
  */
-public final class TagScorer<T> implements ScoringStrategy<T> {
+public final class TagScorer<T> implements AnalyzedScorer<T> {
 
     /** Minimum query-word length for tag matching. */
     static final int MIN_WORD_LENGTH = 3;
@@ -32,6 +34,7 @@ public final class TagScorer<T> implements ScoringStrategy<T> {
     private final Function<T, Collection<String>> tagsExtractor;
     private final int hitPoints;
     private final int wholeTagBonus;
+    private volatile QueryPlan lastPlan;
 
     private TagScorer(final Builder<T> builder) {
         this.tagsExtractor = builder.tagsExtractor;
@@ -41,23 +44,62 @@ public final class TagScorer<T> implements ScoringStrategy<T> {
 
     @Override
     public int score(final T item, final SearchContext context) {
-        Objects.requireNonNull(item,    "item must not be null");
-        Objects.requireNonNull(context, "context must not be null");
+        return score(item, planOf(context), null);
+    }
+
+    @Override
+    public int score(final T item, final QueryPlan plan) {
+        return score(item, plan, null);
+    }
+
+    @Override
+    public int score(final DocumentView<T> document, final QueryPlan plan) {
+        if (plan.isBlank()) return 0;
+        return score(document.lowerTags(tagsExtractor), plan, null);
+    }
+
+    /** Bounded by a whole-tag hit for every query word that is scored. */
+    @Override
+    public int maxScore(final QueryPlan plan) {
+        final long perWord = Math.max(0, hitPoints) + (long) Math.max(0, wholeTagBonus);
+        final long bound   = perWord * plan.tokenCount(MIN_WORD_LENGTH);
+        return (int) Math.min(bound, NO_BOUND - 1L);
+    }
 
-        final var input = context.normalizedInput();
-        if (input.isBlank()) return 0;
+    /** Reports the hit and whole-tag points of each query word, as {@code tagHit:word} / {@code wholeTag:word}. */
+    @Override
+    public ScoreBreakdown explain(final T item, final SearchContext context) {
+        final var breakdown = ScoreBreakdown.builder();
+        score(item, planOf(context), breakdown);
+        return breakdown.build();
+    }
 
-        final var tags = tagsExtractor.apply(item);
-        if (tags == null || tags.isEmpty()) return 0;
+    /** Scores {@code item}, recording each word's points in {@code explain} unless it is null. */
+    private int score(final T item, final QueryPlan plan, final ScoreBreakdown.Builder explain) {
+        Objects.requireNonNull(item, "item must not be null");
+        Objects.requireNonNull(plan, "plan must not be null");
+        if (plan.isBlank()) return 0;
+        return score(DocumentView.lowerCase(tagsExtractor.apply(item)), plan, explain);
+    }
+
+    /** Scores lower-cased tags against a planned, non-blank query. */
+    private int score(final List<String> tags, final QueryPlan plan, final ScoreBreakdown.Builder explain) {
+        if (tags.isEmpty()) return 0;
 
         var total = 0;
-        for (final var word : input.split("\\s+")) {
+        for (var w = 0; w < plan.tokenCount(); w++) {
+            final var word = plan.token(w);
             if (word.length() < MIN_WORD_LENGTH) continue;
-            for (final var tag : tags) {
-                final var tagLower = tag.toLowerCase();
+            for (var t = 0; t < tags.size(); t++) {
+                final var tagLower = tags.get(t);
                 if (tagLower.contains(word)) {
+                    final var whole = tagLower.equals(word);
                     total += hitPoints;
-                    if (tagLower.equals(word)) total += wholeTagBonus;
+                    if (whole) total += wholeTagBonus;
+                    if (explain != null) {
+                        explain.add("tagHit:" + word, hitPoints);
+                        if (whole) explain.add("wholeTag:" + word, wholeTagBonus);
+                    }
                     break; // count each word once, even if it matches multiple tags
                 }
             }
@@ -65,6 +107,16 @@ public final class TagScorer<T> implements ScoringStrategy<T> {
         return total;
     }
 
+    /** Plans {@code context} for the context overloads, reusing the last plan for the same input. */
+    private QueryPlan planOf(final SearchContext context) {
+        Objects.requireNonNull(context, "context must not be null");
+        final var cached = lastPlan;
+        if (cached != null && cached.input().equals(context.normalizedInput())) return cached;
+        final var plan = QueryPlan.of(context);
+        lastPlan = plan;
+        return plan;
+    }
+
     public static <T> Builder<T> builder() { return new Builder<>(); }
 
     /** Fluent builder for {@link TagScorer}. */
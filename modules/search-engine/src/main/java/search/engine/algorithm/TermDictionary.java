@@ -0,0 +1,134 @@
+package search.engine.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash dictionary mapping terms to dense integer IDs ({@code 0, 1, 2, …}).
+ *
+ * <p>Unlike a {@code Map<String, Integer>}, lookups accept a {@code char[]} span — exactly what
+ * {@link search.api.algorithm.Tokenizer#tokenize(CharSequence, search.api.algorithm.Tokenizer.TokenSink)}
+ * emits — so resolving a token to its ID allocates nothing. A {@code String} is created only
+ * when a new term is {@linkplain #add(char[], int, int) added}.
+ *
+ * <h2>Thread safety</h2>
+ * Not thread-safe while being built. Once fully built and safely published (e.g., through a
+ * {@code volatile} or {@code final} field), concurrent {@code idOf} / {@code term} reads are safe.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * var dictionary = new TermDictionary();
+ * tokenizer.tokenize(text, (buf, off, len) -> dictionary.add(buf, off, len));
+ * int id = dictionary.idOf("java");   // -1 if absent
+ * }</pre>
+ *
+ * @see DefaultTokenizer
+ * @see Bm25Scorer
+ */
+public final class TermDictionary {
+
+    /** ID returned for absent terms. */
+    public static final int ABSENT = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] slots;          // term ID + 1 per slot; 0 = empty
+    private int[] slotHashes;
+    private String[] terms = new String[INITIAL_CAPACITY];
+    private int size;
+
+    /** Creates an empty dictionary. */
+    public TermDictionary() {
+        this.slots      = new int[INITIAL_CAPACITY * 2];
+        this.slotHashes = new int[INITIAL_CAPACITY * 2];
+    }
+
+    /**
+     * Returns the ID of the term in {@code buffer[offset, offset + length)}, or {@link #ABSENT}.
+     */
+    public int idOf(final char[] buffer, final int offset, final int length) {
+        final var hash = hash(buffer, offset, length);
+        final var mask = slots.length - 1;
+        for (var slot = hash & mask; ; slot = (slot + 1) & mask) {
+            final var entry = slots[slot];
+            if (entry == 0) return ABSENT;
+            if (slotHashes[slot] == hash && matches(terms[entry - 1], buffer, offset, length)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /** Returns the ID of {@code term}, or {@link #ABSENT}. */
+    public int idOf(final String term) {
+        final var chars = term.toCharArray();
+        return idOf(chars, 0, chars.length);
+    }
+
+    /**
+     * Returns the ID of the term in {@code buffer[offset, offset + length)}, adding it with the
+     * next free ID if absent.
+     */
+    public int add(final char[] buffer, final int offset, final int length) {
+        final var hash = hash(buffer, offset, length);
+        final var mask = slots.length - 1;
+        var slot = hash & mask;
+        for (; slots[slot] != 0; slot = (slot + 1) & mask) {
+            if (slotHashes[slot] == hash && matches(terms[slots[slot] - 1], buffer, offset, length)) {
+                return slots[slot] - 1;
+            }
+        }
+        if (size == terms.length) terms = Arrays.copyOf(terms, size * 2);
+        final var id = size++;
+        terms[id]        = new String(buffer, offset, length);
+        slots[slot]      = id + 1;
+        slotHashes[slot] = hash;
+        if (size * 2 > slots.length) rehash();
+        return id;
+    }
+
+    /** Adds {@code term} if absent and returns its ID. */
+    public int add(final String term) {
+        final var chars = term.toCharArray();
+        return add(chars, 0, chars.length);
+    }
+
+    /** Returns the term with the given ID. */
+    public String term(final int id) {
+        if (id < 0 || id >= size) throw new IndexOutOfBoundsException("No term with id " + id);
+        return terms[id];
+    }
+
+    /** Returns the number of terms. */
+    public int size() { return size; }
+
+    // ─── Internal helpers ──────────────────────────────────────────
+
+    private void rehash() {
+        final var capacity = slots.length * 2;
+        final var mask     = capacity - 1;
+        final var newSlots  = new int[capacity];
+        final var newHashes = new int[capacity];
+        for (var old = 0; old < slots.length; old++) {
+            if (slots[old] == 0) continue;
+            var slot = slotHashes[old] & mask;
+            while (newSlots[slot] != 0) slot = (slot + 1) & mask;
+            newSlots[slot]  = slots[old];
+            newHashes[slot] = slotHashes[old];
+        }
+        slots      = newSlots;
+        slotHashes = newHashes;
+    }
+
+    private static int hash(final char[] buffer, final int offset, final int length) {
+        var h = 0;
+        for (var i = offset; i < offset + length; i++) h = 31 * h + buffer[i];
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean matches(final String term, final char[] buffer, final int offset, final int length) {
+        if (term.length() != length) return false;
+        for (var i = 0; i < length; i++) {
+            if (term.charAt(i) != buffer[offset + i]) return false;
+        }
+        return true;
+    }
+}
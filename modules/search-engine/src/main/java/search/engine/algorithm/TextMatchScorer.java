@@ -1,9 +1,12 @@
 package search.engine.algorithm;
 
 import search.api.algorithm.ScoringStrategy;
+import search.api.core.QueryPlan;
+import search.api.core.ScoreBreakdown;
 import search.api.core.SearchContext;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -39,12 +42,16 @@ import java.util.function.Function;
  * @see FuzzyMatcher
  * @see Bm25Scorer
  */
-public final class TextMatchScorer<T> implements ScoringStrategy<T> {
+public final class TextMatchScorer<T> implements AnalyzedScorer<T> {
+
+    /** Minimum query-word length for per-word matching. */
+    static final int MIN_WORD_LENGTH = 2;
 
     private final Function<T, String> titleExtractor;
     private final Function<T, String> bodyExtractor;
     private final Function<T, Collection<String>> tagsExtractor;
     private final Scores scores;
+    private volatile QueryPlan lastPlan;
 
     private TextMatchScorer(final Builder<T> builder) {
         this.titleExtractor = builder.titleExtractor;
@@ -55,50 +62,115 @@ public final class TextMatchScorer<T> implements ScoringStrategy<T> {
 
     @Override
     public int score(final T item, final SearchContext context) {
-        Objects.requireNonNull(item,    "item must not be null");
-        Objects.requireNonNull(context, "context must not be null");
+        return score(item, planOf(context), null);
+    }
+
+    @Override
+    public int score(final T item, final QueryPlan plan) {
+        return score(item, plan, null);
+    }
+
+    @Override
+    public int score(final DocumentView<T> document, final QueryPlan plan) {
+        if (plan.isBlank()) return 0;
+        return score(document.lowerText(titleExtractor), document.lowerText(bodyExtractor),
+                document.lowerTags(tagsExtractor), plan, null);
+    }
+
+    /**
+     * Bounded by the best full-query title tier, the body tier, and the best title tier plus the
+     * tag tier for every query word that is scored.
+     */
+    @Override
+    public int maxScore(final QueryPlan plan) {
+        if (plan.isBlank()) return 0;
+        final long perWord = Math.max(0, Math.max(scores.wordInTitleMatch(), scores.fuzzyMatch()))
+                + Math.max(0, scores.tagMatch());
+        final long bound = Math.max(0, Math.max(scores.exactTitleMatch(), scores.partialTitleMatch()))
+                + Math.max(0, scores.bodyMatch())
+                + perWord * plan.tokenCount(MIN_WORD_LENGTH);
+        return (int) Math.min(bound, NO_BOUND - 1L);
+    }
 
-        final var input = context.normalizedInput();
-        if (input.isBlank()) return 0;
+    /** Reports one component per matching tier, named after its {@link Scores} field. */
+    @Override
+    public ScoreBreakdown explain(final T item, final SearchContext context) {
+        final var breakdown = ScoreBreakdown.builder();
+        score(item, planOf(context), breakdown);
+        return breakdown.build();
+    }
 
-        final var title = titleExtractor.apply(item).toLowerCase();
-        final var body  = bodyExtractor.apply(item).toLowerCase();
-        final var tags  = tagsExtractor.apply(item);
+    /** Scores {@code item}, recording each awarded tier in {@code explain} unless it is null. */
+    private int score(final T item, final QueryPlan plan, final ScoreBreakdown.Builder explain) {
+        Objects.requireNonNull(item, "item must not be null");
+        Objects.requireNonNull(plan, "plan must not be null");
+        if (plan.isBlank()) return 0;
 
+        return score(titleExtractor.apply(item).toLowerCase(), bodyExtractor.apply(item).toLowerCase(),
+                DocumentView.lowerCase(tagsExtractor.apply(item)), plan, explain);
+    }
+
+    /** Scores lower-cased fields against a planned, non-blank query. */
+    private int score(final String title, final String body, final List<String> tags,
+                      final QueryPlan plan, final ScoreBreakdown.Builder explain) {
+        final var input = plan.input();
         var total = 0;
 
         // Phase 1: full-query title match
         if (title.equals(input)) {
-            total += scores.exactTitleMatch();
+            total += award(explain, "exactTitleMatch", scores.exactTitleMatch());
         } else if (title.contains(input)) {
-            total += scores.partialTitleMatch();
+            total += award(explain, "partialTitleMatch", scores.partialTitleMatch());
         }
 
         // Phase 2: full-query body match
         if (body.contains(input)) {
-            total += scores.bodyMatch();
+            total += award(explain, "bodyMatch", scores.bodyMatch());
         }
 
         // Phase 3: per-word matching — title words and tag words are scored separately (bug fix)
-        for (final var word : input.split("\\s+")) {
-            if (word.length() < 2) continue;
+        for (var w = 0; w < plan.tokenCount(); w++) {
+            final var word = plan.token(w);
+            if (word.length() < MIN_WORD_LENGTH) continue;
 
             // Per-word title match (previously used tagMatch score — now uses its own weight)
             if (title.contains(word)) {
-                total += scores.wordInTitleMatch();
+                total += award(explain, "wordInTitleMatch", scores.wordInTitleMatch());
             } else if (FuzzyMatcher.hasPrefixMatch(word, title)) {
-                total += scores.fuzzyMatch();
+                total += award(explain, "fuzzyMatch", scores.fuzzyMatch());
             }
 
             // Per-word tag match (semantically different from title-word match)
-            if (tags.stream().anyMatch(tag -> tag.toLowerCase().contains(word))) {
-                total += scores.tagMatch();
+            if (anyContains(tags, word)) {
+                total += award(explain, "tagMatch", scores.tagMatch());
             }
         }
 
         return total;
     }
 
+    /** Plans {@code context} for the context overloads, reusing the last plan for the same input. */
+    private QueryPlan planOf(final SearchContext context) {
+        Objects.requireNonNull(context, "context must not be null");
+        final var cached = lastPlan;
+        if (cached != null && cached.input().equals(context.normalizedInput())) return cached;
+        final var plan = QueryPlan.of(context);
+        lastPlan = plan;
+        return plan;
+    }
+
+    private static boolean anyContains(final List<String> tags, final String word) {
+        for (var i = 0; i < tags.size(); i++) {
+            if (tags.get(i).contains(word)) return true;
+        }
+        return false;
+    }
+
+    private static int award(final ScoreBreakdown.Builder explain, final String component, final int points) {
+        if (explain != null) explain.add(component, points);
+        return points;
+    }
+
     public static <T> Builder<T> builder() { return new Builder<>(); }
 
     // ─── Builder ────────────────────────────────────────────────────
@@ -0,0 +1,286 @@
+package search.engine.algorithm;
+
+import search.api.algorithm.Tokenizer;
+import search.api.algorithm.TopKRetriever;
+import search.api.core.QueryPlan;
+import search.api.core.ScoredItem;
+import search.api.core.SearchContext;
+import search.api.filter.SearchFilter;
+import search.api.index.PostingsCursor;
+import search.api.index.PostingsReader;
+import search.engine.rank.TopKHeap;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * BM25 {@link TopKRetriever} that evaluates queries over postings with WAND
+ * (<em>Weak AND</em>) dynamic pruning.
+ *
+ * <p>Each query term gets a score upper bound — its IDF times the BM25 term weight at the
+ * term's {@linkplain PostingsCursor#maxFrequency() maximum frequency} and
+ * {@linkplain PostingsCursor#minDocumentLength() minimum document length}. Cursors are kept
+ * sorted by current document; the <em>pivot</em> is the first document at which the summed
+ * bounds of the cursors up to it could beat the current top-K threshold. Cursors behind the
+ * pivot {@linkplain PostingsCursor#advance(int) jump} straight to it, so documents whose
+ * terms cannot reach the threshold are never scored, filtered, or even visited. Once the heap
+ * is full, rare high-IDF terms drive the iteration and common terms are skipped through.
+ *
+ * <h2>Exactness</h2>
+ * Pruning is safe: the result is identical to scoring every candidate with a
+ * {@link Bm25Scorer} built with the same parameters over the same corpus statistics — same
+ * integer scores (BM25 × 10), same order, ties broken by index order. Per-document term
+ * contributions are summed in query-term order, as {@code Bm25Scorer} does.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * var index = InvertedIndex.<Article>builder().textExtractor(Article::text).build();
+ * var bm25  = Bm25Scorer.<Article>builder().textExtractor(Article::text).statistics(stats).build();
+ *
+ * var config = SearchEngineConfig.<Article>builder()
+ *         .index(index)
+ *         .scorer(SearchMode.VAGUE, bm25)
+ *         .retriever(SearchMode.VAGUE, WandRetriever.<Article>builder()
+ *                 .postings(index::openReader)
+ *                 .build())
+ *         .build();
+ * }</pre>
+ *
+ * <p>Corpus statistics come from the {@link PostingsReader} (live document count, total length
+ * and document frequencies), unless {@link Builder#statistics(Bm25Statistics)} is set.
+ * Postings are always the live index's, so a plan that pinned an index generation is not
+ * {@linkplain #supports(QueryPlan) supported} and the engine scores it exhaustively. Once the
+ * stop signal turns, the best documents found so far are returned. Thread-safe; each call
+ * opens and closes its own reader.
+ *
+ * @param <T> the document type
+ *
+ * @see Bm25Scorer
+ * @see search.engine.index.InvertedIndex#openReader()
+ */
+public final class WandRetriever<T> implements TopKRetriever<T> {
+
+    /** BM25 term-saturation factor. */
+    private static final double DEFAULT_K1 = 1.5;
+
+    /** BM25 length-normalisation factor. */
+    private static final double DEFAULT_B = 0.75;
+
+    /** Scale factor to convert BM25 float score to int points. */
+    private static final int SCALE_FACTOR = 10;
+
+    /** Relative slack on upper bounds, absorbing floating-point rounding in summed bounds. */
+    private static final double BOUND_SLACK = 1e-9;
+
+    /** Checks the stop signal every this many pivot steps; a power of two. */
+    private static final int STOP_CHECK_INTERVAL = 1024;
+
+    private final Supplier<? extends PostingsReader<T>> postings;
+    private final Tokenizer tokenizer;
+    private final double k1;
+    private final double b;
+    private final Bm25Statistics<T> statistics;
+
+    private WandRetriever(final Builder<T> builder) {
+        this.postings   = builder.postings;
+        this.tokenizer  = builder.tokenizer;
+        this.k1         = builder.k1;
+        this.b          = builder.b;
+        this.statistics = builder.statistics;
+    }
+
+    @Override
+    public List<ScoredItem<T>> retrieve(final QueryPlan plan, final SearchFilter<T> filter, final int k,
+                                        final BooleanSupplier stop) {
+        Objects.requireNonNull(plan,   "plan must not be null");
+        Objects.requireNonNull(filter, "filter must not be null");
+        Objects.requireNonNull(stop,   "stop must not be null");
+        if (k < 1) throw new IllegalArgumentException("k must be ≥ 1, got: " + k);
+
+        final var context = plan.context();
+        final var tokens  = tokenizer.tokenize(context.normalizedInput());
+        if (tokens.isEmpty()) return List.of();
+
+        try (var reader = postings.get()) {
+            final var terms = openTerms(reader, tokens);
+            return evaluate(reader, terms, context, filter, k, stop);
+        }
+    }
+
+    // ─── WAND ──────────────────────────────────────────────────────
+
+    /** One query token: its cursor, IDF, and score upper bound. */
+    private static final class Term {
+        final PostingsCursor cursor;
+        final double idf;
+        final double bound;
+
+        Term(final PostingsCursor cursor, final double idf, final double bound) {
+            this.cursor = cursor;
+            this.idf    = idf;
+            this.bound  = bound;
+        }
+    }
+
+    private Term[] openTerms(final PostingsReader<T> reader, final List<String> tokens) {
+        final var n     = Math.max(statistics != null ? statistics.documentCount() : reader.documentCount(), 1);
+        final var avgdl = averageLength(reader);
+        final var terms = new Term[tokens.size()];
+        for (var i = 0; i < terms.length; i++) {
+            final var token  = tokens.get(i);
+            final var cursor = reader.postings(token);
+            final var df     = statistics != null ? statistics.documentFrequency(token) : reader.documentFrequency(token);
+            final var idf    = idf(df, n);
+            final var bound  = cursor.cost() == 0 ? 0.0
+                    : termScore(idf, cursor.maxFrequency(), lengthNorm(cursor.minDocumentLength(), avgdl));
+            terms[i] = new Term(cursor, idf, bound * (1 + BOUND_SLACK));
+        }
+        return terms;
+    }
+
+    private List<ScoredItem<T>> evaluate(final PostingsReader<T> reader, final Term[] queryOrder,
+                                         final SearchContext context, final SearchFilter<T> filter,
+                                         final int k, final BooleanSupplier stop) {
+        final var avgdl  = averageLength(reader);
+        final var heap   = new TopKHeap<T>(k);
+        final var sorted = queryOrder.clone();
+
+        for (var step = 1; ; step++) {
+            if ((step & (STOP_CHECK_INTERVAL - 1)) == 0 && stop.getAsBoolean()) break;
+            sortByDocument(sorted);
+
+            // Integer scores: a document enters the heap only with (int)(score × 10) > threshold
+            final var threshold = heap.isFull() ? heap.threshold() : 0;
+            final double needed = (threshold + 1.0) / SCALE_FACTOR;
+
+            var pivot = -1;
+            var upper = 0.0;
+            for (var i = 0; i < sorted.length && sorted[i].cursor.docId() != PostingsCursor.NO_MORE_DOCS; i++) {
+                upper += sorted[i].bound;
+                if (upper >= needed) {
+                    pivot = i;
+                    break;
+                }
+            }
+            if (pivot < 0) break; // no remaining document can enter the heap
+
+            final var pivotDoc = sorted[pivot].cursor.docId();
+            if (sorted[0].cursor.docId() == pivotDoc) {
+                score(reader, queryOrder, pivotDoc, avgdl, context, filter, heap);
+                for (final var term : sorted) {
+                    if (term.cursor.docId() == pivotDoc) term.cursor.next();
+                }
+            } else {
+                for (var i = 0; i < pivot; i++) {
+                    if (sorted[i].cursor.docId() < pivotDoc) sorted[i].cursor.advance(pivotDoc);
+                }
+            }
+        }
+        return heap.toSortedList();
+    }
+
+    /** Fully scores {@code ordinal}, summing in query-term order, and offers it to the heap. */
+    private void score(final PostingsReader<T> reader, final Term[] queryOrder, final int ordinal,
+                       final double avgdl, final SearchContext context, final SearchFilter<T> filter,
+                       final TopKHeap<T> heap) {
+        final var doc = reader.document(ordinal);
+        if (doc == null || !filter.test(doc, context)) return;
+        final var length = reader.documentLength(ordinal);
+        if (length == 0) return;
+
+        final double lengthNorm = lengthNorm(length, avgdl);
+        var totalScore = 0.0;
+        for (final var term : queryOrder) {
+            if (term.cursor.docId() == ordinal) totalScore += termScore(term.idf, term.cursor.frequency(), lengthNorm);
+        }
+        final var score = (int) (totalScore * SCALE_FACTOR);
+        if (score > 0) heap.offer(doc, score, ordinal);
+    }
+
+    /** Insertion sort by current document — query term counts are small and nearly sorted. */
+    private static void sortByDocument(final Term[] terms) {
+        for (var i = 1; i < terms.length; i++) {
+            final var term = terms[i];
+            final var doc  = term.cursor.docId();
+            var j = i - 1;
+            while (j >= 0 && terms[j].cursor.docId() > doc) {
+                terms[j + 1] = terms[j];
+                j--;
+            }
+            terms[j + 1] = term;
+        }
+    }
+
+    // ─── BM25 ──────────────────────────────────────────────────────
+
+    private double averageLength(final PostingsReader<T> reader) {
+        if (statistics != null) return statistics.averageDocumentLength();
+        final var documents = reader.documentCount();
+        return documents > 0 ? (double) reader.totalLength() / documents : 1.0;
+    }
+
+    private double lengthNorm(final int docLength, final double avgdl) {
+        final double effectiveAvgdl = avgdl > 0 ? avgdl : 1.0;
+        return k1 * (1 - b + b * docLength / effectiveAvgdl);
+    }
+
+    private double termScore(final double idf, final int tf, final double lengthNorm) {
+        return tf == 0 ? 0.0 : idf * (tf * (k1 + 1)) / (tf + lengthNorm);
+    }
+
+    private static double idf(final int df, final int n) {
+        return Math.log((n - df + 0.5) / (df + 0.5) + 1.0);
+    }
+
+    public static <T> Builder<T> builder() { return new Builder<>(); }
+
+    /** Fluent builder for {@link WandRetriever}. */
+    public static final class Builder<T> {
+
+        private Supplier<? extends PostingsReader<T>> postings;
+        private Tokenizer tokenizer = new DefaultTokenizer();
+        private double k1 = DEFAULT_K1;
+        private double b  = DEFAULT_B;
+        private Bm25Statistics<T> statistics;
+
+        private Builder() {}
+
+        /** Opens a postings reader per query, e.g. {@code index::openReader} (required). */
+        public Builder<T> postings(final Supplier<? extends PostingsReader<T>> postings) {
+            this.postings = Objects.requireNonNull(postings); return this;
+        }
+
+        /** Sets the query tokenizer; use the index's tokenizer. Default: {@link DefaultTokenizer}. */
+        public Builder<T> tokenizer(final Tokenizer tokenizer) {
+            this.tokenizer = Objects.requireNonNull(tokenizer); return this;
+        }
+
+        /** Sets the term-frequency saturation factor (default 1.5). */
+        public Builder<T> k1(final double k1) {
+            if (k1 < 0) throw new IllegalArgumentException("k1 must be ≥ 0");
+            this.k1 = k1; return this;
+        }
+
+        /** Sets the length-normalisation factor (default 0.75). 0 = no normalisation. */
+        public Builder<T> b(final double b) {
+            if (b < 0 || b > 1) throw new IllegalArgumentException("b must be in [0, 1]");
+            this.b = b; return this;
+        }
+
+        /**
+         * Reads document count, document frequencies and average length from live statistics
+         * instead of the postings reader — use the statistics shared with the engine's
+         * {@link Bm25Scorer} (default: none).
+         */
+        public Builder<T> statistics(final Bm25Statistics<T> statistics) {
+            this.statistics = Objects.requireNonNull(statistics); return this;
+        }
+
+        public WandRetriever<T> build() {
+            if (postings == null) throw new IllegalArgumentException("postings must be set");
+            return new WandRetriever<>(this);
+        }
+    }
+}
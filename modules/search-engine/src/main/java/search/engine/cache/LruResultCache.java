@@ -0,0 +1,129 @@
+package search.engine.cache;
+
+import search.api.cache.CacheKey;
+import search.api.cache.CacheStats;
+import search.api.cache.ResultCache;
+import search.api.core.SearchResult;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Bounded least-recently-used {@link ResultCache}.
+ *
+ * <p>Backed by an access-ordered {@link LinkedHashMap}; once {@code capacity} entries are held,
+ * each insertion evicts the least recently read or written entry. Entries computed against an
+ * older index version are dropped on lookup and counted as invalidations.
+ *
+ * <h2>Sizing</h2>
+ * Agent workloads repeat a few hundred distinct queries, so a capacity of a few hundred to a
+ * few thousand entries usually captures the working set. Each entry holds one
+ * {@link SearchResult} — at most {@code maxResults} item references plus strings.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * var cache  = new LruResultCache<Article>(1_000);
+ * var config = SearchEngineConfig.<Article>builder()
+ *         .resultCache(cache)
+ *         ...
+ *         .build();
+ *
+ * cache.stats().hitRate();
+ * }</pre>
+ *
+ * <p>Thread-safe: map access is synchronized; counters are lock-free.
+ *
+ * @param <T> the document type
+ */
+public final class LruResultCache<T> implements ResultCache<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(LruResultCache.class.getName());
+
+    private final int capacity;
+    private final Map<CacheKey, Entry<T>> entries;
+
+    private final LongAdder hits          = new LongAdder();
+    private final LongAdder misses        = new LongAdder();
+    private final LongAdder evictions     = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param capacity the maximum number of cached results (≥ 1)
+     */
+    public LruResultCache(final int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be ≥ 1, got: " + capacity);
+        this.capacity = capacity;
+        this.entries  = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<CacheKey, Entry<T>> eldest) {
+                if (size() <= LruResultCache.this.capacity) return false;
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public SearchResult<T> get(final CacheKey key, final long indexVersion) {
+        final Entry<T> entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && entry.indexVersion() != indexVersion) {
+                entries.remove(key);
+                invalidations.increment();
+                misses.increment();
+                return null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.result();
+    }
+
+    @Override
+    public void put(final CacheKey key, final long indexVersion, final SearchResult<T> result) {
+        final var entry = new Entry<>(indexVersion, result);
+        synchronized (entries) {
+            // Never let a result computed against an older version replace a newer one
+            final var existing = entries.get(key);
+            if (existing != null && existing.indexVersion() > indexVersion) return;
+            entries.put(key, entry);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidations.add(entries.size());
+            entries.clear();
+        }
+        LOGGER.fine("LruResultCache: all entries invalidated");
+    }
+
+    @Override
+    public CacheStats stats() {
+        final int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), invalidations.sum(), size);
+    }
+
+    /** Returns the maximum number of cached results. */
+    public int capacity() { return capacity; }
+
+    /** Logs the cache counters to the INFO log. */
+    public void logStats() {
+        LOGGER.info(() -> "LruResultCache: " + stats());
+    }
+
+    /** A cached result and the index version it was computed against. */
+    private record Entry<T>(long indexVersion, SearchResult<T> result) {}
+}
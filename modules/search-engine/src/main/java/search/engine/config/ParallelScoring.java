@@ -0,0 +1,107 @@
+package search.engine.config;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Opt-in settings for scoring candidates on multiple threads.
+ *
+ * <p>When the number of candidates reaching Phase 3 is at least {@link #threshold()}, the
+ * engine splits them into contiguous chunks, scores each chunk into its own thread-local
+ * top-K (or list), and merges the partial results. Ties are broken by candidate position,
+ * so the ranking is identical to the sequential path.
+ *
+ * <h2>Choosing a threshold</h2>
+ * Below a few thousand candidates, task hand-off costs more than it saves. Run
+ * {@code ParallelScoringBenchmark} in {@code modules/search-engine-bench} on the target
+ * hardware and set the threshold near the observed break-even corpus size.
+ *
+ * <h2>Threads</h2>
+ * The engine starts no threads of its own. Fork-join chunks run in the
+ * {@linkplain ForkJoinPool#commonPool() common pool}, or in a pool the caller supplies with
+ * {@link #forkJoin(int, ForkJoinPool)} and shuts down when it is done with the engine. Virtual
+ * threads are started per search and end with it.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * SearchEngineConfig.<Article>builder()
+ *         .parallelScoring(ParallelScoring.forkJoin(20_000, 8))
+ *         ...
+ * }</pre>
+ *
+ * @param threshold   minimum candidate count that triggers parallel scoring (≥ 1)
+ * @param parallelism number of worker threads / concurrent chunks (≥ 1)
+ * @param executor    which executor runs the chunks
+ * @param pool        the pool that runs {@link Executor#FORK_JOIN} chunks, or {@code null} for
+ *                    the common pool
+ *
+ * @see SearchEngineConfig.Builder#parallelScoring(ParallelScoring)
+ */
+public record ParallelScoring(int threshold, int parallelism, Executor executor, ForkJoinPool pool) {
+
+    /** Chunks per worker — a few extra chunks smooth out uneven per-document scoring cost. */
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private static final ParallelScoring DISABLED =
+            new ParallelScoring(Integer.MAX_VALUE, 1, Executor.FORK_JOIN, null);
+
+    /** Validates the settings. */
+    public ParallelScoring {
+        Objects.requireNonNull(executor, "executor must not be null");
+        if (threshold < 1)   throw new IllegalArgumentException("threshold must be ≥ 1, got: " + threshold);
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism must be ≥ 1, got: " + parallelism);
+        if (pool != null && executor != Executor.FORK_JOIN) {
+            throw new IllegalArgumentException("a pool only runs " + Executor.FORK_JOIN + " chunks");
+        }
+    }
+
+    /** Settings whose fork-join chunks, if any, run in the common pool. */
+    public ParallelScoring(final int threshold, final int parallelism, final Executor executor) {
+        this(threshold, parallelism, executor, null);
+    }
+
+    /** The executor family used to run scoring chunks. */
+    public enum Executor {
+        /** The common {@link ForkJoinPool}, or the {@linkplain #pool() pool} supplied. */
+        FORK_JOIN,
+        /** A virtual thread per chunk, with at most {@code parallelism} chunks in flight. */
+        VIRTUAL_THREADS
+    }
+
+    // ─── Factory shortcuts ──────────────────────────────────────────
+
+    /** Sequential scoring only (the default). */
+    public static ParallelScoring disabled() { return DISABLED; }
+
+    /** Fork-join scoring in the common pool, split into chunks for {@code parallelism} workers. */
+    public static ParallelScoring forkJoin(final int threshold, final int parallelism) {
+        return new ParallelScoring(threshold, parallelism, Executor.FORK_JOIN, null);
+    }
+
+    /**
+     * Fork-join scoring in {@code pool}, split into chunks for its parallelism. The caller owns
+     * the pool and shuts it down once no engine uses it.
+     */
+    public static ParallelScoring forkJoin(final int threshold, final ForkJoinPool pool) {
+        Objects.requireNonNull(pool, "pool must not be null");
+        return new ParallelScoring(threshold, pool.getParallelism(), Executor.FORK_JOIN, pool);
+    }
+
+    /** Virtual-thread scoring with the given threshold and parallelism. */
+    public static ParallelScoring virtualThreads(final int threshold, final int parallelism) {
+        return new ParallelScoring(threshold, parallelism, Executor.VIRTUAL_THREADS, null);
+    }
+
+    // ─── Query methods ──────────────────────────────────────────────
+
+    /** Returns {@code true} if {@code candidateCount} candidates should be scored in parallel. */
+    public boolean appliesTo(final int candidateCount) {
+        return parallelism > 1 && candidateCount >= threshold;
+    }
+
+    /** Returns the chunk size used to split {@code candidateCount} candidates. */
+    public int chunkSize(final int candidateCount) {
+        final var chunks = parallelism * CHUNKS_PER_WORKER;
+        return Math.max(1, (candidateCount + chunks - 1) / chunks);
+    }
+}
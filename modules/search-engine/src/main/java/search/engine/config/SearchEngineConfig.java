@@ -1,20 +1,28 @@
 package search.engine.config;
 
 import search.api.algorithm.ScoringStrategy;
+import search.api.algorithm.TopKRetriever;
+import search.api.cache.ResultCache;
 import search.api.classify.QueryClassifier;
 import search.api.classify.SearchMode;
 import search.api.core.SearchContext;
+import search.api.facet.Facet;
 import search.api.filter.SearchFilter;
 import search.api.index.SearchIndex;
+import search.api.index.TermIndex;
+import search.api.metrics.SearchMetricsSink;
 import search.api.rank.RankingStrategy;
 import search.engine.classify.KeywordQueryClassifier;
 import search.engine.index.InMemoryIndex;
 import search.engine.rank.ScoreRanker;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -27,12 +35,18 @@ import java.util.function.Function;
  * <h2>Pipeline overview</h2>
  * <ol>
  *   <li>{@link #classifier()} classifies the query into a {@link SearchMode}.</li>
- *   <li>{@link #filter()} removes ineligible documents.</li>
- *   <li>{@link #scorerFor(SearchMode)} scores remaining documents.</li>
+ *   <li>{@link #filter()} removes ineligible documents. When the {@link #index()} is a
+ *       {@link TermIndex}, only documents sharing a query term are
+ *       considered for the modes in {@link #candidatePruning()}. The surviving candidates
+ *       are counted per {@link #facets() facet} value in the same pass.</li>
+ *   <li>{@link #scorerFor(SearchMode)} scores remaining documents — or, for modes with a
+ *       {@link #retrieverFor(SearchMode) retriever}, a {@link TopKRetriever} fetches the best
+ *       documents directly, with dynamic pruning.</li>
  *   <li>{@link #ranker()} sorts and optionally re-ranks the scored list.</li>
  *   <li>{@link #maxResults()} trims the result list.</li>
  *   <li>{@link #summaryBuilder()} / {@link #suggestionProvider()} produce metadata.</li>
  * </ol>
+ * A {@link #resultCache()} can short-circuit the whole pipeline for repeated queries.
  *
  * <h2>Minimal usage</h2>
  * <pre>{@code
@@ -55,21 +69,33 @@ public final class SearchEngineConfig<T> {
     private final SearchIndex<T>                       index;
     private final QueryClassifier                      classifier;
     private final Map<SearchMode, ScoringStrategy<T>>  scorers;
+    private final Map<SearchMode, TopKRetriever<T>>    retrievers;
     private final SearchFilter<T>                      filter;
     private final RankingStrategy<T>                   ranker;
     private final int                                  maxResults;
     private final BiFunction<SearchContext, Integer, String> summaryBuilder;
     private final Function<SearchContext, List<String>>      suggestionProvider;
+    private final Set<SearchMode>                      candidatePruning;
+    private final ParallelScoring                      parallelScoring;
+    private final ResultCache<T>                       resultCache;
+    private final List<SearchMetricsSink>              metricsSinks;
+    private final List<Facet<T>>                       facets;
 
     private SearchEngineConfig(final Builder<T> b) {
         this.index             = b.index;
         this.classifier        = b.classifier;
         this.scorers           = Map.copyOf(b.scorers);
+        this.retrievers        = Map.copyOf(b.retrievers);
         this.filter            = b.filter;
         this.ranker            = b.ranker;
         this.maxResults        = b.maxResults;
         this.summaryBuilder    = b.summaryBuilder;
         this.suggestionProvider = b.suggestionProvider;
+        this.candidatePruning  = Set.copyOf(b.candidatePruning);
+        this.parallelScoring   = b.parallelScoring;
+        this.resultCache       = b.resultCache;
+        this.metricsSinks      = List.copyOf(b.metricsSinks);
+        this.facets            = List.copyOf(b.facets);
     }
 
     public SearchIndex<T>                       index()              { return index; }
@@ -79,6 +105,22 @@ public final class SearchEngineConfig<T> {
     public int                                  maxResults()         { return maxResults; }
     public BiFunction<SearchContext, Integer, String> summaryBuilder(){ return summaryBuilder; }
     public Function<SearchContext, List<String>> suggestionProvider() { return suggestionProvider; }
+    public Set<SearchMode>                      candidatePruning()   { return candidatePruning; }
+    public ParallelScoring                      parallelScoring()    { return parallelScoring; }
+    public ResultCache<T>                       resultCache()        { return resultCache; }
+    public List<SearchMetricsSink>              metricsSinks()       { return metricsSinks; }
+    public List<Facet<T>>                       facets()             { return facets; }
+
+    /**
+     * Returns {@code true} if candidates for {@code mode} should come from
+     * {@link search.api.index.TermIndex#candidates(String)} rather than a full scan.
+     *
+     * @param mode the classified search mode
+     * @return true when the index supports term lookup and pruning is enabled for the mode
+     */
+    public boolean prunesCandidates(final SearchMode mode) {
+        return index instanceof TermIndex && candidatePruning.contains(mode);
+    }
 
     /**
      * Returns the scoring strategy for the given mode. Falls back to
@@ -94,6 +136,15 @@ public final class SearchEngineConfig<T> {
     /** Returns {@code true} if a custom scorer is registered for {@code mode}. */
     public boolean hasScorerFor(final SearchMode mode) { return scorers.containsKey(mode); }
 
+    /**
+     * Returns the top-K retriever registered for {@code mode}, or {@code null} if the mode
+     * filters and scores candidates one by one.
+     *
+     * @param mode the classified search mode
+     * @return the retriever, or null
+     */
+    public TopKRetriever<T> retrieverFor(final SearchMode mode) { return retrievers.get(mode); }
+
     /** Creates a fresh builder. */
     public static <T> Builder<T> builder() { return new Builder<>(); }
 
@@ -112,12 +163,18 @@ public final class SearchEngineConfig<T> {
         private SearchIndex<T>                       index             = new InMemoryIndex<>();
         private QueryClassifier                      classifier        = QueryClassifier.alwaysVague();
         private final Map<SearchMode, ScoringStrategy<T>> scorers      = new EnumMap<>(SearchMode.class);
+        private final Map<SearchMode, TopKRetriever<T>> retrievers     = new EnumMap<>(SearchMode.class);
         private SearchFilter<T>                      filter            = SearchFilter.allowAll();
         private RankingStrategy<T>                   ranker            = ScoreRanker.instance();
         private int                                  maxResults        = SearchContext.DEFAULT_MAX_RESULTS;
         private BiFunction<SearchContext, Integer, String> summaryBuilder
                 = (ctx, count) -> count + " result(s) for '" + ctx.normalizedInput() + "'";
         private Function<SearchContext, List<String>> suggestionProvider = ctx -> List.of();
+        private Set<SearchMode>                      candidatePruning  = EnumSet.noneOf(SearchMode.class);
+        private ParallelScoring                      parallelScoring   = ParallelScoring.disabled();
+        private ResultCache<T>                       resultCache       = ResultCache.disabled();
+        private final List<SearchMetricsSink>        metricsSinks      = new ArrayList<>();
+        private final List<Facet<T>>                 facets            = new ArrayList<>();
 
         private Builder() {}
 
@@ -150,6 +207,20 @@ public final class SearchEngineConfig<T> {
             return this;
         }
 
+        /**
+         * Registers a {@link TopKRetriever} that replaces the filter and score phases for
+         * {@code mode} whenever the ranker declares a finite
+         * {@link RankingStrategy#candidateLimit(int)}. The retriever must reproduce the mode's
+         * scorer exactly (e.g., a {@link search.engine.algorithm.WandRetriever} next to a
+         * {@link search.engine.algorithm.Bm25Scorer} with the same parameters). It is bypassed
+         * while {@linkplain #facet(String, Function) facets} are registered, which count every
+         * filtered candidate, and for plans it does not
+         * {@linkplain TopKRetriever#supports(search.api.core.QueryPlan) support}. Default: none.
+         */
+        public Builder<T> retriever(final SearchMode mode, final TopKRetriever<T> retriever) {
+            retrievers.put(Objects.requireNonNull(mode), Objects.requireNonNull(retriever)); return this;
+        }
+
         /** Sets the document filter chain. Default: {@link SearchFilter#allowAll()}. */
         public Builder<T> filter(final SearchFilter<T> filter) {
             this.filter = Objects.requireNonNull(filter); return this;
@@ -184,6 +255,66 @@ public final class SearchEngineConfig<T> {
             this.suggestionProvider = Objects.requireNonNull(fn); return this;
         }
 
+        /**
+         * Sets the modes whose candidates are fetched from a {@link TermIndex}
+         * (documents sharing at least one query term) instead of a full corpus scan.
+         * Has no effect unless {@link #index(SearchIndex)} is a {@code TermIndex}.
+         *
+         * <p>Default: none. Pruning keeps only documents containing an exact query term, so
+         * enable it only for modes whose scorers match on exact terms (e.g. {@code Bm25Scorer}):
+         * substring, prefix and fuzzy scorers such as {@code TextMatchScorer} and
+         * {@code FuzzyTermScorer} would lose every document they match without a shared term —
+         * "kube" would no longer find "kubernetes".
+         */
+        public Builder<T> candidatePruning(final SearchMode... modes) {
+            final var set = EnumSet.noneOf(SearchMode.class);
+            for (final var mode : modes) set.add(Objects.requireNonNull(mode));
+            this.candidatePruning = set; return this;
+        }
+
+        /**
+         * Enables multi-threaded scoring for large candidate sets.
+         * Default: {@link ParallelScoring#disabled()} (always sequential).
+         * Scorers must honour the thread-safety contract of {@link ScoringStrategy}.
+         */
+        public Builder<T> parallelScoring(final ParallelScoring parallelScoring) {
+            this.parallelScoring = Objects.requireNonNull(parallelScoring); return this;
+        }
+
+        /**
+         * Caches complete results of repeated queries, keyed by the normalised
+         * {@link SearchContext}. Entries are invalidated automatically when the
+         * {@linkplain SearchIndex#version() index version} changes; indexes that report
+         * {@link SearchIndex#UNVERSIONED} are never cached.
+         * Default: {@link ResultCache#disabled()}.
+         */
+        public Builder<T> resultCache(final ResultCache<T> resultCache) {
+            this.resultCache = Objects.requireNonNull(resultCache); return this;
+        }
+
+        /**
+         * Registers a sink for per-search pipeline metrics. May be called several times; every
+         * sink receives every trace. Default: none (no timing overhead).
+         */
+        public Builder<T> metricsSink(final SearchMetricsSink sink) {
+            metricsSinks.add(Objects.requireNonNull(sink)); return this;
+        }
+
+        /**
+         * Registers a facet: every search counts its filtered candidates per value of
+         * {@code extractor} and returns the counts on the result. May be called several times,
+         * once per name. Default: none (no counting overhead).
+         *
+         * @throws IllegalArgumentException if a facet with this name is already registered
+         */
+        public Builder<T> facet(final String name, final Function<? super T, ?> extractor) {
+            final var facet = new Facet<T>(name, extractor);
+            if (facets.stream().anyMatch(f -> f.name().equals(name))) {
+                throw new IllegalArgumentException("Duplicate facet: " + name);
+            }
+            facets.add(facet); return this;
+        }
+
         /**
          * Builds the immutable configuration.
          *
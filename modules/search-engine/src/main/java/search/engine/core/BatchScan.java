@@ -0,0 +1,171 @@
+package search.engine.core;
+
+import search.api.algorithm.ScoringStrategy;
+import search.api.core.ScoredItem;
+import search.api.core.QueryPlan;
+import search.api.facet.Facet;
+import search.api.facet.FacetCounts;
+import search.api.filter.SearchFilter;
+import search.api.rank.RankingStrategy;
+import search.engine.filter.FilterIndex;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs Phases 2 and 3 of many queries as one shared pass over the corpus — the full-scan part
+ * of {@link ConfigurableSearchEngine#searchAll(List)}.
+ *
+ * <p>The corpus is split into contiguous ranges, one per {@linkplain #runTask(int) task}. A task
+ * walks its range in blocks of {@value #BLOCK_SIZE} documents and, while a block is hot in
+ * cache, filters and scores it for every query of the batch. Each query keeps one
+ * {@link ScoreAccumulator} per task, with the corpus position as tie-break sequence; ranges are
+ * merged left to right, so every query ends with exactly the candidates, scores and order its
+ * own sequential pipeline would produce. Facet counts are taken in the same block loop.
+ *
+ * <p>Tasks are independent and may run on any threads; {@link #outcomes()} must be called after
+ * all of them completed.
+ *
+ * @param <T> the document type
+ */
+final class BatchScan<T> {
+
+    /** Documents filtered and scored for every query before moving on. */
+    static final int BLOCK_SIZE = 1024;
+
+    /**
+     * Queries sharing one pass. Each holds an accumulator per task, so larger batches are run
+     * as several passes to keep that memory bounded.
+     */
+    static final int MAX_QUERIES = 256;
+
+    /** Ranges per worker — a few extra ranges smooth out uneven per-document cost. */
+    private static final int TASKS_PER_WORKER = 4;
+
+    /** One query of the pass: its plan, scorer, and the candidate count its ranker needs. */
+    record Query<T>(QueryPlan plan, ScoringStrategy<T> scorer, int needed) {}
+
+    /** Phase 2 and 3 output of one query; {@code facets} is null when none are configured. */
+    record Outcome<T>(int survivors, List<ScoredItem<T>> scored, long scorerInvocations,
+                      List<FacetCounts> facets) {}
+
+    private final List<T> documents;
+    private final SearchFilter<T> filter;
+    private final List<Query<T>> queries;
+    private final List<Facet<T>> facets;
+
+    /** Per query: the filter's matches from the {@link FilterIndex}, or null to call the filter. */
+    private final BitSet[] accepted;
+
+    private final int taskCount;
+    private final int taskSize;
+    private final ScoreAccumulator<T>[][] partials;
+    private final int[][] survivors;
+    private final FacetCounter<T>[][] facetCounts;
+
+    /**
+     * @param documents   the corpus, in candidate order ({@code filterIndex.documents()} if set)
+     * @param filter      the engine filter
+     * @param filterIndex the filter index over {@code documents}, or {@code null}
+     * @param facets      the facets to count the filtered candidates by
+     * @param queries     the queries sharing the pass
+     */
+    @SuppressWarnings("unchecked")
+    BatchScan(final List<T> documents, final SearchFilter<T> filter, final FilterIndex<T> filterIndex,
+              final List<Facet<T>> facets, final List<Query<T>> queries) {
+        this.documents = documents;
+        this.filter    = filter;
+        this.facets    = facets;
+        this.queries   = queries;
+        this.accepted  = new BitSet[queries.size()];
+        if (filterIndex != null) {
+            for (var q = 0; q < accepted.length; q++) {
+                accepted[q] = filterIndex.matching(filter, queries.get(q).plan().context());
+            }
+        }
+
+        final var blocks  = (documents.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        final var workers = ForkJoinPool.getCommonPoolParallelism() + 1;
+        this.taskCount = Math.max(1, Math.min(blocks, workers * TASKS_PER_WORKER));
+        this.taskSize  = Math.max(1, (documents.size() + taskCount - 1) / taskCount);
+        this.partials  = (ScoreAccumulator<T>[][]) new ScoreAccumulator<?>[taskCount][];
+        this.survivors = new int[taskCount][];
+        this.facetCounts = (FacetCounter<T>[][]) new FacetCounter<?>[taskCount][];
+    }
+
+    /** Returns the number of tasks the pass is split into. */
+    int tasks() { return taskCount; }
+
+    /** Filters and scores the documents of range {@code task} for every query. */
+    void runTask(final int task) {
+        final var from = Math.min(documents.size(), task * taskSize);
+        final var to   = Math.min(documents.size(), from + taskSize);
+
+        @SuppressWarnings("unchecked")
+        final var accumulators = (ScoreAccumulator<T>[]) new ScoreAccumulator<?>[queries.size()];
+        final var counts       = new int[queries.size()];
+        @SuppressWarnings("unchecked")
+        final var counters     = (FacetCounter<T>[]) new FacetCounter<?>[queries.size()];
+        for (var q = 0; q < accumulators.length; q++) {
+            final var needed = queries.get(q).needed();
+            accumulators[q] = ScoreAccumulator.create(
+                    needed == RankingStrategy.ALL_CANDIDATES ? ScoreAccumulator.UNBOUNDED : needed, 0);
+            counters[q]     = FacetCounter.start(facets);
+        }
+
+        for (var block = from; block < to; block += BLOCK_SIZE) {
+            final var end = Math.min(to, block + BLOCK_SIZE);
+            for (var q = 0; q < accumulators.length; q++) {
+                final var query       = queries.get(q);
+                final var plan        = query.plan();
+                final var context     = plan.context();
+                final var scorer      = query.scorer();
+                final var bits        = accepted[q];
+                final var accumulator = accumulators[q];
+                final var counter     = counters[q];
+                var passed = 0;
+                for (var i = block; i < end; i++) {
+                    final var doc = documents.get(i);
+                    if (bits != null ? !bits.get(i) : !filter.test(doc, context)) continue;
+                    passed++;
+                    if (counter != null) counter.accept(doc);
+                    final var score = scorer.score(doc, plan, accumulator.threshold());
+                    if (score > 0) accumulator.accept(doc, score, i);
+                }
+                counts[q] += passed;
+            }
+        }
+        for (var q = 0; q < accumulators.length; q++) accumulators[q].countInvocations(counts[q]);
+        partials[task]    = accumulators;
+        survivors[task]   = counts;
+        facetCounts[task] = counters;
+    }
+
+    /**
+     * Merges the task results of every query, in query order. A query whose filter let through
+     * no more candidates than it needs gets its scored items in candidate order, as the
+     * sequential path keeps them; otherwise best-first.
+     */
+    List<Outcome<T>> outcomes() {
+        final var outcomes = new ArrayList<Outcome<T>>(queries.size());
+        for (var q = 0; q < queries.size(); q++) {
+            final var merged  = partials[0][q];
+            final var counter = facetCounts[0][q];
+            var passed = survivors[0][q];
+            for (var task = 1; task < taskCount; task++) {
+                merged.mergeFrom(partials[task][q]);
+                passed += survivors[task][q];
+                if (counter != null) counter.mergeFrom(facetCounts[task][q]);
+            }
+            final var needed = queries.get(q).needed();
+            final var scored = needed != RankingStrategy.ALL_CANDIDATES && passed <= needed
+                    ? merged.toCandidateOrderList()
+                    : merged.toList();
+            outcomes.add(new Outcome<>(passed, scored, merged.scorerInvocations(),
+                    counter != null ? counter.counts() : null));
+        }
+        return outcomes;
+    }
+}
@@ -1,16 +1,39 @@
 package search.engine.core;
 
+import search.api.algorithm.TopKRetriever;
+import search.api.cache.CacheKey;
 import search.api.classify.SearchMode;
+import search.api.core.QueryPlan;
+import search.api.core.ScoreBreakdown;
 import search.api.core.ScoredItem;
 import search.api.core.SearchContext;
+import search.api.core.SearchCursor;
 import search.api.core.SearchEngine;
+import search.api.core.SearchPage;
 import search.api.core.SearchResult;
+import search.api.index.GenerationalIndex;
+import search.api.index.IndexGeneration;
+import search.api.index.SearchIndex;
+import search.api.metrics.SearchPhase;
+import search.api.index.TermIndex;
+import search.api.rank.RankingStrategy;
 import search.engine.config.SearchEngineConfig;
+import search.engine.filter.FilterIndex;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 /**
  * Tier-1 reference implementation of {@link SearchEngine} — a fully configurable,
@@ -21,15 +44,73 @@ import java.util.logging.Logger;
  *   <li><strong>Classify</strong> — determines the {@link SearchMode} (SPECIFIC / VAGUE /
  *       EXPLORATORY), honouring any forced mode in the {@link SearchContext}.</li>
  *   <li><strong>Filter</strong> — discards documents that fail the configured
- *       {@link search.api.filter.SearchFilter}.</li>
+ *       {@link search.api.filter.SearchFilter}. When the index is a
+ *       {@link search.api.index.TermIndex}, only documents sharing a query term are
+ *       visited (see {@link SearchEngineConfig#prunesCandidates(SearchMode)}). Filters built
+ *       from {@link search.api.filter.IndexableFilter}s are answered from a
+ *       {@link FilterIndex} bitmap snapshot instead of per-document calls.</li>
  *   <li><strong>Score</strong> — runs the mode-specific {@link search.api.algorithm.ScoringStrategy}
- *       over every surviving document; documents with score ≤ 0 are dropped.</li>
+ *       over every surviving document; documents with score ≤ 0 are dropped. When the ranker
+ *       declares a finite {@link search.api.rank.RankingStrategy#candidateLimit(int)}, only that
+ *       many best-scored documents are kept, selected with a bounded
+ *       {@link search.engine.rank.TopKHeap}. Large candidate sets can be scored on several
+ *       threads (see {@link search.engine.config.ParallelScoring}). A mode with a
+ *       {@link search.api.algorithm.TopKRetriever} runs phases 2 and 3 as one top-K query
+ *       over postings instead, skipping documents that cannot make the cut.</li>
  *   <li><strong>Rank</strong> — passes the scored list through the configured
  *       {@link search.api.rank.RankingStrategy} (default: score-descending).</li>
  *   <li><strong>Trim & wrap</strong> — trims to {@code maxResults}, builds the summary
  *       string and assembles the final {@link SearchResult}.</li>
  * </ol>
  *
+ * <h2>Result caching</h2>
+ * When a {@link search.api.cache.ResultCache} is configured, a repeated query whose
+ * {@link CacheKey} was answered against the current {@linkplain SearchIndex#version() index
+ * version} skips all five phases. {@link #postSearch(SearchContext, SearchResult)} still runs
+ * on every call.
+ *
+ * <h2>Index generations</h2>
+ * When the index is a {@link GenerationalIndex}, each search pins its current
+ * {@link IndexGeneration} once and reads only from it: the cache version, the filter index,
+ * the candidate pool and the {@linkplain QueryPlan#generation() plan} handed to scorers all
+ * describe the same documents, whatever writers commit while the search runs.
+ *
+ * <h2>Deadlines and cancellation</h2>
+ * When the {@link SearchContext} carries a {@linkplain SearchContext#deadline() deadline}, or
+ * the future of {@link #searchAsync(SearchContext, java.util.concurrent.Executor)} is
+ * cancelled, the pipeline stops at its next check — before filtering, before scoring, and
+ * between scoring chunks — ranks whatever was scored so far, and flags the result
+ * {@linkplain SearchResult#truncated() truncated}. A retriever call is not interrupted.
+ *
+ * <h2>Paging</h2>
+ * {@link #searchPage(SearchContext)} and {@link #searchAfter(SearchCursor)} page through a
+ * query's results, {@code maxResults} at a time. A page-cache miss ranks several pages ahead,
+ * and each further miss at least doubles the depth; the ranked list is kept per query and
+ * index version, so consecutive pages are cut from it without re-scoring. Indexes that do not
+ * track versions re-rank on every page. The ranked list is never explained; in explain mode
+ * only the returned page is.
+ *
+ * <h2>Facets</h2>
+ * For each {@linkplain SearchEngineConfig#facets() configured facet}, Phase 2 counts the
+ * candidates that pass the filter per facet value, in the same loop that filters them, and
+ * the counts are returned as {@link SearchResult#facets()}. With term pruning the candidates
+ * are the documents sharing a query term; otherwise the whole filtered corpus. A retriever
+ * never visits most candidates, so with facets configured every mode filters and scores, and
+ * the counts do not depend on whether a retriever is registered.
+ *
+ * <h2>Explain mode</h2>
+ * For a context with {@linkplain SearchContext#explain() explain} set, Phase 5 re-scores each
+ * returned item with {@link search.api.algorithm.ScoringStrategy#explain} against the search's
+ * {@link QueryPlan} — the statistics it was scored with — and attaches the
+ * {@link ScoreBreakdown}. Scoring itself never builds breakdowns, so the per-candidate path
+ * stays allocation-free and explaining costs O(maxResults).
+ *
+ * <h2>Metrics</h2>
+ * Each registered {@link search.api.metrics.SearchMetricsSink} receives a
+ * {@link search.api.metrics.SearchTrace} per call: per-phase nanosecond timings, candidate
+ * counts entering and leaving each phase, scorer invocations, and the result size. With no
+ * sink registered, nothing is timed or allocated.
+ *
  * <h2>Usage</h2>
  * <pre>{@code
  * // 1. Build the config
@@ -65,9 +146,23 @@ public class ConfigurableSearchEngine<T> implements SearchEngine<T> {
 
     private static final Logger LOGGER = Logger.getLogger(ConfigurableSearchEngine.class.getName());
 
+    /** Pages ranked ahead on a page-cache miss, so that the next few pages are served from it. */
+    private static final int PREFETCH_PAGES = 4;
+
+    /** Queries whose ranked lists are kept for paging. */
+    private static final int PAGE_CACHE_CAPACITY = 128;
+
     /** The wired configuration driving this engine. */
     protected final SearchEngineConfig<T> config;
 
+    private final ParallelScorer<T> parallelScorer;
+
+    /** {@code true} when the configured filter has members a {@link FilterIndex} can answer. */
+    private final boolean indexedFilter;
+    private volatile FilterIndex<T> filterIndex;
+
+    private final PageCache<T> pageCache = new PageCache<>(PAGE_CACHE_CAPACITY);
+
     /**
      * Creates a new engine wired to the given configuration.
      *
@@ -75,47 +170,459 @@ public class ConfigurableSearchEngine<T> implements SearchEngine<T> {
      */
     public ConfigurableSearchEngine(final SearchEngineConfig<T> config) {
         this.config = Objects.requireNonNull(config, "config must not be null");
+        this.parallelScorer = new ParallelScorer<>(config.parallelScoring());
+        this.indexedFilter  = FilterIndex.supports(config.filter());
     }
 
     @Override
     public final SearchResult<T> search(final SearchContext context) {
+        return search(context, null);
+    }
+
+    /**
+     * Runs {@link #search(SearchContext)} on {@code executor}.
+     *
+     * <p>Cancelling the returned future stops the search at its next check — between phases,
+     * or between scoring chunks — like an expired {@linkplain SearchContext#deadline()
+     * deadline}. A search cancelled before it starts does not run at all.
+     *
+     * @param context  the search context (never null)
+     * @param executor runs the search (never null)
+     * @return a future completed with the result, or exceptionally if the search fails
+     */
+    @Override
+    public final CompletableFuture<SearchResult<T>> searchAsync(final SearchContext context, final Executor executor) {
+        Objects.requireNonNull(context,  "context must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+        final var future = new CompletableFuture<SearchResult<T>>();
+        executor.execute(() -> {
+            if (future.isDone()) return;
+            try {
+                future.complete(search(context, future::isCancelled));
+            } catch (final Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private SearchResult<T> search(final SearchContext context, final BooleanSupplier cancelled) {
         Objects.requireNonNull(context, "context must not be null");
 
         // Allow subclasses to intercept before the pipeline
         final var effectiveContext = preSearch(context);
 
-        final var result = runPipeline(effectiveContext);
+        final var trace    = TraceRecorder.start(config.metricsSinks());
+        final var deadline = Deadline.of(effectiveContext, cancelled);
+        final var result   = cachedOrRun(effectiveContext, trace, deadline);
 
         // Allow subclasses to post-process the result
         return postSearch(effectiveContext, result);
     }
 
+    /**
+     * Executes a batch of searches, sharing work between them; results are returned in input
+     * order and equal what {@link #search(SearchContext)} returns for each context.
+     *
+     * <ul>
+     *   <li>Each context goes through {@link #preSearch(SearchContext)} and is normalised,
+     *       keyed and classified once; a context without deadline whose {@link CacheKey}
+     *       repeats an earlier one in the batch reuses its result (and is traced as a cache
+     *       hit).</li>
+     *   <li>Queries answered by a retriever or by pruned term candidates, and queries with a
+     *       deadline, run concurrently, one per task.</li>
+     *   <li>All other queries share {@link BatchScan} passes over the corpus: each block of
+     *       documents is filtered and scored for every query while it is in cache, and the
+     *       corpus is split across the cores. Since filtering and scoring are fused, each
+     *       query's trace reports the whole pass under {@link SearchPhase#FILTER}.</li>
+     * </ul>
+     *
+     * Work runs on the common {@link ForkJoinPool}; {@link #postSearch(SearchContext, SearchResult)}
+     * runs on the calling thread, in input order.
+     *
+     * @param contexts the search contexts (never null, no null elements)
+     * @return an unmodifiable list with one result per context, in input order
+     */
+    @Override
+    public final List<SearchResult<T>> searchAll(final List<SearchContext> contexts) {
+        Objects.requireNonNull(contexts, "contexts must not be null");
+        final var count   = contexts.size();
+        final var cache   = config.resultCache();
+        final var pinned  = pin();
+        final var version = cache.isEnabled() ? versionOf(pinned) : SearchIndex.UNVERSIONED;
+
+        final var effective = new SearchContext[count];
+        final var traces    = new TraceRecorder[count];
+        final var keys      = new CacheKey[count];
+        final var owners    = new int[count];
+        final var cacheHits = new boolean[count];
+        final var deadlines = new Deadline[count];
+        @SuppressWarnings("unchecked")
+        final var results   = (SearchResult<T>[]) new SearchResult<?>[count];
+
+        // Phase 0 + 1 once per distinct query: pre-search hook, cache lookup, classification
+        final var firstByKey = new HashMap<CacheKey, Integer>();
+        final var individual = new ArrayList<Integer>();
+        final var scanned    = new ArrayList<Integer>();
+        final var modes      = new SearchMode[count];
+        for (var i = 0; i < count; i++) {
+            final var context = preSearch(Objects.requireNonNull(contexts.get(i), "contexts must not contain null"));
+            effective[i] = context;
+            traces[i]    = TraceRecorder.start(config.metricsSinks());
+            keys[i]      = CacheKey.of(context);
+
+            final var first = context.hasDeadline() ? null : firstByKey.putIfAbsent(keys[i], i);
+            owners[i] = first != null ? first : i;
+            if (first != null) continue;
+
+            if (version != SearchIndex.UNVERSIONED) {
+                results[i] = cache.get(keys[i], version);
+                if (results[i] != null) {
+                    cacheHits[i] = true;
+                    continue;
+                }
+            }
+            deadlines[i] = Deadline.of(context, null);
+            modes[i]     = classifyQuery(context, traces[i]);
+            (deadlines[i].isNone() && scansCorpus(modes[i], context, pinned) ? scanned : individual).add(i);
+        }
+
+        // Retriever, pruned-candidate and deadline-bound queries: one task each
+        individual.parallelStream().forEach(i ->
+                results[i] = runClassified(modes[i], effective[i], traces[i], deadlines[i],
+                        resultLimit(effective[i]), pinned));
+
+        // Full-scan queries: shared passes over the corpus
+        if (!scanned.isEmpty()) {
+            final var filterIndex = currentFilterIndex(pinned);
+            final var documents   = filterIndex != null ? filterIndex.documents() : randomAccess(documentsOf(pinned));
+            for (var from = 0; from < scanned.size(); from += BatchScan.MAX_QUERIES) {
+                scanBatch(scanned.subList(from, Math.min(scanned.size(), from + BatchScan.MAX_QUERIES)),
+                        documents, filterIndex, pinned, modes, effective, traces, results);
+            }
+        }
+
+        // Cache, trace and post-process in input order
+        final var output = new ArrayList<SearchResult<T>>(count);
+        for (var i = 0; i < count; i++) {
+            final var owner  = owners[i];
+            final var result = results[owner];
+            if (owner == i && !cacheHits[i] && !result.truncated() && version != SearchIndex.UNVERSIONED) {
+                cache.put(keys[i], version, result);
+            }
+            traces[i].finish(owner != i || cacheHits[i], result);
+            output.add(postSearch(effective[i], result));
+        }
+        LOGGER.fine(() -> "Batch of " + count + " searches: " + firstByKey.size() + " distinct, "
+                + scanned.size() + " in shared corpus passes");
+        return Collections.unmodifiableList(output);
+    }
+
+    /**
+     * Returns the first page of {@code context}'s results; the page size is its effective
+     * result limit.
+     *
+     * @param context the search context (never null)
+     * @return the first page, with a cursor if more results follow
+     */
+    @Override
+    public final SearchPage<T> searchPage(final SearchContext context) {
+        Objects.requireNonNull(context, "context must not be null");
+        return page(preSearch(context), null);
+    }
+
+    /**
+     * Returns the page following {@code cursor}. Served from the page cache while the index
+     * version is unchanged; otherwise the query is re-ranked and the page starts after the
+     * cursor's last score, with any result tied at that score not yet returned.
+     *
+     * @param cursor a cursor obtained from a page of this engine (never null)
+     * @return the next page; empty if the results ran out
+     */
+    @Override
+    public final SearchPage<T> searchAfter(final SearchCursor cursor) {
+        Objects.requireNonNull(cursor, "cursor must not be null");
+        return page(cursor.context(), cursor);
+    }
+
+    /**
+     * Cuts the page after {@code after} (null = first page) from a ranked list deep enough to
+     * hold it. The list is ranked without explanations; only the returned page is explained.
+     */
+    private SearchPage<T> page(final SearchContext context, final SearchCursor after) {
+        final var pageSize = resultLimit(context);
+        final var offset   = after != null ? after.offset() : 0;
+        final var trace    = TraceRecorder.start(config.metricsSinks());
+        final var pinned   = pin();
+        final var version  = versionOf(pinned);
+        final var ranking  = context.withExplain(false);
+        final var key      = CacheKey.of(ranking);
+
+        // One result beyond the page tells whether another page follows
+        final var wanted = (int) Math.min(Integer.MAX_VALUE, (long) offset + pageSize + 1);
+        var ranked = version != SearchIndex.UNVERSIONED ? pageCache.get(key, version) : null;
+        final var cacheHit = ranked != null && ranked.covers(wanted);
+        if (!cacheHit) ranked = rank(ranking, key, version, pinned, ranked, wanted, pageSize, trace);
+
+        var items = ranked.result().items();
+        var same  = after == null || sameRanking(items, after, version);
+        final var page = new ArrayList<ScoredItem<T>>();
+        int end;
+        while (true) {
+            end = after != null && same ? Math.min(offset, items.size()) : 0;
+            page.clear();
+            for (; end < items.size() && page.size() < pageSize; end++) {
+                final var si = items.get(end);
+                if (same || !returnedBefore(si, after)) page.add(si);
+            }
+            while (!same && end < items.size() && returnedBefore(items.get(end), after)) end++;
+            // After a re-rank, results returned before can push the page past the ranked depth
+            if (end < items.size() || ranked.complete() || ranked.result().truncated()) break;
+            ranked = rank(ranking, key, version, pinned, ranked, ranked.depth() + 1, pageSize, trace);
+            items  = ranked.result().items();
+            same   = after == null || sameRanking(items, after, version);
+        }
+
+        final var all = ranked.result();
+        final SearchResult<T> result;
+        if (after == null && items.isEmpty()) {
+            result = all;
+        } else {
+            final var plan    = QueryPlan.of(context, all.classifiedMode(), pinned);
+            final var slice   = context.explain() ? explain(plan, page) : page;
+            final var summary = config.summaryBuilder().apply(context, slice.size());
+            result = new SearchResult<>(all.classifiedMode(), List.copyOf(slice), List.of(), summary,
+                    all.truncated(), all.facets());
+        }
+        final var next = end < items.size() && !page.isEmpty() ? nextCursor(context, after, page, end, version) : null;
+        trace.finish(cacheHit, result);
+        if (cacheHit) LOGGER.fine(() -> "Page after " + offset + " for '" + key.normalizedInput() + "' served from page cache");
+        return new SearchPage<>(postSearch(context, result), next);
+    }
+
+    /**
+     * Ranks {@code context}'s results at least {@code wanted} deep — several pages ahead, and at
+     * least twice as deep as {@code previous} (null = none) — and caches the ranking.
+     */
+    private PageCache.Ranked<T> rank(final SearchContext context, final CacheKey key, final long version,
+                                     final IndexGeneration<T> pinned, final PageCache.Ranked<T> previous,
+                                     final int wanted, final int pageSize, final TraceRecorder trace) {
+        final var depth = (int) Math.min(Integer.MAX_VALUE, Math.max(Math.max(wanted,
+                (long) pageSize * PREFETCH_PAGES), previous != null ? 2L * previous.depth() : 0L));
+        final var mode   = classifyQuery(context, trace);
+        final var ranked = new PageCache.Ranked<>(
+                runClassified(mode, context, trace, Deadline.of(context, null), depth, pinned), depth);
+        if (!ranked.result().truncated() && version != SearchIndex.UNVERSIONED) {
+            pageCache.put(key, version, ranked);
+        }
+        return ranked;
+    }
+
+    /**
+     * {@code true} if {@code items} is the ranking {@code cursor} came from — same index
+     * version, or, for an unversioned index, the cursor's last result still at its position.
+     */
+    private static <T> boolean sameRanking(final List<ScoredItem<T>> items, final SearchCursor cursor,
+                                           final long version) {
+        if (version != SearchIndex.UNVERSIONED) return cursor.indexVersion() == version;
+        final var offset = cursor.offset();
+        if (offset > items.size()) return false;
+        final var last = items.get(offset - 1);
+        return last.score() == cursor.lastScore() && cursor.lastScoreItems().contains(last.item());
+    }
+
+    /**
+     * {@code true} if a page up to {@code cursor} returned {@code si} — or ranked above it: every
+     * result scoring above the cursor's last score, and those returned at that score.
+     */
+    private static <T> boolean returnedBefore(final ScoredItem<T> si, final SearchCursor cursor) {
+        return si.score() > cursor.lastScore()
+                || (si.score() == cursor.lastScore() && cursor.lastScoreItems().contains(si.item()));
+    }
+
+    /** The cursor after {@code page}, which ended at position {@code end} of the ranking. */
+    private static <T> SearchCursor nextCursor(final SearchContext context, final SearchCursor after,
+                                               final List<ScoredItem<T>> page, final int end, final long version) {
+        final var lastScore = page.getLast().score();
+        final var tied      = new HashSet<Object>();
+        if (after != null && after.lastScore() == lastScore) tied.addAll(after.lastScoreItems());
+        for (final var si : page) {
+            if (si.score() == lastScore) tied.add(si.item());
+        }
+        return new SearchCursor(context, end, lastScore, tied, version);
+    }
+
     // -------------------------------------------------------------------------
     // Pipeline
     // -------------------------------------------------------------------------
 
-    private SearchResult<T> runPipeline(final SearchContext context) {
-        // Phase 1: classify
-        final var mode = classifyQuery(context);
-        LOGGER.fine(() -> "Search [" + mode + "] for '" + context.normalizedInput() + "'");
+    /**
+     * Answers from the result cache when possible; otherwise runs and caches the pipeline.
+     * Truncated results are not cached.
+     */
+    private SearchResult<T> cachedOrRun(final SearchContext context, final TraceRecorder trace,
+                                        final Deadline deadline) {
+        final var cache = config.resultCache();
+
+        // Read the version first: a mutation during the pipeline then makes the entry stale.
+        // A generational index is pinned instead, so the entry matches the generation searched.
+        final var pinned  = pin();
+        final var version = cache.isEnabled() ? versionOf(pinned) : SearchIndex.UNVERSIONED;
+        if (version == SearchIndex.UNVERSIONED) {
+            final var result = runPipeline(context, trace, deadline, pinned);
+            trace.finish(false, result);
+            return result;
+        }
+
+        final var key    = CacheKey.of(context);
+        final var cached = cache.get(key, version);
+        if (cached != null) {
+            LOGGER.fine(() -> "Search cache hit for '" + key.normalizedInput() + "'");
+            trace.finish(true, cached);
+            return cached;
+        }
+        final var result = runPipeline(context, trace, deadline, pinned);
+        if (!result.truncated()) cache.put(key, version, result);
+        trace.finish(false, result);
+        return result;
+    }
+
+    private SearchResult<T> runPipeline(final SearchContext context, final TraceRecorder trace,
+                                        final Deadline deadline, final IndexGeneration<T> pinned) {
+        final var mode = classifyQuery(context, trace);
+        return runClassified(mode, context, trace, deadline, resultLimit(context), pinned);
+    }
+
+    /**
+     * Phases 2 to 5 for a query already classified as {@code mode}, keeping the best
+     * {@code limit} results of the {@code pinned} generation (null = the live index); flagged
+     * truncated when the deadline cut any phase short.
+     */
+    private SearchResult<T> runClassified(final SearchMode mode, final SearchContext context,
+                                          final TraceRecorder trace, final Deadline deadline,
+                                          final int limit, final IndexGeneration<T> pinned) {
+        final var facets  = FacetCounter.start(config.facets());
+        final var result  = runPhases(QueryPlan.of(context, mode, pinned), trace, deadline, limit, facets);
+        final var counted = facets != null ? result.withFacets(facets.counts()) : result;
+        return deadline.tripped() ? counted.asTruncated() : counted;
+    }
+
+    /**
+     * Phases 2 to 5 of a planned query, counting filtered candidates into {@code facets}
+     * (null = no facets). The deadline is checked before Phases 2 and 3, which are skipped once
+     * it has passed, and between scoring chunks; whatever was scored by then is still ranked.
+     */
+    private SearchResult<T> runPhases(final QueryPlan plan, final TraceRecorder trace,
+                                      final Deadline deadline, final int limit,
+                                      final FacetCounter<T> facets) {
+        final var mode    = plan.mode();
+        final var context = plan.context();
+        if (deadline.expired()) return buildEmptyResult(mode, context, trace);
+
+        // Phases 2 + 3 as one pruned top-K query, when the mode has a retriever that applies
+        final int needed    = config.ranker().candidateLimit(limit);
+        final var retriever = retrieverFor(plan, needed);
+        if (retriever != null) {
+            trace.begin(SearchPhase.SCORE);
+            final var filterIndex = currentFilterIndex(pinnedBy(plan));
+            final var filter      = filterIndex != null
+                    ? filterIndex.compiled(config.filter(), context)
+                    : config.filter();
+            final var retrieved = retriever.retrieve(plan, filter, needed, deadline::expired);
+            trace.end(retrieved.size(), retrieved.size());
+            if (retrieved.isEmpty()) {
+                return buildEmptyResult(mode, context, trace);
+            }
+            return rankAndTrim(plan, retrieved, trace, limit);
+        }
 
         // Phase 2: filter
-        final var candidates = filterDocuments(context);
-        if (candidates.isEmpty()) {
-            return buildEmptyResult(mode, context);
+        trace.begin(SearchPhase.FILTER);
+        final var candidates = filterDocuments(plan, trace, facets);
+        if (candidates.isEmpty() || deadline.expired()) {
+            return buildEmptyResult(mode, context, trace);
         }
 
-        // Phase 3: score  (drop zero-score documents)
-        final var scored = scoreDocuments(candidates, context, mode);
+        // Phase 3: score  (drop zero-score documents; keep only what the ranker needs)
+        trace.begin(SearchPhase.SCORE);
+        final var scored = scoreDocuments(candidates, plan, trace, deadline, needed);
+        trace.end(candidates.size(), scored.size());
         if (scored.isEmpty()) {
-            return buildEmptyResult(mode, context);
+            return buildEmptyResult(mode, context, trace);
         }
+        return rankAndTrim(plan, scored, trace, limit);
+    }
+
+    /** Phases 2 to 5 of up to {@link BatchScan#MAX_QUERIES} full-scan queries in one pass. */
+    private void scanBatch(final List<Integer> batch, final List<T> documents, final FilterIndex<T> filterIndex,
+                           final IndexGeneration<T> pinned, final SearchMode[] modes, final SearchContext[] contexts,
+                           final TraceRecorder[] traces, final SearchResult<T>[] results) {
+        final var queries = new ArrayList<BatchScan.Query<T>>(batch.size());
+        for (final var i : batch) {
+            final int needed = config.ranker().candidateLimit(resultLimit(contexts[i]));
+            queries.add(new BatchScan.Query<>(QueryPlan.of(contexts[i], modes[i], pinned),
+                    config.scorerFor(modes[i]), needed));
+            traces[i].begin(SearchPhase.FILTER);
+        }
+        final var scan = new BatchScan<>(documents, config.filter(), filterIndex, config.facets(), queries);
+        IntStream.range(0, scan.tasks()).parallel().forEach(scan::runTask);
+
+        final var outcomes = scan.outcomes();
+        IntStream.range(0, batch.size()).parallel().forEach(q -> {
+            final var i       = batch.get(q);
+            final var outcome = outcomes.get(q);
+            final var trace   = traces[i];
+            trace.end(documents.size(), outcome.survivors());
+            final SearchResult<T> result;
+            if (outcome.survivors() == 0) {
+                result = buildEmptyResult(modes[i], contexts[i], trace);
+            } else {
+                trace.begin(SearchPhase.SCORE);
+                trace.scorerInvocations(outcome.scorerInvocations());
+                trace.end(outcome.survivors(), outcome.scored().size());
+                result = outcome.scored().isEmpty()
+                        ? buildEmptyResult(modes[i], contexts[i], trace)
+                        : rankAndTrim(queries.get(q).plan(), outcome.scored(), trace, resultLimit(contexts[i]));
+            }
+            results[i] = outcome.facets() != null ? result.withFacets(outcome.facets()) : result;
+        });
+    }
 
+    /** Returns {@code documents} as a random-access list, copying only when needed. */
+    private static <T> List<T> randomAccess(final Collection<T> documents) {
+        return documents instanceof List<T> list && list instanceof RandomAccess ? list : new ArrayList<>(documents);
+    }
+
+    /** Phases 4 and 5 over the scored candidates, keeping the best {@code limit}. */
+    private SearchResult<T> rankAndTrim(final QueryPlan plan, final List<ScoredItem<T>> scored,
+                                        final TraceRecorder trace, final int limit) {
+        final var context = plan.context();
         // Phase 4: rank
+        trace.begin(SearchPhase.RANK);
         final var ranked = config.ranker().rank(scored, context);
+        trace.end(scored.size(), ranked.size());
 
         // Phase 5: trim + wrap
-        return buildResult(mode, ranked, context);
+        trace.begin(SearchPhase.TRIM);
+        final var result = buildResult(plan, ranked, limit);
+        trace.end(ranked.size(), result.items().size());
+        return result;
+    }
+
+    /**
+     * Attaches a {@link ScoreBreakdown} to every item: the mode scorer's explanation, plus a
+     * {@code ranking} component for any adjustment the ranker made, so each breakdown totals
+     * the item's final score. Runs only in explain mode, over the trimmed items.
+     */
+    private List<ScoredItem<T>> explain(final QueryPlan plan, final List<ScoredItem<T>> items) {
+        final var scorer    = config.scorerFor(plan.mode());
+        final var explained = new ArrayList<ScoredItem<T>>(items.size());
+        for (final var si : items) {
+            final var breakdown = scorer.explain(si.item(), plan);
+            explained.add(new ScoredItem<>(si.item(), si.score(),
+                    breakdown.plus("ranking", si.score() - breakdown.total())));
+        }
+        return explained;
     }
 
     // -------------------------------------------------------------------------
@@ -123,50 +630,167 @@ public class ConfigurableSearchEngine<T> implements SearchEngine<T> {
     // -------------------------------------------------------------------------
 
     /** Phase 1: resolve query mode (forced or classified). */
-    private SearchMode classifyQuery(final SearchContext context) {
-        if (context.hasForcedMode()) return context.forcedMode();
-        return config.classifier().classify(context.normalizedInput());
+    private SearchMode classifyQuery(final SearchContext context, final TraceRecorder trace) {
+        trace.begin(SearchPhase.CLASSIFY);
+        final var mode = context.hasForcedMode()
+                ? context.forcedMode()
+                : config.classifier().classify(context.normalizedInput());
+        trace.end(0, 0);
+        LOGGER.fine(() -> "Search [" + mode + "] for '" + context.normalizedInput() + "'");
+        return mode;
+    }
+
+    /**
+     * {@code true} when Phases 2 and 3 of {@code context} visit the whole corpus — neither a
+     * retriever nor term-based candidate pruning applies — so the query can join a shared
+     * {@link BatchScan}.
+     */
+    private boolean scansCorpus(final SearchMode mode, final SearchContext context,
+                                final IndexGeneration<T> pinned) {
+        final int needed = config.ranker().candidateLimit(resultLimit(context));
+        if (retrieverFor(QueryPlan.of(context, mode, pinned), needed) != null) return false;
+        return !(config.prunesCandidates(mode) && config.index() instanceof TermIndex<T>);
+    }
+
+    /**
+     * The retriever that answers {@code plan} with its best {@code needed} documents, or
+     * {@code null} when Phases 2 and 3 must run: the mode has none, the ranker needs every
+     * candidate, facets must count every filtered candidate, or the retriever cannot answer the
+     * plan's pinned generation.
+     */
+    private TopKRetriever<T> retrieverFor(final QueryPlan plan, final int needed) {
+        final var retriever = config.retrieverFor(plan.mode());
+        if (retriever == null || needed == RankingStrategy.ALL_CANDIDATES || !config.facets().isEmpty()) return null;
+        return retriever.supports(plan) ? retriever : null;
     }
 
     /** Phase 2: collect documents that pass the configured filter. */
-    private List<T> filterDocuments(final SearchContext context) {
-        final var filter = config.filter();
-        final var all    = config.index().all();
-        if (all.isEmpty()) return List.of();
+    private List<T> filterDocuments(final QueryPlan plan, final TraceRecorder trace,
+                                    final FacetCounter<T> facets) {
+        final var context     = plan.context();
+        final var filter      = config.filter();
+        final var pinned      = pinnedBy(plan);
+        final var filterIndex = currentFilterIndex(pinned);
+        final var pool        = candidatePool(plan, filterIndex, pinned);
+        if (pool.isEmpty()) {
+            trace.end(0, 0);
+            return List.of();
+        }
 
-        final var survivors = new ArrayList<T>(Math.min(all.size(), 512));
-        for (final var doc : all) {
-            if (filter.test(doc, context)) survivors.add(doc);
+        if (filterIndex != null) {
+            final var survivors = filterIndex.select(pool, filter, context);
+            if (facets != null) survivors.forEach(facets::accept);
+            trace.end(pool.size(), survivors.size());
+            return survivors;
         }
+        final var survivors = new ArrayList<T>(Math.min(pool.size(), 512));
+        for (final var doc : pool) {
+            if (!filter.test(doc, context)) continue;
+            survivors.add(doc);
+            if (facets != null) facets.accept(doc);
+        }
+        trace.end(pool.size(), survivors.size());
         return survivors;
     }
 
-    /** Phase 3: score and discard zero-score documents. */
-    private List<ScoredItem<T>> scoreDocuments(final List<T> documents,
-                                                final SearchContext context,
-                                                final SearchMode mode) {
-        final var scorer = config.scorerFor(mode);
-        final var result = new ArrayList<ScoredItem<T>>(documents.size());
-        for (final var doc : documents) {
-            final var score = scorer.score(doc, context);
-            if (score > 0) result.add(new ScoredItem<>(doc, score));
+    /**
+     * Documents visited by Phase 2: term-matched candidates when pruning applies, else the
+     * corpus — taken from the filter index snapshot when there is one, so its bitmaps line up.
+     */
+    private Collection<T> candidatePool(final QueryPlan plan, final FilterIndex<T> filterIndex,
+                                        final IndexGeneration<T> pinned) {
+        if (config.prunesCandidates(plan.mode()) && config.index() instanceof TermIndex<T> termIndex) {
+            return termIndex.candidates(plan.input());
         }
-        return result;
+        return filterIndex != null ? filterIndex.documents() : documentsOf(pinned);
+    }
+
+    /**
+     * Returns the filter index for the current index version — or for the {@code pinned}
+     * generation — rebuilding it after a mutation; {@code null} when the filter has no
+     * indexable member or the index is unversioned.
+     */
+    private FilterIndex<T> currentFilterIndex(final IndexGeneration<T> pinned) {
+        if (!indexedFilter) return null;
+        final var version = versionOf(pinned);
+        if (version == SearchIndex.UNVERSIONED) return null;
+
+        var current = filterIndex;
+        if (current == null || current.version() != version) {
+            // Concurrent rebuilds are harmless: each builds an equivalent snapshot
+            current = FilterIndex.build(documentsOf(pinned), version);
+            // A search pinned to an older generation must not replace a newer snapshot
+            if (pinned == null || filterIndex == null || filterIndex.version() < version) filterIndex = current;
+            LOGGER.fine("Filter index rebuilt at index version " + version);
+        }
+        return current;
+    }
+
+    /** Pins the current generation of a {@link GenerationalIndex}; {@code null} for other indexes. */
+    private IndexGeneration<T> pin() {
+        return config.index() instanceof GenerationalIndex<T> generational ? generational.generation() : null;
+    }
+
+    /** The generation {@code plan} was made against — one {@link #pin()} returned for this engine's index. */
+    @SuppressWarnings("unchecked")
+    private IndexGeneration<T> pinnedBy(final QueryPlan plan) {
+        return (IndexGeneration<T>) plan.generation();
+    }
+
+    /** The index version a search reads: the pinned generation's, else the live index's. */
+    private long versionOf(final IndexGeneration<T> pinned) {
+        return pinned != null ? pinned.number() : config.index().version();
+    }
+
+    /** The corpus a search reads: the pinned generation's documents, else the live index's. */
+    private Collection<T> documentsOf(final IndexGeneration<T> pinned) {
+        return pinned != null ? pinned.all() : config.index().all();
+    }
+
+    /**
+     * Phase 3: score and discard zero-score documents. When the ranker needs fewer items than
+     * there are candidates, only the best {@code candidateLimit} are retained (best-first);
+     * otherwise all positive-scored items are returned in candidate order. Either way the
+     * outcome is the same whether scoring ran sequentially or in parallel. Once the deadline
+     * has passed, chunks not yet scored are skipped.
+     */
+    private List<ScoredItem<T>> scoreDocuments(final List<T> documents,
+                                                final QueryPlan plan,
+                                                final TraceRecorder trace,
+                                                final Deadline deadline,
+                                                final int needed) {
+        final var scorer = config.scorerFor(plan.mode());
+        final int k      = needed < documents.size() ? needed : ScoreAccumulator.UNBOUNDED;
+
+        final var accumulator = parallelScorer.appliesTo(documents.size())
+                ? parallelScorer.score(documents, scorer, plan, k, deadline)
+                : ScoreAccumulator.scoreRange(documents, 0, documents.size(), scorer, plan, k, deadline);
+        trace.scorerInvocations(accumulator.scorerInvocations());
+        return accumulator.toList();
+    }
+
+    /** Returns the effective result limit: the stricter of the engine and context limits. */
+    private int resultLimit(final SearchContext context) {
+        return Math.min(config.maxResults(), context.maxResults());
     }
 
-    /** Phase 5: trim to maxResults and wrap into a {@link SearchResult}. */
-    private SearchResult<T> buildResult(final SearchMode mode,
+    /** Phase 5: trim to {@code limit}, explain in explain mode, and wrap into a {@link SearchResult}. */
+    private SearchResult<T> buildResult(final QueryPlan plan,
                                          final List<ScoredItem<T>> ranked,
-                                         final SearchContext context) {
-        final int limit = Math.min(config.maxResults(), context.maxResults());
-        final var trimmed = ranked.size() > limit ? ranked.subList(0, limit) : ranked;
+                                         final int limit) {
+        final var context = plan.context();
+        final var cut     = ranked.size() > limit ? ranked.subList(0, limit) : ranked;
+        final var trimmed = context.explain() ? explain(plan, cut) : cut;
         final var summary = config.summaryBuilder().apply(context, trimmed.size());
-        return new SearchResult<>(mode, List.copyOf(trimmed), List.of(), summary);
+        return new SearchResult<>(plan.mode(), List.copyOf(trimmed), List.of(), summary);
     }
 
-    private SearchResult<T> buildEmptyResult(final SearchMode mode, final SearchContext context) {
+    private SearchResult<T> buildEmptyResult(final SearchMode mode, final SearchContext context,
+                                              final TraceRecorder trace) {
+        trace.begin(SearchPhase.TRIM);
         final var suggestions = config.suggestionProvider().apply(context);
         final var summary     = config.summaryBuilder().apply(context, 0);
+        trace.end(0, 0);
         return SearchResult.emptyWithSuggestions(mode, summary, suggestions);
     }
 
@@ -0,0 +1,75 @@
+package search.engine.core;
+
+import search.api.core.SearchContext;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.BooleanSupplier;
+
+/**
+ * When one search call should stop optional work: its context's
+ * {@linkplain SearchContext#deadline() deadline}, or cancellation of the future awaiting it.
+ *
+ * <p>The deadline instant is converted to {@link System#nanoTime()} once, so each
+ * {@link #expired()} check is a clock read and a comparison. Expiry is sticky and visible
+ * across threads: once any check has observed it, {@link #tripped()} reports that the search
+ * skipped work and its result is incomplete.
+ */
+final class Deadline {
+
+    /** Deadlines further away than this (~73 years) never expire; keeps nanoTime arithmetic in range. */
+    private static final long FAR_FUTURE = Long.MAX_VALUE / 4;
+    private static final long NEVER      = Long.MAX_VALUE;
+
+    /** A deadline that never expires. */
+    static final Deadline NONE = new Deadline(false, 0L, null);
+
+    private final boolean timed;
+    private final long deadlineNanos;
+    private final BooleanSupplier cancelled;
+    private volatile boolean tripped;
+
+    private Deadline(final boolean timed, final long deadlineNanos, final BooleanSupplier cancelled) {
+        this.timed         = timed;
+        this.deadlineNanos = deadlineNanos;
+        this.cancelled     = cancelled;
+    }
+
+    /**
+     * Returns the deadline of {@code context}, also expiring when {@code cancelled} reports
+     * {@code true} (may be {@code null}).
+     */
+    static Deadline of(final SearchContext context, final BooleanSupplier cancelled) {
+        final var remaining = context.hasDeadline() ? remainingNanos(context.deadline()) : NEVER;
+        if (remaining == NEVER) return cancelled == null ? NONE : new Deadline(false, 0L, cancelled);
+        return new Deadline(true, System.nanoTime() + remaining, cancelled);
+    }
+
+    /** Nanoseconds until {@code deadline}, clamped to [0, {@link #FAR_FUTURE}], or {@link #NEVER} beyond. */
+    private static long remainingNanos(final Instant deadline) {
+        final var now = Instant.now();
+        try {
+            final var nanos = Duration.between(now, deadline).toNanos();
+            return nanos > FAR_FUTURE ? NEVER : Math.max(nanos, 0L);
+        } catch (final ArithmeticException e) {
+            return deadline.isAfter(now) ? NEVER : 0L;
+        }
+    }
+
+    /** Returns {@code true} if this deadline can never expire. */
+    boolean isNone() { return !timed && cancelled == null; }
+
+    /** Returns {@code true} — and trips the deadline — once it has passed or the search was cancelled. */
+    boolean expired() {
+        if (tripped) return true;
+        if ((timed && System.nanoTime() - deadlineNanos >= 0)
+                || (cancelled != null && cancelled.getAsBoolean())) {
+            tripped = true;
+            return true;
+        }
+        return false;
+    }
+
+    /** Returns {@code true} if an {@link #expired()} check has observed expiry. */
+    boolean tripped() { return tripped; }
+}
@@ -0,0 +1,116 @@
+package search.engine.core;
+
+import search.api.facet.Facet;
+import search.api.facet.FacetCounts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Counts documents per facet value while Phase 2 filters them.
+ *
+ * <p>Each facet maps its distinct values to dense ordinals once; counting a document is then
+ * one extractor call, one hash lookup and an {@code int} increment per facet — no boxing, no
+ * per-document allocation. A document whose value is a collection is counted once per
+ * distinct element, tracked with a per-ordinal stamp instead of a set.
+ *
+ * <p>Not thread-safe — use one counter per thread and {@linkplain #mergeFrom(FacetCounter)
+ * merge}. Counts do not depend on the order documents were seen in.
+ *
+ * @param <T> the document type
+ */
+final class FacetCounter<T> {
+
+    private final List<Facet<T>> facets;
+    private final Dimension[] dimensions;
+    private int document;
+
+    private FacetCounter(final List<Facet<T>> facets) {
+        this.facets     = facets;
+        this.dimensions = new Dimension[facets.size()];
+        for (var i = 0; i < dimensions.length; i++) dimensions[i] = new Dimension();
+    }
+
+    /** Returns a counter for {@code facets}, or {@code null} when there are none to count. */
+    static <T> FacetCounter<T> start(final List<Facet<T>> facets) {
+        return facets.isEmpty() ? null : new FacetCounter<>(facets);
+    }
+
+    /** Counts one document under its value of every facet. */
+    void accept(final T doc) {
+        final var stamp = ++document;
+        for (var i = 0; i < dimensions.length; i++) {
+            final var value = facets.get(i).extractor().apply(doc);
+            if (value instanceof Collection<?> values) {
+                for (final var element : values) dimensions[i].count(element, stamp);
+            } else {
+                dimensions[i].count(value, stamp);
+            }
+        }
+    }
+
+    /** Adds the counts of {@code other}, a counter over the same facets. */
+    void mergeFrom(final FacetCounter<T> other) {
+        for (var i = 0; i < dimensions.length; i++) dimensions[i].addAll(other.dimensions[i]);
+    }
+
+    /** Returns the counts of every facet, in configuration order. */
+    List<FacetCounts> counts() {
+        final var counts = new ArrayList<FacetCounts>(dimensions.length);
+        for (var i = 0; i < dimensions.length; i++) {
+            counts.add(new FacetCounts(facets.get(i).name(), dimensions[i].values()));
+        }
+        return counts;
+    }
+
+    /** Value ordinals and primitive counters of one facet. */
+    private static final class Dimension {
+
+        private final Map<Object, Integer> ordinals = new HashMap<>();
+        private Object[] values = new Object[8];
+        private int[] counts    = new int[8];
+        private int[] stamps    = new int[8];
+        private int size;
+
+        void count(final Object value, final int stamp) {
+            if (value == null) return;
+            final var ordinal = ordinalOf(value);
+            if (stamps[ordinal] == stamp) return; // repeated element of one document
+            stamps[ordinal] = stamp;
+            counts[ordinal]++;
+        }
+
+        void addAll(final Dimension other) {
+            for (var i = 0; i < other.size; i++) {
+                // Resolve first: ordinalOf may grow the arrays, and counts[...] would read the old one
+                final var ordinal = ordinalOf(other.values[i]);
+                counts[ordinal] += other.counts[i];
+            }
+        }
+
+        List<FacetCounts.Value> values() {
+            final var result = new ArrayList<FacetCounts.Value>(size);
+            for (var i = 0; i < size; i++) {
+                if (counts[i] > 0) result.add(new FacetCounts.Value(values[i], counts[i]));
+            }
+            return result;
+        }
+
+        private int ordinalOf(final Object value) {
+            final var known = ordinals.get(value);
+            if (known != null) return known;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+                stamps = Arrays.copyOf(stamps, size * 2);
+            }
+            values[size] = value;
+            ordinals.put(value, size);
+            return size++;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package search.engine.core;
+
+import search.api.cache.CacheKey;
+import search.api.core.SearchResult;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Ranked result lists of recently paged queries, so that
+ * {@link ConfigurableSearchEngine#searchAfter(search.api.core.SearchCursor)} serves deeper
+ * pages without re-scoring the corpus.
+ *
+ * <p>Each entry holds one query's results ranked to some depth, tagged with the index version
+ * they were computed against; a lookup with another version misses. Bounded and
+ * least-recently-used, like {@link search.engine.cache.LruResultCache}. Thread-safe.
+ *
+ * @param <T> the document type
+ */
+final class PageCache<T> {
+
+    /**
+     * A query's results ranked to {@code depth}: its best {@code depth} results, or all of them
+     * if fewer matched.
+     */
+    record Ranked<T>(SearchResult<T> result, int depth) {
+
+        /** {@code true} if the first {@code count} results are known — or all there are. */
+        boolean covers(final int count) {
+            return result.items().size() >= count || complete();
+        }
+
+        /** {@code true} if fewer than {@code depth} results matched, so these are all of them. */
+        boolean complete() {
+            return result.items().size() < depth;
+        }
+    }
+
+    private final int capacity;
+    private final Map<CacheKey, Entry<T>> entries;
+
+    /** @param capacity the maximum number of queries held (≥ 1) */
+    PageCache(final int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be ≥ 1, got: " + capacity);
+        this.capacity = capacity;
+        this.entries  = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<CacheKey, Entry<T>> eldest) {
+                return size() > PageCache.this.capacity;
+            }
+        };
+    }
+
+    /** Returns the ranked list of {@code key} computed against {@code indexVersion}, or null. */
+    Ranked<T> get(final CacheKey key, final long indexVersion) {
+        synchronized (entries) {
+            final var entry = entries.get(key);
+            if (entry == null) return null;
+            if (entry.indexVersion() != indexVersion) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.ranked();
+        }
+    }
+
+    /** Stores a ranked list computed against {@code indexVersion}, unless a newer or deeper one is held. */
+    void put(final CacheKey key, final long indexVersion, final Ranked<T> ranked) {
+        synchronized (entries) {
+            final var existing = entries.get(key);
+            if (existing != null && (existing.indexVersion() > indexVersion
+                    || (existing.indexVersion() == indexVersion && existing.ranked().depth() >= ranked.depth()))) {
+                return;
+            }
+            entries.put(key, new Entry<>(indexVersion, ranked));
+        }
+    }
+
+    private record Entry<T>(long indexVersion, Ranked<T> ranked) {}
+}
@@ -0,0 +1,129 @@
+package search.engine.core;
+
+import search.api.algorithm.ScoringStrategy;
+import search.api.core.QueryPlan;
+import search.engine.config.ParallelScoring;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs Phase 3 over contiguous candidate chunks on several threads, as configured by
+ * {@link ParallelScoring}.
+ *
+ * <p>Each chunk is scored into its own {@link ScoreAccumulator}; partial results are merged
+ * in chunk order, so the outcome is identical to sequential scoring. Fork-join chunks run in
+ * the {@linkplain ParallelScoring#pool() configured pool} or the common pool, never in one the
+ * scorer owns, so an engine that is simply dropped leaves no threads behind.
+ *
+ * @param <T> the document type
+ */
+final class ParallelScorer<T> {
+
+    private final ParallelScoring settings;
+    private final ForkJoinPool pool;
+
+    ParallelScorer(final ParallelScoring settings) {
+        this.settings = settings;
+        this.pool     = settings.pool() != null ? settings.pool() : ForkJoinPool.commonPool();
+    }
+
+    /** Returns {@code true} if {@code candidateCount} candidates should take the parallel path. */
+    boolean appliesTo(final int candidateCount) {
+        return settings.appliesTo(candidateCount);
+    }
+
+    /**
+     * Scores all documents in parallel and returns the merged accumulator. Chunks stop scoring
+     * once {@code deadline} has expired.
+     */
+    ScoreAccumulator<T> score(final List<T> documents, final ScoringStrategy<T> scorer,
+                              final QueryPlan plan, final int k, final Deadline deadline) {
+        final var chunkSize = settings.chunkSize(documents.size());
+        return switch (settings.executor()) {
+            case FORK_JOIN -> pool.invoke(
+                    new ChunkTask<>(documents, 0, documents.size(), chunkSize, scorer, plan, k, deadline));
+            case VIRTUAL_THREADS -> scoreOnVirtualThreads(documents, chunkSize, scorer, plan, k, deadline);
+        };
+    }
+
+    private ScoreAccumulator<T> scoreOnVirtualThreads(final List<T> documents, final int chunkSize,
+                                                      final ScoringStrategy<T> scorer,
+                                                      final QueryPlan plan, final int k,
+                                                      final Deadline deadline) {
+        final var permits = new Semaphore(settings.parallelism());
+        final var futures = new ArrayList<Future<ScoreAccumulator<T>>>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var from = 0; from < documents.size(); from += chunkSize) {
+                final var start = from;
+                final var end   = Math.min(documents.size(), from + chunkSize);
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return ScoreAccumulator.scoreRange(documents, start, end, scorer, plan, k, deadline);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+            ScoreAccumulator<T> merged = null;
+            for (final var future : futures) {
+                final var part = future.get();
+                merged = merged == null ? part : merged.mergeFrom(part);
+            }
+            return merged;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scoring candidates", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException("Scoring failed", e.getCause());
+        }
+    }
+
+    /** Splits a candidate range in half until it fits in one chunk. */
+    private static final class ChunkTask<T> extends RecursiveTask<ScoreAccumulator<T>> {
+
+        private final List<T> documents;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final ScoringStrategy<T> scorer;
+        private final QueryPlan plan;
+        private final int k;
+        private final Deadline deadline;
+
+        ChunkTask(final List<T> documents, final int from, final int to, final int chunkSize,
+                  final ScoringStrategy<T> scorer, final QueryPlan plan, final int k,
+                  final Deadline deadline) {
+            this.documents = documents;
+            this.from      = from;
+            this.to        = to;
+            this.chunkSize = chunkSize;
+            this.scorer    = scorer;
+            this.plan      = plan;
+            this.k         = k;
+            this.deadline  = deadline;
+        }
+
+        @Override
+        protected ScoreAccumulator<T> compute() {
+            if (to - from <= chunkSize) {
+                return ScoreAccumulator.scoreRange(documents, from, to, scorer, plan, k, deadline);
+            }
+            final var mid   = (from + to) >>> 1;
+            final var left  = new ChunkTask<>(documents, from, mid, chunkSize, scorer, plan, k, deadline);
+            final var right = new ChunkTask<>(documents, mid, to, chunkSize, scorer, plan, k, deadline);
+            left.fork();
+            final var rightResult = right.compute();
+            return left.join().mergeFrom(rightResult);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package search.engine.core;
+
+import search.api.algorithm.ScoringStrategy;
+import search.api.core.ScoredItem;
+import search.api.core.QueryPlan;
+import search.engine.rank.TopKHeap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the positive-scored documents of one candidate range — either all of them, in
+ * candidate order, or only the best {@code k} in a {@link TopKHeap}.
+ *
+ * <p>Accumulators for adjacent ranges merge left-to-right into exactly what a single
+ * accumulator over the combined range would hold, which is what lets the parallel scoring
+ * path reproduce the sequential ranking.
+ *
+ * @param <T> the document type
+ */
+final class ScoreAccumulator<T> {
+
+    /** {@code k} value meaning "keep every positive-scored document". */
+    static final int UNBOUNDED = 0;
+
+    /** Documents scored between two deadline checks. */
+    static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    private final TopKHeap<T> heap;
+    private final List<ScoredItem<T>> items;
+    private long scorerInvocations;
+
+    private ScoreAccumulator(final int k, final int expectedSize) {
+        this.heap  = k > UNBOUNDED ? new TopKHeap<>(k) : null;
+        this.items = k > UNBOUNDED ? null : new ArrayList<>(expectedSize);
+    }
+
+    /**
+     * Scores {@code documents[from, to)} into a fresh accumulator.
+     *
+     * @param documents the full candidate list
+     * @param from      first index (inclusive); also the tie-break sequence origin
+     * @param to        last index (exclusive)
+     * @param scorer    the mode-specific scorer
+     * @param plan      the planned query
+     * @param k         the number of items to retain, or {@link #UNBOUNDED}
+     * @param <T>       the document type
+     * @return the accumulator for the range
+     */
+    static <T> ScoreAccumulator<T> scoreRange(final List<T> documents, final int from, final int to,
+                                              final ScoringStrategy<T> scorer,
+                                              final QueryPlan plan, final int k) {
+        final var acc = new ScoreAccumulator<T>(k, to - from);
+        acc.score(documents, from, to, scorer, plan);
+        return acc;
+    }
+
+    /**
+     * Like {@link #scoreRange(List, int, int, ScoringStrategy, QueryPlan, int)}, but checks
+     * {@code deadline} every {@value #DEADLINE_CHECK_INTERVAL} documents and stops scoring once
+     * it has expired — the accumulator then holds the documents scored so far. Every block is
+     * scored into the one accumulator, whose threshold carries over from block to block.
+     */
+    static <T> ScoreAccumulator<T> scoreRange(final List<T> documents, final int from, final int to,
+                                              final ScoringStrategy<T> scorer, final QueryPlan plan,
+                                              final int k, final Deadline deadline) {
+        if (deadline.isNone()) return scoreRange(documents, from, to, scorer, plan, k);
+        final var acc = new ScoreAccumulator<T>(k, Math.min(to - from, DEADLINE_CHECK_INTERVAL));
+        for (var start = from; start < to && !deadline.expired(); start += DEADLINE_CHECK_INTERVAL) {
+            acc.score(documents, start, Math.min(to, start + DEADLINE_CHECK_INTERVAL), scorer, plan);
+        }
+        return acc;
+    }
+
+    /**
+     * Creates an empty accumulator, to be filled through {@link #accept} by callers that pick
+     * their own candidates and sequence numbers.
+     *
+     * @param k            the number of items to retain, or {@link #UNBOUNDED}
+     * @param expectedSize the expected number of positive-scored items when unbounded
+     * @param <T>          the document type
+     * @return an empty accumulator
+     */
+    static <T> ScoreAccumulator<T> create(final int k, final int expectedSize) {
+        return new ScoreAccumulator<>(k, expectedSize);
+    }
+
+    /** Scores {@code documents[from, to)} into this accumulator, after what it already holds. */
+    private void score(final List<T> documents, final int from, final int to,
+                       final ScoringStrategy<T> scorer, final QueryPlan plan) {
+        for (var i = from; i < to; i++) {
+            final var doc   = documents.get(i);
+            final var score = scorer.score(doc, plan, threshold());
+            if (score > 0) accept(doc, score, i);
+        }
+        scorerInvocations += to - from;
+    }
+
+    void accept(final T doc, final int score, final long sequence) {
+        if (heap != null) heap.offer(doc, score, sequence);
+        else items.add(new ScoredItem<>(doc, score));
+    }
+
+    /**
+     * Returns the score a document offered next must exceed to be retained: the heap threshold
+     * once the heap is full, otherwise 0. Offers arrive in increasing sequence order, so a tie
+     * with the threshold never enters — scorers may stop early at or below it.
+     */
+    int threshold() {
+        return heap != null ? Math.max(heap.threshold(), 0) : 0;
+    }
+
+    /** Merges the accumulator of the range immediately to the right of this one. */
+    ScoreAccumulator<T> mergeFrom(final ScoreAccumulator<T> right) {
+        if (heap != null) heap.mergeFrom(right.heap);
+        else items.addAll(right.items);
+        scorerInvocations += right.scorerInvocations;
+        return this;
+    }
+
+    /** Returns the number of {@code score} calls made for this accumulator's range(s). */
+    long scorerInvocations() { return scorerInvocations; }
+
+    /** Adds {@code invocations} {@code score} calls to this accumulator's count. */
+    void countInvocations(final long invocations) { scorerInvocations += invocations; }
+
+    /** Returns the retained items: best-first when bounded, candidate order otherwise. */
+    List<ScoredItem<T>> toList() {
+        return heap != null ? heap.toSortedList() : items;
+    }
+
+    /** Returns the retained items in candidate (sequence) order, bounded or not. */
+    List<ScoredItem<T>> toCandidateOrderList() {
+        return heap != null ? heap.toSequenceOrderedList() : items;
+    }
+}
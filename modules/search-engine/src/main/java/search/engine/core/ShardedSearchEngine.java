@@ -0,0 +1,330 @@
+package search.engine.core;
+
+import search.api.core.ScoredItem;
+import search.api.core.SearchContext;
+import search.api.core.SearchEngine;
+import search.api.core.SearchResult;
+import search.api.facet.FacetCounts;
+import search.api.index.ObservableIndex;
+import search.engine.algorithm.Bm25Statistics;
+import search.engine.config.SearchEngineConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.logging.Logger;
+
+/**
+ * {@link SearchEngine} that partitions documents across several shard engines and answers
+ * each query by scatter-gather.
+ *
+ * <p>Every shard is a {@link ConfigurableSearchEngine} over its own index, built from a
+ * per-shard {@link SearchEngineConfig}. A document lives in exactly one shard, chosen by a
+ * hash of its ID ({@link #shardOf(String)}). A query runs on all shards in parallel; each
+ * shard returns its own ranked top results, and the per-shard lists are combined with a
+ * k-way heap merge on score into the global top {@code maxResults}.
+ *
+ * <h2>Global BM25 statistics</h2>
+ * BM25 scores are only comparable across shards when every shard computes IDF and average
+ * document length over the <em>whole</em> corpus. Register one {@link Bm25Statistics} with
+ * {@link Builder#statistics(Bm25Statistics)} — the engine attaches it to every shard index,
+ * each of which must then be an {@link ObservableIndex}, so it counts all shards' documents —
+ * and give the same instance to each shard's {@link search.engine.algorithm.Bm25Scorer} (and
+ * {@link search.engine.algorithm.WandRetriever}).
+ * A document then scores exactly as it would in one unsharded index.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * var stats = Bm25Statistics.<Article>builder().textExtractor(Article::text).build();
+ *
+ * var engine = ShardedSearchEngine.<Article>builder()
+ *         .shards(4, shard -> SearchEngineConfig.<Article>builder()
+ *                 .index(InvertedIndex.<Article>builder().textExtractor(Article::text).build())
+ *                 .defaultScorer(Bm25Scorer.<Article>builder()
+ *                         .textExtractor(Article::text)
+ *                         .statistics(stats)
+ *                         .build())
+ *                 .build())
+ *         .statistics(stats)
+ *         .build();
+ *
+ * articles.forEach(a -> engine.add(a.id(), a));
+ * SearchResult<Article> result = engine.search("java concurrency");
+ * }</pre>
+ *
+ * <h2>Merging</h2>
+ * Shard results are merged by their final (ranked) score, ties broken by shard number and
+ * then shard rank, so the shards' rankers must order by score — as {@code ScoreRanker} and
+ * {@code RecencyBoostRanker} do. The merged result takes the mode of the first shard, its
+ * summary from the first shard's summary builder, and is {@linkplain SearchResult#truncated()
+ * truncated} if any shard's result was.
+ *
+ * <p>Thread-safe when the shard indexes are. Shards run on the configured executor (default:
+ * the common {@link ForkJoinPool}); {@link #search(SearchContext)} runs the first shard on the
+ * calling thread.
+ *
+ * @param <T> the document type
+ *
+ * @see ConfigurableSearchEngine
+ */
+public final class ShardedSearchEngine<T> implements SearchEngine<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(ShardedSearchEngine.class.getName());
+
+    private final List<SearchEngineConfig<T>> configs;
+    private final List<ConfigurableSearchEngine<T>> shards;
+    private final Executor executor;
+
+    private ShardedSearchEngine(final Builder<T> builder) {
+        final var configs = new ArrayList<SearchEngineConfig<T>>(builder.shardCount);
+        final var shards  = new ArrayList<ConfigurableSearchEngine<T>>(builder.shardCount);
+        for (var shard = 0; shard < builder.shardCount; shard++) {
+            final var config = Objects.requireNonNull(builder.shardConfig.apply(shard),
+                    "shard config must not be null");
+            for (final var other : configs) {
+                if (other.index() == config.index()) {
+                    throw new IllegalArgumentException("shards must not share an index (shard " + shard + ")");
+                }
+            }
+            if (builder.statistics != null) {
+                if (!(config.index() instanceof ObservableIndex<T> observable)) {
+                    throw new IllegalArgumentException("global statistics need an ObservableIndex (shard " + shard + ")");
+                }
+                builder.statistics.attach(observable);
+            }
+            configs.add(config);
+            shards.add(new ConfigurableSearchEngine<>(config));
+        }
+        this.configs  = List.copyOf(configs);
+        this.shards   = List.copyOf(shards);
+        this.executor = builder.executor;
+        LOGGER.info(() -> "ShardedSearchEngine: " + this.shards.size() + " shards"
+                + (builder.statistics != null ? " with global BM25 statistics" : ""));
+    }
+
+    // ─── Documents ─────────────────────────────────────────────────
+
+    /**
+     * Adds or replaces a document in the shard its ID hashes to.
+     *
+     * @param id   the unique document identifier (never null or blank)
+     * @param item the document (never null)
+     */
+    public void add(final String id, final T item) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Document ID must not be null or blank");
+        }
+        configs.get(shardOf(id)).index().add(id, item);
+    }
+
+    /** Removes the document with {@code id} from its shard, if present. */
+    public void remove(final String id) {
+        if (id == null) return;
+        configs.get(shardOf(id)).index().remove(id);
+    }
+
+    /** Looks up a document by ID in its shard. */
+    public Optional<T> findById(final String id) {
+        if (id == null) return Optional.empty();
+        return configs.get(shardOf(id)).index().findById(id);
+    }
+
+    /** Returns the total number of documents across all shards. */
+    public int size() {
+        var total = 0;
+        for (final var config : configs) total += config.index().size();
+        return total;
+    }
+
+    /** Returns the number of shards. */
+    public int shardCount() { return shards.size(); }
+
+    /** Returns the shard engine {@code shard} (0-based). */
+    public ConfigurableSearchEngine<T> shard(final int shard) { return shards.get(shard); }
+
+    /**
+     * Returns the shard that holds documents with {@code id}: a mixed {@link String#hashCode()}
+     * modulo the shard count, stable across JVMs.
+     */
+    public int shardOf(final String id) {
+        Objects.requireNonNull(id, "id must not be null");
+        final var h = id.hashCode() * 0x9E3779B9; // Fibonacci hashing spreads similar IDs
+        return Math.floorMod(h ^ (h >>> 16), shards.size());
+    }
+
+    // ─── Search ────────────────────────────────────────────────────
+
+    @Override
+    public SearchResult<T> search(final SearchContext context) {
+        Objects.requireNonNull(context, "context must not be null");
+        final var pending = new ArrayList<CompletableFuture<SearchResult<T>>>(shards.size() - 1);
+        for (var shard = 1; shard < shards.size(); shard++) {
+            pending.add(shards.get(shard).searchAsync(context, executor));
+        }
+        final var results = new ArrayList<SearchResult<T>>(shards.size());
+        try {
+            results.add(shards.get(0).search(context));
+            for (final var future : pending) results.add(await(future));
+        } catch (final RuntimeException | Error e) {
+            pending.forEach(future -> future.cancel(false));
+            throw e;
+        }
+        return merge(context, results);
+    }
+
+    /**
+     * Runs every shard on {@code executor} and merges their results. Cancelling the returned
+     * future cancels the shard searches still running.
+     */
+    @Override
+    public CompletableFuture<SearchResult<T>> searchAsync(final SearchContext context, final Executor executor) {
+        Objects.requireNonNull(context,  "context must not be null");
+        Objects.requireNonNull(executor, "executor must not be null");
+        final var pending = new ArrayList<CompletableFuture<SearchResult<T>>>(shards.size());
+        for (final var shard : shards) pending.add(shard.searchAsync(context, executor));
+
+        final var merged = CompletableFuture.allOf(pending.toArray(CompletableFuture<?>[]::new))
+                .thenApply(ignored -> {
+                    final var results = new ArrayList<SearchResult<T>>(pending.size());
+                    for (final var future : pending) results.add(future.join());
+                    return merge(context, results);
+                });
+        merged.whenComplete((result, error) -> {
+            if (merged.isCancelled()) pending.forEach(future -> future.cancel(false));
+        });
+        return merged;
+    }
+
+    /** Runs the batch on every shard in parallel, then merges per query. */
+    @Override
+    public List<SearchResult<T>> searchAll(final List<SearchContext> contexts) {
+        Objects.requireNonNull(contexts, "contexts must not be null");
+        final var pending = new ArrayList<CompletableFuture<List<SearchResult<T>>>>(shards.size());
+        for (final var shard : shards) {
+            pending.add(CompletableFuture.supplyAsync(() -> shard.searchAll(contexts), executor));
+        }
+        final var perShard = new ArrayList<List<SearchResult<T>>>(shards.size());
+        for (final var future : pending) perShard.add(await(future));
+
+        final var merged = new ArrayList<SearchResult<T>>(contexts.size());
+        for (var i = 0; i < contexts.size(); i++) {
+            final var results = new ArrayList<SearchResult<T>>(shards.size());
+            for (final var shardResults : perShard) results.add(shardResults.get(i));
+            merged.add(merge(contexts.get(i), results));
+        }
+        return Collections.unmodifiableList(merged);
+    }
+
+    // ─── Merge ─────────────────────────────────────────────────────
+
+    /** Position in one shard's ranked list. */
+    private record Head(int shard, int rank, int score) {}
+
+    /** K-way merge of the shards' ranked lists into the global top results. */
+    private SearchResult<T> merge(final SearchContext context, final List<SearchResult<T>> results) {
+        final var first     = results.get(0);
+        final var limit     = Math.min(configs.get(0).maxResults(), context.maxResults());
+        final var truncated = results.stream().anyMatch(SearchResult::truncated);
+
+        final var heads = new PriorityQueue<Head>(results.size(), (a, b) ->
+                a.score() != b.score() ? Integer.compare(b.score(), a.score()) : Integer.compare(a.shard(), b.shard()));
+        for (var shard = 0; shard < results.size(); shard++) {
+            final var items = results.get(shard).items();
+            if (!items.isEmpty()) heads.add(new Head(shard, 0, items.get(0).score()));
+        }
+
+        final var merged = new ArrayList<ScoredItem<T>>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            final var head  = heads.poll();
+            final var items = results.get(head.shard()).items();
+            merged.add(items.get(head.rank()));
+            final var next = head.rank() + 1;
+            if (next < items.size()) heads.add(new Head(head.shard(), next, items.get(next).score()));
+        }
+
+        final var mode = first.classifiedMode();
+        final SearchResult<T> result = merged.isEmpty()
+                ? SearchResult.emptyWithSuggestions(mode, configs.get(0).summaryBuilder().apply(context, 0),
+                        first.suggestions())
+                : new SearchResult<>(mode, merged, List.of(),
+                        configs.get(0).summaryBuilder().apply(context, merged.size()));
+        final var facets  = mergeFacets(results);
+        final var counted = facets.isEmpty() ? result : result.withFacets(facets);
+        return truncated ? counted.asTruncated() : counted;
+    }
+
+    /** Adds up the shards' facet counts; every shard has the same facets, in the same order. */
+    private static <T> List<FacetCounts> mergeFacets(final List<SearchResult<T>> results) {
+        final var merged = new ArrayList<>(results.get(0).facets());
+        for (var shard = 1; shard < results.size(); shard++) {
+            final var facets = results.get(shard).facets();
+            for (var f = 0; f < merged.size() && f < facets.size(); f++) {
+                merged.set(f, merged.get(f).plus(facets.get(f)));
+            }
+        }
+        return merged;
+    }
+
+    /** Waits for a shard future, rethrowing the shard's own exception. */
+    private static <R> R await(final CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException("Shard search failed", e.getCause());
+        }
+    }
+
+    public static <T> Builder<T> builder() { return new Builder<>(); }
+
+    /** Fluent builder for {@link ShardedSearchEngine}. */
+    public static final class Builder<T> {
+
+        private int shardCount;
+        private IntFunction<SearchEngineConfig<T>> shardConfig;
+        private Bm25Statistics<T> statistics;
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private Builder() {}
+
+        /**
+         * Sets the number of shards and the configuration of each (required). The factory is
+         * called once per shard number and must return a config with its own index.
+         */
+        public Builder<T> shards(final int count, final IntFunction<SearchEngineConfig<T>> shardConfig) {
+            if (count < 1) throw new IllegalArgumentException("shard count must be ≥ 1, got: " + count);
+            this.shardCount  = count;
+            this.shardConfig = Objects.requireNonNull(shardConfig);
+            return this;
+        }
+
+        /**
+         * Attaches {@code statistics} to every shard index, so they count the whole corpus —
+         * use the same instance in each shard's BM25 scorer (default: none). Every shard index
+         * must then be an {@link ObservableIndex}; {@link #build()} throws
+         * {@link IllegalArgumentException} otherwise.
+         */
+        public Builder<T> statistics(final Bm25Statistics<T> statistics) {
+            this.statistics = Objects.requireNonNull(statistics); return this;
+        }
+
+        /** Sets the executor that runs shard searches. Default: the common fork-join pool. */
+        public Builder<T> executor(final Executor executor) {
+            this.executor = Objects.requireNonNull(executor); return this;
+        }
+
+        public ShardedSearchEngine<T> build() {
+            if (shardConfig == null) throw new IllegalArgumentException("shards must be set");
+            return new ShardedSearchEngine<>(this);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package search.engine.core;
+
+import search.api.core.SearchResult;
+import search.api.metrics.PhaseTiming;
+import search.api.metrics.SearchMetricsSink;
+import search.api.metrics.SearchPhase;
+import search.api.metrics.SearchTrace;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the {@link SearchTrace} of one search call.
+ *
+ * <p>When no sink is registered the engine uses {@link #OFF}, whose methods return after a
+ * single branch — no {@link System#nanoTime()} calls and no allocation.
+ */
+final class TraceRecorder {
+
+    /** Shared recorder that records nothing. */
+    static final TraceRecorder OFF = new TraceRecorder(null);
+
+    private final List<SearchMetricsSink> sinks;
+    private final long startNanos;
+    private final List<PhaseTiming> phases;
+
+    private SearchPhase currentPhase;
+    private long phaseStart;
+    private long scorerInvocations;
+
+    private TraceRecorder(final List<SearchMetricsSink> sinks) {
+        this.sinks      = sinks;
+        this.startNanos = sinks != null ? System.nanoTime() : 0L;
+        this.phases     = sinks != null ? new ArrayList<>(SearchPhase.values().length) : null;
+    }
+
+    /** Returns a recording trace for {@code sinks}, or {@link #OFF} when there are none. */
+    static TraceRecorder start(final List<SearchMetricsSink> sinks) {
+        return sinks.isEmpty() ? OFF : new TraceRecorder(sinks);
+    }
+
+    /** Marks the start of {@code phase}. */
+    void begin(final SearchPhase phase) {
+        if (sinks == null) return;
+        currentPhase = phase;
+        phaseStart   = System.nanoTime();
+    }
+
+    /** Marks the end of the current phase with the documents that entered and left it. */
+    void end(final int candidatesIn, final int candidatesOut) {
+        if (sinks == null) return;
+        phases.add(new PhaseTiming(currentPhase, System.nanoTime() - phaseStart, candidatesIn, candidatesOut));
+    }
+
+    void scorerInvocations(final long invocations) {
+        if (sinks == null) return;
+        this.scorerInvocations += invocations;
+    }
+
+    /** Completes the trace and delivers it to every sink. */
+    void finish(final boolean cacheHit, final SearchResult<?> result) {
+        if (sinks == null) return;
+        final var trace = new SearchTrace(result.classifiedMode(), cacheHit, System.nanoTime() - startNanos,
+                phases, scorerInvocations, result.items().size());
+        for (final var sink : sinks) sink.record(trace);
+    }
+}
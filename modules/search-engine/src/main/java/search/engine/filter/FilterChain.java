@@ -8,12 +8,21 @@ import java.util.List;
 import java.util.Objects;
 
 /**
- * AND-chain of {@link SearchFilter}s that short-circuits on the first failing filter.
+ * Chain of {@link SearchFilter}s combined by one operator: {@code ALL} passes when every
+ * member passes and stops at the first failing one, {@code ANY} passes when some member
+ * passes and stops at the first passing one, and {@code NOT} passes when its single member
+ * fails.
  *
  * <p>Prefer this over manually chaining {@code filter1.and(filter2).and(filter3)} when
  * you have more than 2 filters — the chain is more readable and produces better
  * {@code toString} output for debugging.
  *
+ * <p>{@link #anyOf(SearchFilter[])} and {@link #not(SearchFilter)} build OR and NOT nodes.
+ * Unlike the lambdas returned by {@link SearchFilter#and}/{@link SearchFilter#or}/
+ * {@link SearchFilter#negate}, chains keep their structure visible to {@link FilterIndex},
+ * which answers their {@link search.api.filter.IndexableFilter} members with bitmap
+ * operations.
+ *
  * <h2>Usage</h2>
  * <pre>{@code
  * SearchFilter<Article> combined = FilterChain.of(
@@ -22,6 +31,9 @@ import java.util.Objects;
  *         difficultyFilter
  * );
  * // Equivalent to notArchived.and(officialOnly).and(difficultyFilter)
+ *
+ * SearchFilter<Article> beginnerOrJava = FilterChain.anyOf(beginnerOnly, javaCategory);
+ * SearchFilter<Article> notDraft       = FilterChain.not(draftOnly);
  * }</pre>
  *
  * @param <T> the document type
@@ -30,20 +42,25 @@ import java.util.Objects;
  */
 public final class FilterChain<T> implements SearchFilter<T> {
 
+    /** How a chain combines its members: conjunction, disjunction, or negation of one member. */
+    enum Operator { ALL, ANY, NOT }
+
+    private final Operator operator;
     private final List<SearchFilter<T>> filters;
 
-    @SafeVarargs
-    private FilterChain(final SearchFilter<T>... filters) {
-        this.filters = Arrays.stream(filters).map(Objects::requireNonNull).toList();
+    private FilterChain(final Operator operator, final SearchFilter<T>[] filters) {
+        this.operator = operator;
+        this.filters  = Arrays.stream(filters).map(Objects::requireNonNull).toList();
     }
 
-    private FilterChain(final List<SearchFilter<T>> filters) {
-        this.filters = filters.stream().map(Objects::requireNonNull).toList();
+    private FilterChain(final Operator operator, final List<SearchFilter<T>> filters) {
+        this.operator = operator;
+        this.filters  = filters.stream().map(Objects::requireNonNull).toList();
     }
 
     /**
-     * Creates an AND-chain from a varargs array. Returns {@link SearchFilter#allowAll()}
-     * if the array is empty.
+     * Creates an {@code ALL} chain that passes when every filter passes. Returns
+     * {@link SearchFilter#allowAll()} if the array is empty.
      *
      * @param filters the filters to chain (none may be null)
      * @param <T>     the document type
@@ -53,12 +70,12 @@ public final class FilterChain<T> implements SearchFilter<T> {
     public static <T> SearchFilter<T> of(final SearchFilter<T>... filters) {
         if (filters == null || filters.length == 0) return SearchFilter.allowAll();
         if (filters.length == 1) return Objects.requireNonNull(filters[0]);
-        return new FilterChain<>(filters);
+        return new FilterChain<>(Operator.ALL, filters);
     }
 
     /**
-     * Creates an AND-chain from a list. Returns {@link SearchFilter#allowAll()}
-     * if the list is empty.
+     * Creates an {@code ALL} chain from a list, as {@link #of(SearchFilter[])}. Returns
+     * {@link SearchFilter#allowAll()} if the list is empty.
      *
      * @param filters the filters to chain
      * @param <T>     the document type
@@ -67,17 +84,65 @@ public final class FilterChain<T> implements SearchFilter<T> {
     public static <T> SearchFilter<T> ofList(final List<SearchFilter<T>> filters) {
         if (filters == null || filters.isEmpty()) return SearchFilter.allowAll();
         if (filters.size() == 1) return Objects.requireNonNull(filters.get(0));
-        return new FilterChain<>(filters);
+        return new FilterChain<>(Operator.ALL, filters);
+    }
+
+    /**
+     * Creates an {@code ANY} chain that passes when any filter passes. Returns
+     * {@link SearchFilter#rejectAll()} if the array is empty.
+     *
+     * @param filters the alternatives (none may be null)
+     * @param <T>     the document type
+     * @return a filter chain (or rejectAll if empty)
+     */
+    @SafeVarargs
+    public static <T> SearchFilter<T> anyOf(final SearchFilter<T>... filters) {
+        if (filters == null || filters.length == 0) return SearchFilter.rejectAll();
+        if (filters.length == 1) return Objects.requireNonNull(filters[0]);
+        return new FilterChain<>(Operator.ANY, filters);
+    }
+
+    /**
+     * Creates a {@code NOT} chain that passes when {@code filter} does not.
+     *
+     * @param filter the filter to negate (never null)
+     * @param <T>    the document type
+     * @return the negated filter
+     */
+    public static <T> SearchFilter<T> not(final SearchFilter<T> filter) {
+        return new FilterChain<>(Operator.NOT, List.of(Objects.requireNonNull(filter)));
     }
 
     @Override
     public boolean test(final T item, final SearchContext context) {
-        for (final var filter : filters) {
-            if (!filter.test(item, context)) return false; // short-circuit
-        }
-        return true;
+        return switch (operator) {
+            case ALL -> {
+                for (final var filter : filters) {
+                    if (!filter.test(item, context)) yield false; // short-circuit
+                }
+                yield true;
+            }
+            case ANY -> {
+                for (final var filter : filters) {
+                    if (filter.test(item, context)) yield true;   // short-circuit
+                }
+                yield false;
+            }
+            case NOT -> !filters.get(0).test(item, context);
+        };
     }
 
     /** Returns the number of filters in this chain. */
     public int size() { return filters.size(); }
+
+    /** Returns how this chain combines its members. */
+    Operator operator() { return operator; }
+
+    /** Returns the chain members, in evaluation order. */
+    List<SearchFilter<T>> members() { return filters; }
+
+    @Override
+    public String toString() {
+        return operator == Operator.NOT ? "NOT" + filters : operator.name() + filters;
+    }
 }
@@ -0,0 +1,290 @@
+package search.engine.filter;
+
+import search.api.core.SearchContext;
+import search.api.filter.IndexableFilter;
+import search.api.filter.SearchFilter;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Bitmap index that answers {@link IndexableFilter}s without calling them per document.
+ *
+ * <p>A {@code FilterIndex} is an immutable snapshot of the corpus: each document gets an
+ * ordinal, and for every {@link IndexableFilter#indexKey() index key} in use the snapshot
+ * keeps one {@link BitSet} per key value. Buckets are built lazily, the first time a filter
+ * with that index key is evaluated, with one {@code keyOf} call per document.
+ *
+ * <h2>Evaluation</h2>
+ * A filter is compiled per query into a bitmap plus <em>residual</em> filters:
+ * <ul>
+ *   <li>an {@link IndexableFilter} becomes the OR of the buckets of its accepted keys;</li>
+ *   <li>an {@code ALL} {@link FilterChain} ({@link FilterChain#of}) ANDs the bitmaps of its
+ *       members and collects their residuals, so indexable and ordinary members can be mixed
+ *       freely;</li>
+ *   <li>{@code ANY} chains ({@link FilterChain#anyOf}) and {@code NOT} chains
+ *       ({@link FilterChain#not}) are combined with {@link BitSet#or}/{@link BitSet#flip}
+ *       when all their members compile to bitmaps, and are otherwise evaluated per document
+ *       as a whole;</li>
+ *   <li>any other filter is a residual, tested per document.</li>
+ * </ul>
+ * Only documents whose bit is set reach the residual filters, so the result is exactly the
+ * set of documents the filter itself would accept.
+ *
+ * <h2>Lifecycle</h2>
+ * {@link search.engine.core.ConfigurableSearchEngine} builds a snapshot per
+ * {@linkplain search.api.index.SearchIndex#version() index version} when the configured filter
+ * {@linkplain #supports(SearchFilter) contains an indexable member}, and rebuilds it after
+ * the index changes. Unversioned indexes keep the per-document path.
+ *
+ * <p>Thread-safe: the snapshot is immutable apart from its lazily built, concurrently
+ * published buckets.
+ *
+ * @param <T> the document type
+ *
+ * @see IndexableFilter
+ * @see FilterChain
+ */
+public final class FilterIndex<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(FilterIndex.class.getName());
+
+    private final List<T> documents;
+    private final long version;
+    private final Map<String, Map<Object, BitSet>> buckets = new ConcurrentHashMap<>();
+
+    /** Document → ordinal, built on first lookup from a candidate subset. */
+    private volatile Map<T, Integer> ordinals;
+
+    private FilterIndex(final List<T> documents, final long version) {
+        this.documents = documents;
+        this.version   = version;
+    }
+
+    /**
+     * Snapshots {@code documents}; their iteration order becomes the ordinal order.
+     *
+     * @param documents the corpus (never null)
+     * @param version   the index version the corpus was read at
+     * @param <T>       the document type
+     * @return a new filter index
+     */
+    public static <T> FilterIndex<T> build(final Collection<T> documents, final long version) {
+        Objects.requireNonNull(documents, "documents must not be null");
+        return new FilterIndex<>(List.copyOf(documents), version);
+    }
+
+    /**
+     * Returns {@code true} if {@code filter} is, or contains through {@link FilterChain}s, an
+     * {@link IndexableFilter} — i.e., if a filter index can save per-document calls.
+     */
+    public static boolean supports(final SearchFilter<?> filter) {
+        if (filter instanceof IndexableFilter<?>) return true;
+        if (filter instanceof FilterChain<?> chain) {
+            for (final var member : chain.members()) {
+                if (supports(member)) return true;
+            }
+        }
+        return false;
+    }
+
+    /** Returns the index version this snapshot was built from. */
+    public long version() { return version; }
+
+    /** Returns the number of documents in this snapshot. */
+    public int size() { return documents.size(); }
+
+    /** Returns the snapshot documents in ordinal order (unmodifiable). */
+    public List<T> documents() { return documents; }
+
+    // ─── Evaluation ────────────────────────────────────────────────
+
+    /**
+     * Returns the documents of {@code pool} that pass {@code filter}, in pool order.
+     *
+     * <p>When {@code pool} is {@link #documents()} itself, only the set bits of the compiled
+     * bitmap are visited. Otherwise each pool document is looked up by identity; documents
+     * missing from the snapshot (added after it was built) are tested with {@code filter}.
+     *
+     * @param pool    the candidate documents (never null)
+     * @param filter  the filter to apply (never null)
+     * @param context the search context (never null)
+     * @return the surviving documents (mutable)
+     */
+    public List<T> select(final Collection<T> pool, final SearchFilter<T> filter, final SearchContext context) {
+        final var plan = compile(filter, context);
+        if (pool == documents) return selectAll(plan, context);
+
+        final var ordinalMap = ordinals();
+        final var survivors  = new ArrayList<T>(Math.min(pool.size(), 512));
+        for (final var doc : pool) {
+            if (passes(plan, ordinalMap, doc, filter, context)) survivors.add(doc);
+        }
+        return survivors;
+    }
+
+    /**
+     * Compiles {@code filter} for {@code context} once and returns a per-document filter that
+     * reads its bitmap — for callers that visit documents one at a time, in an order of their
+     * own, such as a {@link search.api.algorithm.TopKRetriever}. Documents missing from the
+     * snapshot are tested with {@code filter}; the returned filter ignores its context argument.
+     *
+     * @param filter  the filter to compile (never null)
+     * @param context the search context (never null)
+     * @return a filter equivalent to {@code filter} for {@code context}
+     */
+    public SearchFilter<T> compiled(final SearchFilter<T> filter, final SearchContext context) {
+        final var plan       = compile(filter, context);
+        final var ordinalMap = ordinals();
+        return (doc, ignored) -> passes(plan, ordinalMap, doc, filter, context);
+    }
+
+    /** Tests {@code doc} against {@code plan}, or against {@code filter} if it is not in the snapshot. */
+    private static <T> boolean passes(final Plan<T> plan, final Map<T, Integer> ordinalMap, final T doc,
+                                      final SearchFilter<T> filter, final SearchContext context) {
+        final var ordinal = ordinalMap.get(doc);
+        return ordinal == null
+                ? filter.test(doc, context)
+                : (plan.bits() == null || plan.bits().get(ordinal)) && plan.passesResidual(doc, context);
+    }
+
+    /**
+     * Returns the ordinals of the documents that pass {@code filter}, or {@code null} if the
+     * filter has non-indexable parts that must still be tested per document.
+     *
+     * @param filter  the filter to compile (never null)
+     * @param context the search context (never null)
+     * @return a new bitmap over document ordinals, or null
+     */
+    public BitSet matching(final SearchFilter<T> filter, final SearchContext context) {
+        final var plan = compile(filter, context);
+        if (!plan.residual().isEmpty()) return null;
+        if (plan.bits() != null) return plan.bits();
+        final var all = new BitSet(documents.size());
+        all.set(0, documents.size());
+        return all;
+    }
+
+    private List<T> selectAll(final Plan<T> plan, final SearchContext context) {
+        final var bits = plan.bits();
+        if (bits == null) {
+            final var survivors = new ArrayList<T>(Math.min(documents.size(), 512));
+            for (final var doc : documents) {
+                if (plan.passesResidual(doc, context)) survivors.add(doc);
+            }
+            return survivors;
+        }
+        final var survivors = new ArrayList<T>(bits.cardinality());
+        for (var i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            final var doc = documents.get(i);
+            if (plan.passesResidual(doc, context)) survivors.add(doc);
+        }
+        return survivors;
+    }
+
+    // ─── Compilation ───────────────────────────────────────────────
+
+    /**
+     * A compiled filter: documents pass when their bit is set ({@code bits == null} means every
+     * bit) and every residual filter accepts them. {@code bits} is always owned by the plan.
+     */
+    private record Plan<T>(BitSet bits, List<SearchFilter<T>> residual) {
+
+        boolean passesResidual(final T doc, final SearchContext context) {
+            for (final var filter : residual) {
+                if (!filter.test(doc, context)) return false;
+            }
+            return true;
+        }
+    }
+
+    private Plan<T> compile(final SearchFilter<T> filter, final SearchContext context) {
+        if (filter instanceof IndexableFilter<T> indexable) {
+            return new Plan<>(bitsFor(indexable, context), List.of());
+        }
+        if (filter instanceof FilterChain<T> chain) {
+            return switch (chain.operator()) {
+                case ALL -> compileAll(chain.members(), context);
+                case ANY -> compileAny(chain, context);
+                case NOT -> compileNot(chain, context);
+            };
+        }
+        return new Plan<>(null, List.of(filter));
+    }
+
+    private Plan<T> compileAll(final List<SearchFilter<T>> members, final SearchContext context) {
+        BitSet bits = null;
+        final var residual = new ArrayList<SearchFilter<T>>();
+        for (final var member : members) {
+            final var plan = compile(member, context);
+            residual.addAll(plan.residual());
+            if (plan.bits() == null) continue;
+            if (bits == null) bits = plan.bits();
+            else bits.and(plan.bits());
+        }
+        return new Plan<>(bits, residual);
+    }
+
+    private Plan<T> compileAny(final FilterChain<T> chain, final SearchContext context) {
+        final var bits = new BitSet(documents.size());
+        for (final var member : chain.members()) {
+            final var plan = compile(member, context);
+            if (!plan.residual().isEmpty()) return new Plan<>(null, List.of(chain));
+            if (plan.bits() == null) return new Plan<>(null, List.of()); // one member passes everything
+            bits.or(plan.bits());
+        }
+        return new Plan<>(bits, List.of());
+    }
+
+    private Plan<T> compileNot(final FilterChain<T> chain, final SearchContext context) {
+        final var plan = compile(chain.members().get(0), context);
+        if (!plan.residual().isEmpty()) return new Plan<>(null, List.of(chain));
+        if (plan.bits() == null) return new Plan<>(new BitSet(), List.of()); // NOT(everything)
+        final var bits = plan.bits();
+        bits.flip(0, documents.size());
+        return new Plan<>(bits, List.of());
+    }
+
+    /** OR of the buckets of the accepted keys; {@code null} when the filter accepts everything. */
+    private BitSet bitsFor(final IndexableFilter<T> filter, final SearchContext context) {
+        final var accepted = filter.acceptedKeys(context);
+        if (accepted == null) return null;
+
+        final var keyBuckets = buckets.computeIfAbsent(filter.indexKey(), key -> bucket(filter));
+        final var bits = new BitSet(documents.size());
+        for (final var key : accepted) {
+            final var bucket = key != null ? keyBuckets.get(key) : null;
+            if (bucket != null) bits.or(bucket);
+        }
+        return bits;
+    }
+
+    private Map<Object, BitSet> bucket(final IndexableFilter<T> filter) {
+        final var byKey = new HashMap<Object, BitSet>();
+        for (var i = 0; i < documents.size(); i++) {
+            final var key = filter.keyOf(documents.get(i));
+            if (key != null) byKey.computeIfAbsent(key, k -> new BitSet(documents.size())).set(i);
+        }
+        LOGGER.fine(() -> "FilterIndex: bucketed " + documents.size() + " documents by '"
+                + filter.indexKey() + "' into " + byKey.size() + " values");
+        return byKey;
+    }
+
+    private Map<T, Integer> ordinals() {
+        var map = ordinals;
+        if (map == null) {
+            map = new IdentityHashMap<>(documents.size());
+            for (var i = 0; i < documents.size(); i++) map.put(documents.get(i), i);
+            ordinals = map;
+        }
+        return map;
+    }
+}
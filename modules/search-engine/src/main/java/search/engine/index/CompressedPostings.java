@@ -0,0 +1,451 @@
+package search.engine.index;
+
+import search.api.index.PostingsCursor;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable, compressed postings list of one term — ordinal-sorted {@code (ordinal, termFrequency)}
+ * pairs served through a {@link PostingsCursor}.
+ *
+ * <p>Postings are grouped into blocks of {@link #BLOCK_SIZE}. In the compressed encodings,
+ * ordinals are stored as gaps from the previous ordinal, minus one so that consecutive
+ * ordinals cost nothing, and frequencies as {@code frequency - 1}. A skip table records each
+ * block's last ordinal and its start in the encoded data, so {@link PostingsCursor#advance(int)}
+ * jumps whole blocks without decoding them.
+ *
+ * <p>{@link InvertedIndex} freezes its postings lists into this form on compaction and
+ * snapshot restore when built with a compressing
+ * {@linkplain InvertedIndex.Builder#postingsEncoding(Encoding) postings encoding}.
+ *
+ * <h2>Encodings</h2>
+ * <ul>
+ *   <li>{@link Encoding#RAW} — two {@code int}s per posting, no compression — the layout
+ *       {@link InvertedIndex} keeps while it is mutable, and the baseline for the others.</li>
+ *   <li>{@link Encoding#VBYTE} — each gap and frequency as a variable-byte integer (7 bits
+ *       per byte), decoded one posting at a time. Typically 2–3 bytes per posting.</li>
+ *   <li>{@link Encoding#FOR} — frame of reference: every value of a block packed with the bit
+ *       width of the block's largest, ordinals and frequencies separately, ⌊64 / width⌋ whole
+ *       values per {@code long}. A block is unpacked at once by a loop with no data-dependent
+ *       branches — one mask and shift per value — and frequencies only when first read, so
+ *       blocks that {@code advance} lands in but scores never touch cost half.</li>
+ * </ul>
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * CompressedPostings compressed;
+ * try (var reader = index.openReader()) {
+ *     compressed = CompressedPostings.encode(reader.postings("java"), CompressedPostings.Encoding.FOR);
+ * }
+ * var cursor = compressed.cursor();
+ * cursor.advance(1_000);
+ * }</pre>
+ *
+ * <p>Thread-safe: the encoded data is never modified; each {@link #cursor()} has its own
+ * position and decode buffers.
+ *
+ * @see PostingsCursor
+ * @see InvertedIndex#openReader()
+ */
+public final class CompressedPostings {
+
+    /** Postings per block — one skip entry each. */
+    public static final int BLOCK_SIZE = 128;
+
+    /** How postings are laid out in memory. */
+    public enum Encoding { RAW, VBYTE, FOR }
+
+    private final Encoding encoding;
+    private final int size;
+    private final int maxFrequency;
+    private final int minDocumentLength;
+
+    /** Last ordinal of each block. */
+    private final int[] blockLastOrdinals;
+    /** Start of each block in {@link #bytes} (VBYTE) or {@link #words} (FOR); unused for RAW. */
+    private final int[] blockStarts;
+
+    /** RAW data. */
+    private final int[] ordinals;
+    private final int[] frequencies;
+    /** VBYTE data. */
+    private final byte[] bytes;
+    /** FOR data: per block, a header long (bit widths) followed by the packed values. */
+    private final long[] words;
+
+    private CompressedPostings(final Encoding encoding, final int size, final int maxFrequency,
+                               final int minDocumentLength, final int[] blockLastOrdinals, final int[] blockStarts,
+                               final int[] ordinals, final int[] frequencies, final byte[] bytes, final long[] words) {
+        this.encoding          = encoding;
+        this.size              = size;
+        this.maxFrequency      = maxFrequency;
+        this.minDocumentLength = minDocumentLength;
+        this.blockLastOrdinals = blockLastOrdinals;
+        this.blockStarts       = blockStarts;
+        this.ordinals          = ordinals;
+        this.frequencies       = frequencies;
+        this.bytes             = bytes;
+        this.words             = words;
+    }
+
+    // ─── Encoding ──────────────────────────────────────────────────
+
+    /**
+     * Encodes {@code count} postings from parallel arrays.
+     *
+     * @param ordinals          document ordinals, strictly ascending and ≥ 0
+     * @param frequencies       term frequencies, each ≥ 1
+     * @param count             the number of postings to take from the arrays
+     * @param minDocumentLength the bound reported by {@link PostingsCursor#minDocumentLength()}
+     * @param encoding          the layout (never null)
+     * @throws IllegalArgumentException if ordinals are not strictly ascending or a frequency is &lt; 1
+     */
+    public static CompressedPostings encode(final int[] ordinals, final int[] frequencies, final int count,
+                                            final int minDocumentLength, final Encoding encoding) {
+        Objects.requireNonNull(encoding, "encoding must not be null");
+        if (count < 0 || count > ordinals.length || count > frequencies.length) {
+            throw new IllegalArgumentException("count out of range: " + count);
+        }
+        var maxFrequency = 0;
+        for (var i = 0; i < count; i++) {
+            if (ordinals[i] < 0 || (i > 0 && ordinals[i] <= ordinals[i - 1])) {
+                throw new IllegalArgumentException("Ordinals must be ascending and ≥ 0 at posting " + i);
+            }
+            if (frequencies[i] < 1) throw new IllegalArgumentException("Frequency must be ≥ 1 at posting " + i);
+            maxFrequency = Math.max(maxFrequency, frequencies[i]);
+        }
+
+        final var blocks    = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        final var lastOrds  = new int[blocks];
+        final var starts    = new int[blocks];
+        for (var block = 0; block < blocks; block++) {
+            lastOrds[block] = ordinals[Math.min((block + 1) * BLOCK_SIZE, count) - 1];
+        }
+        return switch (encoding) {
+            case RAW -> new CompressedPostings(encoding, count, maxFrequency, minDocumentLength, lastOrds, starts,
+                    Arrays.copyOf(ordinals, count), Arrays.copyOf(frequencies, count), null, null);
+            case VBYTE -> new CompressedPostings(encoding, count, maxFrequency, minDocumentLength, lastOrds, starts,
+                    null, null, encodeVByte(ordinals, frequencies, count, starts), null);
+            case FOR -> new CompressedPostings(encoding, count, maxFrequency, minDocumentLength, lastOrds, starts,
+                    null, null, null, encodeFor(ordinals, frequencies, count, starts));
+        };
+    }
+
+    /**
+     * Encodes the remaining postings of {@code cursor}, which is exhausted afterwards. Its
+     * {@link PostingsCursor#minDocumentLength()} bound is kept.
+     *
+     * @param cursor   the postings to copy (never null)
+     * @param encoding the layout (never null)
+     */
+    public static CompressedPostings encode(final PostingsCursor cursor, final Encoding encoding) {
+        Objects.requireNonNull(cursor, "cursor must not be null");
+        var ords  = new int[Math.max(Math.min(cursor.cost(), 1 << 20), 1)];
+        var freqs = new int[ords.length];
+        var count = 0;
+        for (var doc = cursor.docId(); doc != PostingsCursor.NO_MORE_DOCS; doc = cursor.next()) {
+            if (count == ords.length) {
+                ords  = Arrays.copyOf(ords,  count * 2);
+                freqs = Arrays.copyOf(freqs, count * 2);
+            }
+            ords[count]  = doc;
+            freqs[count] = cursor.frequency();
+            count++;
+        }
+        return encode(ords, freqs, count, cursor.minDocumentLength(), encoding);
+    }
+
+    // ─── Accessors ─────────────────────────────────────────────────
+
+    /** Returns a new cursor positioned on the first posting. */
+    public PostingsCursor cursor() {
+        if (size == 0) return PostingsCursor.empty();
+        return switch (encoding) {
+            case RAW   -> new RawCursor();
+            case VBYTE -> new VByteCursor();
+            case FOR   -> new ForCursor();
+        };
+    }
+
+    /** Returns the layout of this list. */
+    public Encoding encoding() { return encoding; }
+
+    /** Returns the number of postings. */
+    public int size() { return size; }
+
+    /**
+     * Returns the bytes of encoded postings data plus the skip table, excluding object headers —
+     * divide by {@link #size()} for the cost per posting.
+     */
+    public long sizeInBytes() {
+        final long data = switch (encoding) {
+            case RAW   -> 2L * size * Integer.BYTES;
+            case VBYTE -> bytes.length;
+            case FOR   -> (long) words.length * Long.BYTES;
+        };
+        final var skips = encoding == Encoding.RAW ? 0L : 2L * blockLastOrdinals.length * Integer.BYTES;
+        return data + skips;
+    }
+
+    // ─── VBYTE ─────────────────────────────────────────────────────
+
+    private static byte[] encodeVByte(final int[] ordinals, final int[] frequencies, final int count,
+                                      final int[] starts) {
+        var out = new byte[Math.max(count * 3, 16)];
+        var length = 0;
+        var previous = -1;
+        for (var i = 0; i < count; i++) {
+            if (i % BLOCK_SIZE == 0) starts[i / BLOCK_SIZE] = length;
+            if (length + 10 > out.length) out = Arrays.copyOf(out, out.length * 2);
+            length = writeVInt(out, length, ordinals[i] - previous - 1);
+            length = writeVInt(out, length, frequencies[i] - 1);
+            previous = ordinals[i];
+        }
+        return Arrays.copyOf(out, length);
+    }
+
+    private static int writeVInt(final byte[] out, int position, int value) {
+        while ((value & ~0x7F) != 0) {
+            out[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[position++] = (byte) value;
+        return position;
+    }
+
+    // ─── FOR ───────────────────────────────────────────────────────
+
+    private static long[] encodeFor(final int[] ordinals, final int[] frequencies, final int count,
+                                    final int[] starts) {
+        final var gaps  = new int[BLOCK_SIZE];
+        final var freqs = new int[BLOCK_SIZE];
+        var out = new long[Math.max(count / 4, 16)];
+        var length = 0;
+        var previous = -1;
+        for (var block = 0; block * BLOCK_SIZE < count; block++) {
+            final var from = block * BLOCK_SIZE;
+            final var n    = Math.min(BLOCK_SIZE, count - from);
+            var gapBits  = 0;
+            var freqBits = 0;
+            for (var i = 0; i < n; i++) {
+                gaps[i]  = ordinals[from + i] - previous - 1;
+                freqs[i] = frequencies[from + i] - 1;
+                previous = ordinals[from + i];
+                gapBits  |= gaps[i];
+                freqBits |= freqs[i];
+            }
+            final var gapWidth  = 32 - Integer.numberOfLeadingZeros(gapBits);
+            final var freqWidth = 32 - Integer.numberOfLeadingZeros(freqBits);
+            final var needed    = 1 + packedWords(n, gapWidth) + packedWords(n, freqWidth);
+            if (length + needed > out.length) out = Arrays.copyOf(out, Math.max(out.length * 2, length + needed));
+
+            starts[block] = length;
+            out[length++] = (long) gapWidth << 8 | freqWidth;
+            length = pack(gaps, n, gapWidth, out, length);
+            length = pack(freqs, n, freqWidth, out, length);
+        }
+        return Arrays.copyOf(out, length);
+    }
+
+    /** Words holding {@code n} values of {@code width} bits, ⌊64 / width⌋ whole values per word. */
+    private static int packedWords(final int n, final int width) {
+        if (width == 0) return 0;
+        final var perWord = Long.SIZE / width;
+        return (n + perWord - 1) / perWord;
+    }
+
+    /** Packs {@code values[0, n)} at {@code width} bits each from word {@code at}; returns the next free word. */
+    private static int pack(final int[] values, final int n, final int width, final long[] out, final int at) {
+        if (width == 0) return at;
+        final var perWord = Long.SIZE / width;
+        for (var i = 0; i < n; i++) {
+            out[at + i / perWord] |= (values[i] & 0xFFFFFFFFL) << (i % perWord * width);
+        }
+        return at + packedWords(n, width);
+    }
+
+    /**
+     * Unpacks {@code n} values of {@code width} bits from word {@code at} into {@code values},
+     * each plus {@code increment}; with {@code cumulative}, each value also adds the previous
+     * output, starting from {@code base} — decoding gaps to ordinals in the same pass.
+     */
+    private static void unpack(final long[] in, int at, final int n, final int width, final int[] values,
+                               final int increment, final boolean cumulative, final int base) {
+        var previous = base;
+        if (width == 0) { // every value equals increment; nothing stored
+            for (var i = 0; i < n; i++) values[i] = previous = cumulative ? previous + increment : increment;
+            return;
+        }
+        // No value straddles two words, so the inner loop is one mask and one shift per value
+        final var mask    = (1L << width) - 1;
+        final var perWord = Long.SIZE / width;
+        for (var i = 0; i < n; at++) {
+            var word = in[at];
+            for (final var end = Math.min(n, i + perWord); i < end; i++, word >>>= width) {
+                final var decoded = (int) (word & mask) + increment;
+                previous  = cumulative ? previous + decoded : decoded;
+                values[i] = previous;
+            }
+        }
+    }
+
+    // ─── Cursors ───────────────────────────────────────────────────
+
+    /** Shared bookkeeping: bounds and the skip-table search. */
+    private abstract class BlockCursor implements PostingsCursor {
+
+        @Override public int cost()              { return size; }
+        @Override public int maxFrequency()      { return maxFrequency; }
+        @Override public int minDocumentLength() { return minDocumentLength; }
+
+        /** Returns the first block at or after {@code from} whose last ordinal is ≥ {@code target}, or -1. */
+        int blockFor(final int from, final int target) {
+            final var found = Arrays.binarySearch(blockLastOrdinals, from, blockLastOrdinals.length, target);
+            final var block = found >= 0 ? found : -found - 1;
+            return block < blockLastOrdinals.length ? block : -1;
+        }
+    }
+
+    private final class RawCursor extends BlockCursor {
+
+        private int position;
+
+        @Override public int docId()     { return position < size ? ordinals[position] : NO_MORE_DOCS; }
+        @Override public int frequency() { return frequencies[position]; }
+
+        @Override
+        public int next() {
+            if (position < size) position++;
+            return docId();
+        }
+
+        @Override
+        public int advance(final int target) {
+            if (position >= size || ordinals[position] >= target) return docId();
+            final var found = Arrays.binarySearch(ordinals, position + 1, size, target);
+            position = found >= 0 ? found : -found - 1;
+            return docId();
+        }
+    }
+
+    private final class VByteCursor extends BlockCursor {
+
+        private int index = -1;
+        private int offset;
+        private int doc = -1;
+        private int frequency;
+
+        VByteCursor() { next(); }
+
+        @Override public int docId()     { return doc; }
+        @Override public int frequency() { return frequency; }
+
+        @Override
+        public int next() {
+            if (doc == NO_MORE_DOCS) return doc;
+            if (++index >= size) return doc = NO_MORE_DOCS;
+            doc      += readVInt() + 1;
+            frequency = readVInt() + 1;
+            return doc;
+        }
+
+        @Override
+        public int advance(final int target) {
+            if (doc >= target) return doc;
+            final var current = index / BLOCK_SIZE;
+            if (blockLastOrdinals[current] < target) {
+                final var block = blockFor(current + 1, target);
+                if (block < 0) {
+                    index = size;
+                    return doc = NO_MORE_DOCS;
+                }
+                // Resume just before the block: its first gap is relative to the previous block's last ordinal
+                index  = block * BLOCK_SIZE - 1;
+                offset = blockStarts[block];
+                doc    = blockLastOrdinals[block - 1];
+            }
+            while (next() < target) { /* linear scan within one block */ }
+            return doc;
+        }
+
+        private int readVInt() {
+            var b = bytes[offset++];
+            var value = b & 0x7F;
+            for (var shift = 7; b < 0; shift += 7) {
+                b = bytes[offset++];
+                value |= (b & 0x7F) << shift;
+            }
+            return value;
+        }
+    }
+
+    private final class ForCursor extends BlockCursor {
+
+        private final int[] docs  = new int[BLOCK_SIZE];
+        private final int[] freqs = new int[BLOCK_SIZE];
+        private int block = -1;
+        private int blockLength;
+        private int position;
+        /** Frequencies are unpacked on the block's first {@link #frequency()} call — skipped blocks never are. */
+        private int frequenciesAt;
+        private int frequencyWidth;
+        private boolean frequenciesReady;
+
+        ForCursor() { load(0); }
+
+        @Override public int docId() { return block >= 0 ? docs[position] : NO_MORE_DOCS; }
+
+        @Override
+        public int frequency() {
+            if (!frequenciesReady) {
+                unpack(words, frequenciesAt, blockLength, frequencyWidth, freqs, 1, false, 0);
+                frequenciesReady = true;
+            }
+            return freqs[position];
+        }
+
+        @Override
+        public int next() {
+            if (block < 0) return NO_MORE_DOCS;
+            if (++position < blockLength) return docs[position];
+            return load(block + 1);
+        }
+
+        @Override
+        public int advance(final int target) {
+            if (block < 0 || docs[position] >= target) return docId();
+            if (blockLastOrdinals[block] < target) {
+                final var next = blockFor(block + 1, target);
+                if (next < 0) {
+                    block = -1;
+                    return NO_MORE_DOCS;
+                }
+                load(next);
+            }
+            final var found = Arrays.binarySearch(docs, position, blockLength, target);
+            position = found >= 0 ? found : -found - 1;
+            return docs[position];
+        }
+
+        /** Decodes the ordinals of block {@code target} and positions on its first posting. */
+        private int load(final int target) {
+            if (target >= blockLastOrdinals.length) {
+                block = -1;
+                return NO_MORE_DOCS;
+            }
+            block       = target;
+            blockLength = Math.min(BLOCK_SIZE, size - target * BLOCK_SIZE);
+            position    = 0;
+            final var at     = blockStarts[target];
+            final var header = words[at];
+            final var width  = (int) (header >>> 8) & 0xFF;
+            unpack(words, at + 1, blockLength, width, docs, 1, true, target > 0 ? blockLastOrdinals[target - 1] : -1);
+            frequenciesAt    = at + 1 + packedWords(blockLength, width);
+            frequencyWidth   = (int) header & 0xFF;
+            frequenciesReady = false;
+            return docs[0];
+        }
+
+    }
+}
@@ -0,0 +1,250 @@
+package search.engine.index;
+
+import search.api.index.GenerationalIndex;
+import search.api.index.IndexGeneration;
+import search.api.index.IndexListener;
+import search.api.index.ObservableIndex;
+import search.api.index.SearchIndex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Copy-on-write {@link GenerationalIndex}: readers never lock and never see a half-applied
+ * batch of mutations.
+ *
+ * <p>{@link InMemoryIndex#all()} is a live view of a concurrent map, so a search running next
+ * to a bulk load may filter one set of documents and score another, and corpus statistics
+ * derived from one {@code all()} call can disagree with the documents a later call returns.
+ * Here every commit copies the document map, applies its mutations to the copy and publishes
+ * the result as a new immutable {@link IndexGeneration} through one {@code volatile} write.
+ * A search pins the generation current when it starts and reads only from it.
+ *
+ * <h2>Batched writes</h2>
+ * A commit costs O(documents), so writers should group mutations with
+ * {@link #update(Consumer)}: every mutation in the batch becomes visible at once, or — if
+ * the batch throws — none does. {@link #add}, {@link #remove} and {@link #clear()} each commit
+ * a batch of one. Writers are serialised by a lock that readers never touch. Each generation
+ * records the documents its batch removed and added ({@link IndexGeneration#changesSince(long)}),
+ * so state derived from an earlier generation can be brought up to date without a full pass.
+ *
+ * <h2>Recommended for</h2>
+ * <ul>
+ *   <li>Read-heavy corpora that are reloaded or updated in bulk while being searched.</li>
+ *   <li>Scorers whose statistics must match the documents exactly — see
+ *       {@link search.engine.algorithm.Bm25Scorer.Builder#generationStatistics(GenerationalIndex)}.</li>
+ * </ul>
+ *
+ * <h2>Mutation events</h2>
+ * Registered {@link IndexListener}s are notified of every effective mutation of a batch, in
+ * batch order, after the batch's generation is published. Batches are delivered in generation
+ * order — a notification lock is taken before the writer lock is released — so a listener such
+ * as {@link search.engine.algorithm.Bm25Statistics} never sees a document's removal before its
+ * addition. Readers take neither lock.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * var index = new CopyOnWriteIndex<Article>();
+ * index.update(batch -> articles.forEach(a -> batch.add(a.id(), a)));   // one generation
+ *
+ * var config = SearchEngineConfig.<Article>builder()
+ *         .index(index)
+ *         .defaultScorer(bm25)
+ *         .build();
+ * }</pre>
+ *
+ * @param <T> the document type
+ *
+ * @see GenerationalIndex
+ * @see InMemoryIndex
+ */
+public final class CopyOnWriteIndex<T> implements GenerationalIndex<T>, ObservableIndex<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(CopyOnWriteIndex.class.getName());
+
+    private final ReentrantLock writeLock  = new ReentrantLock();
+    /** Held while a batch's events are delivered; acquired under {@link #writeLock}. */
+    private final ReentrantLock notifyLock = new ReentrantLock();
+    private final List<IndexListener<? super T>> listeners = new CopyOnWriteArrayList<>();
+
+    /** The latest committed generation; replaced, never modified. */
+    private volatile IndexGeneration<T> current = IndexGeneration.of(0, new LinkedHashMap<>());
+
+    /** Creates an empty index at generation 0. */
+    public CopyOnWriteIndex() {}
+
+    // ─── Writes ────────────────────────────────────────────────────
+
+    /**
+     * Applies a batch of mutations and publishes them as one generation. Mutations are applied
+     * in call order; a batch without any publishes nothing. If {@code mutations} throws, the
+     * batch is discarded and the exception propagates.
+     *
+     * @param mutations adds and removes documents through the given {@link Batch} (never null)
+     */
+    public void update(final Consumer<? super Batch> mutations) {
+        Objects.requireNonNull(mutations, "mutations must not be null");
+        final var batch = new Batch();
+        final IndexGeneration<T> published;
+        writeLock.lock();
+        try {
+            batch.base = current;
+            try {
+                mutations.accept(batch);
+            } finally {
+                batch.closed = true;
+            }
+            if (batch.events.isEmpty()) return;
+            final var removed = new ArrayList<T>();
+            final var added   = new ArrayList<T>();
+            for (final var event : batch.events) {
+                if (event.removed() != null) removed.add(event.removed());
+                if (event.added() != null) added.add(event.added());
+            }
+            published = batch.base.next(batch.documents, removed, added);
+            current   = published;
+            // Queue for delivery before the next writer can publish: events leave in generation order
+            notifyLock.lock();
+        } finally {
+            writeLock.unlock();
+        }
+        try {
+            for (final var event : batch.events) {
+                for (final var listener : listeners) {
+                    if (event.removed() != null) listener.onRemove(event.id(), event.removed());
+                    if (event.added() != null) listener.onAdd(event.id(), event.added());
+                }
+            }
+        } finally {
+            notifyLock.unlock();
+        }
+        LOGGER.fine(() -> "CopyOnWriteIndex: published generation " + published.number() + " ("
+                + batch.events.size() + " mutation(s), " + published.size() + " documents)");
+    }
+
+    @Override
+    public void add(final String id, final T item) {
+        update(batch -> batch.add(id, item));
+    }
+
+    @Override
+    public void remove(final String id) {
+        if (id == null) return;
+        update(batch -> batch.remove(id));
+    }
+
+    /** Removes all documents, as one generation. */
+    public void clear() {
+        update(Batch::clear);
+        LOGGER.info("CopyOnWriteIndex cleared.");
+    }
+
+    // ─── Reads ─────────────────────────────────────────────────────
+
+    @Override
+    public IndexGeneration<T> generation() { return current; }
+
+    @Override
+    public Collection<T> all() { return current.all(); }
+
+    @Override
+    public Optional<T> findById(final String id) { return current.findById(id); }
+
+    @Override
+    public int size() { return current.size(); }
+
+    @Override
+    public long version() { return current.number(); }
+
+    @Override
+    public void addListener(final IndexListener<? super T> listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener must not be null"));
+    }
+
+    @Override
+    public void removeListener(final IndexListener<? super T> listener) {
+        listeners.remove(listener);
+    }
+
+    /** Logs a diagnostic summary of the index size to the INFO log. */
+    public void logStats() {
+        final var generation = current;
+        LOGGER.info(() -> "CopyOnWriteIndex: " + generation.size() + " documents at generation "
+                + generation.number() + ".");
+    }
+
+    // ─── Batch ─────────────────────────────────────────────────────
+
+    /**
+     * The mutations of one {@link #update(Consumer)} call, applied to a private copy of the
+     * current documents. Valid only inside that call; not thread-safe.
+     */
+    public final class Batch {
+
+        private IndexGeneration<T> base;
+        /** Copy of the base documents, made on the first mutation. */
+        private LinkedHashMap<String, T> documents;
+        private final List<Event<T>> events = new ArrayList<>();
+        private boolean closed;
+
+        private Batch() {}
+
+        /**
+         * Adds or replaces a document.
+         *
+         * @param id   the unique document identifier (never null or blank)
+         * @param item the document (never null)
+         */
+        public Batch add(final String id, final T item) {
+            if (id == null || id.isBlank()) {
+                throw new IllegalArgumentException("Document ID must not be null or blank");
+            }
+            if (item == null) {
+                throw new NullPointerException("Document item must not be null");
+            }
+            final var previous = writable().put(id, item);
+            events.add(new Event<>(id, previous, item));
+            return this;
+        }
+
+        /** Removes a document, if present. */
+        public Batch remove(final String id) {
+            if (id == null) return this;
+            final var removed = writable().remove(id);
+            if (removed != null) events.add(new Event<>(id, removed, null));
+            return this;
+        }
+
+        /** Removes every document. */
+        public Batch clear() {
+            final var all = writable();
+            all.forEach((id, item) -> events.add(new Event<>(id, item, null)));
+            all.clear();
+            return this;
+        }
+
+        /** Returns a document as this batch has left it so far. */
+        public Optional<T> findById(final String id) {
+            final var map = documents;
+            if (map == null) return base.findById(id);
+            return Optional.ofNullable(id != null ? map.get(id) : null);
+        }
+
+        private LinkedHashMap<String, T> writable() {
+            if (closed) throw new IllegalStateException("Batch used after its update() returned");
+            if (documents == null) documents = new LinkedHashMap<>(base.asMap());
+            return documents;
+        }
+    }
+
+    /** One effective mutation: {@code removed} and/or {@code added} may be null. */
+    private record Event<T>(String id, T removed, T added) {}
+}
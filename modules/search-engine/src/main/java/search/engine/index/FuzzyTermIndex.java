@@ -0,0 +1,332 @@
+package search.engine.index;
+
+import search.engine.algorithm.TermDictionary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Immutable fuzzy-lookup index over a vocabulary of terms.
+ *
+ * <p>Answers three questions without scanning the vocabulary:
+ * <ul>
+ *   <li>{@link #withPrefix(String)} — which terms start with a prefix (binary search over the
+ *       sorted vocabulary: O(log V + matches));</li>
+ *   <li>{@link #containing(String)} — which terms contain a fragment (intersection of the
+ *       fragment's trigram postings, then verification);</li>
+ *   <li>{@link #withinDistance(String, int)} — which terms are within Levenshtein distance
+ *       {@code d} (trigram count filter, then a bounded edit-distance check).</li>
+ * </ul>
+ * Term IDs are those of the {@link TermDictionary} the index was built from, so callers can
+ * map results straight onto their own per-term data (e.g., document postings).
+ *
+ * <h2>Trigram filter</h2>
+ * One edit destroys at most three trigrams, so a term within distance {@code d} of a word with
+ * {@code g} distinct trigrams shares at least {@code g - 3d} of them. Words too short for that
+ * bound to be positive fall back to checking only terms whose length is within {@code d}.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * var index = FuzzyTermIndex.of(List.of("concurrency", "concurrent", "collections"));
+ * index.withPrefix("con");             // concurrency, concurrent
+ * index.withinDistance("concurrncy", 1); // concurrency
+ * }</pre>
+ *
+ * <p>Thread-safe: all state is fixed at construction.
+ *
+ * @see search.engine.algorithm.FuzzyTermScorer
+ */
+public final class FuzzyTermIndex {
+
+    /** Characters per gram. */
+    private static final int GRAM_LENGTH = 3;
+
+    private static final int[] NO_TERMS = {};
+
+    private final String[] terms;
+    private final int[] idsInTermOrder;
+    private final String[] sortedTerms;
+    private final TermDictionary grams = new TermDictionary();
+    private final int[][] gramPostings;
+    private final int[][] idsByLength;
+
+    /**
+     * Builds the index over every term of {@code vocabulary}. Later additions to the
+     * dictionary are not seen.
+     *
+     * @param vocabulary the terms to index (never null)
+     */
+    public FuzzyTermIndex(final TermDictionary vocabulary) {
+        Objects.requireNonNull(vocabulary, "vocabulary must not be null");
+        final var size = vocabulary.size();
+        this.terms = new String[size];
+        for (var id = 0; id < size; id++) terms[id] = vocabulary.term(id);
+
+        this.idsInTermOrder = new int[size];
+        final var boxed = new Integer[size];
+        for (var id = 0; id < size; id++) boxed[id] = id;
+        Arrays.sort(boxed, Comparator.comparing(id -> terms[id]));
+        this.sortedTerms = new String[size];
+        for (var i = 0; i < size; i++) {
+            idsInTermOrder[i] = boxed[i];
+            sortedTerms[i]    = terms[boxed[i]];
+        }
+
+        this.gramPostings = buildGramPostings();
+        this.idsByLength  = buildLengthBuckets();
+    }
+
+    /** Builds an index over the given distinct terms. */
+    public static FuzzyTermIndex of(final Collection<String> terms) {
+        Objects.requireNonNull(terms, "terms must not be null");
+        final var dictionary = new TermDictionary();
+        terms.forEach(dictionary::add);
+        return new FuzzyTermIndex(dictionary);
+    }
+
+    // ─── Lookups ───────────────────────────────────────────────────
+
+    /**
+     * Returns the IDs of all terms starting with {@code prefix}, in lexicographic term order.
+     *
+     * @param prefix the prefix (an empty prefix matches every term)
+     * @return matching term IDs (never null)
+     */
+    public int[] withPrefix(final String prefix) {
+        Objects.requireNonNull(prefix, "prefix must not be null");
+        var from = Arrays.binarySearch(sortedTerms, prefix);
+        if (from < 0) from = -from - 1;
+        var to = from;
+        while (to < sortedTerms.length && sortedTerms[to].startsWith(prefix)) to++;
+        return Arrays.copyOfRange(idsInTermOrder, from, to);
+    }
+
+    /**
+     * Returns the IDs of all terms containing {@code fragment}, in ascending ID order.
+     * Fragments shorter than a trigram are checked against every term.
+     *
+     * @param fragment the substring to look for
+     * @return matching term IDs (never null)
+     */
+    public int[] containing(final String fragment) {
+        Objects.requireNonNull(fragment, "fragment must not be null");
+        if (fragment.length() < GRAM_LENGTH) return verify(allIds(), term -> term.contains(fragment));
+
+        // Intersect the fragment's trigram postings, shortest list first
+        final var lists = new ArrayList<int[]>();
+        final var chars = fragment.toCharArray();
+        for (var i = 0; i + GRAM_LENGTH <= chars.length; i++) {
+            final var gram = grams.idOf(chars, i, GRAM_LENGTH);
+            if (gram == TermDictionary.ABSENT) return NO_TERMS;
+            lists.add(gramPostings[gram]);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+        var candidates = lists.get(0);
+        for (var i = 1; i < lists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists.get(i));
+        }
+        return verify(candidates, term -> term.contains(fragment));
+    }
+
+    /**
+     * Returns the IDs of all terms within Levenshtein distance {@code maxDistance} of
+     * {@code word}, in ascending ID order.
+     *
+     * @param word        the (possibly misspelled) word
+     * @param maxDistance the maximum number of single-character edits (≥ 0)
+     * @return matching term IDs (never null)
+     */
+    public int[] withinDistance(final String word, final int maxDistance) {
+        Objects.requireNonNull(word, "word must not be null");
+        if (maxDistance < 0) throw new IllegalArgumentException("maxDistance must be ≥ 0, got: " + maxDistance);
+
+        // Split the word's distinct trigrams into vocabulary gram IDs and a count of unseen ones
+        final var chars    = word.toCharArray();
+        final var slots    = Math.max(0, chars.length - GRAM_LENGTH + 1);
+        final var known    = new int[slots];
+        final var unseen   = new long[slots];
+        var knownCount  = 0;
+        var unseenCount = 0;
+        for (var i = 0; i < slots; i++) {
+            final var gram = grams.idOf(chars, i, GRAM_LENGTH);
+            if (gram != TermDictionary.ABSENT) known[knownCount++] = gram;
+            else unseen[unseenCount++] = (long) chars[i] << 32 | (long) chars[i + 1] << 16 | chars[i + 2];
+        }
+        final var knownGrams = distinctSorted(known, knownCount);
+        final var minShared  = knownGrams.length + distinctCount(unseen, unseenCount) - GRAM_LENGTH * maxDistance;
+
+        final var candidates = minShared > 0
+                ? termsSharingAtLeast(knownGrams, minShared)
+                : termsWithLengthNear(word.length(), maxDistance);
+        return verify(candidates, term -> withinEditDistance(word, term, maxDistance));
+    }
+
+    /** Returns the term with the given ID. */
+    public String term(final int id) { return terms[id]; }
+
+    /** Returns the number of indexed terms. */
+    public int size() { return terms.length; }
+
+    /**
+     * Returns {@code true} if the Levenshtein distance between {@code a} and {@code b} is at
+     * most {@code maxDistance}. Stops as soon as the bound is exceeded.
+     */
+    public static boolean withinEditDistance(final String a, final String b, final int maxDistance) {
+        if (Math.abs(a.length() - b.length()) > maxDistance) return false;
+        var previous = new int[b.length() + 1];
+        var current  = new int[b.length() + 1];
+        for (var j = 0; j <= b.length(); j++) previous[j] = j;
+        for (var i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            var rowMin = current[0];
+            for (var j = 1; j <= b.length(); j++) {
+                final var cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin     = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxDistance) return false;
+            final var swap = previous; previous = current; current = swap;
+        }
+        return previous[b.length()] <= maxDistance;
+    }
+
+    // ─── Candidate generation ──────────────────────────────────────
+
+    /** Terms containing at least {@code minShared} of the given trigrams (by counting merged postings). */
+    private int[] termsSharingAtLeast(final int[] gramIds, final int minShared) {
+        var total = 0;
+        for (final var gram : gramIds) total += gramPostings[gram].length;
+        final var merged = new int[total];
+        var pos = 0;
+        for (final var gram : gramIds) {
+            final var list = gramPostings[gram];
+            System.arraycopy(list, 0, merged, pos, list.length);
+            pos += list.length;
+        }
+        Arrays.sort(merged);
+
+        final var result = new int[merged.length];
+        var count = 0;
+        for (var i = 0; i < merged.length; ) {
+            var run = i;
+            while (run < merged.length && merged[run] == merged[i]) run++;
+            if (run - i >= minShared) result[count++] = merged[i];
+            i = run;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /** Terms whose length differs from {@code length} by at most {@code maxDistance}. */
+    private int[] termsWithLengthNear(final int length, final int maxDistance) {
+        final var from = Math.max(0, length - maxDistance);
+        final var to   = Math.min(idsByLength.length - 1, length + maxDistance);
+        var total = 0;
+        for (var len = from; len <= to; len++) total += idsByLength[len].length;
+        final var result = new int[total];
+        var pos = 0;
+        for (var len = from; len <= to; len++) {
+            System.arraycopy(idsByLength[len], 0, result, pos, idsByLength[len].length);
+            pos += idsByLength[len].length;
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private int[] verify(final int[] candidates, final Predicate<String> test) {
+        final var result = new int[candidates.length];
+        var count = 0;
+        for (final var id : candidates) {
+            if (test.test(terms[id])) result[count++] = id;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private int[] allIds() {
+        final var ids = new int[terms.length];
+        for (var id = 0; id < ids.length; id++) ids[id] = id;
+        return ids;
+    }
+
+    private static int[] distinctSorted(final int[] values, final int count) {
+        final var sorted = Arrays.copyOf(values, count);
+        Arrays.sort(sorted);
+        var distinct = 0;
+        for (var i = 0; i < count; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) sorted[distinct++] = sorted[i];
+        }
+        return Arrays.copyOf(sorted, distinct);
+    }
+
+    private static int distinctCount(final long[] values, final int count) {
+        Arrays.sort(values, 0, count);
+        var distinct = 0;
+        for (var i = 0; i < count; i++) {
+            if (i == 0 || values[i] != values[i - 1]) distinct++;
+        }
+        return distinct;
+    }
+
+    private static int[] intersect(final int[] a, final int[] b) {
+        final var result = new int[Math.min(a.length, b.length)];
+        var i = 0;
+        var j = 0;
+        var count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else { result[count++] = a[i]; i++; j++; }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    // ─── Construction ──────────────────────────────────────────────
+
+    /** Trigram → ascending term IDs. Each term is listed once per distinct trigram. */
+    private int[][] buildGramPostings() {
+        var lists    = new int[16][];
+        var sizes    = new int[16];
+        var lastTerm = new int[16];
+        for (var id = 0; id < terms.length; id++) {
+            final var chars = terms[id].toCharArray();
+            for (var i = 0; i + GRAM_LENGTH <= chars.length; i++) {
+                final var gram = grams.add(chars, i, GRAM_LENGTH);
+                if (gram == lists.length) {
+                    lists    = Arrays.copyOf(lists,    gram * 2);
+                    sizes    = Arrays.copyOf(sizes,    gram * 2);
+                    lastTerm = Arrays.copyOf(lastTerm, gram * 2);
+                }
+                if (lists[gram] == null) {
+                    lists[gram]    = new int[4];
+                    lastTerm[gram] = -1;
+                }
+                if (lastTerm[gram] == id) continue;
+                lastTerm[gram] = id;
+                if (sizes[gram] == lists[gram].length) lists[gram] = Arrays.copyOf(lists[gram], sizes[gram] * 2);
+                lists[gram][sizes[gram]++] = id;
+            }
+        }
+        final var postings = new int[grams.size()][];
+        for (var gram = 0; gram < postings.length; gram++) postings[gram] = Arrays.copyOf(lists[gram], sizes[gram]);
+        return postings;
+    }
+
+    /** Term length → ascending term IDs. */
+    private int[][] buildLengthBuckets() {
+        var maxLength = 0;
+        for (final var term : terms) maxLength = Math.max(maxLength, term.length());
+        final var counts = new int[maxLength + 1];
+        for (final var term : terms) counts[term.length()]++;
+        final var buckets = new int[maxLength + 1][];
+        for (var len = 0; len <= maxLength; len++) buckets[len] = new int[counts[len]];
+        final var fill = new int[maxLength + 1];
+        for (var id = 0; id < terms.length; id++) {
+            final var len = terms[id].length();
+            buckets[len][fill[len]++] = id;
+        }
+        return buckets;
+    }
+}
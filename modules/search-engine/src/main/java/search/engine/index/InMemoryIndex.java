@@ -1,11 +1,17 @@
 package search.engine.index;
 
+import search.api.index.IndexListener;
+import search.api.index.ObservableIndex;
 import search.api.index.SearchIndex;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 /**
@@ -22,17 +28,25 @@ import java.util.logging.Logger;
  * </ul>
  *
  * <h2>Scaling beyond InMemoryIndex</h2>
- * Implement {@link SearchIndex} and plug in Postgres full-text search
- * or Elasticsearch by overriding {@link #all()} to call an external query.
+ * Within one JVM, {@link search.engine.core.ShardedSearchEngine} partitions the corpus across
+ * several indexes and scores them in parallel. Beyond that, implement {@link SearchIndex} and
+ * plug in Postgres full-text search or Elasticsearch by overriding {@link #all()} to call an
+ * external query.
+ *
+ * <h2>Mutation events</h2>
+ * Registered {@link IndexListener}s are notified after every effective add, replace, remove
+ * and clear (see {@link #addListener(IndexListener)}).
  *
  * @param <T> the document type
  *
  * @see SearchIndex
  */
-public final class InMemoryIndex<T> implements SearchIndex<T> {
+public final class InMemoryIndex<T> implements ObservableIndex<T> {
 
     private static final Logger LOGGER = Logger.getLogger(InMemoryIndex.class.getName());
     private final ConcurrentHashMap<String, T> store = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final List<IndexListener<? super T>> listeners = new CopyOnWriteArrayList<>();
 
     /** Creates an empty index. */
     public InMemoryIndex() {}
@@ -45,13 +59,22 @@ public final class InMemoryIndex<T> implements SearchIndex<T> {
         if (item == null) {
             throw new NullPointerException("Document item must not be null");
         }
-        store.put(id, item);
+        final var previous = store.put(id, item);
+        version.incrementAndGet();
+        for (final var listener : listeners) {
+            if (previous != null) listener.onRemove(id, previous);
+            listener.onAdd(id, item);
+        }
         LOGGER.fine(() -> "Index: added/updated document '" + id + "' (total: " + store.size() + ")");
     }
 
     @Override
     public void remove(final String id) {
-        if (id != null && store.remove(id) != null) {
+        if (id == null) return;
+        final var removed = store.remove(id);
+        if (removed != null) {
+            version.incrementAndGet();
+            for (final var listener : listeners) listener.onRemove(id, removed);
             LOGGER.fine(() -> "Index: removed document '" + id + "'");
         }
     }
@@ -69,6 +92,19 @@ public final class InMemoryIndex<T> implements SearchIndex<T> {
     @Override
     public int size() { return store.size(); }
 
+    @Override
+    public long version() { return version.get(); }
+
+    @Override
+    public void addListener(final IndexListener<? super T> listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener must not be null"));
+    }
+
+    @Override
+    public void removeListener(final IndexListener<? super T> listener) {
+        listeners.remove(listener);
+    }
+
     /** Logs a diagnostic summary of the index size to the INFO log. */
     public void logStats() {
         LOGGER.info(() -> "InMemoryIndex: " + store.size() + " documents.");
@@ -76,7 +112,16 @@ public final class InMemoryIndex<T> implements SearchIndex<T> {
 
     /** Removes all documents from the index. */
     public void clear() {
-        store.clear();
+        if (listeners.isEmpty()) {
+            store.clear();
+        } else {
+            // Remove one by one so each listener sees exactly the documents that left
+            for (final var id : store.keySet()) {
+                final var removed = store.remove(id);
+                if (removed != null) listeners.forEach(listener -> listener.onRemove(id, removed));
+            }
+        }
+        version.incrementAndGet();
         LOGGER.info("InMemoryIndex cleared.");
     }
 }
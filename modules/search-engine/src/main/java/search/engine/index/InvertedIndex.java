@@ -0,0 +1,905 @@
+package search.engine.index;
+
+import search.api.algorithm.Tokenizer;
+import search.api.index.IndexListener;
+import search.api.index.ObservableIndex;
+import search.api.index.PostingsCursor;
+import search.api.index.PostingsReader;
+import search.api.index.TermIndex;
+import search.engine.algorithm.DefaultTokenizer;
+import search.engine.algorithm.SnapshotCodec;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Thread-safe {@link TermIndex} backed by a term → postings-list inverted index.
+ *
+ * <p>Every document is assigned a dense integer <em>ordinal</em> when it is added. Its text
+ * (from the configured extractor) is tokenized once, and each distinct term appends
+ * {@code (ordinal, termFrequency)} to that term's postings list. Queries then union the
+ * postings of their terms instead of scanning the whole corpus.
+ *
+ * <h2>Recommended for</h2>
+ * <ul>
+ *   <li>Corpora well beyond the ~50,000 documents {@link InMemoryIndex} is sized for.</li>
+ *   <li>Term-driven scorers (BM25, text match) where most documents score 0 for a query.</li>
+ * </ul>
+ *
+ * <h2>Updates and removals</h2>
+ * Ordinals are only ever appended, so postings stay sorted by ordinal. Removing (or replacing)
+ * a document leaves a tombstone that queries skip; {@link #compact()} drops tombstones and
+ * renumbers ordinals. Compaction also runs automatically once tombstones outnumber live
+ * documents.
+ *
+ * <h2>Postings access</h2>
+ * {@link #openReader()} exposes the postings, document lengths and live BM25 statistics
+ * (document count, total length, per-term live document frequency) through a
+ * {@link PostingsReader}, which query evaluators such as
+ * {@link search.engine.algorithm.WandRetriever} use to skip documents. Each term also keeps
+ * its maximum term frequency and minimum document length as score upper-bound inputs.
+ *
+ * <h2>Compressed postings</h2>
+ * With {@link Builder#postingsEncoding(CompressedPostings.Encoding)} set to a compressing
+ * encoding, {@link #compact()} — explicit or automatic — and
+ * {@link #restoreSnapshot(Path, long, Function)} freeze every postings list into an immutable
+ * {@link CompressedPostings}. Documents added later append to a small growable tail that
+ * cursors read after the frozen part, and the next compaction folds it in. Call
+ * {@code compact()} after a bulk load to compress a static corpus.
+ *
+ * <h2>Mutation events</h2>
+ * Registered {@link IndexListener}s are notified after every effective add, replace, remove
+ * and clear, once the write lock has been released. Mutations are delivered in the order they
+ * were applied — a notification lock is taken before the write lock is released — so a
+ * listener such as corpus statistics never sees a later mutation before an earlier one.
+ * Compaction is not a mutation and is not reported.
+ *
+ * <h2>Snapshots</h2>
+ * {@link #writeSnapshot(Path, long)} saves the live documents' IDs, lengths, term dictionary
+ * and postings — front-coded terms, delta-coded ordinals and varint frequencies, see
+ * {@link SnapshotCodec} — and {@link #restoreSnapshot(Path, long, Function)} loads them into an
+ * empty index with one sequential read, without tokenizing any document. A snapshot records the
+ * caller's corpus checksum and is ignored when it does not match, so the caller rebuilds.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * InvertedIndex<Article> index = InvertedIndex.<Article>builder()
+ *         .textExtractor(a -> a.title() + " " + a.body())
+ *         .tokenizer(new DefaultTokenizer())
+ *         .build();
+ *
+ * var config = SearchEngineConfig.<Article>builder()
+ *         .index(index)
+ *         .defaultScorer(bm25)
+ *         .build();
+ * }</pre>
+ *
+ * @param <T> the document type
+ *
+ * @see TermIndex
+ * @see InMemoryIndex
+ */
+public final class InvertedIndex<T> implements TermIndex<T>, ObservableIndex<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(InvertedIndex.class.getName());
+
+    /** Minimum number of tombstones before automatic compaction is considered. */
+    private static final int COMPACTION_MIN_TOMBSTONES = 1_024;
+
+    private static final int SNAPSHOT_MAGIC   = 0x49445831; // "IDX1"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final Function<T, String> textExtractor;
+    private final Tokenizer tokenizer;
+    private final CompressedPostings.Encoding postingsEncoding;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /** Held while a mutation's events are delivered; acquired under the write lock. */
+    private final ReentrantLock notifyLock = new ReentrantLock();
+    private final List<IndexListener<? super T>> listeners = new CopyOnWriteArrayList<>();
+
+    // ─── Guarded by lock ───────────────────────────────────────────
+    private final Map<String, Integer> ordinalsById = new HashMap<>();
+    private final Map<String, Postings> postings    = new HashMap<>();
+    private final List<String> idsByOrdinal          = new ArrayList<>();
+    private final List<T> documentsByOrdinal         = new ArrayList<>();
+    /** The postings each document was appended to, so removal never re-tokenizes it. */
+    private final List<Postings[]> postingsByOrdinal = new ArrayList<>();
+    private int[] lengthsByOrdinal                   = new int[64];
+    private long totalLength;
+    private int tombstones;
+
+    /** Cached unmodifiable view of live documents; rebuilt lazily after a mutation. */
+    private volatile List<T> liveView;
+
+    /** Mutation counter; written under the write lock. Compaction does not change it. */
+    private volatile long version;
+
+    private InvertedIndex(final Builder<T> builder) {
+        this.textExtractor    = builder.textExtractor;
+        this.tokenizer        = builder.tokenizer;
+        this.postingsEncoding = builder.postingsEncoding;
+    }
+
+    // ─── SearchIndex ───────────────────────────────────────────────
+
+    @Override
+    public void add(final String id, final T item) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Document ID must not be null or blank");
+        }
+        if (item == null) {
+            throw new NullPointerException("Document item must not be null");
+        }
+        final var termFrequencies = countTerms(textExtractor.apply(item));
+
+        final T replaced;
+        lock.writeLock().lock();
+        try {
+            final var previous = ordinalsById.get(id);
+            replaced = previous != null ? documentsByOrdinal.get(previous) : null;
+            if (previous != null) tombstone(previous);
+
+            final int ordinal = documentsByOrdinal.size();
+            final int length  = documentLength(termFrequencies);
+            final var lists   = new Postings[termFrequencies.size()];
+            var i = 0;
+            for (final var entry : termFrequencies.entrySet()) {
+                final var list = postings.computeIfAbsent(entry.getKey(), t -> new Postings());
+                list.append(ordinal, entry.getValue()[0], length);
+                lists[i++] = list;
+            }
+            documentsByOrdinal.add(item);
+            idsByOrdinal.add(id);
+            postingsByOrdinal.add(lists);
+            ordinalsById.put(id, ordinal);
+            if (ordinal == lengthsByOrdinal.length) lengthsByOrdinal = Arrays.copyOf(lengthsByOrdinal, ordinal * 2);
+            lengthsByOrdinal[ordinal] = length;
+            totalLength += length;
+            liveView = null;
+            version++;
+            compactIfWorthwhile();
+            // Queue for delivery before the next writer can mutate: events leave in mutation order
+            notifyLock.lock();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            for (final var listener : listeners) {
+                if (replaced != null) listener.onRemove(id, replaced);
+                listener.onAdd(id, item);
+            }
+        } finally {
+            notifyLock.unlock();
+        }
+        LOGGER.fine(() -> "InvertedIndex: added/updated document '" + id
+                + "' (" + termFrequencies.size() + " distinct terms)");
+    }
+
+    @Override
+    public void remove(final String id) {
+        if (id == null) return;
+        final T removed;
+        lock.writeLock().lock();
+        try {
+            final var ordinal = ordinalsById.remove(id);
+            if (ordinal == null) return;
+            removed = documentsByOrdinal.get(ordinal);
+            tombstone(ordinal);
+            liveView = null;
+            version++;
+            compactIfWorthwhile();
+            notifyLock.lock();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            for (final var listener : listeners) listener.onRemove(id, removed);
+        } finally {
+            notifyLock.unlock();
+        }
+        LOGGER.fine(() -> "InvertedIndex: removed document '" + id + "'");
+    }
+
+    @Override
+    public Collection<T> all() {
+        final var view = liveView;
+        if (view != null) return view;
+
+        lock.readLock().lock();
+        try {
+            final var live = new ArrayList<T>(ordinalsById.size());
+            for (final var doc : documentsByOrdinal) {
+                if (doc != null) live.add(doc);
+            }
+            final var built = Collections.unmodifiableList(live);
+            liveView = built;
+            return built;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<T> findById(final String id) {
+        if (id == null) return Optional.empty();
+        lock.readLock().lock();
+        try {
+            final var ordinal = ordinalsById.get(id);
+            return Optional.ofNullable(ordinal != null ? documentsByOrdinal.get(ordinal) : null);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long version() { return version; }
+
+    @Override
+    public void addListener(final IndexListener<? super T> listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener must not be null"));
+    }
+
+    @Override
+    public void removeListener(final IndexListener<? super T> listener) {
+        listeners.remove(listener);
+    }
+
+    // ─── TermIndex ─────────────────────────────────────────────────
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Candidates are returned in ordinal (insertion) order.
+     */
+    @Override
+    public Collection<T> candidates(final String text) {
+        final var terms = tokenizer.tokenize(text);
+        if (terms.isEmpty()) return all();
+
+        lock.readLock().lock();
+        try {
+            final var matched = new BitSet(documentsByOrdinal.size());
+            for (final var term : terms) {
+                final var list = postings.get(term);
+                if (list == null) continue;
+                final var cursor = list.cursor();
+                for (var ord = cursor.docId(); ord != PostingsCursor.NO_MORE_DOCS; ord = cursor.next()) {
+                    matched.set(ord);
+                }
+            }
+            final var result = new ArrayList<T>(matched.cardinality());
+            for (var ord = matched.nextSetBit(0); ord >= 0; ord = matched.nextSetBit(ord + 1)) {
+                final var doc = documentsByOrdinal.get(ord);
+                if (doc != null) result.add(doc);
+            }
+            return Collections.unmodifiableList(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int documentFrequency(final String term) {
+        if (term == null) return 0;
+        lock.readLock().lock();
+        try {
+            final var list = postings.get(term);
+            return list != null ? list.live : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ─── Postings access ───────────────────────────────────────────
+
+    /**
+     * Opens a reader over the current postings. The reader holds the index read lock — writers
+     * block until it is {@linkplain PostingsReader#close() closed} — so use it for one query
+     * in a try-with-resources block.
+     *
+     * @return a consistent view of postings and corpus statistics
+     */
+    public PostingsReader<T> openReader() {
+        lock.readLock().lock();
+        return new Reader();
+    }
+
+    // ─── Maintenance ───────────────────────────────────────────────
+
+    /** Returns the number of distinct terms currently in the dictionary. */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drops tombstoned documents from the postings and renumbers ordinals densely.
+     * Relative document order is preserved. With a compressing
+     * {@linkplain Builder#postingsEncoding(CompressedPostings.Encoding) postings encoding},
+     * every postings list is then frozen in it.
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            compactLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Removes all documents from the index. */
+    public void clear() {
+        final var removedIds  = new ArrayList<String>();
+        final var removedDocs = new ArrayList<T>();
+        lock.writeLock().lock();
+        try {
+            if (!listeners.isEmpty()) {
+                for (var ord = 0; ord < documentsByOrdinal.size(); ord++) {
+                    if (documentsByOrdinal.get(ord) == null) continue;
+                    removedIds.add(idsByOrdinal.get(ord));
+                    removedDocs.add(documentsByOrdinal.get(ord));
+                }
+            }
+            ordinalsById.clear();
+            postings.clear();
+            idsByOrdinal.clear();
+            documentsByOrdinal.clear();
+            postingsByOrdinal.clear();
+            totalLength = 0;
+            tombstones  = 0;
+            liveView   = null;
+            version++;
+            notifyLock.lock();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            for (final var listener : listeners) {
+                for (var i = 0; i < removedIds.size(); i++) listener.onRemove(removedIds.get(i), removedDocs.get(i));
+            }
+        } finally {
+            notifyLock.unlock();
+        }
+        LOGGER.info("InvertedIndex cleared.");
+    }
+
+    /** Logs a diagnostic summary of the index size to the INFO log. */
+    public void logStats() {
+        LOGGER.info(() -> "InvertedIndex: " + size() + " documents, " + termCount() + " terms.");
+    }
+
+    // ─── Snapshots ─────────────────────────────────────────────────
+
+    /**
+     * Writes the live documents' IDs, lengths and postings to a snapshot file, replacing any
+     * existing file. Tombstones are skipped and ordinals renumbered densely, as by
+     * {@link #compact()}; the index itself is not modified. Documents are not stored —
+     * {@link #restoreSnapshot(Path, long, Function) restoring} resolves them by ID.
+     *
+     * @param path           the snapshot file (never null)
+     * @param corpusChecksum identity of the current corpus, e.g. {@link SnapshotCodec#checksum(Iterable)}
+     * @throws IOException if the file cannot be written
+     */
+    public void writeSnapshot(final Path path, final long corpusChecksum) throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+        final SnapshotCodec.Encoder body;
+        final int documents;
+        final int terms;
+        lock.readLock().lock();
+        try {
+            documents = ordinalsById.size();
+            body      = new SnapshotCodec.Encoder(documents * 16 + postings.size() * 16);
+
+            final var remap = new int[documentsByOrdinal.size()];
+            var next = 0;
+            for (var ord = 0; ord < remap.length; ord++) {
+                remap[ord] = documentsByOrdinal.get(ord) != null ? next++ : -1;
+            }
+            body.varInt(documents).varLong(totalLength);
+            for (var ord = 0; ord < remap.length; ord++) {
+                if (remap[ord] >= 0) body.string(idsByOrdinal.get(ord)).varInt(lengthsByOrdinal[ord]);
+            }
+
+            // Count each term's surviving postings first: the count prefixes its postings
+            final var sorted = postings.keySet().toArray(String[]::new);
+            Arrays.sort(sorted);
+            final var survivors = new int[sorted.length];
+            var kept = 0;
+            for (var t = 0; t < sorted.length; t++) {
+                final var cursor = postings.get(sorted[t]).cursor();
+                for (var ord = cursor.docId(); ord != PostingsCursor.NO_MORE_DOCS; ord = cursor.next()) {
+                    if (remap[ord] >= 0) survivors[t]++;
+                }
+                if (survivors[t] > 0) {
+                    survivors[kept] = survivors[t];
+                    sorted[kept++]  = sorted[t];
+                }
+            }
+            final var written = Arrays.copyOf(sorted, kept);
+            body.terms(written);
+            for (var t = 0; t < written.length; t++) {
+                final var cursor = postings.get(written[t]).cursor();
+                body.varInt(survivors[t]);
+                var previous = -1;
+                for (var ord = cursor.docId(); ord != PostingsCursor.NO_MORE_DOCS; ord = cursor.next()) {
+                    final var mapped = remap[ord];
+                    if (mapped < 0) continue;
+                    body.varInt(mapped - previous - 1).varInt(cursor.frequency());
+                    previous = mapped;
+                }
+            }
+            terms = written.length;
+        } finally {
+            lock.readLock().unlock();
+        }
+        final var size = SnapshotCodec.write(path, SNAPSHOT_MAGIC, SNAPSHOT_VERSION, corpusChecksum, body);
+        LOGGER.info(() -> "InvertedIndex: wrote snapshot of " + documents + " documents, " + terms
+                + " terms (" + size + " bytes) to " + path);
+    }
+
+    /**
+     * Loads a snapshot written by {@link #writeSnapshot(Path, long)} into this index, which must
+     * be empty. Postings are decoded directly; no document is tokenized.
+     *
+     * <p>Nothing is loaded — and {@code false} returned — when the snapshot is absent, of another
+     * format version, was written with a different {@code corpusChecksum}, fails its checksum,
+     * or names an ID that {@code documents} cannot resolve. The caller then builds the index
+     * normally. Listeners are not notified: restore their state from their own snapshots
+     * (e.g. {@link search.engine.algorithm.Bm25Statistics#restoreSnapshot(Path, long)}) before
+     * registering them.
+     *
+     * @param path           the snapshot file (never null)
+     * @param corpusChecksum identity of the current corpus
+     * @param documents      resolves a document ID to its document (never null)
+     * @return {@code true} if the snapshot was loaded
+     * @throws IOException           if the file exists but cannot be read
+     * @throws IllegalStateException if this index is not empty
+     */
+    public boolean restoreSnapshot(final Path path, final long corpusChecksum,
+                                   final Function<String, ? extends T> documents) throws IOException {
+        Objects.requireNonNull(documents, "documents must not be null");
+        final var snapshot = SnapshotCodec.read(path, SNAPSHOT_MAGIC, SNAPSHOT_VERSION, corpusChecksum);
+        if (snapshot.isEmpty()) return false;
+        final var body = snapshot.get();
+
+        // Decode outside the lock; publish in one step
+        final var count   = body.varInt();
+        final var total   = body.varLong();
+        final var ids     = new ArrayList<String>(count);
+        final var docs    = new ArrayList<T>(count);
+        final var lengths = new int[Math.max(count, 64)];
+        for (var ord = 0; ord < count; ord++) {
+            final var id  = body.string();
+            final var doc = documents.apply(id);
+            if (doc == null) {
+                LOGGER.info(() -> "InvertedIndex: ignoring snapshot " + path + " (unknown document '" + id + "')");
+                return false;
+            }
+            ids.add(id);
+            docs.add(doc);
+            lengths[ord] = body.varInt();
+        }
+        final var terms    = body.terms();
+        final var restored = new HashMap<String, Postings>(terms.length * 4 / 3 + 1);
+        final var perDoc   = new int[count];
+        final var lists    = new Postings[terms.length];
+        for (var t = 0; t < terms.length; t++) {
+            final var df   = body.varInt();
+            final var list = new Postings(df);
+            var ordinal = -1;
+            for (var i = 0; i < df; i++) {
+                ordinal += body.varInt() + 1;
+                if (ordinal >= count) throw new IllegalStateException("Posting beyond the last document in snapshot " + path);
+                list.append(ordinal, body.varInt(), lengths[ordinal]);
+                perDoc[ordinal]++;
+            }
+            restored.put(terms[t], list);
+            lists[t] = list;
+        }
+        if (!body.isExhausted()) throw new IllegalStateException("Trailing bytes in snapshot " + path);
+
+        // Each document's postings, for removals
+        final var byOrdinal = new ArrayList<Postings[]>(count);
+        for (var ord = 0; ord < count; ord++) byOrdinal.add(new Postings[perDoc[ord]]);
+        Arrays.fill(perDoc, 0);
+        for (final var list : lists) {
+            for (var i = 0; i < list.size; i++) {
+                final var ord = list.ordinals[i];
+                byOrdinal.get(ord)[perDoc[ord]++] = list;
+            }
+            list.freeze(postingsEncoding);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (!documentsByOrdinal.isEmpty()) {
+                throw new IllegalStateException("restoreSnapshot requires an empty index");
+            }
+            for (var ord = 0; ord < count; ord++) ordinalsById.put(ids.get(ord), ord);
+            postings.putAll(restored);
+            idsByOrdinal.addAll(ids);
+            documentsByOrdinal.addAll(docs);
+            postingsByOrdinal.addAll(byOrdinal);
+            lengthsByOrdinal = lengths;
+            totalLength      = total;
+            liveView = null;
+            version++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        LOGGER.info(() -> "InvertedIndex: restored " + count + " documents, " + terms.length
+                + " terms from snapshot " + path);
+        return true;
+    }
+
+    // ─── Internal helpers ──────────────────────────────────────────
+
+    private static int documentLength(final Map<String, int[]> termFrequencies) {
+        var length = 0;
+        for (final var tf : termFrequencies.values()) length += tf[0];
+        return length;
+    }
+
+    private Map<String, int[]> countTerms(final String text) {
+        final var counts = new LinkedHashMap<String, int[]>();
+        for (final var token : tokenizer.tokenize(text)) {
+            counts.computeIfAbsent(token, t -> new int[1])[0]++;
+        }
+        return counts;
+    }
+
+    private void tombstone(final int ordinal) {
+        // Uncount the postings recorded at index time: the document may have changed since
+        for (final var list : postingsByOrdinal.get(ordinal)) list.live--;
+        totalLength -= lengthsByOrdinal[ordinal];
+        documentsByOrdinal.set(ordinal, null);
+        idsByOrdinal.set(ordinal, null);
+        postingsByOrdinal.set(ordinal, null);
+        tombstones++;
+    }
+
+    private void compactIfWorthwhile() {
+        if (tombstones >= COMPACTION_MIN_TOMBSTONES && tombstones > ordinalsById.size()) {
+            compactLocked();
+        }
+    }
+
+    private void compactLocked() {
+        if (tombstones == 0) {
+            for (final var list : postings.values()) list.freeze(postingsEncoding);
+            return;
+        }
+
+        final var remap = new int[documentsByOrdinal.size()];
+        var next = 0;
+        for (var ord = 0; ord < remap.length; ord++) {
+            remap[ord] = documentsByOrdinal.get(ord) != null ? next++ : -1;
+        }
+
+        final var liveDocs     = new ArrayList<T>(next);
+        final var liveIds      = new ArrayList<String>(next);
+        final var livePostings = new ArrayList<Postings[]>(next);
+        final var liveLengths  = new int[Math.max(next, 64)];
+        for (var ord = 0; ord < remap.length; ord++) {
+            if (remap[ord] < 0) continue;
+            liveDocs.add(documentsByOrdinal.get(ord));
+            liveIds.add(idsByOrdinal.get(ord));
+            livePostings.add(postingsByOrdinal.get(ord));
+            liveLengths[remap[ord]] = lengthsByOrdinal[ord];
+            ordinalsById.put(idsByOrdinal.get(ord), remap[ord]);
+        }
+        lengthsByOrdinal = liveLengths;
+        documentsByOrdinal.clear();
+        documentsByOrdinal.addAll(liveDocs);
+        idsByOrdinal.clear();
+        idsByOrdinal.addAll(liveIds);
+        postingsByOrdinal.clear();
+        postingsByOrdinal.addAll(livePostings);
+
+        postings.values().removeIf(list -> list.remap(remap, liveLengths) == 0);
+        for (final var list : postings.values()) list.freeze(postingsEncoding);
+        final var dropped = tombstones;
+        tombstones = 0;
+        LOGGER.fine(() -> "InvertedIndex: compacted " + dropped + " tombstone(s)");
+    }
+
+    // ─── Postings list ─────────────────────────────────────────────
+
+    /**
+     * Ordinal-sorted postings list: an optional {@link CompressedPostings} frozen by the last
+     * compaction or restore, followed by growable parallel {@code int} arrays of the document
+     * ordinals and in-document term frequencies appended since — all of them when nothing is
+     * frozen — plus the live document frequency and the score-bound inputs. Bounds are only
+     * loosened by removals; compaction tightens them.
+     */
+    private static final class Postings {
+
+        /** Postings frozen by the last compaction or restore; null if none. */
+        private CompressedPostings frozen;
+        private int[] ordinals;
+        private int[] frequencies;
+        /** Postings in {@link #ordinals}, after the frozen ones. */
+        private int size;
+        /** Postings whose document is still live. */
+        private int live;
+        private int maxFrequency;
+        private int minLength = Integer.MAX_VALUE;
+
+        Postings() { this(4); }
+
+        Postings(final int capacity) {
+            this.ordinals    = new int[Math.max(capacity, 1)];
+            this.frequencies = new int[ordinals.length];
+        }
+
+        void append(final int ordinal, final int frequency, final int length) {
+            if (size == ordinals.length) {
+                ordinals    = Arrays.copyOf(ordinals,    size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size]    = ordinal;
+            frequencies[size] = frequency;
+            size++;
+            live++;
+            maxFrequency = Math.max(maxFrequency, frequency);
+            minLength    = Math.min(minLength, length);
+        }
+
+        /** Returns a cursor over every posting, frozen ones first, as the list stands now. */
+        PostingsCursor cursor() {
+            if (frozen == null) return size > 0 ? new Cursor(this) : PostingsCursor.empty();
+            return size > 0 ? new FrozenCursor(frozen.cursor(), new Cursor(this), maxFrequency, minLength)
+                            : frozen.cursor();
+        }
+
+        /**
+         * Re-encodes every posting as one {@link CompressedPostings} in {@code encoding}; a no-op
+         * for {@link CompressedPostings.Encoding#RAW RAW} or when nothing was appended since.
+         */
+        void freeze(final CompressedPostings.Encoding encoding) {
+            if (encoding == CompressedPostings.Encoding.RAW || size == 0) return;
+            thaw();
+            frozen      = CompressedPostings.encode(ordinals, frequencies, size, minLength, encoding);
+            ordinals    = new int[4];
+            frequencies = new int[4];
+            size        = 0;
+        }
+
+        /** Decodes the frozen postings back in front of the appended ones. */
+        private void thaw() {
+            if (frozen == null) return;
+            final var total   = frozen.size() + size;
+            final var ords    = new int[Math.max(total, 1)];
+            final var freqs   = new int[ords.length];
+            final var cursor  = frozen.cursor();
+            var i = 0;
+            for (var ord = cursor.docId(); ord != PostingsCursor.NO_MORE_DOCS; ord = cursor.next(), i++) {
+                ords[i]  = ord;
+                freqs[i] = cursor.frequency();
+            }
+            System.arraycopy(ordinals, 0, ords, i, size);
+            System.arraycopy(frequencies, 0, freqs, i, size);
+            ordinals    = ords;
+            frequencies = freqs;
+            size        = total;
+            frozen      = null;
+        }
+
+        /**
+         * Rewrites ordinals through {@code remap}, dropping entries mapped to -1, and recomputes
+         * the bounds from {@code lengths} (indexed by new ordinal). Returns the new size.
+         */
+        int remap(final int[] remap, final int[] lengths) {
+            thaw();
+            var kept = 0;
+            maxFrequency = 0;
+            minLength    = Integer.MAX_VALUE;
+            for (var i = 0; i < size; i++) {
+                final var mapped = remap[ordinals[i]];
+                if (mapped < 0) continue;
+                ordinals[kept]    = mapped;
+                frequencies[kept] = frequencies[i];
+                maxFrequency = Math.max(maxFrequency, frequencies[i]);
+                minLength    = Math.min(minLength, lengths[mapped]);
+                kept++;
+            }
+            size = kept;
+            live = kept;
+            return kept;
+        }
+    }
+
+    /** Cursor over a {@link Postings} list as it stood when the cursor was created. */
+    private static final class Cursor implements PostingsCursor {
+
+        private final int[] ordinals;
+        private final int[] frequencies;
+        private final int size;
+        private final int maxFrequency;
+        private final int minLength;
+        private int position;
+
+        Cursor(final Postings list) {
+            this.ordinals     = list.ordinals;
+            this.frequencies  = list.frequencies;
+            this.size         = list.size;
+            this.maxFrequency = list.maxFrequency;
+            this.minLength    = list.minLength;
+        }
+
+        @Override
+        public int docId() { return position < size ? ordinals[position] : NO_MORE_DOCS; }
+
+        @Override
+        public int frequency() { return frequencies[position]; }
+
+        @Override
+        public int next() {
+            if (position < size) position++;
+            return docId();
+        }
+
+        @Override
+        public int advance(final int target) {
+            if (position >= size || ordinals[position] >= target) return docId();
+            // Gallop forward, then binary-search the bracketed range
+            var step = 1;
+            var low  = position;
+            var high = position + 1;
+            while (high < size && ordinals[high] < target) {
+                low  = high;
+                step <<= 1;
+                high = position + step;
+            }
+            final var found = Arrays.binarySearch(ordinals, low + 1, Math.min(high, size - 1) + 1, target);
+            position = found >= 0 ? found : -found - 1;
+            return docId();
+        }
+
+        @Override public int cost()              { return size; }
+        @Override public int maxFrequency()      { return maxFrequency; }
+        @Override public int minDocumentLength() { return minLength; }
+    }
+
+    /** Cursor over a list's frozen postings, then the postings appended since. */
+    private static final class FrozenCursor implements PostingsCursor {
+
+        private final PostingsCursor frozen;
+        private final PostingsCursor appended;
+        private final int maxFrequency;
+        private final int minLength;
+        private PostingsCursor current;
+
+        FrozenCursor(final PostingsCursor frozen, final PostingsCursor appended,
+                     final int maxFrequency, final int minLength) {
+            this.frozen       = frozen;
+            this.appended     = appended;
+            this.maxFrequency = maxFrequency;
+            this.minLength    = minLength;
+            this.current      = frozen.docId() != NO_MORE_DOCS ? frozen : appended;
+        }
+
+        @Override public int docId()     { return current.docId(); }
+        @Override public int frequency() { return current.frequency(); }
+
+        @Override
+        public int next() {
+            final var doc = current.next();
+            if (doc != NO_MORE_DOCS || current == appended) return doc;
+            current = appended;
+            return appended.docId();
+        }
+
+        @Override
+        public int advance(final int target) {
+            if (current == frozen) {
+                final var doc = frozen.advance(target);
+                if (doc != NO_MORE_DOCS) return doc;
+                current = appended;
+            }
+            return appended.advance(target);
+        }
+
+        @Override public int cost()              { return frozen.cost() + appended.cost(); }
+        @Override public int maxFrequency()      { return maxFrequency; }
+        @Override public int minDocumentLength() { return minLength; }
+    }
+
+    /** {@link PostingsReader} that holds the read lock until closed. */
+    private final class Reader implements PostingsReader<T> {
+
+        private boolean closed;
+
+        @Override
+        public PostingsCursor postings(final String term) {
+            final var list = term != null ? postings.get(term) : null;
+            return list != null ? list.cursor() : PostingsCursor.empty();
+        }
+
+        @Override public T document(final int ordinal)    { return documentsByOrdinal.get(ordinal); }
+        @Override public int documentLength(final int ordinal) { return lengthsByOrdinal[ordinal]; }
+        @Override public int documentCount()               { return ordinalsById.size(); }
+        @Override public long totalLength()                { return totalLength; }
+
+        @Override
+        public int documentFrequency(final String term) {
+            final var list = term != null ? postings.get(term) : null;
+            return list != null ? list.live : 0;
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            lock.readLock().unlock();
+        }
+    }
+
+    public static <T> Builder<T> builder() { return new Builder<>(); }
+
+    /** Fluent builder for {@link InvertedIndex}. */
+    public static final class Builder<T> {
+
+        private Function<T, String> textExtractor = item -> "";
+        private Tokenizer tokenizer = new DefaultTokenizer();
+        private CompressedPostings.Encoding postingsEncoding = CompressedPostings.Encoding.RAW;
+
+        private Builder() {}
+
+        /**
+         * Extracts the indexed text from a document.
+         * Multiple fields can be concatenated: {@code a -> a.title() + " " + a.body()}.
+         */
+        public Builder<T> textExtractor(final Function<T, String> extractor) {
+            this.textExtractor = Objects.requireNonNull(extractor); return this;
+        }
+
+        /** Sets the tokenizer used for both documents and queries. Default: {@link DefaultTokenizer}. */
+        public Builder<T> tokenizer(final Tokenizer tokenizer) {
+            this.tokenizer = Objects.requireNonNull(tokenizer); return this;
+        }
+
+        /**
+         * Sets the encoding compaction and snapshot restore freeze postings lists in. Default:
+         * {@link CompressedPostings.Encoding#RAW RAW} — lists stay growable arrays and are never
+         * frozen. {@link CompressedPostings.Encoding#VBYTE VBYTE} and
+         * {@link CompressedPostings.Encoding#FOR FOR} trade decoding work for memory.
+         */
+        public Builder<T> postingsEncoding(final CompressedPostings.Encoding encoding) {
+            this.postingsEncoding = Objects.requireNonNull(encoding); return this;
+        }
+
+        public InvertedIndex<T> build() { return new InvertedIndex<>(this); }
+    }
+}
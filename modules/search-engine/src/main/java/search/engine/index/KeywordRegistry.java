@@ -1,11 +1,15 @@
 package search.engine.index;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * Generic keyword → value registry for query intent inference.
@@ -25,6 +29,19 @@ import java.util.Set;
  *   </li>
  * </ul>
  *
+ * <h2>Compiled automaton</h2>
+ * {@link Builder#build()} compiles every keyword into a character trie with Aho-Corasick
+ * failure links, so {@link #inferFromQuery(String)} reads the query exactly once, whatever
+ * the number of keywords:
+ * <ul>
+ *   <li>a <em>word cursor</em> walks the trie from the start of each query word — at the
+ *       word's end it yields the exact hit, and at depth 3 the prefix-fallback candidates;</li>
+ *   <li>the <em>automaton state</em> follows failure links across word boundaries and reports
+ *       every phrase keyword ending at the current position.</li>
+ * </ul>
+ * Exact hits are reported in query-word order and phrase hits in the order they end in the
+ * query. Prefix candidates that share a 3-char prefix are tried in alphabetical keyword order.
+ *
  * <h2>Building a registry</h2>
  * <pre>{@code
  * KeywordRegistry<ConceptArea> registry = KeywordRegistry.<ConceptArea>builder()
@@ -42,10 +59,15 @@ import java.util.Set;
  */
 public final class KeywordRegistry<V> {
 
+    /** Length of the word prefix used by the prefix fallback. */
+    private static final int PREFIX_LENGTH = 3;
+
     private final Map<String, V> keywordMap;
+    private final Node<V> root;
 
     private KeywordRegistry(final Map<String, V> keywordMap) {
         this.keywordMap = Map.copyOf(keywordMap);
+        this.root       = compile(new TreeMap<>(keywordMap));
     }
 
     /**
@@ -68,32 +90,44 @@ public final class KeywordRegistry<V> {
     public List<V> inferFromQuery(final String query) {
         if (query == null || query.isBlank()) return List.of();
         final var normalised = query.strip().toLowerCase();
-        final var result     = new ArrayList<V>();
 
-        // Pass 1: per-word exact match
-        for (final var word : normalised.split("\\s+")) {
-            final var value = keywordMap.get(word);
-            if (value != null && !result.contains(value)) result.add(value);
-        }
+        final var exactHits  = new LinkedHashSet<V>();
+        final var phraseHits = new LinkedHashSet<V>();
+        final var prefixHits = new ArrayList<Node<V>>();
 
-        // Pass 2: multi-word phrase match (phrase keywords that appear in the query)
-        for (final var entry : keywordMap.entrySet()) {
-            if (entry.getKey().contains(" ") && normalised.contains(entry.getKey())
-                    && !result.contains(entry.getValue())) {
-                result.add(entry.getValue());
+        var state      = root;
+        var word       = root;
+        var wordLength = 0;
+        for (var i = 0; i < normalised.length(); i++) {
+            final var c = normalised.charAt(i);
+
+            // Phrase hits: every phrase keyword ending at position i
+            state = state.transition(c, root);
+            for (var hit = state.phrase ? state : state.phraseOutput; hit != null; hit = hit.phraseOutput) {
+                phraseHits.add(hit.value);
+            }
+
+            // Exact and prefix hits: trie walk restarted at each word boundary
+            if (isWordSeparator(c)) {
+                if (wordLength > 0 && word != null && word.value != null) exactHits.add(word.value);
+                word       = root;
+                wordLength = 0;
+                continue;
             }
+            if (word != null) word = word.child(c);
+            if (++wordLength == PREFIX_LENGTH && word != null) prefixHits.add(word);
         }
+        if (wordLength > 0 && word != null && word.value != null) exactHits.add(word.value);
+
+        // Pass 1 (exact words) then pass 2 (phrases)
+        final var result = exactHits;
+        result.addAll(phraseHits);
 
-        // Pass 3: prefix fallback — if still empty, match via 3-char prefix
+        // Pass 3: prefix fallback — if still empty, one value per word via its 3-char prefix
         if (result.isEmpty()) {
-            for (final var word : normalised.split("\\s+")) {
-                if (word.length() < 3) continue;
-                final var prefix = word.substring(0, 3);
-                for (final var entry : keywordMap.entrySet()) {
-                    if (entry.getKey().startsWith(prefix) && !result.contains(entry.getValue())) {
-                        result.add(entry.getValue());
-                        break;
-                    }
+            for (final var node : prefixHits) {
+                for (final var value : node.prefixValues) {
+                    if (result.add(value)) break;
                 }
             }
         }
@@ -110,6 +144,95 @@ public final class KeywordRegistry<V> {
     /** Returns the total number of registered keywords. */
     public int size() { return keywordMap.size(); }
 
+    // ─── Automaton ─────────────────────────────────────────────────
+
+    /** Word separators — the characters matched by the regex {@code \s}. */
+    private static boolean isWordSeparator(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Builds the trie and its failure links. Keywords are inserted in sorted order, which
+     * keeps every node's child labels sorted and its prefix candidates alphabetical.
+     */
+    private static <V> Node<V> compile(final TreeMap<String, V> sortedKeywords) {
+        final var root = new Node<V>();
+        sortedKeywords.forEach((keyword, value) -> {
+            var node = root;
+            for (var i = 0; i < keyword.length(); i++) {
+                node = node.childOrCreate(keyword.charAt(i));
+                if (i == PREFIX_LENGTH - 1 && !node.prefixValues.contains(value)) node.prefixValues.add(value);
+            }
+            node.value  = value;
+            node.phrase = keyword.indexOf(' ') >= 0;
+        });
+
+        // Breadth-first: a node's failure target is always shallower, so it is linked first
+        final var queue = new ArrayDeque<Node<V>>();
+        for (var i = 0; i < root.childCount; i++) {
+            root.children[i].failure = root;
+            queue.add(root.children[i]);
+        }
+        while (!queue.isEmpty()) {
+            final var node = queue.poll();
+            for (var i = 0; i < node.childCount; i++) {
+                final var child = node.children[i];
+                child.failure      = node.failure.transition(node.labels[i], root);
+                child.phraseOutput = child.failure.phrase ? child.failure : child.failure.phraseOutput;
+                queue.add(child);
+            }
+        }
+        return root;
+    }
+
+    /** A trie node: one state of the Aho-Corasick automaton. */
+    private static final class Node<V> {
+
+        private static final char[] NO_LABELS = {};
+
+        private char[] labels = NO_LABELS;
+        private Node<V>[] children;
+        private int childCount;
+
+        /** Value of the keyword ending here, or {@code null}. */
+        private V value;
+        /** {@code true} if the keyword ending here is a multi-word phrase. */
+        private boolean phrase;
+        /** Longest proper suffix of this node's path that is also a trie path. */
+        private Node<V> failure;
+        /** Nearest node on the failure chain that ends a phrase keyword, or {@code null}. */
+        private Node<V> phraseOutput;
+        /** Distinct values of keywords starting with this path (populated at depth 3 only). */
+        private final List<V> prefixValues = new ArrayList<>(0);
+
+        Node<V> child(final char c) {
+            final var pos = Arrays.binarySearch(labels, 0, childCount, c);
+            return pos >= 0 ? children[pos] : null;
+        }
+
+        /** Follows goto edges, falling back along failure links; never returns null. */
+        Node<V> transition(final char c, final Node<V> root) {
+            for (var node = this; node != null; node = node.failure) {
+                final var next = node.child(c);
+                if (next != null) return next;
+            }
+            return root;
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<V> childOrCreate(final char c) {
+            if (childCount > 0 && labels[childCount - 1] == c) return children[childCount - 1];
+            if (childCount == labels.length) {
+                final var capacity = Math.max(2, childCount * 2);
+                labels   = Arrays.copyOf(labels, capacity);
+                children = children == null ? (Node<V>[]) new Node<?>[capacity] : Arrays.copyOf(children, capacity);
+            }
+            labels[childCount]   = c;
+            children[childCount] = new Node<>();
+            return children[childCount++];
+        }
+    }
+
     public static <V> Builder<V> builder() { return new Builder<>(); }
 
     /** Fluent builder for {@link KeywordRegistry}. */
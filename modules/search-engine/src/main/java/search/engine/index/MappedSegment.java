@@ -0,0 +1,427 @@
+package search.engine.index;
+
+import search.api.algorithm.ScoringStrategy;
+import search.api.algorithm.Tokenizer;
+import search.api.core.SearchContext;
+import search.engine.algorithm.DefaultTokenizer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import static search.engine.index.SegmentFormat.*;
+
+/**
+ * Read-only index segment served straight from a memory-mapped file written by
+ * {@link SegmentWriter}.
+ *
+ * <p>{@link #open(Path)} maps the file and checks that the header's section layout fits it — a
+ * truncated or corrupt header fails there, with an {@link IOException}, rather than in a later
+ * lookup. Only the header and three end sentinels are read, so opening costs the same for ten
+ * documents or ten million, and the corpus lives in the OS page cache rather than on the Java
+ * heap. Every lookup reads the mapping with absolute gets:
+ * <ul>
+ *   <li>term → postings: binary search over the sorted UTF-8 term table;</li>
+ *   <li>ID → ordinal: binary search over the ID-sorted ordinal table;</li>
+ *   <li>term frequency of a document: binary search in the term's ordinal-sorted postings.</li>
+ * </ul>
+ *
+ * <h2>BM25 over the mapping</h2>
+ * {@link #search(String, int)} scores term-at-a-time over the postings of the query terms and
+ * returns the best document IDs; {@link #bm25Scorer(Function)} plugs the same statistics into
+ * a {@link search.engine.core.ConfigurableSearchEngine} as a {@link ScoringStrategy}. Both use
+ * the {@link search.engine.algorithm.Bm25Scorer} formula and defaults ({@code k₁ = 1.5},
+ * {@code b = 0.75}, scores × 10), so an engine scores a segment exactly as it scores the same
+ * corpus with {@code Bm25Scorer.computeStats}.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * var segment = MappedSegment.open(Path.of("articles.seg"));
+ *
+ * segment.search("virtual threads", 10);           // → [Hit[id=a-042, ...], ...]
+ *
+ * var config = SearchEngineConfig.<Article>builder()
+ *         .defaultScorer(segment.bm25Scorer(Article::id))
+ *         .build();
+ * }</pre>
+ *
+ * <p>Thread-safe: the mapping is never modified and is only read with absolute gets. The
+ * file channel is closed once mapped; the mapping is released when the segment is garbage
+ * collected.
+ *
+ * @see SegmentWriter
+ */
+public final class MappedSegment {
+
+    private static final Logger LOGGER = Logger.getLogger(MappedSegment.class.getName());
+
+    /** BM25 term-saturation factor — same default as {@code Bm25Scorer}. */
+    private static final double K1 = 1.5;
+
+    /** BM25 length-normalisation factor — same default as {@code Bm25Scorer}. */
+    private static final double B = 0.75;
+
+    /** Scale factor to convert BM25 float score to int points — same as {@code Bm25Scorer}. */
+    private static final int SCALE_FACTOR = 10;
+
+    /** Result of {@link #search(String, int)}. */
+    public record Hit(String id, int ordinal, double score) {}
+
+    private final ByteBuffer buffer;
+    private final Tokenizer tokenizer;
+    private final int documentCount;
+    private final int termCount;
+    private final double avgDocLength;
+    private final int docLengthsAt;
+    private final int idOffsetsAt;
+    private final int sortedIdsAt;
+    private final int termOffsetsAt;
+    private final int termPostingsAt;
+
+    private MappedSegment(final ByteBuffer buffer, final Tokenizer tokenizer) throws IOException {
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(MAGIC_AT) != MAGIC) {
+            throw new IOException("Not a search segment file");
+        }
+        final var version = buffer.getInt(VERSION_AT);
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported segment format version " + version + " (expected " + FORMAT_VERSION + ")");
+        }
+        this.buffer         = buffer;
+        this.tokenizer      = tokenizer;
+        this.documentCount  = buffer.getInt(DOCUMENT_COUNT_AT);
+        this.termCount      = buffer.getInt(TERM_COUNT_AT);
+        final var total     = buffer.getLong(TOTAL_LENGTH_AT);
+        this.avgDocLength   = documentCount > 0 ? (double) total / documentCount : 1.0;
+        this.docLengthsAt   = section(DOC_LENGTHS);
+        this.idOffsetsAt    = section(ID_OFFSETS);
+        this.sortedIdsAt    = section(SORTED_IDS);
+        this.termOffsetsAt  = section(TERM_OFFSETS);
+        this.termPostingsAt = section(TERM_POSTINGS);
+        validateLayout();
+    }
+
+    /**
+     * Maps a segment written with the default tokenizer.
+     *
+     * @param path the segment file
+     * @return the opened segment
+     * @throws IOException if the file cannot be read or is not a valid segment
+     */
+    public static MappedSegment open(final Path path) throws IOException {
+        return open(path, new DefaultTokenizer());
+    }
+
+    /**
+     * Maps a segment, tokenizing queries with {@code tokenizer} — use the tokenizer the segment
+     * was written with.
+     *
+     * @param path      the segment file
+     * @param tokenizer the query tokenizer
+     * @return the opened segment
+     * @throws IOException if the file cannot be read or is not a valid segment
+     */
+    public static MappedSegment open(final Path path, final Tokenizer tokenizer) throws IOException {
+        Objects.requireNonNull(path,      "path must not be null");
+        Objects.requireNonNull(tokenizer, "tokenizer must not be null");
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var segment = new MappedSegment(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), tokenizer);
+            LOGGER.info(() -> "MappedSegment: opened " + path + " (" + segment.documentCount + " documents, "
+                    + segment.termCount + " terms)");
+            return segment;
+        }
+    }
+
+    // ─── Corpus statistics ─────────────────────────────────────────
+
+    /** Returns the number of documents in the segment. */
+    public int documentCount() { return documentCount; }
+
+    /** Returns the number of distinct terms in the segment. */
+    public int termCount() { return termCount; }
+
+    /** Returns the average document length, in tokens. */
+    public double averageDocumentLength() { return avgDocLength; }
+
+    /** Returns the length, in tokens, of document {@code ordinal}. */
+    public int documentLength(final int ordinal) {
+        Objects.checkIndex(ordinal, documentCount);
+        return buffer.getInt(docLengthsAt + ordinal * Integer.BYTES);
+    }
+
+    /** Returns the ID of document {@code ordinal}. */
+    public String documentId(final int ordinal) {
+        Objects.checkIndex(ordinal, documentCount);
+        return string(idOffsetsAt, ordinal);
+    }
+
+    /**
+     * Returns the ordinal of the document with {@code id}, or -1 if absent.
+     *
+     * @param id the document ID
+     * @return the ordinal, or -1
+     */
+    public int ordinalOf(final String id) {
+        if (id == null) return -1;
+        final var key = id.getBytes(StandardCharsets.UTF_8);
+        var low  = 0;
+        var high = documentCount - 1;
+        while (low <= high) {
+            final var mid     = (low + high) >>> 1;
+            final var ordinal = buffer.getInt(sortedIdsAt + mid * Integer.BYTES);
+            final var cmp     = compare(idOffsetsAt, ordinal, key);
+            if (cmp < 0) low = mid + 1;
+            else if (cmp > 0) high = mid - 1;
+            else return ordinal;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the number of documents containing {@code term}.
+     *
+     * @param term an already-normalised term
+     * @return the document frequency (≥ 0)
+     */
+    public int documentFrequency(final String term) {
+        if (term == null) return 0;
+        final var rank = termRank(term.getBytes(StandardCharsets.UTF_8));
+        return rank < 0 ? 0 : postingsLength(rank);
+    }
+
+    // ─── Search ────────────────────────────────────────────────────
+
+    /**
+     * Returns the {@code limit} best BM25 matches for {@code query}, best first; ties are
+     * broken by ordinal. Only documents containing a query term are visited.
+     *
+     * @param query the query text (may be null or blank)
+     * @param limit the maximum number of hits (≥ 1)
+     * @return the hits (never null; may be empty)
+     */
+    public List<Hit> search(final String query, final int limit) {
+        if (limit < 1) throw new IllegalArgumentException("limit must be ≥ 1, got: " + limit);
+        final var terms = resolve(query == null ? "" : query.strip().toLowerCase());
+        if (terms.ranks().length == 0) return List.of();
+
+        // Term-at-a-time accumulation, in query-term order as Bm25Scorer sums them
+        final var scores = new double[documentCount];
+        for (var t = 0; t < terms.ranks().length; t++) {
+            final var rank = terms.ranks()[t];
+            if (rank < 0) continue;
+            final var start = postingsStart(rank);
+            final var end   = postingsStart(rank + 1);
+            for (var at = start; at < end; at += POSTING_INTS * Integer.BYTES) {
+                final var ordinal = buffer.getInt(at);
+                final var tf      = buffer.getInt(at + Integer.BYTES);
+                scores[ordinal] += termScore(terms.idfs()[t], tf, lengthNorm(documentLength(ordinal)));
+            }
+        }
+
+        final Comparator<Integer> worstFirst = Comparator.<Integer>comparingDouble(ord -> scores[ord])
+                .thenComparing(Comparator.<Integer>reverseOrder());
+        final var top = new PriorityQueue<>(Math.min(limit, documentCount) + 1, worstFirst);
+        for (var ordinal = 0; ordinal < documentCount; ordinal++) {
+            if (scores[ordinal] <= 0) continue;
+            top.add(ordinal);
+            if (top.size() > limit) top.poll();
+        }
+        final var hits = new ArrayList<Hit>(top.size());
+        while (!top.isEmpty()) {
+            final var ordinal = top.poll();
+            hits.add(new Hit(documentId(ordinal), ordinal, scores[ordinal]));
+        }
+        return hits.reversed();
+    }
+
+    /**
+     * Returns a BM25 {@link ScoringStrategy} backed by this segment's statistics and postings.
+     * Documents are located by ID; those absent from the segment score 0.
+     *
+     * @param idExtractor maps a document to the ID it was written under
+     * @param <T>         the document type
+     * @return a thread-safe scorer
+     */
+    public <T> ScoringStrategy<T> bm25Scorer(final Function<T, String> idExtractor) {
+        Objects.requireNonNull(idExtractor, "idExtractor must not be null");
+        return new ScoringStrategy<>() {
+            private volatile QueryTerms lastQuery;
+
+            @Override
+            public int score(final T item, final SearchContext context) {
+                final var input = context.normalizedInput();
+                var terms = lastQuery;
+                if (terms == null || !terms.input().equals(input)) {
+                    terms     = resolve(input);
+                    lastQuery = terms;
+                }
+                if (terms.ranks().length == 0) return 0;
+
+                final var ordinal = ordinalOf(idExtractor.apply(item));
+                if (ordinal < 0) return 0;
+                final var length = documentLength(ordinal);
+                if (length == 0) return 0;
+
+                final double lengthNorm = lengthNorm(length);
+                var totalScore = 0.0;
+                for (var t = 0; t < terms.ranks().length; t++) {
+                    if (terms.ranks()[t] < 0) continue;
+                    totalScore += termScore(terms.idfs()[t], termFrequency(terms.ranks()[t], ordinal), lengthNorm);
+                }
+                return (int) (totalScore * SCALE_FACTOR);
+            }
+        };
+    }
+
+    // ─── Internal helpers ──────────────────────────────────────────
+
+    /** Query tokens resolved to term ranks (-1 if absent) and IDFs. */
+    private record QueryTerms(String input, int[] ranks, double[] idfs) {}
+
+    private QueryTerms resolve(final String input) {
+        final var tokens = tokenizer.tokenize(input);
+        final var ranks  = new int[tokens.size()];
+        final var idfs   = new double[tokens.size()];
+        final var n      = Math.max(documentCount, 1);
+        for (var i = 0; i < ranks.length; i++) {
+            ranks[i] = termRank(tokens.get(i).getBytes(StandardCharsets.UTF_8));
+            idfs[i]  = idf(ranks[i] < 0 ? 0 : postingsLength(ranks[i]), n);
+        }
+        return new QueryTerms(input, ranks, idfs);
+    }
+
+    private int termRank(final byte[] term) {
+        var low  = 0;
+        var high = termCount - 1;
+        while (low <= high) {
+            final var mid = (low + high) >>> 1;
+            final var cmp = compare(termOffsetsAt, mid, term);
+            if (cmp < 0) low = mid + 1;
+            else if (cmp > 0) high = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+
+    /** Binary-searches the ordinal-sorted postings of term {@code rank} for {@code ordinal}. */
+    private int termFrequency(final int rank, final int ordinal) {
+        final var start = postingsStart(rank);
+        var low  = 0;
+        var high = postingsLength(rank) - 1;
+        while (low <= high) {
+            final var mid   = (low + high) >>> 1;
+            final var at    = start + mid * POSTING_INTS * Integer.BYTES;
+            final var found = buffer.getInt(at);
+            if (found < ordinal) low = mid + 1;
+            else if (found > ordinal) high = mid - 1;
+            else return buffer.getInt(at + Integer.BYTES);
+        }
+        return 0;
+    }
+
+    private int postingsStart(final int rank) {
+        return buffer.getInt(termPostingsAt + rank * Integer.BYTES);
+    }
+
+    private int postingsLength(final int rank) {
+        return (postingsStart(rank + 1) - postingsStart(rank)) / (POSTING_INTS * Integer.BYTES);
+    }
+
+    private double lengthNorm(final int docLength) {
+        return K1 * (1 - B + B * docLength / avgDocLength);
+    }
+
+    private static double termScore(final double idf, final int tf, final double lengthNorm) {
+        return tf == 0 ? 0.0 : idf * (tf * (K1 + 1)) / (tf + lengthNorm);
+    }
+
+    private static double idf(final int df, final int n) {
+        return Math.log((n - df + 0.5) / (df + 0.5) + 1.0);
+    }
+
+    private int section(final int section) {
+        return buffer.getInt(SECTION_TABLE_AT + section * Integer.BYTES);
+    }
+
+    /**
+     * Checks that every section starts exactly where {@link SegmentWriter} puts it for the
+     * header's counts and that the file ends with the postings, so no lookup can read past the
+     * mapping. Reads the header and the three end sentinels only; the section contents are not
+     * checked.
+     */
+    private void validateLayout() throws IOException {
+        if (documentCount < 0 || termCount < 0 || buffer.getLong(TOTAL_LENGTH_AT) < 0) {
+            throw new IOException("Corrupt segment: negative document count, term count or total length");
+        }
+        var end = expectSection(DOC_LENGTHS, HEADER_BYTES, (long) documentCount * Integer.BYTES);
+        end = expectSection(ID_OFFSETS,    end, (documentCount + 1L) * Integer.BYTES);
+        end = expectSection(ID_BYTES,      end, tableLength(ID_OFFSETS, documentCount, ID_BYTES));
+        end = expectSection(SORTED_IDS,    end, (long) documentCount * Integer.BYTES);
+        end = expectSection(TERM_OFFSETS,  end, (termCount + 1L) * Integer.BYTES);
+        end = expectSection(TERM_BYTES,    end, tableLength(TERM_OFFSETS, termCount, TERM_BYTES));
+        end = expectSection(TERM_POSTINGS, end, (termCount + 1L) * Integer.BYTES);
+        end = expectSection(POSTINGS,      end, tableLength(TERM_POSTINGS, termCount, POSTINGS));
+        if (end != buffer.capacity()) {
+            throw new IOException("Corrupt segment: expected " + end + " bytes, found " + buffer.capacity());
+        }
+    }
+
+    /**
+     * Checks that {@code section} starts at {@code start} and its {@code length} bytes lie inside
+     * the file; returns where the next section starts.
+     */
+    private long expectSection(final int section, final long start, final long length) throws IOException {
+        if (section(section) != start) {
+            throw new IOException("Corrupt segment: section " + section + " starts at " + section(section)
+                    + ", expected " + start);
+        }
+        if (start + length > buffer.capacity()) {
+            throw new IOException("Truncated segment: section " + section + " ends at " + (start + length)
+                    + ", found " + buffer.capacity() + " bytes");
+        }
+        return align(start + length);
+    }
+
+    /**
+     * Returns the byte length of section {@code data}, read from the already checked offsets
+     * table {@code offsets} of {@code count} entries plus its end sentinel.
+     */
+    private long tableLength(final int offsets, final int count, final int data) throws IOException {
+        final var first = buffer.getInt(section(offsets));
+        final var last  = buffer.getInt(section(offsets) + count * Integer.BYTES);
+        if (first != section(data) || last < first) {
+            throw new IOException("Corrupt segment: offsets of section " + data + " run from " + first + " to " + last);
+        }
+        return last - first;
+    }
+
+    /** Decodes entry {@code index} of the string table whose offsets start at {@code offsetsAt}. */
+    private String string(final int offsetsAt, final int index) {
+        final var start = buffer.getInt(offsetsAt + index * Integer.BYTES);
+        final var end   = buffer.getInt(offsetsAt + (index + 1) * Integer.BYTES);
+        final var bytes = new byte[end - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Compares string-table entry {@code index} with {@code key}, as unsigned bytes. */
+    private int compare(final int offsetsAt, final int index, final byte[] key) {
+        final var start  = buffer.getInt(offsetsAt + index * Integer.BYTES);
+        final var length = buffer.getInt(offsetsAt + (index + 1) * Integer.BYTES) - start;
+        final var common = Math.min(length, key.length);
+        for (var i = 0; i < common; i++) {
+            final var cmp = Byte.compareUnsigned(buffer.get(start + i), key[i]);
+            if (cmp != 0) return cmp;
+        }
+        return Integer.compare(length, key.length);
+    }
+}
@@ -0,0 +1,65 @@
+package search.engine.index;
+
+/**
+ * On-disk layout shared by {@link SegmentWriter} and {@link MappedSegment}.
+ *
+ * <p>All integers are big-endian and every offset is an absolute byte position in the file,
+ * which is therefore limited to 2 GiB. A segment is one file: a fixed header followed by
+ * sections whose offsets the header records. Every section is 4-byte aligned.
+ *
+ * <pre>
+ * Header (HEADER_BYTES)
+ *   int  magic            'SEG1'
+ *   int  formatVersion
+ *   int  documentCount    N
+ *   int  termCount        M
+ *   long totalLength      Σ document lengths, in tokens
+ *   int  offset[SECTIONS] start of each section below
+ *
+ * DOC_LENGTHS    int[N]      tokens per document, by ordinal
+ * ID_OFFSETS     int[N + 1]  start of each ID in ID_BYTES (last = end)
+ * ID_BYTES       byte[]      UTF-8 document IDs, by ordinal
+ * SORTED_IDS     int[N]      ordinals sorted by ID bytes (unsigned) — ID lookup
+ * TERM_OFFSETS   int[M + 1]  start of each term in TERM_BYTES (last = end)
+ * TERM_BYTES     byte[]      UTF-8 terms sorted by bytes (unsigned)
+ * TERM_POSTINGS  int[M + 1]  start of each term's postings in POSTINGS (last = end)
+ * POSTINGS       int[]       per term: (ordinal, termFrequency) pairs, ordinal ascending
+ * </pre>
+ *
+ * A term's document frequency is its postings length divided by two ints.
+ */
+final class SegmentFormat {
+
+    static final int MAGIC          = 0x53454731; // "SEG1"
+    static final int FORMAT_VERSION = 1;
+
+    // ─── Sections ──────────────────────────────────────────────────
+    static final int DOC_LENGTHS   = 0;
+    static final int ID_OFFSETS    = 1;
+    static final int ID_BYTES      = 2;
+    static final int SORTED_IDS    = 3;
+    static final int TERM_OFFSETS  = 4;
+    static final int TERM_BYTES    = 5;
+    static final int TERM_POSTINGS = 6;
+    static final int POSTINGS      = 7;
+    static final int SECTIONS      = 8;
+
+    // ─── Header fields ─────────────────────────────────────────────
+    static final int MAGIC_AT          = 0;
+    static final int VERSION_AT        = 4;
+    static final int DOCUMENT_COUNT_AT = 8;
+    static final int TERM_COUNT_AT     = 12;
+    static final int TOTAL_LENGTH_AT   = 16;
+    static final int SECTION_TABLE_AT  = 24;
+    static final int HEADER_BYTES      = SECTION_TABLE_AT + SECTIONS * Integer.BYTES;
+
+    /** Ints per postings entry: ordinal and term frequency. */
+    static final int POSTING_INTS = 2;
+
+    private SegmentFormat() {}
+
+    /** Rounds {@code offset} up to the next multiple of 4. */
+    static long align(final long offset) {
+        return (offset + 3) & ~3L;
+    }
+}
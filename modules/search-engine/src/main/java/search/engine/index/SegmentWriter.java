@@ -0,0 +1,280 @@
+package search.engine.index;
+
+import search.api.algorithm.Tokenizer;
+import search.engine.algorithm.DefaultTokenizer;
+import search.engine.algorithm.TermDictionary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import static search.engine.index.SegmentFormat.*;
+
+/**
+ * Builds an immutable on-disk index segment that {@link MappedSegment} opens with
+ * {@link FileChannel#map}.
+ *
+ * <p>Each added document is tokenized once; the writer keeps only its ID, its length and one
+ * {@code (ordinal, termFrequency)} posting per distinct term. {@link #write(Path)} lays out the
+ * term dictionary, postings, document lengths and document IDs described in
+ * {@link SegmentFormat}. Documents themselves are not stored — a segment answers with IDs.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * var writer = SegmentWriter.<Article>builder()
+ *         .textExtractor(a -> a.title() + " " + a.body())
+ *         .build();
+ * articles.forEach(a -> writer.add(a.id(), a));
+ * writer.write(Path.of("articles.seg"));
+ *
+ * var segment = MappedSegment.open(Path.of("articles.seg"));
+ * }</pre>
+ *
+ * <p>The file is written to a temporary sibling and moved into place, so readers never see a
+ * partially written segment. Not thread-safe.
+ *
+ * @param <T> the document type
+ *
+ * @see MappedSegment
+ */
+public final class SegmentWriter<T> {
+
+    private static final Logger LOGGER = Logger.getLogger(SegmentWriter.class.getName());
+
+    private final Function<T, String> textExtractor;
+    private final Tokenizer tokenizer;
+
+    private final TermDictionary dictionary = new TermDictionary();
+    private final List<Postings> postings   = new ArrayList<>();
+    private final List<String> ids          = new ArrayList<>();
+    private final Set<String> seenIds       = new HashSet<>();
+    private int[] lengths = new int[64];
+    private long totalLength;
+
+    /** Term IDs of the document being added, in token order. */
+    private int[] docTermIds = new int[64];
+    private int docLength;
+
+    private SegmentWriter(final Builder<T> builder) {
+        this.textExtractor = builder.textExtractor;
+        this.tokenizer     = builder.tokenizer;
+    }
+
+    /**
+     * Tokenizes and adds a document.
+     *
+     * @param id   the unique document identifier (never null or blank)
+     * @param item the document (never null)
+     * @throws IllegalArgumentException if {@code id} is blank or was already added
+     */
+    public void add(final String id, final T item) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Document ID must not be null or blank");
+        }
+        Objects.requireNonNull(item, "Document item must not be null");
+        if (!seenIds.add(id)) throw new IllegalArgumentException("Duplicate document ID: " + id);
+
+        docLength = 0;
+        tokenizer.tokenize(textExtractor.apply(item), this::collect);
+
+        final int ordinal = ids.size();
+        ids.add(id);
+        if (ordinal == lengths.length) lengths = Arrays.copyOf(lengths, ordinal * 2);
+        lengths[ordinal] = docLength;
+        totalLength += docLength;
+
+        // Collapse the token stream into one posting per distinct term
+        final var sorted = Arrays.copyOf(docTermIds, docLength);
+        Arrays.sort(sorted);
+        for (var i = 0; i < sorted.length; ) {
+            var end = i + 1;
+            while (end < sorted.length && sorted[end] == sorted[i]) end++;
+            postings.get(sorted[i]).append(ordinal, end - i);
+            i = end;
+        }
+    }
+
+    /** Returns the number of documents added so far. */
+    public int documentCount() { return ids.size(); }
+
+    /** Returns the number of distinct terms seen so far. */
+    public int termCount() { return dictionary.size(); }
+
+    /**
+     * Writes the segment to {@code path}, replacing any existing file.
+     *
+     * @param path the segment file (never null)
+     * @throws IOException           if the file cannot be written
+     * @throws IllegalStateException if the segment would exceed 2 GiB
+     */
+    public void write(final Path path) throws IOException {
+        Objects.requireNonNull(path, "path must not be null");
+        final int docCount  = ids.size();
+        final int termCount = dictionary.size();
+
+        // Terms in unsigned UTF-8 byte order, so the reader can binary-search encoded bytes
+        final var termBytes = new byte[termCount][];
+        final var termOrder = new Integer[termCount];
+        for (var id = 0; id < termCount; id++) {
+            termBytes[id] = dictionary.term(id).getBytes(StandardCharsets.UTF_8);
+            termOrder[id] = id;
+        }
+        Arrays.sort(termOrder, (a, b) -> Arrays.compareUnsigned(termBytes[a], termBytes[b]));
+
+        final var idBytes = new byte[docCount][];
+        final var idOrder = new Integer[docCount];
+        for (var ord = 0; ord < docCount; ord++) {
+            idBytes[ord] = ids.get(ord).getBytes(StandardCharsets.UTF_8);
+            idOrder[ord] = ord;
+        }
+        Arrays.sort(idOrder, Comparator.comparing((Integer ord) -> idBytes[ord], Arrays::compareUnsigned));
+
+        // Section layout
+        final var sections = new long[SECTIONS];
+        var offset = (long) HEADER_BYTES;
+        sections[DOC_LENGTHS]   = offset; offset = align(offset + (long) docCount * Integer.BYTES);
+        sections[ID_OFFSETS]    = offset; offset = align(offset + (docCount + 1L) * Integer.BYTES);
+        sections[ID_BYTES]      = offset; offset = align(offset + totalBytes(idBytes));
+        sections[SORTED_IDS]    = offset; offset = align(offset + (long) docCount * Integer.BYTES);
+        sections[TERM_OFFSETS]  = offset; offset = align(offset + (termCount + 1L) * Integer.BYTES);
+        sections[TERM_BYTES]    = offset; offset = align(offset + totalBytes(termBytes));
+        sections[TERM_POSTINGS] = offset; offset = align(offset + (termCount + 1L) * Integer.BYTES);
+        sections[POSTINGS]      = offset; offset = offset + totalPostings() * POSTING_INTS * Integer.BYTES;
+        if (offset > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Segment would be " + offset + " bytes; the limit is 2 GiB");
+        }
+
+        final var buffer = ByteBuffer.allocate((int) offset);
+        buffer.putInt(MAGIC_AT, MAGIC)
+              .putInt(VERSION_AT, FORMAT_VERSION)
+              .putInt(DOCUMENT_COUNT_AT, docCount)
+              .putInt(TERM_COUNT_AT, termCount)
+              .putLong(TOTAL_LENGTH_AT, totalLength);
+        for (var s = 0; s < SECTIONS; s++) buffer.putInt(SECTION_TABLE_AT + s * Integer.BYTES, (int) sections[s]);
+
+        for (var ord = 0; ord < docCount; ord++) {
+            buffer.putInt((int) sections[DOC_LENGTHS] + ord * Integer.BYTES, lengths[ord]);
+            buffer.putInt((int) sections[SORTED_IDS] + ord * Integer.BYTES, idOrder[ord]);
+        }
+        writeStrings(buffer, idBytes, null, (int) sections[ID_OFFSETS], (int) sections[ID_BYTES]);
+        writeStrings(buffer, termBytes, termOrder, (int) sections[TERM_OFFSETS], (int) sections[TERM_BYTES]);
+
+        var position = (int) sections[POSTINGS];
+        for (var rank = 0; rank < termCount; rank++) {
+            buffer.putInt((int) sections[TERM_POSTINGS] + rank * Integer.BYTES, position);
+            final var list = postings.get(termOrder[rank]);
+            for (var i = 0; i < list.size; i++) {
+                buffer.putInt(position, list.ordinals[i]).putInt(position + Integer.BYTES, list.frequencies[i]);
+                position += POSTING_INTS * Integer.BYTES;
+            }
+        }
+        buffer.putInt((int) sections[TERM_POSTINGS] + termCount * Integer.BYTES, position);
+
+        final var temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.rewind();
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        final var size = offset;
+        LOGGER.info(() -> "SegmentWriter: wrote " + docCount + " documents, " + termCount + " terms ("
+                + size + " bytes) to " + path);
+    }
+
+    // ─── Internal helpers ──────────────────────────────────────────
+
+    private void collect(final char[] buffer, final int offset, final int length) {
+        final var id = dictionary.add(buffer, offset, length);
+        if (id == postings.size()) postings.add(new Postings());
+        if (docLength == docTermIds.length) docTermIds = Arrays.copyOf(docTermIds, docLength * 2);
+        docTermIds[docLength++] = id;
+    }
+
+    /** Writes an offsets table (with end sentinel) and the concatenated bytes, in {@code order}. */
+    private static void writeStrings(final ByteBuffer buffer, final byte[][] strings, final Integer[] order,
+                                     final int offsetsAt, final int bytesAt) {
+        var position = bytesAt;
+        for (var i = 0; i < strings.length; i++) {
+            final var bytes = strings[order != null ? order[i] : i];
+            buffer.putInt(offsetsAt + i * Integer.BYTES, position);
+            buffer.put(position, bytes);
+            position += bytes.length;
+        }
+        buffer.putInt(offsetsAt + strings.length * Integer.BYTES, position);
+    }
+
+    private static long totalBytes(final byte[][] strings) {
+        var total = 0L;
+        for (final var bytes : strings) total += bytes.length;
+        return total;
+    }
+
+    private long totalPostings() {
+        var total = 0L;
+        for (final var list : postings) total += list.size;
+        return total;
+    }
+
+    /** Growable, ordinal-sorted postings list of one term. */
+    private static final class Postings {
+
+        private int[] ordinals    = new int[2];
+        private int[] frequencies = new int[2];
+        private int size;
+
+        void append(final int ordinal, final int frequency) {
+            if (size == ordinals.length) {
+                ordinals    = Arrays.copyOf(ordinals,    size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size]    = ordinal;
+            frequencies[size] = frequency;
+            size++;
+        }
+    }
+
+    public static <T> Builder<T> builder() { return new Builder<>(); }
+
+    /** Fluent builder for {@link SegmentWriter}. */
+    public static final class Builder<T> {
+
+        private Function<T, String> textExtractor = item -> "";
+        private Tokenizer tokenizer = new DefaultTokenizer();
+
+        private Builder() {}
+
+        /**
+         * Extracts the indexed text from a document.
+         * Multiple fields can be concatenated: {@code a -> a.title() + " " + a.body()}.
+         */
+        public Builder<T> textExtractor(final Function<T, String> extractor) {
+            this.textExtractor = Objects.requireNonNull(extractor); return this;
+        }
+
+        /**
+         * Sets the tokenizer for document text. Default: {@link DefaultTokenizer}.
+         * Open the segment with the same tokenizer so queries produce matching terms.
+         */
+        public Builder<T> tokenizer(final Tokenizer tokenizer) {
+            this.tokenizer = Objects.requireNonNull(tokenizer); return this;
+        }
+
+        public SegmentWriter<T> build() { return new SegmentWriter<>(this); }
+    }
+}
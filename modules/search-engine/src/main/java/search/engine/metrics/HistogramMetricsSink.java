@@ -0,0 +1,122 @@
+package search.engine.metrics;
+
+import search.api.metrics.SearchMetricsSink;
+import search.api.metrics.SearchPhase;
+import search.api.metrics.SearchTrace;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * In-memory {@link SearchMetricsSink} that aggregates traces into {@link LatencyHistogram}s.
+ *
+ * <p>Tracks, across all searches since creation (or the last {@link #reset()}):
+ * <ul>
+ *   <li>end-to-end latency and per-phase latency (nanoseconds);</li>
+ *   <li>candidates leaving {@link SearchPhase#FILTER} and {@link SearchPhase#SCORE};</li>
+ *   <li>scorer invocations and result sizes per search;</li>
+ *   <li>search and cache-hit counts.</li>
+ * </ul>
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * var metrics = new HistogramMetricsSink();
+ * var config  = SearchEngineConfig.<Article>builder()
+ *         .metricsSink(metrics)
+ *         ...
+ *         .build();
+ *
+ * metrics.phaseNanos(SearchPhase.SCORE).p99();
+ * metrics.logSummary();
+ * }</pre>
+ *
+ * <p>Thread-safe and allocation-free per recorded trace.
+ */
+public final class HistogramMetricsSink implements SearchMetricsSink {
+
+    private static final Logger LOGGER = Logger.getLogger(HistogramMetricsSink.class.getName());
+
+    private final LatencyHistogram totalNanos = new LatencyHistogram();
+    private final Map<SearchPhase, LatencyHistogram> phaseNanos = new EnumMap<>(SearchPhase.class);
+    private final LatencyHistogram filteredCandidates = new LatencyHistogram();
+    private final LatencyHistogram scoredCandidates   = new LatencyHistogram();
+    private final LatencyHistogram scorerInvocations  = new LatencyHistogram();
+    private final LatencyHistogram resultSizes        = new LatencyHistogram();
+    private final LongAdder searches  = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+
+    /** Creates an empty sink. */
+    public HistogramMetricsSink() {
+        for (final var phase : SearchPhase.values()) phaseNanos.put(phase, new LatencyHistogram());
+    }
+
+    @Override
+    public void record(final SearchTrace trace) {
+        searches.increment();
+        if (trace.cacheHit()) cacheHits.increment();
+        totalNanos.record(trace.totalNanos());
+        for (final var timing : trace.phases()) {
+            phaseNanos.get(timing.phase()).record(timing.nanos());
+            switch (timing.phase()) {
+                case FILTER -> filteredCandidates.record(timing.candidatesOut());
+                case SCORE  -> scoredCandidates.record(timing.candidatesOut());
+                default     -> { }
+            }
+        }
+        if (!trace.cacheHit()) scorerInvocations.record(trace.scorerInvocations());
+        resultSizes.record(trace.resultSize());
+    }
+
+    // ─── Query methods ──────────────────────────────────────────────
+
+    /** Returns the end-to-end latency distribution (nanoseconds). */
+    public LatencyHistogram.Snapshot totalNanos() { return totalNanos.snapshot(); }
+
+    /** Returns the latency distribution of one phase (nanoseconds; phases that did not run are absent). */
+    public LatencyHistogram.Snapshot phaseNanos(final SearchPhase phase) { return phaseNanos.get(phase).snapshot(); }
+
+    /** Returns the distribution of documents surviving the filter phase. */
+    public LatencyHistogram.Snapshot filteredCandidates() { return filteredCandidates.snapshot(); }
+
+    /** Returns the distribution of documents kept by the score phase. */
+    public LatencyHistogram.Snapshot scoredCandidates() { return scoredCandidates.snapshot(); }
+
+    /** Returns the distribution of scorer invocations per pipeline run (cache hits excluded). */
+    public LatencyHistogram.Snapshot scorerInvocations() { return scorerInvocations.snapshot(); }
+
+    /** Returns the distribution of returned result sizes. */
+    public LatencyHistogram.Snapshot resultSizes() { return resultSizes.snapshot(); }
+
+    /** Returns the number of recorded searches. */
+    public long searches() { return searches.sum(); }
+
+    /** Returns the number of searches answered by the result cache. */
+    public long cacheHits() { return cacheHits.sum(); }
+
+    /** Clears all counters and histograms. */
+    public void reset() {
+        totalNanos.reset();
+        phaseNanos.values().forEach(LatencyHistogram::reset);
+        filteredCandidates.reset();
+        scoredCandidates.reset();
+        scorerInvocations.reset();
+        resultSizes.reset();
+        searches.reset();
+        cacheHits.reset();
+    }
+
+    /** Logs a per-phase latency summary to the INFO log. */
+    public void logSummary() {
+        LOGGER.info(() -> {
+            final var sb = new StringBuilder("Search metrics: ")
+                    .append(searches()).append(" searches, ")
+                    .append(cacheHits()).append(" cache hits, total ").append(totalNanos());
+            for (final var phase : SearchPhase.values()) {
+                sb.append("\n  ").append(phase).append(": ").append(phaseNanos(phase));
+            }
+            return sb.toString();
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package search.engine.metrics;
+
+import search.api.metrics.SearchMetricsSink;
+import search.api.metrics.SearchTrace;
+
+/**
+ * {@link SearchMetricsSink} that emits a JDK Flight Recorder event ({@code search.Search})
+ * per search, carrying the mode, cache hit flag, per-phase timings, candidate counts, scorer
+ * invocations, and result size.
+ *
+ * <p>When no recording is running the event is disabled and {@link #record} returns after a
+ * single check, so this sink is safe to leave registered in production.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * var config = SearchEngineConfig.<Article>builder()
+ *         .metricsSink(new JfrMetricsSink())
+ *         ...
+ *         .build();
+ * // java -XX:StartFlightRecording:filename=search.jfr ...
+ * // jfr print --events search.Search search.jfr
+ * }</pre>
+ */
+public final class JfrMetricsSink implements SearchMetricsSink {
+
+    /** Creates a sink. */
+    public JfrMetricsSink() {}
+
+    @Override
+    public void record(final SearchTrace trace) {
+        final var event = new SearchEvent();
+        if (!event.isEnabled()) return;
+
+        event.mode              = trace.mode().getDisplayName();
+        event.cacheHit          = trace.cacheHit();
+        event.totalNanos        = trace.totalNanos();
+        event.scorerInvocations = trace.scorerInvocations();
+        event.resultSize        = trace.resultSize();
+        for (final var timing : trace.phases()) {
+            switch (timing.phase()) {
+                case CLASSIFY -> event.classifyNanos = timing.nanos();
+                case FILTER   -> {
+                    event.filterNanos = timing.nanos();
+                    event.candidates  = timing.candidatesIn();
+                    event.filtered    = timing.candidatesOut();
+                }
+                case SCORE    -> {
+                    event.scoreNanos = timing.nanos();
+                    event.scored     = timing.candidatesOut();
+                }
+                case RANK     -> event.rankNanos = timing.nanos();
+                case TRIM     -> event.trimNanos = timing.nanos();
+            }
+        }
+        event.commit();
+    }
+}
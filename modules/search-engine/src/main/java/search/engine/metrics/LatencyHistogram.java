@@ -0,0 +1,101 @@
+package search.engine.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram of non-negative {@code long} values (nanoseconds, counts).
+ *
+ * <p>Values are bucketed by their highest set bit, and each power-of-two range is split into
+ * {@value #SUB_BUCKETS} linear sub-buckets, so any reported percentile is within
+ * 1/{@value #SUB_BUCKETS} (12.5%) of the true value. Recording is two atomic adds and never
+ * allocates.
+ *
+ * <p>Thread-safe. {@link #snapshot()} is not atomic with respect to concurrent recording;
+ * counts may be off by the handful of values recorded while it runs.
+ */
+public final class LatencyHistogram {
+
+    /** Linear sub-buckets per power of two. */
+    private static final int SUB_BUCKETS = 8;
+    private static final int SUB_BITS    = 3;
+    private static final int BUCKETS     = (Long.SIZE - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total        = new LongAdder();
+    private final LongAdder sum          = new LongAdder();
+    private final LongAccumulator max    = new LongAccumulator(Math::max, 0L);
+
+    /** Records one value; negative values are recorded as 0. */
+    public void record(final long value) {
+        final var v = Math.max(0L, value);
+        counts.incrementAndGet(bucketOf(v));
+        total.increment();
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    /** Returns the number of recorded values. */
+    public long count() { return total.sum(); }
+
+    /** Returns a point-in-time summary. */
+    public Snapshot snapshot() {
+        final var n = total.sum();
+        if (n == 0) return Snapshot.EMPTY;
+        return new Snapshot(n, (double) sum.sum() / n, max.get(),
+                percentile(0.50, n), percentile(0.90, n), percentile(0.99, n));
+    }
+
+    /** Clears all recorded values. */
+    public void reset() {
+        for (var i = 0; i < BUCKETS; i++) counts.set(i, 0);
+        total.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    // ─── Bucketing ─────────────────────────────────────────────────
+
+    private static int bucketOf(final long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        final var exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);   // ≥ SUB_BITS
+        final var sub      = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /** Upper bound (inclusive) of the values falling in {@code bucket}. */
+    private static long upperBoundOf(final int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        final var exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        final var sub      = bucket % SUB_BUCKETS;
+        final var lower    = (1L << exponent) + ((long) sub << (exponent - SUB_BITS));
+        return lower + (1L << (exponent - SUB_BITS)) - 1;
+    }
+
+    private long percentile(final double quantile, final long n) {
+        final var rank = (long) Math.ceil(quantile * n);
+        var seen = 0L;
+        for (var bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= rank) return Math.min(upperBoundOf(bucket), max.get());
+        }
+        return max.get();
+    }
+
+    /**
+     * Summary of a histogram.
+     *
+     * @param count number of values
+     * @param mean  arithmetic mean
+     * @param max   largest value
+     * @param p50   median (bucket upper bound)
+     * @param p90   90th percentile (bucket upper bound)
+     * @param p99   99th percentile (bucket upper bound)
+     */
+    public record Snapshot(long count, double mean, long max, long p50, long p90, long p99) {
+
+        /** Summary of an empty histogram. */
+        public static final Snapshot EMPTY = new Snapshot(0, 0.0, 0, 0, 0, 0);
+    }
+}
@@ -0,0 +1,61 @@
+package search.engine.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event emitted once per search by {@link JfrMetricsSink}.
+ *
+ * <p>Enabled by default, so any recording captures it (e.g., start the JVM with
+ * {@code -XX:StartFlightRecording}); JDK Mission Control lists it under <em>Search</em>.
+ */
+@Name("search.Search")
+@Label("Search")
+@Category("Search")
+@Description("One SearchEngine.search call with per-phase timings")
+@StackTrace(false)
+final class SearchEvent extends jdk.jfr.Event {
+
+    @Label("Mode")
+    String mode;
+
+    @Label("Cache Hit")
+    boolean cacheHit;
+
+    @Label("Total") @Timespan(Timespan.NANOSECONDS)
+    long totalNanos;
+
+    @Label("Classify") @Timespan(Timespan.NANOSECONDS)
+    long classifyNanos;
+
+    @Label("Filter") @Timespan(Timespan.NANOSECONDS)
+    long filterNanos;
+
+    @Label("Score") @Timespan(Timespan.NANOSECONDS)
+    long scoreNanos;
+
+    @Label("Rank") @Timespan(Timespan.NANOSECONDS)
+    long rankNanos;
+
+    @Label("Trim") @Timespan(Timespan.NANOSECONDS)
+    long trimNanos;
+
+    @Label("Candidates") @Description("Documents visited by the filter phase")
+    int candidates;
+
+    @Label("Filtered") @Description("Documents surviving the filter phase")
+    int filtered;
+
+    @Label("Scored") @Description("Documents kept by the score phase")
+    int scored;
+
+    @Label("Scorer Invocations")
+    long scorerInvocations;
+
+    @Label("Result Size")
+    int resultSize;
+}
@@ -35,6 +35,12 @@ import java.util.function.Function;
  *                    .thenRank(new RecencyBoostRanker<>(Article::lastModified, 30, 90, 20));
  * }</pre>
  *
+ * <h2>Candidate limit</h2>
+ * A boost can lift a lower-scored document above a higher-scored one, so by default this
+ * ranker asks for every scored item. Pass a {@code candidateFactor} α ≥ 1 to accept the
+ * top {@code k·α} best-scored items instead — exact whenever no document outside that window
+ * could gain enough bonus to overtake one inside it.
+ *
  * @param <T> the document type
  *
  * @see ScoreRanker
@@ -46,6 +52,7 @@ public final class RecencyBoostRanker<T> implements RankingStrategy<T> {
     private final int freshDays;
     private final int staleDays;
     private final int freshBonus;
+    private final double candidateFactor;
 
     /**
      * Creates a ranker with custom freshness parameters.
@@ -57,6 +64,25 @@ public final class RecencyBoostRanker<T> implements RankingStrategy<T> {
      */
     public RecencyBoostRanker(final Function<T, Instant> timestampExtractor,
                                final int freshDays, final int staleDays, final int freshBonus) {
+        this(timestampExtractor, freshDays, staleDays, freshBonus, 0);
+    }
+
+    /**
+     * Creates a ranker with custom freshness parameters and a bounded candidate window.
+     *
+     * @param timestampExtractor extracts the last-updated timestamp from a document
+     * @param freshDays          documents newer than this many days receive the full bonus
+     * @param staleDays          documents older than this many days receive no bonus
+     * @param freshBonus         the maximum recency bonus in points
+     * @param candidateFactor    α ≥ 1 to re-rank only the top {@code k·α} candidates;
+     *                           0 to re-rank every scored item
+     */
+    public RecencyBoostRanker(final Function<T, Instant> timestampExtractor,
+                               final int freshDays, final int staleDays, final int freshBonus,
+                               final double candidateFactor) {
+        if (candidateFactor != 0 && candidateFactor < 1) {
+            throw new IllegalArgumentException("candidateFactor must be 0 or ≥ 1, got: " + candidateFactor);
+        }
         this.timestampExtractor = Objects.requireNonNull(timestampExtractor, "timestampExtractor must not be null");
         if (freshDays < 0 || staleDays <= freshDays) {
             throw new IllegalArgumentException("staleDays must be > freshDays ≥ 0");
@@ -64,6 +90,7 @@ public final class RecencyBoostRanker<T> implements RankingStrategy<T> {
         this.freshDays  = freshDays;
         this.staleDays  = staleDays;
         this.freshBonus = Math.max(0, freshBonus);
+        this.candidateFactor = candidateFactor;
     }
 
     /**
@@ -94,6 +121,12 @@ public final class RecencyBoostRanker<T> implements RankingStrategy<T> {
         return List.copyOf(boosted);
     }
 
+    @Override
+    public int candidateLimit(final int k) {
+        if (candidateFactor == 0) return ALL_CANDIDATES;
+        return (int) Math.min(ALL_CANDIDATES, (long) Math.ceil(k * candidateFactor));
+    }
+
     private int computeBonus(final Instant timestamp, final Instant now) {
         final var ageDays = ChronoUnit.DAYS.between(timestamp, now);
         if (ageDays <= freshDays) return freshBonus;
@@ -4,6 +4,8 @@ import search.api.core.ScoredItem;
 import search.api.core.SearchContext;
 import search.api.rank.RankingStrategy;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
@@ -22,6 +24,10 @@ import java.util.List;
  * .ranker(ScoreRanker.<Article>instance().thenRank(new RecencyBoostRanker<>(Article::updatedAt)))
  * }</pre>
  *
+ * <p>Because sorting by score is order-preserving, {@link #candidateLimit(int)} returns
+ * {@code k}: the engine only needs the {@code k} best-scored items and can select them with a
+ * bounded heap.
+ *
  * <p>This class is a stateless singleton.
  *
  * @param <T> the document type
@@ -33,6 +39,9 @@ public final class ScoreRanker<T> implements RankingStrategy<T> {
     @SuppressWarnings("rawtypes")
     private static final ScoreRanker INSTANCE = new ScoreRanker<>();
 
+    private static final Comparator<ScoredItem<?>> BY_SCORE_DESC =
+            Comparator.comparingInt((ScoredItem<?> si) -> si.score()).reversed();
+
     private ScoreRanker() {}
 
     /**
@@ -47,8 +56,11 @@ public final class ScoreRanker<T> implements RankingStrategy<T> {
     @Override
     public List<ScoredItem<T>> rank(final List<ScoredItem<T>> items, final SearchContext context) {
         if (items == null || items.isEmpty()) return List.of();
-        return items.stream()
-                .sorted(Comparator.comparingInt(ScoredItem<T>::score).reversed())
-                .toList();
+        final var sorted = new ArrayList<>(items);
+        sorted.sort(BY_SCORE_DESC);
+        return Collections.unmodifiableList(sorted);
     }
+
+    @Override
+    public int candidateLimit(final int k) { return k; }
 }
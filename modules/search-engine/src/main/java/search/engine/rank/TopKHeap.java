@@ -0,0 +1,202 @@
+package search.engine.rank;
+
+import search.api.core.ScoredItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bounded top-K selector: a min-heap over primitive {@code int} scores that keeps only the
+ * {@code k} best items seen so far.
+ *
+ * <p>Selecting the best {@code k} of {@code n} scored documents costs O(n log k) time and
+ * O(k) memory, against O(n log n) and O(n) for sorting the full list. No {@link ScoredItem}
+ * is allocated for documents that never enter the heap.
+ *
+ * <h2>Ordering</h2>
+ * Higher scores win. Equal scores are broken by the caller-supplied sequence number (lower
+ * wins), which reproduces exactly the order of a stable score-descending sort over items
+ * offered in sequence order. Because the tie-break is explicit, heaps filled independently
+ * (e.g., one per thread or shard) can be {@linkplain #mergeFrom(TopKHeap) merged} without
+ * changing the outcome. Items offered with the same score and sequence keep the order they
+ * were retained in.
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * var heap = new TopKHeap<Article>(15);
+ * for (var i = 0; i < docs.size(); i++) {
+ *     heap.offer(docs.get(i), scorer.score(docs.get(i), ctx), i);
+ * }
+ * List<ScoredItem<Article>> best = heap.toSortedList();   // highest first
+ * }</pre>
+ *
+ * <p>Not thread-safe — use one heap per thread and merge.
+ *
+ * @param <T> the document type
+ *
+ * @see search.api.rank.RankingStrategy#candidateLimit(int)
+ */
+public final class TopKHeap<T> {
+
+    private final int capacity;
+    private final int[] scores;
+    private final long[] sequences;
+    /** Retention order of each slot: the last tie-break, so the heap keeps a total order. */
+    private final long[] insertions;
+    private final Object[] items;
+    private int size;
+    private long inserted;
+
+    /**
+     * Creates an empty heap.
+     *
+     * @param capacity the number of items to retain ({@code k}; must be ≥ 1)
+     */
+    public TopKHeap(final int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be ≥ 1, got: " + capacity);
+        this.capacity  = capacity;
+        this.scores    = new int[capacity];
+        this.sequences  = new long[capacity];
+        this.insertions = new long[capacity];
+        this.items      = new Object[capacity];
+    }
+
+    /**
+     * Offers an item. It is retained only if the heap is not yet full or it beats the
+     * current worst retained item.
+     *
+     * @param item     the document (never null)
+     * @param score    its score
+     * @param sequence its position in the overall candidate order (tie-breaker; lower wins)
+     * @return {@code true} if the item was retained
+     */
+    public boolean offer(final T item, final int score, final long sequence) {
+        if (size < capacity) {
+            scores[size]     = score;
+            sequences[size]  = sequence;
+            insertions[size] = inserted++;
+            items[size]      = item;
+            siftUp(size++);
+            return true;
+        }
+        if (!beats(score, sequence, scores[0], sequences[0])) return false;
+        scores[0]     = score;
+        sequences[0]  = sequence;
+        insertions[0] = inserted++;
+        items[0]      = item;
+        siftDown(0, size);
+        return true;
+    }
+
+    /**
+     * Offers every item of {@code other} into this heap. The result is identical to having
+     * offered all items to a single heap.
+     *
+     * @param other another heap (left unchanged)
+     */
+    public void mergeFrom(final TopKHeap<T> other) {
+        for (var i = 0; i < other.size; i++) {
+            offer(other.itemAt(i), other.scores[i], other.sequences[i]);
+        }
+    }
+
+    /**
+     * Returns the minimum score an item must exceed to enter a full heap, or
+     * {@link Integer#MIN_VALUE} while the heap still has room.
+     */
+    public int threshold() {
+        return size < capacity ? Integer.MIN_VALUE : scores[0];
+    }
+
+    /** Returns the number of retained items. */
+    public int size() { return size; }
+
+    /** Returns {@code true} if {@code k} items are retained. */
+    public boolean isFull() { return size == capacity; }
+
+    /**
+     * Returns the retained items, best first. The heap keeps the same items and stays usable.
+     *
+     * <p>Sorts the slots in place by heapsort — each pass moves the worst remaining slot to the
+     * end — so nothing is boxed or copied, then reverses them: worst first is again a valid heap.
+     *
+     * @return a new mutable list of at most {@code k} scored items
+     */
+    public List<ScoredItem<T>> toSortedList() {
+        for (var end = size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+        final var result = new ArrayList<ScoredItem<T>>(size);
+        for (var i = 0; i < size; i++) result.add(new ScoredItem<>(itemAt(i), scores[i]));
+        for (int i = 0, j = size - 1; i < j; i++, j--) swap(i, j);
+        return result;
+    }
+
+    /**
+     * Returns the retained items in ascending sequence order — the order they were offered in,
+     * when sequences are candidate positions. The heap itself is left unchanged.
+     *
+     * @return a new mutable list of at most {@code k} scored items
+     */
+    public List<ScoredItem<T>> toSequenceOrderedList() {
+        final var order = new Integer[size];
+        for (var i = 0; i < size; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> sequences[a] != sequences[b] ? Long.compare(sequences[a], sequences[b])
+                : Long.compare(insertions[a], insertions[b]));
+        final var result = new ArrayList<ScoredItem<T>>(size);
+        for (final var i : order) result.add(new ScoredItem<>(itemAt(i), scores[i]));
+        return result;
+    }
+
+    // ─── Heap maintenance ──────────────────────────────────────────
+
+    /**
+     * {@code true} if (s1, q1) ranks strictly better than (s2, q2). An offered item is retained
+     * later than every slot, so this decides admission exactly as {@link #beats(int, int)} would.
+     */
+    private static boolean beats(final int s1, final long q1, final int s2, final long q2) {
+        return s1 != s2 ? s1 > s2 : q1 < q2;
+    }
+
+    /** {@code true} if slot {@code a} ranks strictly better than slot {@code b}, retention order last. */
+    private boolean beats(final int a, final int b) {
+        return scores[a] != scores[b] ? scores[a] > scores[b]
+                : sequences[a] != sequences[b] ? sequences[a] < sequences[b]
+                : insertions[a] < insertions[b];
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            final var parent = (i - 1) >>> 1;
+            if (!beats(parent, i)) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    /** Restores the heap below slot {@code i} within the first {@code limit} slots. */
+    private void siftDown(int i, final int limit) {
+        while (true) {
+            final var left  = 2 * i + 1;
+            if (left >= limit) return;
+            final var right = left + 1;
+            var worst = left;
+            if (right < limit && beats(left, right)) worst = right;
+            if (!beats(i, worst)) return;
+            swap(i, worst);
+            i = worst;
+        }
+    }
+
+    private void swap(final int a, final int b) {
+        final var s = scores[a];     scores[a]     = scores[b];     scores[b]     = s;
+        final var q = sequences[a];  sequences[a]  = sequences[b];  sequences[b]  = q;
+        final var n = insertions[a]; insertions[a] = insertions[b]; insertions[b] = n;
+        final var o = items[a];      items[a]      = items[b];      items[b]      = o;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T itemAt(final int i) { return (T) items[i]; }
+}
@@ -0,0 +1,131 @@
+package search.api.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.classify.SearchMode;
+import search.api.core.QueryPlan;
+import search.api.core.ScoreBreakdown;
+import search.api.core.SearchContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link ScoringStrategy#withConstantBoost(int)} and {@link ScoringStrategy#scaledBy(double)}
+ * keep the wrapped strategy's plan, threshold, bound and explain overloads, adjusted.
+ */
+@DisplayName("ScoringStrategy adjustments")
+class ScoringStrategyTest {
+
+    private static final SearchContext CONTEXT = new SearchContext("query", SearchMode.VAGUE, null, 10);
+
+    @Test
+    @DisplayName("reach the wrapped strategy's plan and explain overloads")
+    void delegatePlanOverloads() {
+        final var calls = new ArrayList<String>();
+        final var plan  = QueryPlan.of(CONTEXT);
+        final var probe = new Probe(calls);
+
+        for (final var adjusted : List.of(probe.withConstantBoost(5), probe.scaledBy(1.5))) {
+            calls.clear();
+            adjusted.score(40, plan);
+            adjusted.score(40, plan, 10);
+            adjusted.maxScore(plan);
+            adjusted.explain(40, plan);
+            assertThat(calls).containsExactly("plan", "threshold", "maxScore", "explainPlan", "plan");
+        }
+    }
+
+    @Test
+    @DisplayName("return the exact score above a threshold and at most the threshold below it")
+    void mapThresholds() {
+        final var plan        = QueryPlan.of(CONTEXT);
+        final var probe       = new Probe(new ArrayList<>());
+        final var adjustments = new ArrayList<ScoringStrategy<Integer>>();
+        for (final var constant : new int[] {-20, 0, 15}) adjustments.add(probe.withConstantBoost(constant));
+        for (final var factor : new double[] {0.3, 1.0, 1.7, 2.5, 10.0}) adjustments.add(probe.scaledBy(factor));
+
+        for (final var adjusted : adjustments) {
+            for (var raw = 0; raw <= 120; raw++) {
+                final var exact = adjusted.score(raw, plan);
+                assertThat(exact).isEqualTo(adjusted.score(raw, CONTEXT));
+                assertThat(exact).isLessThanOrEqualTo(adjusted.maxScore(plan));
+                for (var threshold = -3; threshold <= 320; threshold++) {
+                    final var score = adjusted.score(raw, plan, threshold);
+                    if (exact > threshold) {
+                        assertThat(score).as("raw %d, threshold %d", raw, threshold).isEqualTo(exact);
+                    } else {
+                        assertThat(score).as("raw %d, threshold %d", raw, threshold).isLessThanOrEqualTo(threshold);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("explain the adjusted score")
+    void explainAdjustedScore() {
+        final var plan  = QueryPlan.of(CONTEXT);
+        final var probe = new Probe(new ArrayList<>());
+
+        final var boosted = probe.withConstantBoost(7).explain(33, plan);
+        assertThat(boosted.get("half")).isEqualTo(16);
+        assertThat(boosted.get("boost")).isEqualTo(7);
+        assertThat(boosted.total()).isEqualTo(40);
+
+        final var penalised = probe.withConstantBoost(-50).explain(33, plan);
+        assertThat(penalised.total()).isZero();
+
+        final var scaled = probe.scaledBy(1.5).explain(33, plan);
+        assertThat(scaled.get("half")).isEqualTo(24);
+        assertThat(scaled.total()).isEqualTo(49);
+
+        assertThatThrownBy(() -> probe.scaledBy(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    /**
+     * Scores an integer document as itself, bounded by 120; below a threshold it gives up at
+     * once with -1, as a threshold allows. Records which overloads are called.
+     */
+    private static final class Probe implements ScoringStrategy<Integer> {
+
+        private final List<String> calls;
+
+        Probe(final List<String> calls) { this.calls = calls; }
+
+        @Override
+        public int score(final Integer item, final SearchContext context) {
+            calls.add("context");
+            return item;
+        }
+
+        @Override
+        public int score(final Integer item, final QueryPlan plan) {
+            calls.add("plan");
+            return item;
+        }
+
+        @Override
+        public int score(final Integer item, final QueryPlan plan, final int threshold) {
+            calls.add("threshold");
+            return item > threshold ? item : -1;
+        }
+
+        @Override
+        public int maxScore(final QueryPlan plan) {
+            calls.add("maxScore");
+            return 120;
+        }
+
+        @Override
+        public ScoreBreakdown explain(final Integer item, final QueryPlan plan) {
+            calls.add("explainPlan");
+            return ScoreBreakdown.builder().add("half", item / 2).add("rest", item - item / 2).build();
+        }
+    }
+}
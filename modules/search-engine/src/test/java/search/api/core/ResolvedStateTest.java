@@ -0,0 +1,103 @@
+package search.api.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ResolvedState} computes each owner's state once it is first asked for, without
+ * holding a lock while a resolver runs.
+ */
+@DisplayName("ResolvedState")
+class ResolvedStateTest {
+
+    @Test
+    @DisplayName("computes state on first use and returns it to later callers")
+    void resolvesOncePerOwner() {
+        final var state = new ResolvedState<>("source");
+        final var calls = new AtomicInteger();
+        final var owner = new Object();
+
+        final String first  = state.resolve(owner, source -> source + calls.incrementAndGet());
+        final String second = state.resolve(owner, source -> source + calls.incrementAndGet());
+        assertThat(first).isEqualTo("source1").isSameAs(second);
+        assertThat(state.<Object>resolve(new Object(), source -> null)).isNull();
+    }
+
+    @Test
+    @DisplayName("lets a resolver resolve other owners' state")
+    void resolvesNested() {
+        final var state = new ResolvedState<>(3);
+        final var inner = new Object();
+        final var outer = new Object();
+
+        final int value = state.resolve(outer, source -> state.<Integer>resolve(inner, s -> s * 2) + 1);
+        assertThat(value).isEqualTo(7);
+        assertThat(state.<Integer>resolve(inner, s -> -1)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("does not block other owners while a resolver runs")
+    void slowResolverDoesNotBlock() throws Exception {
+        final var state    = new ResolvedState<>("source");
+        final var started  = new CountDownLatch(1);
+        final var release  = new CountDownLatch(1);
+        final var executor = Executors.newSingleThreadExecutor();
+        try {
+            final var slow = executor.submit(() -> state.resolve("slow", source -> {
+                started.countDown();
+                await(release);
+                return "slow";
+            }));
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(state.<String>resolve("fast", source -> "fast")).isEqualTo("fast");
+            release.countDown();
+            assertThat(slow.get(10, TimeUnit.SECONDS)).isEqualTo("slow");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("gives every racing caller the same value")
+    void racingCallersAgree() throws Exception {
+        final var threads  = 8;
+        final var executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (var round = 0; round < 100; round++) {
+                final var state   = new ResolvedState<>("source");
+                final var barrier = new CyclicBarrier(threads);
+                final var results = new ArrayList<Future<Object>>();
+                for (var t = 0; t < threads; t++) {
+                    results.add(executor.submit(() -> {
+                        barrier.await();
+                        return state.resolve("owner", source -> new Object());
+                    }));
+                }
+                final var winner = results.getFirst().get(10, TimeUnit.SECONDS);
+                for (final var result : results) assertThat(result.get(10, TimeUnit.SECONDS)).isSameAs(winner);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
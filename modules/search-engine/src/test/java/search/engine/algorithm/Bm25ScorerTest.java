@@ -0,0 +1,187 @@
+package search.engine.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.algorithm.ScoringStrategy;
+import search.api.classify.SearchMode;
+import search.api.core.QueryPlan;
+import search.api.core.SearchContext;
+import search.engine.index.CopyOnWriteIndex;
+import search.engine.testing.TestCorpus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A {@link Bm25Scorer} scores a document identically whether it reads a precomputed vector or
+ * tokenizes the text. With generation statistics, it scores and explains each search against
+ * the index generation it pinned, however many generations were published since.
+ */
+@DisplayName("Bm25Scorer")
+class Bm25ScorerTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.GREEK.first(6);
+
+    @Test
+    @DisplayName("scores precomputed documents exactly as the text path, without extracting their text")
+    void precomputedMatchesTextPath() {
+        final var random = new Random(2);
+        final var docs   = new ArrayList<String>();
+        for (var i = 0; i < 300; i++) docs.add(random.nextInt(20) == 0 ? "" : words(random));
+        docs.add("alpha alpha alpha alpha alpha");
+        docs.add("  Alpha, BETA!  alpha\tbeta  ");
+        docs.add("omega");
+        final var extracted   = new AtomicInteger();
+        final var text        = Bm25Scorer.<String>builder().textExtractor(doc -> doc).build();
+        final var precomputed = Bm25Scorer.<String>builder()
+                .textExtractor(doc -> {
+                    extracted.incrementAndGet();
+                    return doc;
+                })
+                .precomputeDocumentStats(true)
+                .build();
+        text.computeStats(docs);
+        precomputed.computeStats(docs);
+        final var queries = List.of("alpha", "alpha alpha", "beta gamma", "BETA, zeta", "omega", "psi", "alpha psi");
+
+        for (final var query : queries) {
+            final var context = new SearchContext(query, SearchMode.VAGUE, null, 10);
+            final var plan    = QueryPlan.of(context);
+            extracted.set(0);
+            for (final var doc : docs) {
+                final var expected = text.score(doc, context);
+                assertThat(precomputed.score(doc, context)).as("%s: '%s'", query, doc).isEqualTo(expected);
+                assertThat(precomputed.score(doc, plan)).as("%s: '%s'", query, doc).isEqualTo(expected);
+            }
+            assertThat(extracted).as(query).hasValue(0);
+
+            // Vectors are keyed by identity: an equal document computeStats never saw takes the text path
+            for (final var doc : docs) {
+                assertThat(precomputed.score(new String(doc), plan)).as("%s: '%s'", query, doc)
+                        .isEqualTo(text.score(doc, plan));
+            }
+            assertThat(extracted).as(query).hasValue(docs.size());
+        }
+    }
+
+    @Test
+    @DisplayName("explains a pinned search with its generation's statistics")
+    void explainUsesPinnedGeneration() {
+        final var random = new Random(11);
+        final var index  = new CopyOnWriteIndex<String>();
+        for (var i = 0; i < 50; i++) index.add("d" + i, words(random));
+        final var bm25 = Bm25Scorer.<String>builder().textExtractor(text -> text).generationStatistics(index).build();
+        final ScoringStrategy<String> composite = CompositeScorer.<String>builder().add(bm25, 1.5).build();
+
+        final var context = new SearchContext("alpha beta", SearchMode.VAGUE, null, 10, null, true);
+        final var pinned  = QueryPlan.of(context, SearchMode.VAGUE, index.generation());
+        final var item    = "alpha alpha beta gamma";
+        final var bm25Score      = bm25.score(item, pinned);
+        final var compositeScore = composite.score(item, pinned);
+
+        // A later generation shifts the corpus statistics; the newer search publishes them
+        for (var i = 0; i < 200; i++) index.add("n" + i, "alpha " + words(random));
+        final var latest = QueryPlan.of(context, SearchMode.VAGUE, index.generation());
+        assertThat(bm25.score(item, latest)).isNotEqualTo(bm25Score);
+
+        assertThat(bm25.explain(item, pinned).total()).isEqualTo(bm25Score);
+        assertThat(bm25.explain(item, pinned).get("rounding")).isBetween(0, 1);
+        assertThat(composite.explain(item, pinned).total()).isEqualTo(compositeScore);
+        assertThat(composite.explain(item, pinned).get("rounding")).isBetween(0, 3);
+    }
+
+    @Test
+    @DisplayName("scores a context like a plan over the index's current generation")
+    void contextScoresAgainstCurrentGeneration() {
+        final var random = new Random(13);
+        final var index  = new CopyOnWriteIndex<String>();
+        for (var i = 0; i < 50; i++) index.add("d" + i, words(random));
+        final var bm25    = Bm25Scorer.<String>builder().textExtractor(text -> text).generationStatistics(index).build();
+        final var context = new SearchContext("alpha zeta", SearchMode.VAGUE, null, 10);
+        final var item    = "alpha zeta zeta beta";
+
+        final var pinned      = QueryPlan.of(context, SearchMode.VAGUE, index.generation());
+        final var pinnedScore = bm25.score(item, pinned);
+        for (var commit = 0; commit < 20; commit++) {
+            // The context overload is called first: it must not serve an older generation's statistics
+            index.add("n" + commit, random.nextBoolean() ? "zeta " + words(random) : words(random));
+            final var current = QueryPlan.of(context, SearchMode.VAGUE, index.generation());
+            assertThat(bm25.score(item, context)).as("commit %d", commit).isEqualTo(bm25.score(item, current));
+            assertThat(bm25.explain(item, context).total()).isEqualTo(bm25.score(item, current));
+            assertThat(bm25.score(item, QueryPlan.of(context))).isEqualTo(bm25.score(item, current));
+        }
+        // A search that pinned the first generation still scores against it
+        assertThat(bm25.score(item, pinned)).isEqualTo(pinnedScore);
+        assertThat(bm25.score(item, context)).isNotEqualTo(pinnedScore);
+    }
+
+    @Test
+    @DisplayName("carries generation statistics forward exactly as a full recount")
+    void incrementalStatisticsMatchRecount() {
+        final var random    = new Random(12);
+        final var tokenized = new AtomicInteger();
+        final var index     = new CopyOnWriteIndex<String>();
+        index.update(batch -> {
+            for (var i = 0; i < 400; i++) batch.add("d" + i, words(random));
+        });
+        final var bm25 = Bm25Scorer.<String>builder()
+                .textExtractor(text -> {
+                    tokenized.incrementAndGet();
+                    return text;
+                })
+                .precomputeDocumentStats(true)
+                .generationStatistics(index)
+                .build();
+        final var queries = List.of("alpha", "beta gamma", "zeta", "delta epsilon alpha", "omega");
+        var recounts = 0;
+
+        for (var commit = 0; commit < 300; commit++) {
+            final var changes = 1 + random.nextInt(4);
+            index.update(batch -> {
+                for (var i = 0; i < changes; i++) {
+                    final var id = "d" + random.nextInt(500);
+                    if (random.nextInt(3) == 0) {
+                        batch.remove(id);
+                    } else {
+                        batch.add(id, random.nextInt(10) == 0 ? "omega " + words(random) : words(random));
+                    }
+                }
+            });
+            final var generation = index.generation();
+            final var recount    = Bm25Scorer.<String>builder().textExtractor(text -> text).build();
+            recount.computeStats(generation.all());
+
+            // Resolving the generation's statistics tokenizes the changed documents or all of them
+            tokenized.set(0);
+            bm25.maxScore(QueryPlan.of(new SearchContext("alpha", SearchMode.VAGUE, null, 10), SearchMode.VAGUE,
+                    generation));
+            if (tokenized.get() == generation.size()) {
+                recounts++;
+            } else {
+                assertThat(tokenized.get()).isLessThanOrEqualTo(2 * changes);
+            }
+
+            for (final var query : queries) {
+                final var context = new SearchContext(query, SearchMode.VAGUE, null, 10);
+                final var plan    = QueryPlan.of(context, SearchMode.VAGUE, generation);
+                for (final var doc : generation.all()) {
+                    assertThat(bm25.score(doc, plan)).as(query + " @ " + commit)
+                            .isEqualTo(recount.score(doc, context));
+                }
+            }
+            assertThat(bm25.totalDocuments()).isEqualTo(generation.size());
+        }
+        // A recount once a quarter of the documents changed: about every 40 commits
+        assertThat(recounts).isBetween(2, 15);
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    private static String words(final Random random) {
+        return VOCABULARY.words(random, 2 + random.nextInt(6));
+    }
+}
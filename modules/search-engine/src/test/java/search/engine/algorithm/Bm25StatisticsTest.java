@@ -0,0 +1,159 @@
+package search.engine.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import search.api.classify.SearchMode;
+import search.api.core.SearchContext;
+import search.api.index.ObservableIndex;
+import search.engine.index.CopyOnWriteIndex;
+import search.engine.index.InMemoryIndex;
+import search.engine.index.InvertedIndex;
+import search.engine.testing.TestCorpus;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link Bm25Statistics} attached to an index counts exactly what a recount of the index's
+ * documents would — through adds, replacements, removals and clears — so a scorer reading
+ * them scores as one whose statistics were computed from scratch.
+ */
+@DisplayName("Bm25Statistics")
+class Bm25StatisticsTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.GREEK.first(8);
+
+    /** An index under test and how to clear it; {@code clear} is not part of {@link ObservableIndex}. */
+    private record Target(String name, ObservableIndex<String> index, Runnable clear) {}
+
+    @Test
+    @DisplayName("matches a recount while documents are added, replaced, removed and cleared")
+    void matchesRecountAcrossMutations() {
+        final var random = new Random(13);
+        for (final var target : targets()) {
+            for (var i = 0; i < 50; i++) target.index().add("d" + i, text(random));
+            final var statistics = Bm25Statistics.<String>builder().textExtractor(text -> text).build();
+            statistics.attach(target.index());
+            assertMatchesRecount(statistics, target.index().all(), target.name() + ", seeded");
+
+            for (var step = 0; step < 3_000; step++) {
+                final var id = "d" + random.nextInt(100);
+                switch (random.nextInt(5)) {
+                    case 0, 1 -> target.index().add(id, text(random));
+                    case 2    -> target.index().remove(id);
+                    case 3    -> {
+                        if (random.nextInt(200) == 0) target.clear().run();
+                    }
+                    default   -> assertMatchesRecount(statistics, target.index().all(),
+                            target.name() + ", step " + step);
+                }
+            }
+            assertScoresAsRecount(statistics, target.index().all());
+        }
+    }
+
+    @Test
+    @DisplayName("drops a term once no document contains it, and averages an empty corpus to 1")
+    void forgetsVanishedTerms() {
+        final var statistics = Bm25Statistics.<String>builder().textExtractor(text -> text).build();
+        assertThat(statistics.averageDocumentLength()).isEqualTo(1.0);
+
+        statistics.add("alpha alpha beta");
+        statistics.add("alpha");
+        statistics.add("");
+        assertThat(statistics.documentFrequency("alpha")).isEqualTo(2);
+        assertThat(statistics.documentFrequency("beta")).isEqualTo(1);
+        assertThat(statistics.totalLength()).isEqualTo(4);
+        assertThat(statistics.averageDocumentLength()).isEqualTo(4.0 / 3);
+
+        statistics.remove("alpha alpha beta");
+        assertThat(statistics.documentFrequency("alpha")).isEqualTo(1);
+        assertThat(statistics.documentFrequency("beta")).isZero();
+        assertThat(statistics.termCount()).isEqualTo(1);
+
+        statistics.remove("alpha");
+        statistics.remove("");
+        assertThat(statistics.termCount()).isZero();
+        assertThat(statistics.documentCount()).isZero();
+        assertThat(statistics.averageDocumentLength()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("restores a snapshot only for the corpus it was written for")
+    void snapshotRoundTrips(@TempDir final Path directory) throws IOException {
+        final var random  = new Random(14);
+        final var corpus  = TestCorpus.documents(random, 300, (id, r) -> text(r));
+        final var written = Bm25Statistics.<String>builder().textExtractor(text -> text).build();
+        written.rebuild(corpus);
+        final var path    = directory.resolve("bm25.snap");
+        written.writeSnapshot(path, 42L);
+
+        final var other = Bm25Statistics.<String>builder().textExtractor(text -> text).build();
+        other.add("alpha");
+        assertThat(other.restoreSnapshot(path, 43L)).isFalse();
+        assertThat(other.documentCount()).isEqualTo(1);
+        assertThat(other.restoreSnapshot(directory.resolve("absent.snap"), 42L)).isFalse();
+
+        final var generation = other.generation();
+        assertThat(other.restoreSnapshot(path, 42L)).isTrue();
+        assertThat(other.generation()).isGreaterThan(generation);
+        assertMatchesRecount(other, corpus, "restored");
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    private static List<Target> targets() {
+        final var memory   = new InMemoryIndex<String>();
+        final var inverted = InvertedIndex.<String>builder().textExtractor(text -> text).build();
+        final var snapshot = new CopyOnWriteIndex<String>();
+        return List.of(
+                new Target("InMemoryIndex", memory, memory::clear),
+                new Target("InvertedIndex", inverted, inverted::clear),
+                new Target("CopyOnWriteIndex", snapshot, snapshot::clear));
+    }
+
+    /** Up to eight words from eight, so terms repeat within documents; some documents are empty. */
+    private static String text(final Random random) {
+        return VOCABULARY.words(random, random.nextInt(9));
+    }
+
+    /** Counts {@code corpus} word by word and compares every statistic. */
+    private static void assertMatchesRecount(final Bm25Statistics<String> statistics, final Collection<String> corpus,
+                                             final String description) {
+        var totalLength = 0L;
+        final var terms = new HashSet<String>();
+        for (final var text : corpus) {
+            final var words = text.isEmpty() ? List.<String>of() : Arrays.asList(text.split(" "));
+            totalLength += words.size();
+            terms.addAll(words);
+        }
+        assertThat(statistics.documentCount()).as(description).isEqualTo(corpus.size());
+        assertThat(statistics.totalLength()).as(description).isEqualTo(totalLength);
+        assertThat(statistics.termCount()).as(description).isEqualTo(terms.size());
+        for (final var term : VOCABULARY.vocabulary()) {
+            final var expected = corpus.stream().filter(text -> List.of(text.split(" ")).contains(term)).count();
+            assertThat(statistics.documentFrequency(term)).as("%s: %s", description, term).isEqualTo((int) expected);
+        }
+    }
+
+    private static void assertScoresAsRecount(final Bm25Statistics<String> statistics,
+                                              final Collection<String> corpus) {
+        final var live    = Bm25Scorer.<String>builder().textExtractor(text -> text).statistics(statistics).build();
+        final var recount = Bm25Scorer.<String>builder().textExtractor(text -> text).build();
+        recount.computeStats(corpus);
+        for (final var query : List.of("alpha", "beta gamma", "delta delta theta", "omega")) {
+            final var context = new SearchContext(query, SearchMode.VAGUE, null, 10);
+            for (final var text : corpus) {
+                assertThat(live.score(text, context)).as("%s: %s", query, text).isEqualTo(recount.score(text, context));
+            }
+        }
+    }
+}
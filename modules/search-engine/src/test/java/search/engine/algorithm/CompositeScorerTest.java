@@ -0,0 +1,107 @@
+package search.engine.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.algorithm.ScoringStrategy;
+import search.api.classify.SearchMode;
+import search.api.core.QueryPlan;
+import search.api.core.SearchContext;
+import search.engine.testing.TestCorpus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A compiled {@link CompositeScorer} scores exactly like the uncompiled one, and below a
+ * threshold it may stop early only for documents that cannot exceed it.
+ */
+@DisplayName("CompositeScorer")
+class CompositeScorerTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.TECH;
+
+    private record Doc(String id, String title, String body, List<String> tags) {
+        String text() { return title + " " + body; }
+    }
+
+    @Test
+    @DisplayName("compiled evaluation matches the plain composite on random documents and queries")
+    void compiledMatchesPlain() {
+        final var random   = new Random(21);
+        final var docs     = corpus(random, 1_000);
+        final var compiled = composite(docs, true);
+        final var plain    = composite(docs, false);
+
+        for (var q = 0; q < 30; q++) {
+            final var query   = VOCABULARY.words(random, 1 + random.nextInt(3));
+            final var context = new SearchContext(query, SearchMode.VAGUE, null, 10);
+            final var plan    = QueryPlan.of(context);
+            for (final var doc : docs) {
+                final var expected = plain.score(doc, plan);
+                assertThat(compiled.score(doc, plan)).as("%s: %s", context.rawInput(), doc.id()).isEqualTo(expected);
+                assertThat(compiled.score(doc, context)).as("%s: %s", context.rawInput(), doc.id()).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("below a threshold, returns the exact score or a value not above the threshold")
+    void thresholdStopsOnlyWhenScoreCannotExceedIt() {
+        final var random   = new Random(22);
+        final var docs     = corpus(random, 1_000);
+        final var compiled = composite(docs, true);
+        final var plain    = composite(docs, false);
+
+        for (var q = 0; q < 30; q++) {
+            final var query   = VOCABULARY.words(random, 1 + random.nextInt(3));
+            final var context = new SearchContext(query, SearchMode.VAGUE, null, 10);
+            final var plan    = QueryPlan.of(context);
+            for (final var doc : docs) {
+                final var exact = plain.score(doc, plan);
+                // Thresholds around the exact score, where an unsafe bound would show first
+                for (final var threshold : new int[] {exact - 1, exact, exact + 1, random.nextInt(400)}) {
+                    final var score = compiled.score(doc, plan, threshold);
+                    if (exact > threshold) {
+                        assertThat(score).as("%s: %s > %d", context.rawInput(), doc.id(), threshold).isEqualTo(exact);
+                    } else {
+                        assertThat(score).as("%s: %s <= %d", context.rawInput(), doc.id(), threshold)
+                                .isLessThanOrEqualTo(threshold);
+                    }
+                    assertThat(plain.score(doc, plan, threshold)).isEqualTo(exact);
+                }
+            }
+        }
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    /** Analyzed and plain children, bounded and unbounded; fractional weights make summation order matter. */
+    private static ScoringStrategy<Doc> composite(final List<Doc> docs, final boolean compiled) {
+        final var bm25 = Bm25Scorer.<Doc>builder().textExtractor(Doc::text).precomputeDocumentStats(true).build();
+        bm25.computeStats(docs);
+        final ScoringStrategy<Doc> tagCount = (doc, context) -> 3 * doc.tags().size();
+        return CompositeScorer.<Doc>builder()
+                .add(TextMatchScorer.<Doc>builder()
+                        .titleExtractor(Doc::title)
+                        .bodyExtractor(Doc::body)
+                        .tagsExtractor(Doc::tags)
+                        .build(), 1.1)
+                .add(TagScorer.<Doc>builder().tagsExtractor(Doc::tags).build(), 0.3)
+                .add(bm25, 1.7)
+                .add(FuzzyTermScorer.<Doc>builder().textExtractor(Doc::text).build(), 0.7)
+                .add(tagCount, 0.1)
+                .compiled(compiled)
+                .build();
+    }
+
+    private static List<Doc> corpus(final Random random, final int size) {
+        return TestCorpus.documents(random, size, (id, r) -> {
+            final var tags = new ArrayList<String>();
+            for (var t = r.nextInt(4); t > 0; t--) tags.add(VOCABULARY.word(r));
+            return new Doc(id, VOCABULARY.words(r, 1 + r.nextInt(3)), VOCABULARY.words(r, 2 + r.nextInt(10)), tags);
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package search.engine.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.algorithm.Tokenizer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link DefaultTokenizer}'s scanner splits, lower-cases and filters text exactly as the regex
+ * split it replaced, through both the {@code List} and the streaming entry points.
+ */
+@DisplayName("DefaultTokenizer")
+class DefaultTokenizerTest {
+
+    /** Fragments that sit on a token boundary or change length when lower-cased. */
+    private static final String[] FRAGMENTS = {
+            "Java", "STREAMS", "k8s", "2024", "a", "I", "The", "for", "should", "shouldnt",
+            " ", "  ", "\t", "\n", "-", "_", ".", "'", "é", "naïve", "İ", "İstanbul",
+            "K", "ſ", "𐐀", "x".repeat(40)};
+
+    @Test
+    @DisplayName("matches a lower-case regex split on random text around token boundaries")
+    void matchesRegexSplit() {
+        final var random = new Random(6);
+        for (var round = 0; round < 2_000; round++) {
+            final var text = new StringBuilder();
+            for (var i = random.nextInt(12); i > 0; i--) text.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            final var minLength = 1 + random.nextInt(3);
+            final var tokenizer = new DefaultTokenizer(minLength);
+
+            final var expected = regexSplit(tokenizer, text.toString(), minLength);
+            assertThat(tokenizer.tokenize(text.toString())).as("%s (min %d)", text, minLength).isEqualTo(expected);
+            assertThat(streamed(tokenizer, text)).as("%s (min %d), streamed", text, minLength).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("emits tokens longer than its initial buffer, and the last token of the text, whole")
+    void emitsLongAndTrailingTokens() {
+        final var tokenizer = new DefaultTokenizer();
+        final var long1     = "a".repeat(33);
+        final var long2     = "b".repeat(1_000);
+
+        assertThat(streamed(tokenizer, long1 + " " + long2.toUpperCase())).containsExactly(long1, long2);
+        assertThat(streamed(tokenizer, "java")).containsExactly("java");
+    }
+
+    @Test
+    @DisplayName("ends the token after dotted capital I, whose lower case adds a combining mark")
+    void splitsDottedCapitalI() {
+        assertThat(new DefaultTokenizer().tokenize("İstanbul")).containsExactly("stanbul");
+        assertThat(new DefaultTokenizer(1).tokenize("XİY")).containsExactly("xi", "y");
+    }
+
+    @Test
+    @DisplayName("returns nothing for null, blank and all-stop-word text")
+    void emptyInput() {
+        final var tokenizer = new DefaultTokenizer();
+        for (final var text : new String[] {null, "", "  \t\n", "the and of", "-_-"}) {
+            assertThat(tokenizer.tokenize(text)).as("%s", text).isEmpty();
+            assertThat(streamed(tokenizer, text)).as("%s, streamed", text).isEmpty();
+        }
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    /** The tokenizer's original implementation. */
+    private static List<String> regexSplit(final DefaultTokenizer tokenizer, final String text, final int minLength) {
+        final var tokens = new ArrayList<String>();
+        for (final var token : text.toLowerCase(Locale.ROOT).split("[\\W_]+")) {
+            if (token.length() >= minLength && !tokenizer.stopWords().contains(token)) tokens.add(token);
+        }
+        return tokens;
+    }
+
+    private static List<String> streamed(final Tokenizer tokenizer, final CharSequence text) {
+        final var tokens = new ArrayList<String>();
+        tokenizer.tokenize(text, (buffer, offset, length) -> tokens.add(new String(buffer, offset, length)));
+        return tokens;
+    }
+}
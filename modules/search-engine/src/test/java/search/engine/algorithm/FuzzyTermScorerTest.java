@@ -0,0 +1,86 @@
+package search.engine.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.classify.SearchMode;
+import search.api.core.QueryPlan;
+import search.api.core.SearchContext;
+import search.engine.testing.TestCorpus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link FuzzyTermScorer} scores indexed documents through postings exactly as it scores
+ * documents it has never indexed, by comparing their terms with each query word.
+ */
+@DisplayName("FuzzyTermScorer")
+class FuzzyTermScorerTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.TECH;
+
+    private record Doc(String id, String text) {}
+
+    @Test
+    @DisplayName("postings scores match term-by-term scoring on random documents and typo-laden queries")
+    void indexedMatchesUnindexed() {
+        final var random    = new Random(31);
+        final var docs      = corpus(random, 2_000);
+        final var indexed   = scorer();
+        final var unindexed = scorer();
+        indexed.index(docs);
+        unindexed.index(List.of());
+
+        for (var q = 0; q < 40; q++) {
+            final var context = new SearchContext(query(random), SearchMode.VAGUE, null, 10);
+            final var plan    = QueryPlan.of(context);
+            var matches = 0;
+            for (final var doc : docs) {
+                final var expected = unindexed.score(doc, plan);
+                if (expected > 0) matches++;
+                assertThat(indexed.score(doc, plan)).as("%s: %s", context.rawInput(), doc.id()).isEqualTo(expected);
+                assertThat(indexed.score(doc, context)).as("%s: %s", context.rawInput(), doc.id()).isEqualTo(expected);
+            }
+            assertThat(matches).as(context.rawInput()).isLessThan(docs.size());
+        }
+    }
+
+    @Test
+    @DisplayName("a document matching no query word scores 0")
+    void unmatchedScoresZero() {
+        final var scorer = scorer();
+        final var docs   = List.of(new Doc("a", "java streams"), new Doc("b", "docker kubernetes"));
+        scorer.index(docs);
+
+        final var plan = QueryPlan.of(new SearchContext("streems", SearchMode.VAGUE, null, 10));
+        assertThat(scorer.score(docs.get(0), plan)).isPositive();
+        assertThat(scorer.score(docs.get(1), plan)).isZero();
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    private static FuzzyTermScorer<Doc> scorer() {
+        return FuzzyTermScorer.<Doc>builder().textExtractor(Doc::text).maxEditDistance(1).build();
+    }
+
+    /** One to three words, each exact, a prefix, or one character off. */
+    private static String query(final Random random) {
+        final var words = new ArrayList<String>();
+        for (var i = 1 + random.nextInt(3); i > 0; i--) {
+            final var word = VOCABULARY.word(random);
+            words.add(switch (random.nextInt(3)) {
+                case 0  -> word;
+                case 1  -> word.substring(0, Math.min(word.length(), 4 + random.nextInt(2)));
+                default -> word.substring(0, word.length() - 1) + (char) ('a' + random.nextInt(26));
+            });
+        }
+        return String.join(" ", words);
+    }
+
+    private static List<Doc> corpus(final Random random, final int size) {
+        return TestCorpus.documents(random, size, (id, r) -> new Doc(id, VOCABULARY.words(r, 1 + r.nextInt(4))));
+    }
+}
@@ -0,0 +1,163 @@
+package search.engine.algorithm;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.classify.SearchMode;
+import search.api.core.QueryPlan;
+import search.api.core.SearchContext;
+import search.api.filter.SearchFilter;
+import search.engine.config.SearchEngineConfig;
+import search.engine.core.ConfigurableSearchEngine;
+import search.engine.index.CopyOnWriteIndex;
+import search.engine.index.InvertedIndex;
+import search.engine.testing.TestCorpus;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static search.engine.testing.TestCorpus.ALL;
+
+/**
+ * WAND pruning is exact: a {@link WandRetriever} returns what scoring every candidate with a
+ * {@link Bm25Scorer} over the same statistics returns — same items, same scores, same order.
+ */
+@DisplayName("WandRetriever")
+class WandRetrieverTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.SKEWED;
+
+    private record Doc(String id, String text) {}
+
+    @Test
+    @DisplayName("matches exhaustive BM25 as documents are added and removed")
+    void matchesExhaustiveBm25() {
+        final var random     = new Random(14);
+        final var index      = InvertedIndex.<Doc>builder().textExtractor(Doc::text).build();
+        final var statistics = Bm25Statistics.<Doc>builder().textExtractor(Doc::text).build();
+        statistics.attach(index);
+        for (var i = 0; i < 2_000; i++) index.add("d" + i, doc("d" + i, random));
+
+        final var exhaustive = engine(index, statistics, false);
+        final var wand       = engine(index, statistics, true);
+
+        for (var round = 0; round < 10; round++) {
+            for (var q = 0; q < 20; q++) {
+                final var query = VOCABULARY.words(random, 1 + random.nextInt(4));
+                // Small limits prune hardest; ALL must still visit every match
+                for (final var limit : new int[] {1, 5, 20, ALL}) {
+                    final var context = new SearchContext(query, SearchMode.VAGUE, null, limit);
+                    assertThat(wand.search(context).items()).as("%s, limit %d, round %d", query, limit, round)
+                            .isEqualTo(exhaustive.search(context).items());
+                }
+            }
+            // Replace and remove documents, leaving tombstones in the postings
+            for (var i = 0; i < 200; i++) {
+                final var id = "d" + random.nextInt(2_500);
+                if (random.nextInt(3) == 0) {
+                    index.remove(id);
+                } else {
+                    index.add(id, doc(id, random));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("is bypassed when facets are configured, so counts cover every filtered candidate")
+    void facetCountsDoNotDependOnRetriever() {
+        final var random     = new Random(15);
+        final var index      = InvertedIndex.<Doc>builder().textExtractor(Doc::text).build();
+        final var statistics = Bm25Statistics.<Doc>builder().textExtractor(Doc::text).build();
+        statistics.attach(index);
+        for (var i = 0; i < 1_000; i++) index.add("d" + i, doc("d" + i, random));
+
+        final var exhaustive = new ConfigurableSearchEngine<>(faceted(engineConfig(index, statistics, false)));
+        final var wand       = new ConfigurableSearchEngine<>(faceted(engineConfig(index, statistics, true)));
+        for (final var query : new String[] {"wand", "the index", "pivot skip block", "postings"}) {
+            final var context  = new SearchContext(query, SearchMode.VAGUE, null, 5);
+            final var expected = exhaustive.search(context);
+            final var actual   = wand.search(context);
+            assertThat(actual.facets()).as(query).isEqualTo(expected.facets());
+            assertThat(actual.facet("first").values()).as(query).isNotEmpty();
+            assertThat(actual.items()).as(query).isEqualTo(expected.items());
+        }
+    }
+
+    @Test
+    @DisplayName("returns what it found so far once the stop signal turns")
+    void stopsWhenSignalled() {
+        final var random     = new Random(16);
+        final var index      = InvertedIndex.<Doc>builder().textExtractor(Doc::text).build();
+        for (var i = 0; i < 5_000; i++) index.add("d" + i, doc("d" + i, random));
+        final var retriever = WandRetriever.<Doc>builder().postings(index::openReader).build();
+        final var plan      = QueryPlan.of(new SearchContext("the search", SearchMode.VAGUE, null, ALL));
+
+        final var all    = retriever.retrieve(plan, SearchFilter.allowAll(), ALL, () -> false);
+        final var checks = new AtomicInteger();
+        final var cut    = retriever.retrieve(plan, SearchFilter.allowAll(), ALL, () -> checks.incrementAndGet() > 1);
+        assertThat(checks).hasValue(2);
+        assertThat(cut).isNotEmpty().hasSizeLessThan(all.size());
+    }
+
+    @Test
+    @DisplayName("leaves a search that pinned an index generation to the scorer")
+    void pinnedGenerationIsScoredExhaustively() {
+        final var random = new Random(17);
+        final var index  = new CopyOnWriteIndex<Doc>();
+        index.update(batch -> {
+            for (var i = 0; i < 500; i++) batch.add("d" + i, doc("d" + i, random));
+        });
+        // Live postings that know nothing of the generation searched
+        final var stale  = InvertedIndex.<Doc>builder().textExtractor(Doc::text).build();
+        final var scorer = Bm25Scorer.<Doc>builder().textExtractor(Doc::text).generationStatistics(index).build();
+        final var exhaustive = new ConfigurableSearchEngine<>(SearchEngineConfig.<Doc>builder()
+                .index(index).defaultScorer(scorer).maxResults(ALL).build());
+        final var wand = new ConfigurableSearchEngine<>(SearchEngineConfig.<Doc>builder()
+                .index(index).defaultScorer(scorer).maxResults(ALL)
+                .retriever(SearchMode.VAGUE, WandRetriever.<Doc>builder().postings(stale::openReader).build())
+                .build());
+
+        final var context = new SearchContext("wand heap", SearchMode.VAGUE, null, 10);
+        assertThat(wand.search(context).items()).isNotEmpty().isEqualTo(exhaustive.search(context).items());
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    /** Two to thirteen skewed words. */
+    private static Doc doc(final String id, final Random random) {
+        return new Doc(id, VOCABULARY.words(random, 2 + random.nextInt(12)));
+    }
+
+    /** Counts candidates by their first word and by their word count. */
+    private static SearchEngineConfig<Doc> faceted(final SearchEngineConfig.Builder<Doc> config) {
+        return config
+                .facet("first", doc -> doc.text().split(" ")[0])
+                .facet("words", doc -> doc.text().split(" ").length)
+                .build();
+    }
+
+    private static ConfigurableSearchEngine<Doc> engine(final InvertedIndex<Doc> index,
+                                                        final Bm25Statistics<Doc> statistics,
+                                                        final boolean wand) {
+        return new ConfigurableSearchEngine<>(engineConfig(index, statistics, wand).build());
+    }
+
+    private static SearchEngineConfig.Builder<Doc> engineConfig(final InvertedIndex<Doc> index,
+                                                                final Bm25Statistics<Doc> statistics,
+                                                                final boolean wand) {
+        final var config = SearchEngineConfig.<Doc>builder()
+                .index(index)
+                .defaultScorer(Bm25Scorer.<Doc>builder().textExtractor(Doc::text).statistics(statistics).build())
+                .candidatePruning(SearchMode.SPECIFIC, SearchMode.VAGUE)
+                .maxResults(ALL);
+        if (wand) {
+            config.retriever(SearchMode.VAGUE, WandRetriever.<Doc>builder()
+                    .postings(index::openReader)
+                    .statistics(statistics)
+                    .build());
+        }
+        return config;
+    }
+
+}
@@ -0,0 +1,119 @@
+package search.engine.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.algorithm.ScoringStrategy;
+import search.api.classify.SearchMode;
+import search.api.core.ScoredItem;
+import search.api.core.SearchContext;
+import search.api.index.SearchIndex;
+import search.engine.algorithm.Bm25Scorer;
+import search.engine.algorithm.TextMatchScorer;
+import search.engine.config.SearchEngineConfig;
+import search.engine.index.InMemoryIndex;
+import search.engine.index.InvertedIndex;
+import search.engine.testing.TestCorpus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static search.engine.testing.TestCorpus.ALL;
+
+/**
+ * Term-based candidate pruning must never change what the default configuration returns:
+ * an {@link InvertedIndex} answers exactly like an {@link InMemoryIndex} unless pruning is
+ * switched on, and then only for exact-term scorers.
+ */
+@DisplayName("Candidate pruning")
+class CandidatePruningTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.PREFIXED;
+
+    private record Doc(String id, String title, String body) {
+        String text() { return title + " " + body; }
+    }
+
+    @Test
+    @DisplayName("is off by default")
+    void offByDefault() {
+        final var config = SearchEngineConfig.<Doc>builder().index(invertedIndex(List.of())).build();
+        for (final var mode : SearchMode.values()) assertThat(config.prunesCandidates(mode)).isFalse();
+    }
+
+    @Test
+    @DisplayName("default config returns the same results over an inverted index")
+    void defaultConfigKeepsSubstringMatches() {
+        final var docs    = corpus(new Random(1), 400);
+        final var scorer  = TextMatchScorer.<Doc>builder().titleExtractor(Doc::title).bodyExtractor(Doc::body).build();
+        final var scan    = engine(inMemoryIndex(docs), scorer, false);
+        final var defaults = engine(invertedIndex(docs), scorer, false);
+
+        for (final var query : queries(new Random(2))) {
+            for (final var mode : SearchMode.values()) {
+                final var context = new SearchContext(query, mode, null, ALL);
+                assertSameResults(defaults.search(context).items(), scan.search(context).items(), query);
+            }
+        }
+        // A substring-only match survives: "kube" finds documents that only say "kubernetes"
+        final var kube = defaults.search(new SearchContext("kube", SearchMode.VAGUE, null, ALL)).items();
+        assertThat(kube).anyMatch(si -> !(" " + si.item().text() + " ").contains(" kube "));
+    }
+
+    @Test
+    @DisplayName("opt-in pruning with an exact-term scorer returns the same results")
+    void optInPruningWithExactTermScorer() {
+        final var docs   = corpus(new Random(3), 400);
+        final var scorer = Bm25Scorer.<Doc>builder().textExtractor(Doc::text).build();
+        scorer.computeStats(docs);
+        final var scan   = engine(inMemoryIndex(docs), scorer, false);
+        final var pruned = engine(invertedIndex(docs), scorer, true);
+
+        for (final var query : queries(new Random(4))) {
+            final var context = new SearchContext(query, SearchMode.VAGUE, null, ALL);
+            assertSameResults(pruned.search(context).items(), scan.search(context).items(), query);
+        }
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    /** Same items with the same scores; the order of tied items follows index iteration order. */
+    private static void assertSameResults(final List<ScoredItem<Doc>> actual, final List<ScoredItem<Doc>> expected,
+                                          final String query) {
+        assertThat(actual).as(query).extracting(ScoredItem::score)
+                .containsExactlyElementsOf(expected.stream().map(ScoredItem::score).toList());
+        assertThat(actual).as(query).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    private static ConfigurableSearchEngine<Doc> engine(final SearchIndex<Doc> index,
+                                                        final ScoringStrategy<Doc> scorer,
+                                                        final boolean pruning) {
+        final var builder = SearchEngineConfig.<Doc>builder().index(index).defaultScorer(scorer).maxResults(ALL);
+        if (pruning) builder.candidatePruning(SearchMode.SPECIFIC, SearchMode.VAGUE);
+        return new ConfigurableSearchEngine<>(builder.build());
+    }
+
+    private static SearchIndex<Doc> inMemoryIndex(final List<Doc> docs) {
+        final var index = new InMemoryIndex<Doc>();
+        docs.forEach(doc -> index.add(doc.id(), doc));
+        return index;
+    }
+
+    private static SearchIndex<Doc> invertedIndex(final List<Doc> docs) {
+        final var index = InvertedIndex.<Doc>builder().textExtractor(Doc::text).build();
+        docs.forEach(doc -> index.add(doc.id(), doc));
+        return index;
+    }
+
+    private static List<Doc> corpus(final Random random, final int size) {
+        return TestCorpus.documents(random, size, (id, r) ->
+                new Doc(id, VOCABULARY.words(r, 1 + r.nextInt(3)), VOCABULARY.words(r, 3 + r.nextInt(8))));
+    }
+
+    private static List<String> queries(final Random random) {
+        final var queries = new ArrayList<String>(List.of("kube", "java", "stream", "test lambda"));
+        for (var i = 0; i < 30; i++) queries.add(VOCABULARY.words(random, 1 + random.nextInt(3)));
+        return queries;
+    }
+}
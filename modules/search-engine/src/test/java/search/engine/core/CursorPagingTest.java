@@ -0,0 +1,104 @@
+package search.engine.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.algorithm.ScoringStrategy;
+import search.api.classify.SearchMode;
+import search.api.core.ScoreBreakdown;
+import search.api.core.ScoredItem;
+import search.api.core.SearchContext;
+import search.engine.config.SearchEngineConfig;
+import search.engine.index.CopyOnWriteIndex;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static search.engine.testing.TestCorpus.ALL;
+
+/**
+ * Cursor paging returns every result exactly once, even when the index changes between pages
+ * and the ties at a page boundary are re-ordered, and explains only the pages it returns.
+ */
+@DisplayName("Cursor paging")
+class CursorPagingTest {
+
+    private record Doc(String id, int tier) {}
+
+    @Test
+    @DisplayName("resumes after a mutation without dropping or repeating tied results")
+    void resumesStrictlyAfterCursor() {
+        final var random = new Random(5);
+        final var index  = new CopyOnWriteIndex<Doc>();
+        index.update(batch -> {
+            for (var i = 0; i < 60; i++) batch.add("d" + i, new Doc("d" + i, 1 + random.nextInt(3)));
+        });
+        final var engine = engine(index, new TierScorer(new AtomicInteger()));
+
+        final var seen = new ArrayList<Doc>();
+        var page = engine.searchPage(new SearchContext("query", SearchMode.VAGUE, null, 7));
+        seen.addAll(page.items().stream().map(ScoredItem::item).toList());
+        while (page.hasNext()) {
+            // Move a few documents to the end of the index order: ties re-rank in a new order
+            index.update(batch -> {
+                for (var i = 0; i < 3; i++) {
+                    final var id  = "d" + random.nextInt(60);
+                    final var doc = batch.findById(id).orElseThrow();
+                    batch.remove(id).add(id, doc);
+                }
+            });
+            page = engine.searchAfter(page.next());
+            assertThat(page.items()).extracting(ScoredItem::score).isSortedAccordingTo((a, b) -> b - a);
+            seen.addAll(page.items().stream().map(ScoredItem::item).toList());
+        }
+
+        assertThat(seen).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(index.all());
+    }
+
+    @Test
+    @DisplayName("explains only the page returned")
+    void explainsOnlyThePage() {
+        final var index = new CopyOnWriteIndex<Doc>();
+        index.update(batch -> {
+            for (var i = 0; i < 100; i++) batch.add("d" + i, new Doc("d" + i, 1 + i % 3));
+        });
+        final var explained = new AtomicInteger();
+        final var engine    = engine(index, new TierScorer(explained));
+        final var context   = new SearchContext("query", SearchMode.VAGUE, null, 5).withExplain(true);
+
+        final var first = engine.searchPage(context);
+        assertThat(first.items()).hasSize(5).allMatch(ScoredItem::hasBreakdown);
+        assertThat(explained).hasValue(5);
+
+        final var second = engine.searchAfter(first.next());
+        assertThat(second.items()).hasSize(5).allMatch(ScoredItem::hasBreakdown)
+                .doesNotContainAnyElementsOf(first.items());
+        assertThat(explained).hasValue(10);
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    /** Scores a document by its tier, so most results tie; counts explanations. */
+    private static final class TierScorer implements ScoringStrategy<Doc> {
+
+        private final AtomicInteger explained;
+
+        TierScorer(final AtomicInteger explained) { this.explained = explained; }
+
+        @Override
+        public int score(final Doc item, final SearchContext context) { return 10 * item.tier(); }
+
+        @Override
+        public ScoreBreakdown explain(final Doc item, final SearchContext context) {
+            explained.incrementAndGet();
+            return ScoreBreakdown.builder().add("tier", score(item, context)).build();
+        }
+    }
+
+    private static ConfigurableSearchEngine<Doc> engine(final CopyOnWriteIndex<Doc> index,
+                                                        final ScoringStrategy<Doc> scorer) {
+        return new ConfigurableSearchEngine<>(SearchEngineConfig.<Doc>builder()
+                .index(index).defaultScorer(scorer).maxResults(ALL).build());
+    }
+}
@@ -0,0 +1,145 @@
+package search.engine.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.algorithm.ScoringStrategy;
+import search.api.classify.SearchMode;
+import search.api.core.QueryPlan;
+import search.api.core.ScoredItem;
+import search.api.core.SearchContext;
+import search.engine.algorithm.Bm25Scorer;
+import search.engine.algorithm.CompositeScorer;
+import search.engine.algorithm.FuzzyTermScorer;
+import search.engine.algorithm.TagScorer;
+import search.engine.algorithm.TextMatchScorer;
+import search.engine.config.SearchEngineConfig;
+import search.engine.index.InMemoryIndex;
+import search.engine.rank.RecencyBoostRanker;
+import search.engine.rank.ScoreRanker;
+import search.engine.testing.TestCorpus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every {@link search.api.core.ScoreBreakdown} totals the score it explains: a scorer's
+ * breakdown its score, and an explained search item its final, ranked score. Explaining never
+ * changes which items a search returns or how they score.
+ */
+@DisplayName("Explain mode")
+class ExplainModeTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.TECH;
+
+    private record Doc(String id, String title, String body, List<String> tags, Instant updated) {
+        String text() { return title + " " + body; }
+    }
+
+    @Test
+    @DisplayName("each scorer's breakdown totals its score")
+    void breakdownsTotalScores() {
+        final var random  = new Random(19);
+        final var docs    = corpus(random, 500);
+        final var scorers = scorers(docs);
+
+        for (var q = 0; q < 30; q++) {
+            final var context = new SearchContext(VOCABULARY.words(random, 1 + random.nextInt(3)),
+                    SearchMode.VAGUE, null, 10);
+            final var plan    = QueryPlan.of(context);
+            for (final var scorer : scorers.entrySet()) {
+                for (final var doc : docs) {
+                    final var description = scorer.getKey() + ", " + context.rawInput() + ": " + doc.id();
+                    assertThat(scorer.getValue().explain(doc, plan).total()).as(description)
+                            .isEqualTo(scorer.getValue().score(doc, plan));
+                    assertThat(scorer.getValue().explain(doc, context).total()).as(description)
+                            .isEqualTo(scorer.getValue().score(doc, context));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("explained items total their ranked scores and match an unexplained search")
+    void explainedSearchMatchesPlain() {
+        final var random = new Random(20);
+        final var docs   = corpus(random, 2_000);
+        final var index  = new InMemoryIndex<Doc>();
+        docs.forEach(doc -> index.add(doc.id(), doc));
+        final var engine = new ConfigurableSearchEngine<>(SearchEngineConfig.<Doc>builder()
+                .index(index)
+                .defaultScorer(scorers(docs).get("composite"))
+                .ranker(ScoreRanker.<Doc>instance().thenRank(new RecencyBoostRanker<>(Doc::updated, 30, 365, 40)))
+                .build());
+
+        var ranked = 0;
+        for (var q = 0; q < 30; q++) {
+            final var query = VOCABULARY.words(random, 1 + random.nextInt(3));
+            for (final var limit : new int[] {1, 10, 50}) {
+                final var context   = new SearchContext(query, SearchMode.VAGUE, null, limit);
+                final var plain     = engine.search(context).items();
+                final var explained = engine.search(context.withExplain(true)).items();
+
+                assertThat(plain).noneMatch(ScoredItem::hasBreakdown);
+                assertThat(explained).hasSameSizeAs(plain);
+                for (var i = 0; i < plain.size(); i++) {
+                    final var item = explained.get(i);
+                    assertThat(item.item()).as("%s, limit %d: #%d", query, limit, i).isEqualTo(plain.get(i).item());
+                    assertThat(item.score()).as("%s, limit %d: #%d", query, limit, i).isEqualTo(plain.get(i).score());
+                    assertThat(item.scoreBreakdown().total()).as("%s: %s", query, item.item().id())
+                            .isEqualTo(item.score());
+                    if (item.scoreBreakdown().get("ranking") != 0) ranked++;
+                }
+            }
+        }
+        assertThat(ranked).as("items the recency boost adjusted").isPositive();
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    /** The built-in scorers, alone and combined with fractional weights, by name. */
+    private static Map<String, ScoringStrategy<Doc>> scorers(final List<Doc> docs) {
+        final var text = TextMatchScorer.<Doc>builder()
+                .titleExtractor(Doc::title)
+                .bodyExtractor(Doc::body)
+                .tagsExtractor(Doc::tags)
+                .build();
+        final var tags  = TagScorer.<Doc>builder().tagsExtractor(Doc::tags).build();
+        final var bm25  = Bm25Scorer.<Doc>builder().textExtractor(Doc::text).build();
+        bm25.computeStats(docs);
+        final var fuzzy = FuzzyTermScorer.<Doc>builder().textExtractor(Doc::text).build();
+
+        final var scorers = new LinkedHashMap<String, ScoringStrategy<Doc>>();
+        scorers.put("text", text);
+        scorers.put("tags", tags);
+        scorers.put("bm25", bm25);
+        scorers.put("fuzzy", fuzzy);
+        for (final var compiled : new boolean[] {false, true}) {
+            scorers.put(compiled ? "compiled composite" : "composite", CompositeScorer.<Doc>builder()
+                    .add(text, 1.1)
+                    .add(tags, 0.3)
+                    .add(bm25, 1.7)
+                    .add(fuzzy, 0.7)
+                    .compiled(compiled)
+                    .build());
+        }
+        return scorers;
+    }
+
+    /** Documents updated up to 400 days ago, so the recency boost varies and sometimes vanishes. */
+    private static List<Doc> corpus(final Random random, final int size) {
+        final var now = Instant.now();
+        return TestCorpus.documents(random, size, (id, r) -> {
+            final var tags = new ArrayList<String>();
+            for (var t = r.nextInt(4); t > 0; t--) tags.add(VOCABULARY.word(r));
+            return new Doc(id, VOCABULARY.words(r, 1 + r.nextInt(3)), VOCABULARY.words(r, 2 + r.nextInt(10)), tags,
+                    now.minus(Duration.ofDays(r.nextInt(400))));
+        });
+    }
+}
@@ -0,0 +1,173 @@
+package search.engine.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.classify.SearchMode;
+import search.api.core.SearchContext;
+import search.api.core.SearchEngine;
+import search.api.facet.FacetCounts;
+import search.api.filter.IndexableFilter;
+import search.api.filter.SearchFilter;
+import search.api.index.SearchIndex;
+import search.engine.algorithm.TextMatchScorer;
+import search.engine.config.ParallelScoring;
+import search.engine.config.SearchEngineConfig;
+import search.engine.filter.FilterChain;
+import search.engine.index.InMemoryIndex;
+import search.engine.index.InvertedIndex;
+import search.engine.testing.TestCorpus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static search.engine.testing.TestCorpus.ALL;
+
+/**
+ * Facet counts equal a value-by-value count of the candidates that pass the filter — all of
+ * them, scored or not — whether a search scans alone, shares a batch pass, prunes by term,
+ * scores in parallel or is split across shards. A document counts once per distinct value.
+ */
+@DisplayName("Facet counting")
+class FacetCountingTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.TECH;
+
+    private static final TestCorpus TAGS = VOCABULARY.first(4);
+
+    private static final List<String> CATEGORIES = Arrays.asList("java", "kotlin", "scala", null);
+
+    private record Doc(String id, String text, String category, int tier, List<String> tags) {}
+
+    /** Facets by name: a nullable value, an int, a list with repeats and nulls, and up to a thousand values. */
+    private static final Map<String, Function<Doc, ?>> FACETS = facets();
+
+    /** A bitmap-indexed tier restriction and a per-document test. */
+    private static final SearchFilter<Doc> FILTER = FilterChain.of(
+            IndexableFilter.fromContext("tier", Doc::tier, "tier", Integer.class),
+            (doc, ctx) -> !doc.id().endsWith("9"));
+
+    @Test
+    @DisplayName("equals a naive count of the filtered candidates on every engine, alone and batched")
+    void matchesNaiveCount() {
+        final var random  = new Random(20);
+        final var docs    = corpus(random, 2_000);
+        final var engines = new LinkedHashMap<String, SearchEngine<Doc>>();
+        engines.put("scan", engine(new InMemoryIndex<>(), docs, config -> config));
+        engines.put("pruned", engine(InvertedIndex.<Doc>builder().textExtractor(Doc::text).build(), docs,
+                config -> config.candidatePruning(SearchMode.VAGUE)));
+        engines.put("parallel", engine(new InMemoryIndex<>(), docs,
+                config -> config.parallelScoring(ParallelScoring.forkJoin(64, 4))));
+        final var sharded = ShardedSearchEngine.<Doc>builder()
+                .shards(3, shard -> config(new InMemoryIndex<>(), config -> config).build())
+                .build();
+        docs.forEach(doc -> sharded.add(doc.id(), doc));
+        engines.put("sharded", sharded);
+
+        for (final var engine : engines.entrySet()) {
+            final var contexts = new ArrayList<SearchContext>();
+            for (var q = 0; q < 20; q++) {
+                contexts.add(new SearchContext(VOCABULARY.words(random, 1 + random.nextInt(2)), SearchMode.VAGUE,
+                        random.nextBoolean() ? Map.of("tier", random.nextInt(3)) : null, 1 + random.nextInt(10)));
+            }
+            final var batch = engine.getValue().searchAll(contexts);
+            for (var q = 0; q < contexts.size(); q++) {
+                final var context = contexts.get(q);
+                // Term pruning visits only the documents sharing a query term
+                final var words      = List.of(context.normalizedInput().split(" "));
+                final var candidates = docs.stream()
+                        .filter(doc -> FILTER.test(doc, context))
+                        .filter(doc -> !engine.getKey().equals("pruned")
+                                || Arrays.stream(doc.text().split(" ")).anyMatch(words::contains))
+                        .toList();
+                final var result = engine.getValue().search(context);
+                final var as     = engine.getKey() + ": " + context.rawInput() + " " + context.filters();
+                assertThat(result.facets()).as(as).isEqualTo(naiveCounts(candidates));
+                assertThat(batch.get(q).facets()).as(as).isEqualTo(result.facets());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("counts candidates that score nothing, and reports empty counts when none pass")
+    void countsUnscoredAndEmpty() {
+        final var docs    = corpus(new Random(21), 300);
+        final var counted = engine(new InMemoryIndex<>(), docs, config -> config);
+        final var none    = engine(new InMemoryIndex<>(), docs, config -> config.filter(SearchFilter.rejectAll()));
+
+        final var cobol     = new SearchContext("cobol", SearchMode.VAGUE, null, 10);
+        final var unmatched = counted.search(cobol);
+        assertThat(unmatched.items()).isEmpty();
+        assertThat(unmatched.facets())
+                .isEqualTo(naiveCounts(docs.stream().filter(doc -> FILTER.test(doc, cobol)).toList()));
+
+        final var rejected = none.search(new SearchContext("java", SearchMode.VAGUE, null, 10));
+        assertThat(rejected.facets()).extracting(FacetCounts::name).containsExactlyElementsOf(FACETS.keySet());
+        assertThat(rejected.facets()).allSatisfy(facet -> assertThat(facet.values()).isEmpty());
+        assertThat(rejected.facet("tier").count(0)).isZero();
+        assertThat(rejected.facet("absent")).isNull();
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    private static Map<String, Function<Doc, ?>> facets() {
+        final var facets = new LinkedHashMap<String, Function<Doc, ?>>();
+        facets.put("category", Doc::category);
+        facets.put("tier", Doc::tier);
+        facets.put("tags", Doc::tags);
+        facets.put("suffix", doc -> doc.id().substring(Math.max(1, doc.id().length() - 3)));
+        return facets;
+    }
+
+    private static ConfigurableSearchEngine<Doc> engine(final SearchIndex<Doc> index, final List<Doc> docs,
+                                                        final UnaryOperator<SearchEngineConfig.Builder<Doc>> setup) {
+        docs.forEach(doc -> index.add(doc.id(), doc));
+        return new ConfigurableSearchEngine<>(config(index, setup).build());
+    }
+
+    private static SearchEngineConfig.Builder<Doc> config(final SearchIndex<Doc> index,
+                                                          final UnaryOperator<SearchEngineConfig.Builder<Doc>> setup) {
+        final var config = SearchEngineConfig.<Doc>builder()
+                .index(index)
+                .defaultScorer(TextMatchScorer.<Doc>builder().titleExtractor(Doc::text).build())
+                .filter(FILTER)
+                .maxResults(ALL);
+        FACETS.forEach(config::facet);
+        return setup.apply(config);
+    }
+
+    /** Counts each document once per distinct non-null value of every facet. */
+    private static List<FacetCounts> naiveCounts(final Collection<Doc> candidates) {
+        final var counts = new ArrayList<FacetCounts>();
+        for (final var facet : FACETS.entrySet()) {
+            final var byValue = new LinkedHashMap<Object, Integer>();
+            for (final var doc : candidates) {
+                final var value  = facet.getValue().apply(doc);
+                final var values = new HashSet<Object>(value instanceof Collection<?> c ? c : Arrays.asList(value));
+                values.remove(null);
+                values.forEach(v -> byValue.merge(v, 1, Integer::sum));
+            }
+            counts.add(new FacetCounts(facet.getKey(),
+                    byValue.entrySet().stream().map(e -> new FacetCounts.Value(e.getKey(), e.getValue())).toList()));
+        }
+        return counts;
+    }
+
+    /** Tags repeat within a document and are sometimes null. */
+    private static List<Doc> corpus(final Random random, final int size) {
+        return TestCorpus.documents(random, size, (id, r) -> {
+            final var tags = new ArrayList<String>();
+            for (var t = r.nextInt(5); t > 0; t--) tags.add(r.nextInt(6) == 0 ? null : TAGS.word(r));
+            return new Doc(id, VOCABULARY.words(r, 1 + r.nextInt(6)), CATEGORIES.get(r.nextInt(CATEGORIES.size())),
+                    r.nextInt(3), tags);
+        });
+    }
+}
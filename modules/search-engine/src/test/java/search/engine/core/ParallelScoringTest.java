@@ -0,0 +1,118 @@
+package search.engine.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.algorithm.ScoringStrategy;
+import search.api.classify.SearchMode;
+import search.api.core.SearchContext;
+import search.engine.algorithm.Bm25Scorer;
+import search.engine.algorithm.CompositeScorer;
+import search.engine.algorithm.TextMatchScorer;
+import search.engine.config.ParallelScoring;
+import search.engine.config.SearchEngineConfig;
+import search.engine.index.InMemoryIndex;
+import search.engine.testing.TestCorpus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static search.engine.testing.TestCorpus.ALL;
+
+/**
+ * Parallel scoring breaks ties by candidate position, so it must return exactly what the
+ * sequential path returns — same items, same scores, same order — on either executor.
+ */
+@DisplayName("Parallel scoring")
+class ParallelScoringTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.TECH;
+
+    private record Doc(String id, String title, String body) {
+        String text() { return title + " " + body; }
+    }
+
+    @Test
+    @DisplayName("matches sequential scoring on random queries")
+    void matchesSequential() {
+        final var random = new Random(21);
+        final var docs   = corpus(random, 5_000);
+        final var index  = new InMemoryIndex<Doc>();
+        docs.forEach(doc -> index.add(doc.id(), doc));
+        final var scorer = scorer(docs);
+
+        final var pool = new ForkJoinPool(3);
+        try {
+            final var sequential = engine(index, scorer, ParallelScoring.disabled());
+            final var forkJoin   = engine(index, scorer, ParallelScoring.forkJoin(1, 4));
+            final var supplied   = engine(index, scorer, ParallelScoring.forkJoin(1, pool));
+            final var virtual    = engine(index, scorer, ParallelScoring.virtualThreads(1, 4));
+
+            for (var q = 0; q < 40; q++) {
+                final var query = VOCABULARY.words(random, 1 + random.nextInt(3));
+                // A small limit takes the top-K heap path; ALL keeps every scored candidate
+                for (final var limit : new int[] {1, 10, 100, ALL}) {
+                    final var context  = new SearchContext(query, SearchMode.VAGUE, null, limit);
+                    final var expected = sequential.search(context).items();
+                    assertThat(forkJoin.search(context).items()).as("%s, limit %d", query, limit).isEqualTo(expected);
+                    assertThat(supplied.search(context).items()).as("%s, limit %d", query, limit).isEqualTo(expected);
+                    assertThat(virtual.search(context).items()).as("%s, limit %d", query, limit).isEqualTo(expected);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("matches sequential scoring when checking a deadline between blocks")
+    void matchesSequentialWithDeadline() {
+        final var random = new Random(22);
+        final var docs   = corpus(random, 5_000);
+        final var index  = new InMemoryIndex<Doc>();
+        docs.forEach(doc -> index.add(doc.id(), doc));
+        final var scorer = scorer(docs);
+
+        final var sequential = engine(index, scorer, ParallelScoring.disabled());
+        final var forkJoin   = engine(index, scorer, ParallelScoring.forkJoin(1, 2));
+        for (var q = 0; q < 20; q++) {
+            final var query = VOCABULARY.words(random, 1 + random.nextInt(3));
+            for (final var limit : new int[] {1, 10, ALL}) {
+                final var context  = new SearchContext(query, SearchMode.VAGUE, null, limit);
+                final var timed    = context.withTimeout(Duration.ofMinutes(5));
+                final var expected = sequential.search(context).items();
+                assertThat(sequential.search(timed).items()).as("%s, limit %d", query, limit).isEqualTo(expected);
+                assertThat(forkJoin.search(timed).items()).as("%s, limit %d", query, limit).isEqualTo(expected);
+            }
+        }
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    /** Text match plus BM25: coarse tiers with many ties, split by finer BM25 scores. */
+    private static ScoringStrategy<Doc> scorer(final List<Doc> docs) {
+        final var bm25 = Bm25Scorer.<Doc>builder().textExtractor(Doc::text).build();
+        bm25.computeStats(docs);
+        return CompositeScorer.<Doc>builder()
+                .add(TextMatchScorer.<Doc>builder().titleExtractor(Doc::title).bodyExtractor(Doc::body).build(), 1.0)
+                .add(bm25, 0.5)
+                .build();
+    }
+
+    private static ConfigurableSearchEngine<Doc> engine(final InMemoryIndex<Doc> index, final ScoringStrategy<Doc> scorer,
+                                                        final ParallelScoring parallelScoring) {
+        return new ConfigurableSearchEngine<>(SearchEngineConfig.<Doc>builder()
+                .index(index)
+                .defaultScorer(scorer)
+                .parallelScoring(parallelScoring)
+                .maxResults(ALL)
+                .build());
+    }
+
+    private static List<Doc> corpus(final Random random, final int size) {
+        return TestCorpus.documents(random, size, (id, r) ->
+                new Doc(id, VOCABULARY.words(r, 1 + r.nextInt(3)), VOCABULARY.words(r, 2 + r.nextInt(10))));
+    }
+}
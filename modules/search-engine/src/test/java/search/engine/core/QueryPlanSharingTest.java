@@ -0,0 +1,139 @@
+package search.engine.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.algorithm.ScoringStrategy;
+import search.api.classify.SearchMode;
+import search.api.core.QueryPlan;
+import search.api.core.SearchContext;
+import search.api.index.SearchIndex;
+import search.engine.algorithm.CompositeScorer;
+import search.engine.config.ParallelScoring;
+import search.engine.config.SearchEngineConfig;
+import search.engine.index.CopyOnWriteIndex;
+import search.engine.index.InMemoryIndex;
+import search.engine.testing.TestCorpus;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static search.engine.testing.TestCorpus.ALL;
+
+/**
+ * The engine plans each search once: every scorer scores every document of a search against
+ * the same {@link QueryPlan}, which carries the search's mode and pinned generation, and a
+ * scorer's resolved query state is computed once per search rather than once per document.
+ */
+@DisplayName("Query plans")
+class QueryPlanSharingTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.TECH;
+
+    private record Doc(String id, String text) {}
+
+    @Test
+    @DisplayName("share one plan and one resolution per search, sequentially or in parallel")
+    void onePlanPerSearch() {
+        final var docs = TestCorpus.documents(new Random(22), 3_000,
+                (id, r) -> new Doc(id, VOCABULARY.words(r, 1 + r.nextInt(5))));
+        for (final var parallelScoring : List.of(ParallelScoring.disabled(), ParallelScoring.forkJoin(64, 4))) {
+            final var first  = new PlanRecorder();
+            final var second = new PlanRecorder();
+            final var engine = engine(new InMemoryIndex<>(), docs, CompositeScorer.<Doc>builder()
+                    .add(first, 1.0)
+                    .add(second, 2.0)
+                    .build(), parallelScoring);
+
+            for (final var query : List.of("java", "spring testing", "docker docker")) {
+                final var result = engine.search(new SearchContext(query, null, null, 10));
+
+                assertThat(first.plans).as("%s: %s", parallelScoring, query).hasSize(1).isEqualTo(second.plans);
+                final var plan = first.plans.iterator().next();
+                assertThat(plan.input()).isEqualTo(query);
+                assertThat(plan.mode()).isEqualTo(result.classifiedMode());
+                assertThat(plan.generation()).isNull();
+                assertThat(first.scored).hasValue(docs.size());
+                // Racing first uses may each run the resolver, but never once per document
+                assertThat(first.resolutions.get()).as("%s: %s", parallelScoring, query).isBetween(1, 4);
+                assertThat(first.contextCalls).hasValue(0);
+                first.reset();
+                second.reset();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("plan each query of a batch separately, against the generation the batch pinned")
+    void onePlanPerBatchedQuery() {
+        final var index    = new CopyOnWriteIndex<Doc>();
+        final var recorder = new PlanRecorder();
+        final var docs     = TestCorpus.documents(new Random(23), 500,
+                (id, r) -> new Doc(id, VOCABULARY.words(r, 1 + r.nextInt(5))));
+        final var engine   = engine(index, docs, recorder, ParallelScoring.disabled());
+        final var queries  = List.of("java", "maven", "java", "records lambda", "sealed");
+
+        engine.searchAll(queries.stream().map(query -> new SearchContext(query, SearchMode.VAGUE, null, ALL)).toList());
+
+        // The repeated query is answered once
+        assertThat(recorder.plans).extracting(QueryPlan::input)
+                .containsExactlyInAnyOrder("java", "maven", "records lambda", "sealed");
+        assertThat(recorder.plans).allSatisfy(plan -> assertThat(plan.generation()).isSameAs(index.generation()));
+        assertThat(recorder.resolutions).hasValue(4);
+        assertThat(recorder.scored).hasValue(4 * docs.size());
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    /** Scores by shared tokens, resolving the query's tokens once per plan; records every plan it sees. */
+    private static final class PlanRecorder implements ScoringStrategy<Doc> {
+
+        final Set<QueryPlan> plans       = ConcurrentHashMap.newKeySet(); // plans compare by identity
+        final AtomicInteger resolutions  = new AtomicInteger();
+        final AtomicInteger scored       = new AtomicInteger();
+        final AtomicInteger contextCalls = new AtomicInteger();
+
+        @Override
+        public int score(final Doc item, final SearchContext context) {
+            contextCalls.incrementAndGet();
+            return score(item, QueryPlan.of(context));
+        }
+
+        @Override
+        public int score(final Doc item, final QueryPlan plan) {
+            plans.add(plan);
+            scored.incrementAndGet();
+            final List<String> tokens = plan.resolve(this, p -> {
+                resolutions.incrementAndGet();
+                return p.tokens();
+            });
+            var score = 0;
+            for (final var word : item.text().split(" ")) {
+                if (tokens.contains(word)) score++;
+            }
+            return score;
+        }
+
+        void reset() {
+            plans.clear();
+            resolutions.set(0);
+            scored.set(0);
+            contextCalls.set(0);
+        }
+    }
+
+    private static ConfigurableSearchEngine<Doc> engine(final SearchIndex<Doc> index, final List<Doc> docs,
+                                                        final ScoringStrategy<Doc> scorer,
+                                                        final ParallelScoring parallelScoring) {
+        docs.forEach(doc -> index.add(doc.id(), doc));
+        return new ConfigurableSearchEngine<>(SearchEngineConfig.<Doc>builder()
+                .index(index)
+                .defaultScorer(scorer)
+                .parallelScoring(parallelScoring)
+                .maxResults(ALL)
+                .build());
+    }
+}
@@ -0,0 +1,150 @@
+package search.engine.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.algorithm.ScoringStrategy;
+import search.api.cache.CacheKey;
+import search.api.classify.SearchMode;
+import search.api.core.SearchContext;
+import search.api.index.SearchIndex;
+import search.engine.algorithm.TextMatchScorer;
+import search.engine.cache.LruResultCache;
+import search.engine.config.SearchEngineConfig;
+import search.engine.index.CopyOnWriteIndex;
+import search.engine.index.InMemoryIndex;
+import search.engine.index.InvertedIndex;
+import search.engine.testing.TestCorpus;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static search.engine.testing.TestCorpus.ALL;
+
+/**
+ * A result cache never serves a result computed before the index last changed — through an
+ * add, a replace, a remove or a clear — and serves every repeat while the index is unchanged.
+ */
+@DisplayName("Result cache")
+class ResultCacheTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.TECH;
+
+    private record Doc(String id, String text) {}
+
+    /** An index under test and how to clear it; {@code clear} is not part of {@link SearchIndex}. */
+    private record Target(String name, SearchIndex<Doc> index, Runnable clear) {}
+
+    @Test
+    @DisplayName("matches an uncached engine while documents are added, replaced, removed and cleared")
+    void matchesUncachedAcrossMutations() {
+        final var random = new Random(9);
+        for (final var target : targets()) {
+            final var cache    = new LruResultCache<Doc>(64);
+            final var cached   = engine(target.index(), scorer(), cache);
+            final var uncached = engine(target.index(), scorer(), null);
+            // Few distinct queries, so most searches repeat one answered before
+            final var queries  = List.of("java", "streams records", "docker", "spring testing", "virtual threads");
+
+            for (var step = 0; step < 3_000; step++) {
+                final var id = "d" + random.nextInt(200);
+                switch (random.nextInt(10)) {
+                    case 0, 1 -> target.index().add(id, new Doc(id, VOCABULARY.words(random, 1 + random.nextInt(4))));
+                    case 2    -> target.index().remove(id);
+                    case 3    -> {
+                        if (random.nextInt(100) == 0) target.clear().run();
+                    }
+                    default   -> {
+                        final var context = new SearchContext(queries.get(random.nextInt(queries.size())),
+                                SearchMode.VAGUE, null, 1 + random.nextInt(20));
+                        assertThat(cached.search(context).items()).as("%s, step %d: %s", target.name(), step,
+                                context.rawInput()).isEqualTo(uncached.search(context).items());
+                    }
+                }
+            }
+            assertThat(cache.stats().hits()).as(target.name()).isPositive();
+            assertThat(cache.stats().invalidations()).as(target.name()).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("serves repeats without scoring until the index changes")
+    void servesRepeatsUntilChanged() {
+        for (final var target : targets()) {
+            final var scored  = new AtomicInteger();
+            final var engine  = engine(target.index(), counting(scored), new LruResultCache<>(16));
+            final var context = new SearchContext("java", SearchMode.VAGUE, null, 10);
+            target.index().add("a", new Doc("a", "java streams"));
+            target.index().add("b", new Doc("b", "docker"));
+
+            assertThat(engine.search(context).items()).hasSize(1);
+            final var afterFirst = scored.get();
+            assertThat(engine.search(context).items()).hasSize(1);
+            assertThat(scored).as(target.name()).hasValue(afterFirst);
+
+            // Removing an absent document changes nothing, so the entry stays valid
+            target.index().remove("missing");
+            assertThat(engine.search(context).items()).hasSize(1);
+            assertThat(scored).as(target.name()).hasValue(afterFirst);
+
+            target.index().add("b", new Doc("b", "java docker"));
+            assertThat(engine.search(context).items()).as(target.name()).hasSize(2);
+            target.index().remove("a");
+            assertThat(engine.search(context).items()).as(target.name()).hasSize(1);
+            target.clear().run();
+            assertThat(engine.search(context).items()).as(target.name()).isEmpty();
+            assertThat(scored.get()).as(target.name()).isGreaterThan(afterFirst);
+        }
+    }
+
+    @Test
+    @DisplayName("keeps the newer of two results stored for one query")
+    void olderResultNeverReplacesNewer() {
+        final var index  = new InMemoryIndex<Doc>();
+        final var cache  = new LruResultCache<Doc>(4);
+        final var engine = engine(index, scorer(), null);
+        final var key    = CacheKey.of(new SearchContext("java", SearchMode.VAGUE, null, 10));
+
+        index.add("a", new Doc("a", "java"));
+        final var older = engine.search(new SearchContext("java", SearchMode.VAGUE, null, 10));
+        index.add("b", new Doc("b", "java"));
+        final var newer = engine.search(new SearchContext("java", SearchMode.VAGUE, null, 10));
+
+        cache.put(key, 2, newer);
+        cache.put(key, 1, older);
+        assertThat(cache.get(key, 2)).isSameAs(newer);
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    private static List<Target> targets() {
+        final var memory   = new InMemoryIndex<Doc>();
+        final var inverted = InvertedIndex.<Doc>builder().textExtractor(Doc::text).build();
+        final var snapshot = new CopyOnWriteIndex<Doc>();
+        return List.of(
+                new Target("InMemoryIndex", memory, memory::clear),
+                new Target("InvertedIndex", inverted, inverted::clear),
+                new Target("CopyOnWriteIndex", snapshot, snapshot::clear));
+    }
+
+    private static ScoringStrategy<Doc> scorer() {
+        return TextMatchScorer.<Doc>builder().titleExtractor(Doc::text).build();
+    }
+
+    private static ScoringStrategy<Doc> counting(final AtomicInteger scored) {
+        final var scorer = scorer();
+        return (item, context) -> {
+            scored.incrementAndGet();
+            return scorer.score(item, context);
+        };
+    }
+
+    /** An engine over {@code index}, caching in {@code cache} (null = no cache). */
+    private static ConfigurableSearchEngine<Doc> engine(final SearchIndex<Doc> index, final ScoringStrategy<Doc> scorer,
+                                                        final LruResultCache<Doc> cache) {
+        final var config = SearchEngineConfig.<Doc>builder().index(index).defaultScorer(scorer).maxResults(ALL);
+        if (cache != null) config.resultCache(cache);
+        return new ConfigurableSearchEngine<>(config.build());
+    }
+}
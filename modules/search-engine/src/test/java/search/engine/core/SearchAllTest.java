@@ -0,0 +1,229 @@
+package search.engine.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.algorithm.ScoringStrategy;
+import search.api.classify.SearchMode;
+import search.api.core.SearchContext;
+import search.api.core.SearchResult;
+import search.api.filter.IndexableFilter;
+import search.api.metrics.SearchTrace;
+import search.engine.algorithm.Bm25Scorer;
+import search.engine.algorithm.Bm25Statistics;
+import search.engine.algorithm.TextMatchScorer;
+import search.engine.algorithm.WandRetriever;
+import search.engine.cache.LruResultCache;
+import search.engine.config.ParallelScoring;
+import search.engine.config.SearchEngineConfig;
+import search.engine.filter.FilterChain;
+import search.engine.index.InvertedIndex;
+import search.engine.testing.TestCorpus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static search.engine.testing.TestCorpus.ALL;
+
+/**
+ * {@link ConfigurableSearchEngine#searchAll} returns, in input order, what {@code search}
+ * returns for each context — across shared corpus passes, batches larger than one pass,
+ * retrievers, pruned candidates and filters — answering a repeated query once and never
+ * sharing a deadline-bound search.
+ */
+@DisplayName("Batch search")
+class SearchAllTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.SKEWED;
+
+    private static final SearchMode[] MODES = {null, SearchMode.VAGUE, SearchMode.SPECIFIC};
+
+    private record Doc(String id, String text, int tier) {}
+
+    @Test
+    @DisplayName("equals individual searches on every engine configuration, in input order")
+    void matchesIndividualSearches() {
+        final var random = new Random(15);
+        final var docs   = corpus(random, 2_000);
+        for (final var engine : engines(docs).entrySet()) {
+            for (var round = 0; round < 4; round++) {
+                // Beyond one shared pass, with queries drawn from a small pool so many repeat
+                final var contexts = new ArrayList<SearchContext>();
+                for (var c = 1 + random.nextInt(2 * BatchScan.MAX_QUERIES); c > 0; c--) {
+                    contexts.add(context(random));
+                }
+
+                final var results = engine.getValue().searchAll(contexts);
+                assertThat(results).hasSameSizeAs(contexts);
+                for (var i = 0; i < contexts.size(); i++) {
+                    final var expected = engine.getValue().search(contexts.get(i));
+                    final var as       = engine.getKey() + ", " + contexts.get(i);
+                    assertThat(results.get(i).items()).as(as).isEqualTo(expected.items());
+                    assertThat(results.get(i).classifiedMode()).as(as).isEqualTo(expected.classifiedMode());
+                    assertThat(results.get(i).truncated()).as(as).isFalse();
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("answers a repeated query once and traces its repeats as cache hits")
+    void answersRepeatsOnce() {
+        final var docs   = corpus(new Random(16), 500);
+        final var scored = new AtomicInteger();
+        final var traces = new ArrayList<SearchTrace>();
+        final var engine = engine(docs, config -> config
+                .defaultScorer(counting(scored))
+                .metricsSink(traces::add));
+        final var query  = new SearchContext("search", SearchMode.VAGUE, null, 10);
+        final var wider  = new SearchContext("search", SearchMode.VAGUE, null, 20);
+
+        final var results = engine.searchAll(List.of(query,
+                new SearchContext("  SEARCH ", SearchMode.VAGUE, null, 10),
+                new SearchContext("heap", SearchMode.VAGUE, null, 10),
+                wider));
+
+        assertThat(results.get(1)).isSameAs(results.get(0));
+        assertThat(scored).as("three distinct queries, each scoring every document").hasValue(3 * docs.size());
+        assertThat(traces).extracting(SearchTrace::cacheHit).containsExactly(false, true, false, false);
+        assertThat(results.get(3).items()).isEqualTo(engine.search(wider).items());
+        assertThat(engine.searchAll(List.of())).isEmpty();
+        assertThatThrownBy(() -> engine.searchAll(Arrays.asList(query, null)))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("runs each deadline-bound context alone and caches only complete results")
+    void deadlinesAreNeverShared() {
+        final var docs   = corpus(new Random(17), 500);
+        final var scored = new AtomicInteger();
+        final var engine = engine(docs, config -> config
+                .defaultScorer(counting(scored))
+                .resultCache(new LruResultCache<>(16)));
+        final var query  = new SearchContext("search", SearchMode.VAGUE, null, 10);
+
+        final var results = engine.searchAll(List.of(query.withTimeout(Duration.ZERO), query,
+                query.withTimeout(Duration.ofMinutes(1)), query.withTimeout(Duration.ZERO)));
+
+        assertThat(results).extracting(SearchResult::truncated).containsExactly(true, false, false, true);
+        assertThat(results.get(0).items()).isEmpty();
+        assertThat(results.get(2).items()).isEqualTo(results.get(1).items()).isNotEmpty();
+        // Either complete result may be the cached one; a repeat is served without scoring
+        final var before = scored.get();
+        assertThat(engine.search(query).items()).isEqualTo(results.get(1).items());
+        assertThat(scored).hasValue(before);
+    }
+
+    @Test
+    @DisplayName("runs the pre- and post-search hooks once per context, post-search in input order")
+    void runsHooksInInputOrder() {
+        final var docs   = corpus(new Random(18), 500);
+        final var pre    = new AtomicInteger();
+        final var post   = new ArrayList<String>();
+        final var caller = Thread.currentThread();
+        final var config = SearchEngineConfig.<Doc>builder()
+                .index(index(docs))
+                .defaultScorer(scorer())
+                .maxResults(ALL)
+                .build();
+        final var engine = new ConfigurableSearchEngine<>(config) {
+            @Override
+            protected SearchContext preSearch(final SearchContext context) {
+                pre.incrementAndGet();
+                return new SearchContext(context.rawInput() + " shard", context.forcedMode(), null, 5);
+            }
+
+            @Override
+            protected SearchResult<Doc> postSearch(final SearchContext context, final SearchResult<Doc> result) {
+                assertThat(Thread.currentThread()).isSameAs(caller);
+                post.add(context.rawInput());
+                return result;
+            }
+        };
+        final var queries = List.of("search", "index", "search", "rank", "heap");
+
+        final var results = engine.searchAll(queries.stream()
+                .map(query -> new SearchContext(query, SearchMode.VAGUE, null, ALL))
+                .toList());
+
+        assertThat(pre).hasValue(queries.size());
+        assertThat(post).containsExactlyElementsOf(queries.stream().map(query -> query + " shard").toList());
+        assertThat(results).allSatisfy(result -> assertThat(result.items()).hasSizeLessThanOrEqualTo(5));
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    /** A shared-pass engine, with bitmap and per-document filters, pruning, parallel scoring and WAND, by name. */
+    private static Map<String, ConfigurableSearchEngine<Doc>> engines(final List<Doc> docs) {
+        final var engines = new LinkedHashMap<String, ConfigurableSearchEngine<Doc>>();
+        engines.put("scan", engine(docs, config -> config));
+        engines.put("bitmap", engine(docs, config -> config.filter(FilterChain.not(
+                IndexableFilter.fromContext("tier", Doc::tier, "tier", Integer.class)))));
+        engines.put("filtered", engine(docs, config -> config.filter(FilterChain.of(
+                IndexableFilter.fromContext("tier", Doc::tier, "tier", Integer.class),
+                (doc, ctx) -> !doc.id().endsWith("3")))));
+        engines.put("pruned", engine(docs, config -> config.candidatePruning(SearchMode.SPECIFIC)));
+        engines.put("parallel", engine(docs, config -> config.parallelScoring(ParallelScoring.forkJoin(64, 4))));
+
+        final var index      = index(docs);
+        final var statistics = Bm25Statistics.<Doc>builder().textExtractor(Doc::text).build();
+        statistics.attach(index);
+        engines.put("wand", new ConfigurableSearchEngine<>(SearchEngineConfig.<Doc>builder()
+                .index(index)
+                .defaultScorer(Bm25Scorer.<Doc>builder().textExtractor(Doc::text).statistics(statistics).build())
+                .retriever(SearchMode.VAGUE, WandRetriever.<Doc>builder()
+                        .postings(index::openReader)
+                        .statistics(statistics)
+                        .build())
+                .maxResults(ALL)
+                .build()));
+        return engines;
+    }
+
+    /** An engine over {@code docs}, configured further by {@code setup}. */
+    private static ConfigurableSearchEngine<Doc> engine(final List<Doc> docs,
+                                                        final UnaryOperator<SearchEngineConfig.Builder<Doc>> setup) {
+        return new ConfigurableSearchEngine<>(setup.apply(SearchEngineConfig.<Doc>builder()
+                .index(index(docs))
+                .defaultScorer(scorer())
+                .maxResults(ALL)).build());
+    }
+
+    private static InvertedIndex<Doc> index(final List<Doc> docs) {
+        final var index = InvertedIndex.<Doc>builder().textExtractor(Doc::text).build();
+        docs.forEach(doc -> index.add(doc.id(), doc));
+        return index;
+    }
+
+    private static ScoringStrategy<Doc> scorer() {
+        return TextMatchScorer.<Doc>builder().titleExtractor(Doc::text).build();
+    }
+
+    private static ScoringStrategy<Doc> counting(final AtomicInteger scored) {
+        final var scorer = scorer();
+        return (item, context) -> {
+            scored.incrementAndGet();
+            return scorer.score(item, context);
+        };
+    }
+
+    /** One or two words, a mode, a limit and sometimes a tier: few enough combinations to repeat. */
+    private static SearchContext context(final Random random) {
+        return new SearchContext(VOCABULARY.words(random, 1 + random.nextInt(2)), MODES[random.nextInt(MODES.length)],
+                random.nextInt(4) == 0 ? Map.of("tier", random.nextInt(3)) : null,
+                random.nextBoolean() ? 10 : ALL);
+    }
+
+    private static List<Doc> corpus(final Random random, final int size) {
+        return TestCorpus.documents(random, size, (id, r) ->
+                new Doc(id, VOCABULARY.words(r, 1 + r.nextInt(8)), r.nextInt(3)));
+    }
+}
@@ -0,0 +1,139 @@
+package search.engine.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.algorithm.ScoringStrategy;
+import search.api.classify.SearchMode;
+import search.api.core.SearchContext;
+import search.engine.cache.LruResultCache;
+import search.engine.config.ParallelScoring;
+import search.engine.config.SearchEngineConfig;
+import search.engine.index.InMemoryIndex;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static search.engine.testing.TestCorpus.ALL;
+
+/**
+ * Cancelling the future of {@link ConfigurableSearchEngine#searchAsync} stops the search at
+ * its next check, as an expired deadline does, and a cut-short result is never cached.
+ */
+@DisplayName("Async search")
+class SearchAsyncTest {
+
+    private static final int DOCUMENTS = 5_000;
+
+    private record Doc(String id) {}
+
+    @Test
+    @DisplayName("stops scoring soon after its future is cancelled, sequentially or in parallel")
+    void cancellationStopsScoring() throws Exception {
+        for (final var parallelScoring : List.of(ParallelScoring.disabled(), ParallelScoring.forkJoin(1, 4))) {
+            final var scorer   = new BlockingScorer();
+            final var engine   = engine(index(), scorer, parallelScoring, null);
+            final var executor = Executors.newSingleThreadExecutor();
+            try {
+                final var future = engine.searchAsync(context(), executor);
+                assertThat(scorer.started.await(10, TimeUnit.SECONDS)).isTrue();
+                assertThat(future.cancel(false)).isTrue();
+                scorer.release.countDown();
+
+                assertThatThrownBy(future::join).isInstanceOf(CancellationException.class);
+            } finally {
+                executor.shutdown();
+                assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            }
+            // The blocked chunk stops at its next check, so at least the rest of it is never scored
+            assertThat(scorer.scored.get()).as("%s", parallelScoring).isLessThan(DOCUMENTS);
+        }
+    }
+
+    @Test
+    @DisplayName("never runs a search cancelled before its executor starts it")
+    void cancelledBeforeStartNeverRuns() {
+        final var scorer = new BlockingScorer();
+        scorer.release.countDown();
+        final var engine = engine(index(), scorer, ParallelScoring.disabled(), null);
+        final var queued = new ArrayList<Runnable>();
+
+        final var future = engine.searchAsync(context(), queued::add);
+        future.cancel(false);
+        queued.forEach(Runnable::run);
+
+        assertThat(future).isCancelled();
+        assertThat(scorer.scored).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("flags a search past its deadline truncated and does not cache it")
+    void expiredDeadlineIsNotCached() {
+        final var scorer = new BlockingScorer();
+        scorer.release.countDown();
+        final var engine = engine(index(), scorer, ParallelScoring.disabled(), new LruResultCache<>(16));
+
+        final var expired = engine.searchAsync(context().withTimeout(Duration.ZERO), Runnable::run).join();
+        assertThat(expired.truncated()).isTrue();
+        assertThat(expired.items()).isEmpty();
+
+        final var complete = engine.search(context());
+        assertThat(complete.truncated()).isFalse();
+        assertThat(complete.items()).hasSize(DOCUMENTS);
+        assertThat(engine.search(context())).isSameAs(complete);
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    /** Scores every document 1; the first call blocks until released. */
+    private static final class BlockingScorer implements ScoringStrategy<Doc> {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger  scored  = new AtomicInteger();
+
+        @Override
+        public int score(final Doc item, final SearchContext context) {
+            if (scored.getAndIncrement() == 0) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return 1;
+        }
+    }
+
+    private static SearchContext context() {
+        return new SearchContext("query", SearchMode.VAGUE, null, ALL);
+    }
+
+    private static InMemoryIndex<Doc> index() {
+        final var index = new InMemoryIndex<Doc>();
+        for (var i = 0; i < DOCUMENTS; i++) index.add("d" + i, new Doc("d" + i));
+        return index;
+    }
+
+    /** An engine over {@code index}, caching in {@code cache} (null = no cache). */
+    private static ConfigurableSearchEngine<Doc> engine(final InMemoryIndex<Doc> index,
+                                                        final ScoringStrategy<Doc> scorer,
+                                                        final ParallelScoring parallelScoring,
+                                                        final LruResultCache<Doc> cache) {
+        final var config = SearchEngineConfig.<Doc>builder()
+                .index(index)
+                .defaultScorer(scorer)
+                .parallelScoring(parallelScoring)
+                .maxResults(ALL);
+        if (cache != null) config.resultCache(cache);
+        return new ConfigurableSearchEngine<>(config.build());
+    }
+}
@@ -0,0 +1,174 @@
+package search.engine.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.algorithm.ScoringStrategy;
+import search.api.classify.SearchMode;
+import search.api.core.SearchContext;
+import search.api.filter.SearchFilter;
+import search.api.metrics.PhaseTiming;
+import search.api.metrics.SearchPhase;
+import search.api.metrics.SearchTrace;
+import search.engine.algorithm.TextMatchScorer;
+import search.engine.cache.LruResultCache;
+import search.engine.config.ParallelScoring;
+import search.engine.config.SearchEngineConfig;
+import search.engine.index.InMemoryIndex;
+import search.engine.metrics.HistogramMetricsSink;
+import search.engine.testing.TestCorpus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static search.engine.testing.TestCorpus.ALL;
+
+/**
+ * Each search delivers one {@link SearchTrace} whose phases run in pipeline order and hand
+ * their candidates on — each phase starts with the documents the previous one kept — and
+ * whose scorer invocations and result size are those of the search itself.
+ */
+@DisplayName("Search metrics")
+class SearchMetricsTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.TECH;
+
+    private record Doc(String id, String text, int tier) {}
+
+    @Test
+    @DisplayName("traces every phase in order, with chained candidate counts, sequentially or in parallel")
+    void tracesEveryPhase() {
+        final var random = new Random(10);
+        final var docs   = corpus(random, 3_000);
+        for (final var parallelScoring : List.of(ParallelScoring.disabled(), ParallelScoring.forkJoin(64, 4))) {
+            final var traces = new ArrayList<SearchTrace>();
+            final var scored = new AtomicInteger();
+            final var engine = engine(docs, counting(scored), parallelScoring, (doc, ctx) -> doc.tier() != 0, null,
+                    traces);
+
+            for (var q = 0; q < 30; q++) {
+                final var limit  = q % 3 == 0 ? 5 : ALL;
+                final var result = engine.search(new SearchContext(VOCABULARY.words(random, 1 + random.nextInt(2)),
+                        SearchMode.VAGUE, null, limit));
+                final var trace  = traces.get(q);
+                final var as     = parallelScoring + ", query " + q;
+
+                assertThat(trace.cacheHit()).isFalse();
+                assertThat(trace.mode()).isEqualTo(result.classifiedMode());
+                assertThat(trace.resultSize()).as(as).isEqualTo(result.items().size());
+                assertThat(trace.phases()).extracting(PhaseTiming::phase).as(as)
+                        .containsExactly(SearchPhase.values());
+                assertThat(trace.phases()).allSatisfy(phase -> assertThat(phase.nanos()).isNotNegative());
+                assertThat(trace.totalNanos())
+                        .isGreaterThanOrEqualTo(trace.phases().stream().mapToLong(PhaseTiming::nanos).sum());
+
+                final var filter = trace.phase(SearchPhase.FILTER);
+                assertThat(filter.candidatesIn()).as(as).isEqualTo(docs.size());
+                assertThat(filter.candidatesOut()).as(as)
+                        .isEqualTo((int) docs.stream().filter(doc -> doc.tier() != 0).count());
+                for (var p = 2; p < trace.phases().size(); p++) {
+                    assertThat(trace.phases().get(p).candidatesIn()).as("%s: %s", as, trace.phases().get(p))
+                            .isEqualTo(trace.phases().get(p - 1).candidatesOut());
+                }
+                assertThat(trace.phase(SearchPhase.TRIM).candidatesOut()).isEqualTo(result.items().size());
+                assertThat(trace.scorerInvocations()).as(as).isEqualTo(scored.getAndSet(0))
+                        .isEqualTo(filter.candidatesOut());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("skips to building the empty result once nothing survives")
+    void skipsToEmptyResult() {
+        final var docs     = corpus(new Random(11), 500);
+        final var traces   = new ArrayList<SearchTrace>();
+        final var rejected = engine(docs, scorer(), ParallelScoring.disabled(), SearchFilter.rejectAll(), null,
+                traces);
+        final var allowed  = engine(docs, scorer(), ParallelScoring.disabled(), SearchFilter.allowAll(), null,
+                traces);
+
+        rejected.search(new SearchContext("java", SearchMode.VAGUE, null, 10));
+        assertThat(traces.get(0).phases()).extracting(PhaseTiming::phase)
+                .containsExactly(SearchPhase.CLASSIFY, SearchPhase.FILTER, SearchPhase.TRIM);
+        assertThat(traces.get(0).phase(SearchPhase.FILTER).candidatesOut()).isZero();
+        assertThat(traces.get(0).scorerInvocations()).isZero();
+
+        allowed.search(new SearchContext("cobol", SearchMode.VAGUE, null, 10));
+        assertThat(traces.get(1).phases()).extracting(PhaseTiming::phase)
+                .containsExactly(SearchPhase.CLASSIFY, SearchPhase.FILTER, SearchPhase.SCORE, SearchPhase.TRIM);
+        assertThat(traces.get(1).phase(SearchPhase.SCORE).candidatesOut()).isZero();
+        assertThat(traces.get(1).scorerInvocations()).isEqualTo(docs.size());
+        assertThat(traces.get(1).resultSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("traces a cache hit with no phases and no scoring")
+    void tracesCacheHits() {
+        final var docs      = corpus(new Random(12), 500);
+        final var traces    = new ArrayList<SearchTrace>();
+        final var histogram = new HistogramMetricsSink();
+        final var engine    = engine(docs, scorer(), ParallelScoring.disabled(), SearchFilter.allowAll(),
+                histogram, traces);
+        final var context   = new SearchContext("java streams", SearchMode.VAGUE, null, 10);
+
+        final var first  = engine.search(context);
+        final var second = engine.search(context);
+
+        assertThat(second).isSameAs(first);
+        assertThat(traces.get(0).cacheHit()).isFalse();
+        assertThat(traces.get(1).cacheHit()).isTrue();
+        assertThat(traces.get(1).phases()).isEmpty();
+        assertThat(traces.get(1).scorerInvocations()).isZero();
+        assertThat(traces.get(1).resultSize()).isEqualTo(first.items().size());
+
+        assertThat(histogram.searches()).isEqualTo(2);
+        assertThat(histogram.cacheHits()).isEqualTo(1);
+        assertThat(histogram.scorerInvocations().count()).as("cache hits score nothing").isEqualTo(1);
+        assertThat(histogram.phaseNanos(SearchPhase.SCORE).count()).isEqualTo(1);
+        assertThat(histogram.resultSizes().count()).isEqualTo(2);
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    private static ScoringStrategy<Doc> scorer() {
+        return TextMatchScorer.<Doc>builder().titleExtractor(Doc::text).build();
+    }
+
+    private static ScoringStrategy<Doc> counting(final AtomicInteger scored) {
+        final var scorer = scorer();
+        return (item, context) -> {
+            scored.incrementAndGet();
+            return scorer.score(item, context);
+        };
+    }
+
+    /**
+     * An engine over {@code docs} recording traces to {@code traces} — and to {@code histogram},
+     * with a result cache, unless null.
+     */
+    private static ConfigurableSearchEngine<Doc> engine(final List<Doc> docs, final ScoringStrategy<Doc> scorer,
+                                                        final ParallelScoring parallelScoring,
+                                                        final SearchFilter<Doc> filter,
+                                                        final HistogramMetricsSink histogram,
+                                                        final List<SearchTrace> traces) {
+        final var index = new InMemoryIndex<Doc>();
+        docs.forEach(doc -> index.add(doc.id(), doc));
+        final var config = SearchEngineConfig.<Doc>builder()
+                .index(index)
+                .defaultScorer(scorer)
+                .parallelScoring(parallelScoring)
+                .filter(filter)
+                .maxResults(ALL)
+                .metricsSink(traces::add);
+        if (histogram != null) config.metricsSink(histogram).resultCache(new LruResultCache<>(16));
+        return new ConfigurableSearchEngine<>(config.build());
+    }
+
+    /** Documents in tiers 0 to 3; the tests filter out tier 0. */
+    private static List<Doc> corpus(final Random random, final int size) {
+        return TestCorpus.documents(random, size, (id, r) ->
+                new Doc(id, VOCABULARY.words(r, 1 + r.nextInt(6)), r.nextInt(4)));
+    }
+}
@@ -0,0 +1,136 @@
+package search.engine.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.classify.SearchMode;
+import search.api.core.ScoredItem;
+import search.api.core.SearchContext;
+import search.engine.algorithm.Bm25Scorer;
+import search.engine.algorithm.Bm25Statistics;
+import search.api.index.SearchIndex;
+import search.engine.config.SearchEngineConfig;
+import search.engine.index.InvertedIndex;
+import search.engine.testing.TestCorpus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static search.engine.testing.TestCorpus.ALL;
+
+/**
+ * With one set of BM25 statistics shared by every shard, a {@link ShardedSearchEngine} scores
+ * each document exactly as one unsharded engine does, so the merged ranking is the same.
+ */
+@DisplayName("ShardedSearchEngine")
+class ShardedSearchEngineTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.TECH;
+
+    private record Doc(String id, String text) {}
+
+    @Test
+    @DisplayName("matches an unsharded engine as documents are added and removed")
+    void matchesUnsharded() {
+        final var random    = new Random(17);
+        final var index     = InvertedIndex.<Doc>builder().textExtractor(Doc::text).build();
+        final var unsharded = unshardedEngine(index);
+        final var sharded   = shardedEngine(4);
+        for (var i = 0; i < 2_000; i++) {
+            final var doc = new Doc("d" + i, VOCABULARY.words(random, 2 + random.nextInt(10)));
+            index.add(doc.id(), doc);
+            sharded.add(doc.id(), doc);
+        }
+
+        for (var round = 0; round < 5; round++) {
+            assertThat(sharded.size()).isEqualTo(index.size());
+            for (var q = 0; q < 20; q++) {
+                final var query = VOCABULARY.words(random, 1 + random.nextInt(3));
+                for (final var limit : new int[] {1, 10, 100, ALL}) {
+                    final var context = new SearchContext(query, SearchMode.VAGUE, null, limit);
+                    assertSameRanking(sharded.search(context).items(), unsharded.search(context).items(), limit,
+                            query + ", limit " + limit);
+                }
+            }
+            for (var i = 0; i < 200; i++) {
+                final var id = "d" + random.nextInt(2_500);
+                if (random.nextInt(3) == 0) {
+                    index.remove(id);
+                    sharded.remove(id);
+                } else {
+                    final var doc = new Doc(id, VOCABULARY.words(random, 2 + random.nextInt(10)));
+                    index.add(id, doc);
+                    sharded.add(id, doc);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("rejects global statistics over a shard index that publishes no mutations")
+    void statisticsNeedObservableShards() {
+        final var statistics = Bm25Statistics.<Doc>builder().textExtractor(Doc::text).build();
+        final var builder    = ShardedSearchEngine.<Doc>builder()
+                .shards(2, shard -> SearchEngineConfig.<Doc>builder().index(new ExternalIndex()).build())
+                .statistics(statistics);
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ObservableIndex");
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    /** An index over an external store, which cannot report its mutations. */
+    private static final class ExternalIndex implements SearchIndex<Doc> {
+        @Override public void add(final String id, final Doc item) {}
+        @Override public void remove(final String id) {}
+        @Override public Collection<Doc> all() { return List.of(); }
+        @Override public Optional<Doc> findById(final String id) { return Optional.empty(); }
+        @Override public int size() { return 0; }
+    }
+
+    /**
+     * Same scores in the same order. Ties are broken by shard rather than by index order, so
+     * when the limit cuts a run of ties, only the items above the cut-off score must match.
+     */
+    private static void assertSameRanking(final List<ScoredItem<Doc>> actual, final List<ScoredItem<Doc>> expected,
+                                          final int limit, final String description) {
+        assertThat(actual).as(description).extracting(ScoredItem::score)
+                .containsExactlyElementsOf(expected.stream().map(ScoredItem::score).toList());
+        if (expected.isEmpty()) return;
+        final var cutOff = expected.get(expected.size() - 1).score();
+        assertThat(actual.stream().filter(si -> si.score() > cutOff).toList()).as(description)
+                .containsExactlyInAnyOrderElementsOf(expected.stream().filter(si -> si.score() > cutOff).toList());
+        if (expected.size() < limit) {
+            assertThat(actual).as(description).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    private static ConfigurableSearchEngine<Doc> unshardedEngine(final InvertedIndex<Doc> index) {
+        final var statistics = Bm25Statistics.<Doc>builder().textExtractor(Doc::text).build();
+        statistics.attach(index);
+        return new ConfigurableSearchEngine<>(config(index, statistics));
+    }
+
+    private static ShardedSearchEngine<Doc> shardedEngine(final int shards) {
+        final var statistics = Bm25Statistics.<Doc>builder().textExtractor(Doc::text).build();
+        return ShardedSearchEngine.<Doc>builder()
+                .shards(shards, shard -> config(InvertedIndex.<Doc>builder().textExtractor(Doc::text).build(),
+                        statistics))
+                .statistics(statistics)
+                .build();
+    }
+
+    private static SearchEngineConfig<Doc> config(final InvertedIndex<Doc> index,
+                                                  final Bm25Statistics<Doc> statistics) {
+        return SearchEngineConfig.<Doc>builder()
+                .index(index)
+                .defaultScorer(Bm25Scorer.<Doc>builder().textExtractor(Doc::text).statistics(statistics).build())
+                .candidatePruning(SearchMode.SPECIFIC, SearchMode.VAGUE)
+                .maxResults(ALL)
+                .build();
+    }
+}
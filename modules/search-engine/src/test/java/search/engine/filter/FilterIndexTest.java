@@ -0,0 +1,199 @@
+package search.engine.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.classify.SearchMode;
+import search.api.core.SearchContext;
+import search.api.filter.IndexableFilter;
+import search.api.filter.SearchFilter;
+import search.api.index.SearchIndex;
+import search.engine.algorithm.TextMatchScorer;
+import search.engine.config.SearchEngineConfig;
+import search.engine.core.ConfigurableSearchEngine;
+import search.engine.index.CopyOnWriteIndex;
+import search.engine.index.InMemoryIndex;
+import search.engine.testing.TestCorpus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static search.engine.testing.TestCorpus.ALL;
+
+/**
+ * A {@link FilterIndex} passes exactly the documents its filter passes one by one — through
+ * nested ALL, ANY and NOT chains, documents without a key, and documents added after the
+ * snapshot — and the engine rebuilds it so filtered searches stay exact as the index changes.
+ */
+@DisplayName("FilterIndex")
+class FilterIndexTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.TECH;
+
+    /** Categories a filter may accept; "go" is never a document's, and null is some documents' key. */
+    private static final List<String> ACCEPTABLE = Arrays.asList("java", "kotlin", "scala", "go", null);
+
+    private record Doc(String id, String text, String category, int tier, boolean official) {}
+
+    @Test
+    @DisplayName("matches per-document evaluation on random filter trees and pools")
+    void matchesPredicateOnRandomFilterTrees() {
+        final var random = new Random(11);
+        final var docs   = corpus(random, 400);
+        final var index  = FilterIndex.build(docs, 1);
+        var bitmapOnly = 0;
+
+        for (var round = 0; round < 1_000; round++) {
+            final var filter  = filter(random, 3);
+            final var context = context(random);
+            final var as      = "round " + round;
+
+            assertThat(index.select(index.documents(), filter, context)).as(as)
+                    .isEqualTo(docs.stream().filter(doc -> filter.test(doc, context)).toList());
+
+            // A pool in its own order, with documents the snapshot never saw
+            final var pool = new ArrayList<Doc>();
+            for (final var doc : docs) if (random.nextInt(3) == 0) pool.add(doc);
+            pool.addAll(corpus(random, 20));
+            Collections.shuffle(pool, random);
+            final var expected = pool.stream().filter(doc -> filter.test(doc, context)).toList();
+            final var compiled = index.compiled(filter, context);
+            assertThat(index.select(pool, filter, context)).as(as).isEqualTo(expected);
+            assertThat(pool.stream().filter(doc -> compiled.test(doc, context)).toList()).as(as).isEqualTo(expected);
+
+            final var bits = index.matching(filter, context);
+            if (bits != null) {
+                bitmapOnly++;
+                assertThat(bits).as(as).isEqualTo(ordinals(docs, doc -> filter.test(doc, context)));
+            }
+        }
+        assertThat(bitmapOnly).as("filters answered by bitmaps alone").isGreaterThan(100);
+    }
+
+    @Test
+    @DisplayName("negates and unions keyless documents as per-document evaluation does")
+    void keylessDocumentsUnderNotAndAny() {
+        final var docs    = corpus(new Random(12), 300);
+        final var index   = FilterIndex.build(docs, 1);
+        final var context = new SearchContext("java", SearchMode.VAGUE, null, 10);
+        final var java    = IndexableFilter.<Doc, String>equalTo("category", Doc::category, "java");
+        final var keyless = IndexableFilter.<Doc, String>anyOf("category", Doc::category, ACCEPTABLE);
+        final var anyKey  = IndexableFilter.<Doc>of("category", Doc::category, ctx -> null);
+        final SearchFilter<Doc> ordinary = (doc, ctx) -> doc.tier() == 0;
+
+        // NOT flips the bits of keyless documents too: they fail "java", so they pass its negation
+        assertThat(index.matching(FilterChain.not(java), context))
+                .isEqualTo(ordinals(docs, doc -> !"java".equals(doc.category())));
+        // Accepting null never passes a keyless document
+        assertThat(index.matching(keyless, context)).isEqualTo(ordinals(docs, doc -> doc.category() != null));
+        assertThat(index.matching(FilterChain.not(anyKey), context)).isEqualTo(new BitSet());
+        assertThat(index.matching(FilterChain.anyOf(java, anyKey), context).cardinality()).isEqualTo(docs.size());
+        // An ANY over an ordinary member is tested per document as a whole
+        assertThat(index.matching(FilterChain.anyOf(java, ordinary), context)).isNull();
+        assertThat(index.select(index.documents(), FilterChain.anyOf(java, ordinary), context))
+                .isEqualTo(docs.stream().filter(doc -> "java".equals(doc.category()) || doc.tier() == 0).toList());
+        assertThat(index.select(index.documents(), FilterChain.anyOf(), context)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("keeps filtered searches exact while documents are added, replaced and removed")
+    void engineMatchesPredicateAcrossMutations() {
+        final var random = new Random(13);
+        final SearchFilter<Doc> filter = FilterChain.of(
+                IndexableFilter.fromContext("tier", Doc::tier, "tier", Integer.class),
+                FilterChain.not(IndexableFilter.equalTo("category", Doc::category, "scala")),
+                (doc, ctx) -> !doc.id().endsWith("7"));
+        final SearchFilter<Doc> perDocument = filter::test;
+        assertThat(FilterIndex.supports(filter)).isTrue();
+        assertThat(FilterIndex.supports(perDocument)).isFalse();
+
+        for (final var index : List.<SearchIndex<Doc>>of(new InMemoryIndex<>(), new CopyOnWriteIndex<>())) {
+            final var indexed = engine(index, filter);
+            final var plain   = engine(index, perDocument);
+            for (var step = 0; step < 2_000; step++) {
+                final var id = "d" + random.nextInt(300);
+                switch (random.nextInt(6)) {
+                    case 0, 1 -> index.add(id, doc(id, random));
+                    case 2    -> index.remove(id);
+                    default   -> {
+                        final var context = new SearchContext(VOCABULARY.word(random), SearchMode.VAGUE,
+                                random.nextBoolean() ? Map.of("tier", random.nextInt(4)) : null, ALL);
+                        assertThat(indexed.search(context).items())
+                                .as("%s, step %d", index.getClass().getSimpleName(), step)
+                                .isEqualTo(plain.search(context).items());
+                    }
+                }
+            }
+        }
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    /** A random filter tree: indexable and ordinary leaves under ALL, ANY and NOT chains. */
+    private static SearchFilter<Doc> filter(final Random random, final int depth) {
+        return switch (random.nextInt(depth == 0 ? 5 : 8)) {
+            case 0 -> IndexableFilter.anyOf("category", Doc::category, categories(random));
+            case 1 -> IndexableFilter.when("official", Doc::official);
+            case 2 -> IndexableFilter.fromContext("tier", Doc::tier, "tier", Integer.class);
+            case 3 -> IndexableFilter.of("category", Doc::category, ctx -> null);
+            case 4 -> (doc, ctx) -> doc.text().contains("java");
+            case 5 -> {
+                final var members = new ArrayList<SearchFilter<Doc>>();
+                for (var m = random.nextInt(4); m > 0; m--) members.add(filter(random, depth - 1));
+                yield FilterChain.ofList(members);
+            }
+            case 6 -> switch (random.nextInt(3)) {
+                case 0  -> FilterChain.<Doc>anyOf();
+                case 1  -> FilterChain.anyOf(filter(random, depth - 1));
+                default -> FilterChain.anyOf(filter(random, depth - 1), filter(random, depth - 1));
+            };
+            default -> FilterChain.not(filter(random, depth - 1));
+        };
+    }
+
+    /** Up to three accepted categories, possibly none, possibly null. */
+    private static List<String> categories(final Random random) {
+        final var accepted = new ArrayList<String>();
+        for (var c = random.nextInt(4); c > 0; c--) accepted.add(ACCEPTABLE.get(random.nextInt(ACCEPTABLE.size())));
+        return accepted;
+    }
+
+    /** Searches restricted to a tier half the time, so {@code fromContext} filters also pass everything. */
+    private static SearchContext context(final Random random) {
+        return new SearchContext("java", SearchMode.VAGUE,
+                random.nextBoolean() ? Map.of("tier", random.nextInt(4)) : null, 10);
+    }
+
+    private static BitSet ordinals(final List<Doc> docs, final Predicate<Doc> passes) {
+        final var bits = new BitSet(docs.size());
+        IntStream.range(0, docs.size()).filter(i -> passes.test(docs.get(i))).forEach(bits::set);
+        return bits;
+    }
+
+    private static ConfigurableSearchEngine<Doc> engine(final SearchIndex<Doc> index, final SearchFilter<Doc> filter) {
+        return new ConfigurableSearchEngine<>(SearchEngineConfig.<Doc>builder()
+                .index(index)
+                .defaultScorer(TextMatchScorer.<Doc>builder().titleExtractor(Doc::text).build())
+                .filter(filter)
+                .maxResults(ALL)
+                .build());
+    }
+
+    private static List<Doc> corpus(final Random random, final int size) {
+        return TestCorpus.documents(random, size, FilterIndexTest::doc);
+    }
+
+    /** A fifth of the documents have no category. */
+    private static Doc doc(final String id, final Random random) {
+        return new Doc(id, VOCABULARY.words(random, 1 + random.nextInt(4)),
+                random.nextInt(5) == 0 ? null : ACCEPTABLE.get(random.nextInt(3)), random.nextInt(4),
+                random.nextBoolean());
+    }
+}
@@ -0,0 +1,99 @@
+package search.engine.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.index.IndexListener;
+import search.engine.algorithm.Bm25Statistics;
+import search.engine.testing.TestCorpus;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Generations of a {@link CopyOnWriteIndex} are published atomically and their mutation
+ * events reach listeners in generation order, even with concurrent writers.
+ */
+@DisplayName("CopyOnWriteIndex")
+class CopyOnWriteIndexTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.GREEK.first(5);
+
+    @Test
+    @DisplayName("a batch that throws publishes nothing and notifies nobody")
+    void failedBatchPublishesNothing() {
+        final var index  = new CopyOnWriteIndex<String>();
+        final var events = new ConcurrentLinkedQueue<String>();
+        index.addListener(recorder(events));
+        index.add("a", "alpha");
+
+        assertThatThrownBy(() -> index.update(batch -> {
+            batch.add("b", "beta");
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(index.version()).isEqualTo(1);
+        assertThat(index.findById("b")).isEmpty();
+        assertThat(events).containsExactly("+a");
+    }
+
+    @Test
+    @DisplayName("concurrent writers deliver each document's events in order")
+    void concurrentWritersDeliverInGenerationOrder() {
+        final var index      = new CopyOnWriteIndex<String>();
+        final var statistics = Bm25Statistics.<String>builder().textExtractor(text -> text).build();
+        final var violations = new ConcurrentLinkedQueue<String>();
+        final Set<String> present = new HashSet<>();
+        index.addListener(statistics);
+        index.addListener(new IndexListener<String>() {
+            @Override
+            public void onAdd(final String id, final String item) {
+                synchronized (present) {
+                    if (!present.add(id)) violations.add("add before remove: " + id);
+                }
+                Thread.yield();
+            }
+
+            @Override
+            public void onRemove(final String id, final String item) {
+                synchronized (present) {
+                    if (!present.remove(id)) violations.add("remove before add: " + id);
+                }
+                Thread.yield();
+            }
+        });
+
+        IntStream.range(0, 4).parallel().forEach(seed -> {
+            final var random = new Random(seed);
+            for (var step = 0; step < 2_000; step++) {
+                final var id = "d" + random.nextInt(16);
+                if (random.nextInt(3) == 0) {
+                    index.remove(id);
+                } else {
+                    index.add(id, VOCABULARY.words(random, 2));
+                }
+            }
+        });
+
+        assertThat(violations).isEmpty();
+        final var recount = Bm25Statistics.<String>builder().textExtractor(text -> text).build();
+        recount.rebuild(index.all());
+        assertThat(statistics.documentCount()).isEqualTo(recount.documentCount()).isEqualTo(index.size());
+        assertThat(statistics.totalLength()).isEqualTo(recount.totalLength());
+        for (final var term : VOCABULARY.vocabulary()) {
+            assertThat(statistics.documentFrequency(term)).as(term).isEqualTo(recount.documentFrequency(term));
+        }
+    }
+
+    private static IndexListener<String> recorder(final ConcurrentLinkedQueue<String> events) {
+        return new IndexListener<>() {
+            @Override public void onAdd(final String id, final String item)    { events.add("+" + id); }
+            @Override public void onRemove(final String id, final String item) { events.add("-" + id); }
+        };
+    }
+}
@@ -0,0 +1,235 @@
+package search.engine.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import search.api.index.IndexListener;
+import search.api.index.PostingsCursor;
+import search.engine.algorithm.Bm25Statistics;
+import search.engine.testing.TestCorpus;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Live document frequencies and snapshots of an {@link InvertedIndex} must describe exactly the
+ * postings it stores, whatever happened to the documents after they were indexed.
+ */
+@DisplayName("InvertedIndex")
+class InvertedIndexTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.GREEK;
+
+    /** A document whose text can change after it was indexed. */
+    private static final class Doc {
+        final String id;
+        String text;
+
+        Doc(final String id, final String text) {
+            this.id   = id;
+            this.text = text;
+        }
+    }
+
+    @Test
+    @DisplayName("removal uncounts the terms indexed, not the document's current text")
+    void removalUsesIndexedTerms() {
+        final var index = InvertedIndex.<Doc>builder().textExtractor(doc -> doc.text).build();
+        final var doc   = new Doc("a", "alpha beta");
+        index.add(doc.id, doc);
+        index.add("b", new Doc("b", "beta"));
+
+        doc.text = "gamma";   // mutated after indexing
+        index.remove("a");
+
+        assertThat(index.documentFrequency("alpha")).isZero();
+        assertThat(index.documentFrequency("beta")).isEqualTo(1);
+        assertThat(index.documentFrequency("gamma")).isZero();
+    }
+
+    @Test
+    @DisplayName("snapshot of an index with tombstones and mutated documents restores identically")
+    void snapshotRoundTrip(@TempDir final Path directory) throws IOException {
+        final var random = new Random(7);
+        final var index  = InvertedIndex.<Doc>builder().textExtractor(doc -> doc.text).build();
+        final var live   = new HashMap<String, Doc>();
+        for (var step = 0; step < 3_000; step++) {
+            final var id = "d" + random.nextInt(600);
+            if (random.nextInt(4) == 0) {
+                index.remove(id);
+                live.remove(id);
+            } else {
+                final var doc = new Doc(id, words(random));
+                index.add(id, doc);
+                live.put(id, doc);
+            }
+            // Some live documents change after indexing; the index must not notice
+            if (random.nextInt(10) == 0 && !live.isEmpty()) {
+                live.values().iterator().next().text = words(random);
+            }
+        }
+
+        final var path = directory.resolve("index.snap");
+        index.writeSnapshot(path, 42L);
+        final var restored = InvertedIndex.<Doc>builder().textExtractor(doc -> doc.text).build();
+        assertThat(restored.restoreSnapshot(path, 42L, live::get)).isTrue();
+
+        assertThat(restored.size()).isEqualTo(index.size()).isEqualTo(live.size());
+        for (final var term : VOCABULARY.vocabulary()) {
+            assertThat(restored.documentFrequency(term)).as(term).isEqualTo(index.documentFrequency(term));
+            assertThat(postings(restored, term)).as(term).isEqualTo(postings(index, term));
+            assertThat(restored.candidates(term)).as(term).containsExactlyElementsOf(index.candidates(term));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = CompressedPostings.Encoding.class, names = {"VBYTE", "FOR"})
+    @DisplayName("frozen postings answer exactly like growable ones")
+    void compressedPostingsMatchRaw(final CompressedPostings.Encoding encoding, @TempDir final Path directory)
+            throws IOException {
+        final var random     = new Random(9);
+        final var raw        = InvertedIndex.<Doc>builder().textExtractor(doc -> doc.text).build();
+        final var compressed = InvertedIndex.<Doc>builder().textExtractor(doc -> doc.text)
+                .postingsEncoding(encoding).build();
+        for (var step = 0; step < 3_000; step++) {
+            final var id = "d" + random.nextInt(600);
+            if (random.nextInt(4) == 0) {
+                raw.remove(id);
+                compressed.remove(id);
+            } else {
+                final var text = words(random);
+                raw.add(id, new Doc(id, text));
+                compressed.add(id, new Doc(id, text));
+            }
+            // Freeze now and then, so lists mix frozen postings, appended ones and tombstones;
+            // compacting both keeps their ordinals aligned
+            if (step % 700 == 0) {
+                raw.compact();
+                compressed.compact();
+            }
+            if (step % 100 == 0) assertSameIndex(compressed, raw, random);
+        }
+        raw.compact();
+        compressed.compact();
+        assertSameIndex(compressed, raw, random);
+
+        final var path = directory.resolve("index.snap");
+        raw.writeSnapshot(path, 1L);
+        final var byId = new HashMap<String, Doc>();
+        raw.all().forEach(doc -> byId.put(doc.id, doc));
+        final var restored = InvertedIndex.<Doc>builder().textExtractor(doc -> doc.text)
+                .postingsEncoding(encoding).build();
+        assertThat(restored.restoreSnapshot(path, 1L, byId::get)).isTrue();
+        assertSameIndex(restored, raw, random);
+    }
+
+    @Test
+    @DisplayName("concurrent writers' events reach listeners in mutation order")
+    void concurrentWritersDeliverInMutationOrder() {
+        final var index      = InvertedIndex.<String>builder().textExtractor(text -> text).build();
+        final var statistics = Bm25Statistics.<String>builder().textExtractor(text -> text).build();
+        final var violations = new ConcurrentLinkedQueue<String>();
+        final Set<String> present = new HashSet<>();
+        statistics.attach(index);
+        index.addListener(new IndexListener<String>() {
+            @Override
+            public void onAdd(final String id, final String item) {
+                synchronized (present) {
+                    if (!present.add(id)) violations.add("add before remove: " + id);
+                }
+                Thread.yield();
+            }
+
+            @Override
+            public void onRemove(final String id, final String item) {
+                synchronized (present) {
+                    if (!present.remove(id)) violations.add("remove before add: " + id);
+                }
+                Thread.yield();
+            }
+        });
+
+        IntStream.range(0, 4).parallel().forEach(seed -> {
+            final var random = new Random(seed);
+            for (var step = 0; step < 2_000; step++) {
+                final var id = "d" + random.nextInt(16);
+                if (random.nextInt(3) == 0) {
+                    index.remove(id);
+                } else {
+                    index.add(id, VOCABULARY.words(random, 2));
+                }
+            }
+        });
+
+        assertThat(violations).isEmpty();
+        final var recount = Bm25Statistics.<String>builder().textExtractor(text -> text).build();
+        recount.rebuild(index.all());
+        assertThat(statistics.documentCount()).isEqualTo(recount.documentCount()).isEqualTo(index.size());
+        assertThat(statistics.totalLength()).isEqualTo(recount.totalLength());
+        for (final var term : VOCABULARY.vocabulary()) {
+            assertThat(statistics.documentFrequency(term)).as(term).isEqualTo(recount.documentFrequency(term));
+        }
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    /** Same frequencies, postings, candidates and skips for every term; ordinals must be aligned. */
+    private static void assertSameIndex(final InvertedIndex<Doc> actual, final InvertedIndex<Doc> expected,
+                                        final Random random) {
+        assertThat(actual.size()).isEqualTo(expected.size());
+        for (final var term : VOCABULARY.vocabulary()) {
+            assertThat(actual.documentFrequency(term)).as(term).isEqualTo(expected.documentFrequency(term));
+            assertThat(postings(actual, term)).as(term).isEqualTo(postings(expected, term));
+            assertThat(actual.candidates(term)).as(term).extracting(doc -> doc.id)
+                    .containsExactlyElementsOf(expected.candidates(term).stream().map(doc -> doc.id).toList());
+            final var seed = random.nextLong();
+            assertThat(advances(actual, term, new Random(seed))).as(term)
+                    .isEqualTo(advances(expected, term, new Random(seed)));
+        }
+    }
+
+    /** The document IDs a cursor lands on when advanced by random strides. */
+    private static List<String> advances(final InvertedIndex<Doc> index, final String term, final Random random) {
+        final var landed = new ArrayList<String>();
+        try (var reader = index.openReader()) {
+            final var cursor = reader.postings(term);
+            var target = 0;
+            for (var ord = cursor.advance(target); ord != PostingsCursor.NO_MORE_DOCS; ord = cursor.advance(target)) {
+                final var doc = reader.document(ord);
+                landed.add(doc != null ? doc.id : null);
+                target = ord + 1 + random.nextInt(40);
+            }
+        }
+        return landed;
+    }
+
+    /** A term's live postings as (document ID, frequency) pairs, in ordinal order. */
+    private static List<Map.Entry<String, Integer>> postings(final InvertedIndex<Doc> index, final String term) {
+        final var entries = new ArrayList<Map.Entry<String, Integer>>();
+        try (var reader = index.openReader()) {
+            final var cursor = reader.postings(term);
+            for (var ord = cursor.docId(); ord != PostingsCursor.NO_MORE_DOCS; ord = cursor.next()) {
+                final var doc = reader.document(ord);
+                if (doc != null) entries.add(Map.entry(doc.id, cursor.frequency()));
+            }
+        }
+        return entries;
+    }
+
+    private static String words(final Random random) {
+        return VOCABULARY.words(random, 1 + random.nextInt(6));
+    }
+}
@@ -0,0 +1,140 @@
+package search.engine.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link KeywordRegistry#inferFromQuery(String)} finds the same values as a keyword-by-keyword
+ * scan of the query, including phrase keywords that overlap or nest inside one another.
+ */
+@DisplayName("KeywordRegistry")
+class KeywordRegistryTest {
+
+    /** Few letters, so keywords share prefixes and suffixes and phrases overlap often. */
+    private static final String LETTERS = "abc";
+
+    private static final String[] SEPARATORS = {" ", " ", " ", "  ", "\t"};
+
+    @Test
+    @DisplayName("matches a keyword-by-keyword scan on random registries and queries")
+    void matchesNaiveScan() {
+        final var random = new Random(7);
+        for (var round = 0; round < 500; round++) {
+            final var keywords = new HashMap<String, Integer>();
+            for (var k = 1 + random.nextInt(30); k > 0; k--) {
+                final var keyword = random.nextInt(3) == 0 ? phrase(random, 2 + random.nextInt(2)) : word(random);
+                keywords.put(keyword, random.nextInt(12));
+            }
+            final var registry = KeywordRegistry.<Integer>builder().registerAll(keywords).build();
+
+            for (var q = 0; q < 20; q++) {
+                final var query = phrase(random, 1 + random.nextInt(6));
+                assertThat(registry.inferFromQuery(query)).as("%s in %s", query, keywords)
+                        .isEqualTo(naiveScan(keywords, query));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("reports every overlapping phrase, in the order the phrases end")
+    void reportsOverlappingPhrases() {
+        final var registry = KeywordRegistry.<String>builder()
+                .register("virtual threads", "vt")
+                .register("threads pool", "tp")
+                .register("virtual threads pool", "vtp")
+                .register("pool", "p")
+                .build();
+
+        // "virtual threads" ends first; "virtual threads pool" and "threads pool" end together, longest first
+        assertThat(registry.inferFromQuery("Virtual Threads Pool")).containsExactly("p", "vt", "vtp", "tp");
+        assertThat(registry.inferFromQuery("threads pool")).containsExactly("p", "tp");
+    }
+
+    @Test
+    @DisplayName("matches phrases as substrings of the query, across word boundaries")
+    void matchesPhrasesAsSubstrings() {
+        final var registry = KeywordRegistry.<String>builder()
+                .register("java streams", "js")
+                .register("api", "api")
+                .build();
+
+        assertThat(registry.inferFromQuery("learnjava streamsapi")).containsExactly("js");
+        assertThat(registry.inferFromQuery("java  streams api")).containsExactly("api");
+    }
+
+    @Test
+    @DisplayName("falls back to the alphabetically first keyword sharing each word's prefix")
+    void prefixFallbackIsAlphabetical() {
+        final var registry = KeywordRegistry.<String>builder()
+                .register("concurrency", "concurrency")
+                .register("containers", "containers")
+                .register("conditions", "conditions")
+                .register("streams", "streams")
+                .build();
+
+        assertThat(registry.inferFromQuery("con con str")).containsExactly("concurrency", "conditions", "streams");
+        assertThat(registry.inferFromQuery("co st")).isEmpty();
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    private static String word(final Random random) {
+        final var word = new StringBuilder();
+        for (var i = 1 + random.nextInt(4); i > 0; i--) word.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        return random.nextInt(8) == 0 ? word.toString().toUpperCase() : word.toString();
+    }
+
+    private static String phrase(final Random random, final int words) {
+        final var phrase = new StringBuilder(word(random));
+        for (var i = 1; i < words; i++) {
+            phrase.append(SEPARATORS[random.nextInt(SEPARATORS.length)]).append(word(random));
+        }
+        return phrase.toString();
+    }
+
+    /**
+     * Exact words in query order, then phrases by end position (longest first), then — only if
+     * nothing matched — one value per word from the alphabetically first keyword sharing its prefix.
+     */
+    private static <V> List<V> naiveScan(final Map<String, V> registered, final String query) {
+        final var keywords = new TreeMap<String, V>();
+        registered.forEach((keyword, value) -> keywords.put(keyword.strip().toLowerCase(), value));
+        final var normalised = query.strip().toLowerCase();
+        final var words      = normalised.split("\\s+");
+        final var result     = new LinkedHashSet<V>();
+
+        for (final var word : words) {
+            if (keywords.containsKey(word)) result.add(keywords.get(word));
+        }
+
+        final var phrases = new ArrayList<>(keywords.keySet().stream().filter(k -> k.contains(" ")).toList());
+        phrases.sort(Comparator.comparingInt(String::length).reversed());
+        for (var end = 1; end <= normalised.length(); end++) {
+            for (final var phrase : phrases) {
+                final var start = end - phrase.length();
+                if (start >= 0 && normalised.startsWith(phrase, start)) result.add(keywords.get(phrase));
+            }
+        }
+
+        if (result.isEmpty()) {
+            for (final var word : words) {
+                if (word.length() < 3) continue;
+                for (final var keyword : keywords.entrySet()) {
+                    if (keyword.getKey().startsWith(word.substring(0, 3)) && result.add(keyword.getValue())) break;
+                }
+            }
+        }
+        return List.copyOf(result);
+    }
+}
@@ -0,0 +1,110 @@
+package search.engine.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import search.engine.testing.TestCorpus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A {@link MappedSegment} answers exactly what was written to it, and refuses to open a file
+ * that was truncated or whose header was damaged instead of failing in a later lookup.
+ */
+@DisplayName("MappedSegment")
+class MappedSegmentTest {
+
+    private static final TestCorpus VOCABULARY = TestCorpus.GREEK;
+
+    private record Doc(String id, String text) {}
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("reads back the IDs, lengths and document frequencies written")
+    void roundTrips() throws IOException {
+        final var docs    = corpus(new Random(12), 300);
+        final var segment = MappedSegment.open(write(docs));
+
+        assertThat(segment.documentCount()).isEqualTo(docs.size());
+        for (var ordinal = 0; ordinal < docs.size(); ordinal++) {
+            final var id = docs.get(ordinal).id();
+            assertThat(segment.documentId(ordinal)).isEqualTo(id);
+            assertThat(segment.ordinalOf(id)).isEqualTo(ordinal);
+            assertThat(segment.documentLength(ordinal)).isEqualTo(docs.get(ordinal).text().split(" ").length);
+        }
+        assertThat(segment.ordinalOf("absent")).isEqualTo(-1);
+        for (final var term : VOCABULARY.vocabulary()) {
+            final var expected = docs.stream().filter(doc -> List.of(doc.text().split(" ")).contains(term)).count();
+            assertThat(segment.documentFrequency(term)).as(term).isEqualTo((int) expected);
+        }
+        assertThat(segment.documentFrequency("omega")).isZero();
+    }
+
+    @Test
+    @DisplayName("opens an empty segment")
+    void opensEmptySegment() throws IOException {
+        final var segment = MappedSegment.open(write(List.of()));
+
+        assertThat(segment.documentCount()).isZero();
+        assertThat(segment.search("alpha", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("rejects a file truncated at any length, or with bytes appended")
+    void rejectsTruncatedFile() throws IOException {
+        final var bytes = Files.readAllBytes(write(corpus(new Random(13), 40)));
+        final var copy  = directory.resolve("copy.seg");
+
+        for (var length = 0; length < bytes.length; length++) {
+            Files.write(copy, Arrays.copyOf(bytes, length));
+            assertThatThrownBy(() -> MappedSegment.open(copy)).as("length %d", length).isInstanceOf(IOException.class);
+        }
+        Files.write(copy, Arrays.copyOf(bytes, bytes.length + 4));
+        assertThatThrownBy(() -> MappedSegment.open(copy)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("rejects a header with any single bit flipped")
+    void rejectsCorruptHeader() throws IOException {
+        final var bytes = Files.readAllBytes(write(corpus(new Random(14), 40)));
+        final var copy  = directory.resolve("copy.seg");
+
+        for (var at = 0; at < SegmentFormat.HEADER_BYTES; at++) {
+            // The total length only skews the average document length, so it cannot be checked
+            if (at >= SegmentFormat.TOTAL_LENGTH_AT && at < SegmentFormat.TOTAL_LENGTH_AT + Long.BYTES) continue;
+            for (var bit = 0; bit < Byte.SIZE; bit++) {
+                final var corrupt = bytes.clone();
+                corrupt[at] ^= (byte) (1 << bit);
+                Files.write(copy, corrupt);
+                assertThatThrownBy(() -> MappedSegment.open(copy)).as("byte %d, bit %d", at, bit)
+                        .isInstanceOf(IOException.class);
+            }
+        }
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    private Path write(final List<Doc> docs) throws IOException {
+        final var writer = SegmentWriter.<Doc>builder().textExtractor(Doc::text).build();
+        docs.forEach(doc -> writer.add(doc.id(), doc));
+        final var path = directory.resolve("corpus.seg");
+        writer.write(path);
+        return path;
+    }
+
+    /** IDs include non-ASCII characters, so the ID table sorts multi-byte UTF-8. */
+    private static List<Doc> corpus(final Random random, final int size) {
+        return TestCorpus.documents(random, size, (id, r) ->
+                new Doc(r.nextInt(5) == 0 ? id + "é" : id, VOCABULARY.words(r, 1 + r.nextInt(8))));
+    }
+}
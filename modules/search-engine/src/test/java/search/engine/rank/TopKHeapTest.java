@@ -0,0 +1,112 @@
+package search.engine.rank;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import search.api.core.ScoredItem;
+import search.api.core.SearchContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * A {@link TopKHeap} selects exactly the first {@code k} items of a stable score-descending
+ * sort, alone or merged from heaps filled independently.
+ */
+@DisplayName("TopKHeap")
+class TopKHeapTest {
+
+    @Test
+    @DisplayName("matches a stable full sort on random scores with many ties")
+    void matchesFullSort() {
+        final var random = new Random(3);
+        for (var round = 0; round < 200; round++) {
+            final var items = scored(random, 1 + random.nextInt(500), 1 + random.nextInt(20));
+            final var k     = 1 + random.nextInt(60);
+
+            final var heap = new TopKHeap<String>(k);
+            for (var i = 0; i < items.size(); i++) heap.offer(items.get(i).item(), items.get(i).score(), i);
+
+            assertThat(heap.toSortedList()).as("round %d, k=%d", round, k).isEqualTo(fullSort(items, k));
+        }
+    }
+
+    @Test
+    @DisplayName("keeps selecting correctly after being sorted mid-stream")
+    void sortingLeavesHeapUsable() {
+        final var random = new Random(5);
+        for (var round = 0; round < 200; round++) {
+            final var items = scored(random, 1 + random.nextInt(500), 1 + random.nextInt(20));
+            final var k     = 1 + random.nextInt(60);
+
+            final var heap = new TopKHeap<String>(k);
+            for (var i = 0; i < items.size(); i++) {
+                heap.offer(items.get(i).item(), items.get(i).score(), i);
+                if (random.nextInt(50) == 0) {
+                    assertThat(heap.toSortedList()).as("round %d, after %d", round, i)
+                            .isEqualTo(fullSort(items.subList(0, i + 1), k));
+                }
+            }
+            assertThat(heap.toSortedList()).as("round %d, k=%d", round, k).isEqualTo(fullSort(items, k));
+            assertThat(heap.toSortedList()).as("round %d, sorted twice", round).isEqualTo(fullSort(items, k));
+        }
+    }
+
+    @Test
+    @DisplayName("merged heaps match a single heap")
+    void mergedHeapsMatch() {
+        final var random = new Random(4);
+        for (var round = 0; round < 100; round++) {
+            final var items  = scored(random, 1 + random.nextInt(500), 1 + random.nextInt(10));
+            final var k      = 1 + random.nextInt(40);
+            final var parts  = 1 + random.nextInt(6);
+            final var merged = new TopKHeap<String>(k);
+            for (var part = 0; part < parts; part++) {
+                final var heap = new TopKHeap<String>(k);
+                for (var i = part; i < items.size(); i += parts) heap.offer(items.get(i).item(), items.get(i).score(), i);
+                merged.mergeFrom(heap);
+            }
+            assertThat(merged.toSortedList()).as("round %d", round).isEqualTo(fullSort(items, k));
+        }
+    }
+
+    @Test
+    @DisplayName("orders items sharing score and sequence by retention, without breaking the sort")
+    void equalKeysKeepRetentionOrder() {
+        final var heap = new TopKHeap<String>(2_000);
+        for (var i = 0; i < 2_000; i++) heap.offer("d" + i, i % 2, 7L);
+
+        final var expected = new ArrayList<String>();
+        for (var i = 1; i < 2_000; i += 2) expected.add("d" + i);
+        for (var i = 0; i < 2_000; i += 2) expected.add("d" + i);
+        assertThat(heap.toSortedList()).extracting(ScoredItem::item).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("ScoreRanker returns an unmodifiable list")
+    void scoreRankerResultIsUnmodifiable() {
+        final var ranked = ScoreRanker.<String>instance()
+                .rank(List.of(new ScoredItem<>("a", 1), new ScoredItem<>("b", 2)), SearchContext.of("query"));
+        assertThat(ranked).extracting(ScoredItem::item).containsExactly("b", "a");
+        assertThatThrownBy(() -> ranked.add(new ScoredItem<>("c", 3)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    // ─── Fixtures ──────────────────────────────────────────────────
+
+    private static List<ScoredItem<String>> scored(final Random random, final int count, final int distinctScores) {
+        final var items = new ArrayList<ScoredItem<String>>(count);
+        for (var i = 0; i < count; i++) items.add(new ScoredItem<>("d" + i, random.nextInt(distinctScores)));
+        return items;
+    }
+
+    /** The first {@code k} items of a stable score-descending sort. */
+    private static List<ScoredItem<String>> fullSort(final List<ScoredItem<String>> items, final int k) {
+        final var sorted = new ArrayList<>(items);
+        sorted.sort((a, b) -> Integer.compare(b.score(), a.score()));
+        return sorted.subList(0, Math.min(k, sorted.size()));
+    }
+}
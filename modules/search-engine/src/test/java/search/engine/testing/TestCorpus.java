@@ -0,0 +1,87 @@
+package search.engine.testing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiFunction;
+
+/**
+ * A fixed vocabulary that seeded tests draw random document text and queries from.
+ *
+ * <p>Property tests compare two paths — pruned and exhaustive, parallel and sequential,
+ * sharded and unsharded — on many generated documents; the vocabulary is small so that
+ * queries match often and scores tie often. Words are drawn uniformly, or with a skew
+ * towards the start of the vocabulary so that term frequencies and score bounds differ
+ * widely.
+ */
+public final class TestCorpus {
+
+    /** Large enough to return every match. */
+    public static final int ALL = 10_000;
+
+    /** Technology terms, each distinct. */
+    public static final TestCorpus TECH = new TestCorpus(0,
+            "java", "streams", "records", "lambda", "spring", "testing", "gradle", "maven",
+            "docker", "kubernetes", "virtual", "threads", "pattern", "matching", "sealed", "modules");
+
+    /** Technology terms where several are prefixes, plurals or stems of one another. */
+    public static final TestCorpus PREFIXED = new TestCorpus(0,
+            "kubernetes", "kube", "java", "javascript", "streams", "stream", "records", "docker",
+            "spring", "springboot", "testing", "test", "lambda", "lambdas", "gradle", "maven");
+
+    /** Search terms drawn with a roughly Zipfian skew: early terms are common, late ones rare. */
+    public static final TestCorpus SKEWED = new TestCorpus(2.5,
+            "the", "search", "index", "query", "score", "rank", "term", "postings",
+            "cursor", "pivot", "bound", "heap", "skip", "block", "shard", "wand");
+
+    /** Greek letter names, for index tests that count terms per document. */
+    public static final TestCorpus GREEK = new TestCorpus(0,
+            "alpha", "beta", "gamma", "delta", "epsilon", "zeta", "eta", "theta");
+
+    private final String[] vocabulary;
+    /** Exponent of the skew towards early words; 0 draws uniformly. */
+    private final double skew;
+
+    private TestCorpus(final double skew, final String... vocabulary) {
+        this.vocabulary = vocabulary;
+        this.skew       = skew;
+    }
+
+    /** Returns a corpus over the first {@code count} words of this one's vocabulary. */
+    public TestCorpus first(final int count) {
+        return new TestCorpus(skew, Arrays.copyOf(vocabulary, count));
+    }
+
+    /** Returns the vocabulary, in order. */
+    public List<String> vocabulary() { return List.of(vocabulary); }
+
+    /** Draws one word. */
+    public String word(final Random random) {
+        final var index = skew > 0
+                ? (int) (vocabulary.length * Math.pow(random.nextDouble(), skew))
+                : random.nextInt(vocabulary.length);
+        return vocabulary[index];
+    }
+
+    /** Draws {@code count} words, separated by single spaces. */
+    public String words(final Random random, final int count) {
+        final var text = new StringBuilder();
+        for (var i = 0; i < count; i++) {
+            if (i > 0) text.append(' ');
+            text.append(word(random));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Builds {@code size} documents with IDs {@code d0}, {@code d1}, … in order, each drawn by
+     * {@code document} from its ID and {@code random}.
+     */
+    public static <D> List<D> documents(final Random random, final int size,
+                                        final BiFunction<String, Random, D> document) {
+        final var documents = new ArrayList<D>(size);
+        for (var i = 0; i < size; i++) documents.add(document.apply("d" + i, random));
+        return documents;
+    }
+}
@@ -5,6 +5,7 @@ rootProject.name = "learning-assistant"
 // Dependencies between modules are declared in their individual build.gradle.kts files.
 
 include("modules:search-engine")
+include("modules:search-engine-bench")
 include("modules:mcp-common")
 include("modules:mcp-learning-resources")
 include("modules:mcp-atlassian")